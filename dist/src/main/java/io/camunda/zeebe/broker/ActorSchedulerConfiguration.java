@@ -42,6 +42,8 @@ public final class ActorSchedulerConfiguration {
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
+            .setIoBoundActorThreadsVirtual(cfg.isVirtualIoThreads())
+            .setPartitionAffinityEnabled(cfg.isPartitionAffinity())
             .setMetricsEnabled(metricsEnabled)
             .setSchedulerName(String.format("Broker-%d", brokerCfg.getCluster().getNodeId()))
             .setIdleStrategySupplier(idleStrategySupplier)
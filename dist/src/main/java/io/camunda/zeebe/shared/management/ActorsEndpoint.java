@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorStatistics;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * An actuator endpoint which lists the actors which use the most resources, e.g. to find a hot
+ * partition or an exporter which hogs its thread. The statistics are only collected if the actor
+ * metrics are enabled, otherwise the list is always empty.
+ */
+@Component
+@WebEndpoint(id = "actors")
+public final class ActorsEndpoint {
+  static final int DEFAULT_LIMIT = 10;
+  static final String DEFAULT_SORT = "cpuTime";
+
+  private static final Map<String, Comparator<ActorStatistics>> SORTS =
+      Map.of(
+          "cpuTime", Comparator.comparingLong(ActorStatistics::cpuTimeNanos),
+          "executedJobs", Comparator.comparingLong(ActorStatistics::executedJobs),
+          "queueLength", Comparator.comparingInt(ActorStatistics::queueLength),
+          "schedulingDelay", Comparator.comparingLong(ActorStatistics::schedulingDelayNanos),
+          "conditionWait", Comparator.comparingLong(ActorStatistics::conditionWaitNanos));
+
+  private final ActorScheduler scheduler;
+
+  @Autowired
+  public ActorsEndpoint(final ActorScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * GET /actuator/actors?limit=10&sortBy=cpuTime - returns the statistics of the top {@code limit}
+   * actors, in descending order of the given statistic; one of {@code cpuTime}, {@code
+   * executedJobs}, {@code queueLength}, {@code schedulingDelay} or {@code conditionWait}. The times
+   * are given in nanoseconds, and are accumulated since the actor was scheduled.
+   *
+   * @param limit the maximum number of actors to return, defaults to {@value #DEFAULT_LIMIT}
+   * @param sortBy the statistic to sort the actors by, defaults to {@value #DEFAULT_SORT}
+   * @return 200 and the list of actors, or 400 if the limit or the statistic is invalid
+   */
+  @ReadOperation
+  public WebEndpointResponse<?> top(final @Nullable Integer limit, final @Nullable String sortBy) {
+    final int maxActors = limit != null ? limit : DEFAULT_LIMIT;
+    if (maxActors < 1) {
+      return new WebEndpointResponse<>(
+          Map.of("error", "Expected limit to be at least 1, but was %d".formatted(maxActors)),
+          WebEndpointResponse.STATUS_BAD_REQUEST,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    final String sort = sortBy != null ? sortBy : DEFAULT_SORT;
+    final Comparator<ActorStatistics> comparator = SORTS.get(sort);
+    if (comparator == null) {
+      return new WebEndpointResponse<>(
+          Map.of(
+              "error",
+              "No known statistic '%s'; should be one of %s".formatted(sort, SORTS.keySet())),
+          WebEndpointResponse.STATUS_BAD_REQUEST,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    final List<ActorStatistics> actors =
+        scheduler.getActorStatistics().stream()
+            .sorted(comparator.reversed())
+            .limit(maxActors)
+            .toList();
+    return new WebEndpointResponse<>(
+        actors, WebEndpointResponse.STATUS_OK, MimeTypeUtils.APPLICATION_JSON);
+  }
+}
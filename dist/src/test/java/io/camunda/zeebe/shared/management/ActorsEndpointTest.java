@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorStatistics;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+final class ActorsEndpointTest {
+
+  private static final ActorStatistics BUSY = new ActorStatistics("Busy", "1", 300, 1, 5, 10, 0);
+  private static final ActorStatistics QUEUED =
+      new ActorStatistics("Queued", "2", 200, 2, 50, 20, 0);
+  private static final ActorStatistics IDLE = new ActorStatistics("Idle", "", 100, 3, 0, 30, 0);
+
+  private final ActorScheduler scheduler = mock(ActorScheduler.class);
+  private final ActorsEndpoint endpoint = new ActorsEndpoint(scheduler);
+
+  @BeforeEach
+  void setUp() {
+    when(scheduler.getActorStatistics()).thenReturn(List.of(IDLE, QUEUED, BUSY));
+  }
+
+  @Test
+  void shouldSortByCpuTimeByDefault() {
+    // when
+    final var response = endpoint.top(null, null);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+    assertThat(response.getBody()).isEqualTo(List.of(BUSY, QUEUED, IDLE));
+  }
+
+  @Test
+  void shouldSortByGivenStatistic() {
+    // when
+    final var response = endpoint.top(null, "queueLength");
+
+    // then
+    assertThat(response.getBody()).isEqualTo(List.of(QUEUED, BUSY, IDLE));
+  }
+
+  @Test
+  void shouldLimitActors() {
+    // when
+    final var response = endpoint.top(1, "schedulingDelay");
+
+    // then
+    assertThat(response.getBody()).isEqualTo(List.of(IDLE));
+  }
+
+  @Test
+  void shouldRejectUnknownStatistic() {
+    // when
+    final var response = endpoint.top(null, "foo");
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+  }
+
+  @Test
+  void shouldRejectLimitLessThanOne() {
+    // when
+    final var response = endpoint.top(0, null);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+  }
+}
@@ -20,6 +20,7 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.protocol.ProtocolVersionHandler;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
@@ -35,9 +36,11 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxInstallsPerMember;
   private boolean open = true;
   private long term;
   private long configIndex;
+  private int protocolVersion = ProtocolVersionHandler.KRYO_PROTOCOL_VERSION;
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
@@ -48,7 +51,8 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private int installEpoch;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +62,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInstallsPerMember = maxInstallsPerMember;
   }
 
   /** Resets the member state. */
@@ -74,10 +80,11 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    abortInstalls();
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
+    protocolVersion = ProtocolVersionHandler.KRYO_PROTOCOL_VERSION;
 
     if (reader != null) {
       closeReader();
@@ -231,17 +238,52 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open && inFlightInstallCount < maxInstallsPerMember;
   }
 
-  /** Starts an install request to the member. */
-  public void startInstall() {
-    installing = true;
+  /**
+   * Starts an install request to the member.
+   *
+   * @return the epoch of the request, which must be given when completing it
+   */
+  public int startInstall() {
+    inFlightInstallCount++;
+    return installEpoch;
+  }
+
+  /**
+   * Completes an install request to the member.
+   *
+   * @param epoch the epoch which was returned when starting the request
+   * @return true if the request was started after the last call to {@link #abortInstalls()}, false
+   *     if it was aborted and its response should be ignored
+   */
+  public boolean completeInstall(final int epoch) {
+    if (epoch != installEpoch) {
+      return false;
+    }
+
+    inFlightInstallCount--;
+    return true;
   }
 
-  /** Completes an install request to the member. */
-  public void completeInstall() {
-    installing = false;
+  /**
+   * Returns whether there are install requests to the member, which were started and not completed
+   * or aborted yet.
+   *
+   * @return true if there are install requests in flight, otherwise false
+   */
+  public boolean hasInstallsInFlight() {
+    return inFlightInstallCount > 0;
+  }
+
+  /**
+   * Aborts all install requests in flight, such that new install requests can be sent right away,
+   * and the responses to the aborted requests are ignored.
+   */
+  public void abortInstalls() {
+    inFlightInstallCount = 0;
+    installEpoch++;
   }
 
   /**
@@ -277,7 +319,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -300,6 +342,25 @@ public final class RaftMemberContext {
     this.configIndex = configIndex;
   }
 
+  /**
+   * Returns the version of the protocol with which requests are sent to the member. Until the
+   * member reported which versions it supports, this is the version which every member supports.
+   *
+   * @return The member's protocol version.
+   */
+  public int getProtocolVersion() {
+    return protocolVersion;
+  }
+
+  /**
+   * Sets the version of the protocol with which requests are sent to the member.
+   *
+   * @param protocolVersion The member's protocol version.
+   */
+  public void setProtocolVersion(final int protocolVersion) {
+    this.protocolVersion = protocolVersion;
+  }
+
   /**
    * Returns the member term.
    *
@@ -399,6 +399,14 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public int getSnapshotChunkSize() {
+    return partitionConfig.getSnapshotChunkSize();
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return partitionConfig.getMaxSnapshotChunksInFlight();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -16,6 +16,8 @@
  */
 package io.atomix.raft.partition;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import io.atomix.raft.zeebe.EntryValidator;
 import java.time.Duration;
 
@@ -30,6 +32,8 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_SNAPSHOT_CHUNK_SIZE = Integer.MAX_VALUE;
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
@@ -41,6 +45,8 @@ public class RaftPartitionConfig {
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int preferSnapshotReplicationThreshold = DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD;
+  private int snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
   private RaftStorageConfig storageConfig;
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
@@ -184,6 +190,40 @@ public class RaftPartitionConfig {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public int getSnapshotChunkSize() {
+    return snapshotChunkSize;
+  }
+
+  /**
+   * Sets the maximum size of a snapshot chunk which is sent to a follower in a single install
+   * request. Files of the snapshot which are larger are sent in multiple chunks, each containing a
+   * range of the file. By default, each chunk contains a whole file.
+   *
+   * @param snapshotChunkSize the maximum size of a snapshot chunk in bytes
+   */
+  public void setSnapshotChunkSize(final int snapshotChunkSize) {
+    this.snapshotChunkSize = snapshotChunkSize;
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  /**
+   * Sets how many install requests the leader may send to a follower, before it received the
+   * responses to the previous ones.
+   *
+   * @param maxSnapshotChunksInFlight the maximum number of install requests in flight per follower
+   * @throws IllegalArgumentException if it is smaller than 1, as no snapshot could be replicated
+   */
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    checkArgument(
+        maxSnapshotChunksInFlight >= 1,
+        "Expected maxSnapshotChunksInFlight to be at least 1, but was %s",
+        maxSnapshotChunksInFlight);
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
   public RaftStorageConfig getStorageConfig() {
     return storageConfig;
   }
@@ -225,6 +265,10 @@ public class RaftPartitionConfig {
         + maxQuorumResponseTimeout
         + ", preferSnapshotReplicationThreshold="
         + preferSnapshotReplicationThreshold
+        + ", snapshotChunkSize="
+        + snapshotChunkSize
+        + ", maxSnapshotChunksInFlight="
+        + maxSnapshotChunksInFlight
         + '}';
   }
 }
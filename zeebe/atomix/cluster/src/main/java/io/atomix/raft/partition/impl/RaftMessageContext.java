@@ -32,11 +32,13 @@ class RaftMessageContext {
   final String joinSubject;
   final String leaveSubject;
   final String installSubject;
+  final String installSbeSubject;
   final String transferSubject;
   final String pollSubject;
   final String voteSubject;
   final String appendV1subject;
   final String appendV2subject;
+  final String appendV3subject;
   final String leaderHeartbeatSubject;
 
   RaftMessageContext(final String prefix) {
@@ -53,11 +55,13 @@ class RaftMessageContext {
     joinSubject = getSubject(prefix, "join");
     leaveSubject = getSubject(prefix, "leave");
     installSubject = getSubject(prefix, "install");
+    installSbeSubject = getSubject(prefix, "install-sbe");
     transferSubject = getSubject(prefix, "transfer");
     pollSubject = getSubject(prefix, "poll");
     voteSubject = getSubject(prefix, "vote");
     appendV1subject = getSubject(prefix, "append");
     appendV2subject = getSubject(prefix, "append-versioned");
+    appendV3subject = getSubject(prefix, "append-sbe");
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
@@ -34,6 +34,7 @@ import io.atomix.raft.protocol.LeaveRequest;
 import io.atomix.raft.protocol.LeaveResponse;
 import io.atomix.raft.protocol.PollRequest;
 import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
 import io.atomix.raft.protocol.RaftMessage;
 import io.atomix.raft.protocol.RaftServerProtocol;
 import io.atomix.raft.protocol.ReconfigureRequest;
@@ -43,6 +44,7 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.RaftRequestSBESerializer;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
@@ -53,6 +55,7 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final RaftRequestSBESerializer sbeSerializer = new RaftRequestSBESerializer();
   private final ClusterCommunicationService clusterCommunicator;
   private final RaftRequestMetrics metrics;
   private final Duration requestTimeout;
@@ -112,6 +115,21 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     return sendAndReceive(context.installSubject, request, memberId, snapshotRequestTimeout);
   }
 
+  @Override
+  public CompletableFuture<InstallResponse> install(
+      final MemberId memberId, final InstallRequest request, final int protocolVersion) {
+    if (protocolVersion < ProtocolVersionHandler.SBE_PROTOCOL_VERSION) {
+      return install(memberId, request);
+    }
+
+    return sendAndReceive(
+        context.installSbeSubject,
+        request,
+        sbeSerializer::encodeInstallRequest,
+        memberId,
+        snapshotRequestTimeout);
+  }
+
   @Override
   public CompletableFuture<TransferResponse> transfer(
       final MemberId memberId, final TransferRequest request) {
@@ -137,7 +155,16 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return sendAndReceive(context.appendV2subject, request, memberId);
+    if (request.version() < ProtocolVersionHandler.SBE_PROTOCOL_VERSION) {
+      return sendAndReceive(context.appendV2subject, request, memberId);
+    }
+
+    return sendAndReceive(
+        context.appendV3subject,
+        request,
+        sbeSerializer::encodeAppendRequest,
+        memberId,
+        requestTimeout);
   }
 
   @Override
@@ -238,11 +265,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<InstallRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.installSbeSubject,
+        sbeSerializer::decodeInstallRequest,
+        handler.<InstallRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterInstallHandler() {
     clusterCommunicator.unsubscribe(context.installSubject);
+    clusterCommunicator.unsubscribe(context.installSbeSubject);
   }
 
   @Override
@@ -293,12 +326,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.appendV3subject,
+        sbeSerializer::decodeAppendRequest,
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendV3subject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -308,9 +347,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   private <T, U> CompletableFuture<U> sendAndReceive(
       final String subject, final T request, final MemberId memberId, final Duration timeout) {
+    return sendAndReceive(subject, request, serializer::encode, memberId, timeout);
+  }
+
+  private <T, U> CompletableFuture<U> sendAndReceive(
+      final String subject,
+      final T request,
+      final Function<T, byte[]> encoder,
+      final MemberId memberId,
+      final Duration timeout) {
     metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
     return clusterCommunicator.send(
-        subject, request, serializer::encode, serializer::decode, memberId, timeout);
+        subject, request, encoder, serializer::decode, memberId, timeout);
   }
 
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
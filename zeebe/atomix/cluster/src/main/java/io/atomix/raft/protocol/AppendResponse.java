@@ -30,6 +30,7 @@ public class AppendResponse extends AbstractRaftResponse {
   private final long lastLogIndex;
   private final long lastSnapshotIndex;
   private final long configurationIndex;
+  private final int protocolVersion;
 
   public AppendResponse(
       final Status status,
@@ -38,13 +39,15 @@ public class AppendResponse extends AbstractRaftResponse {
       final boolean succeeded,
       final long lastLogIndex,
       final long lastSnapshotIndex,
-      final long configurationIndex) {
+      final long configurationIndex,
+      final int protocolVersion) {
     super(status, error);
     this.term = term;
     this.succeeded = succeeded;
     this.lastLogIndex = lastLogIndex;
     this.lastSnapshotIndex = lastSnapshotIndex;
     this.configurationIndex = configurationIndex;
+    this.protocolVersion = protocolVersion;
   }
 
   /**
@@ -105,10 +108,27 @@ public class AppendResponse extends AbstractRaftResponse {
     return configurationIndex;
   }
 
+  /**
+   * The highest version of the protocol with which the member can receive append and install
+   * requests, see {@link ProtocolVersionHandler}.
+   *
+   * <p>If the version is 0, the member is older and does not include the version in the response.
+   */
+  public int protocolVersion() {
+    return protocolVersion;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        getClass(), status, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+        getClass(),
+        status,
+        term,
+        succeeded,
+        lastLogIndex,
+        lastSnapshotIndex,
+        configurationIndex,
+        protocolVersion);
   }
 
   @Override
@@ -121,7 +141,8 @@ public class AppendResponse extends AbstractRaftResponse {
         && response.succeeded == succeeded
         && response.lastLogIndex == lastLogIndex
         && response.lastSnapshotIndex == lastSnapshotIndex
-        && response.configurationIndex == configurationIndex;
+        && response.configurationIndex == configurationIndex
+        && response.protocolVersion == protocolVersion;
   }
 
   @Override
@@ -134,6 +155,7 @@ public class AppendResponse extends AbstractRaftResponse {
           .add("lastLogIndex", lastLogIndex)
           .add("lastSnapshotIndex", lastSnapshotIndex)
           .add("configurationIndex", configurationIndex)
+          .add("protocolVersion", protocolVersion)
           .toString();
     } else {
       return toStringHelper(this).add("status", status).add("error", error).toString();
@@ -148,6 +170,7 @@ public class AppendResponse extends AbstractRaftResponse {
     private long lastLogIndex;
     private long lastSnapshotIndex;
     private long configurationIndex;
+    private int protocolVersion = ProtocolVersionHandler.PROTOCOL_VERSION;
 
     /**
      * Sets the response term.
@@ -197,6 +220,12 @@ public class AppendResponse extends AbstractRaftResponse {
       return this;
     }
 
+    public Builder withProtocolVersion(final int protocolVersion) {
+      checkArgument(protocolVersion > 0, "protocolVersion must be positive");
+      this.protocolVersion = protocolVersion;
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if status is ok and term is not positive or log index is
      *     negative
@@ -205,7 +234,14 @@ public class AppendResponse extends AbstractRaftResponse {
     public AppendResponse build() {
       validate();
       return new AppendResponse(
-          status, error, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+          status,
+          error,
+          term,
+          succeeded,
+          lastLogIndex,
+          lastSnapshotIndex,
+          configurationIndex,
+          protocolVersion);
     }
 
     @Override
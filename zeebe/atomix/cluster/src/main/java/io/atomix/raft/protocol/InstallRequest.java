@@ -144,6 +144,15 @@ public class InstallRequest extends AbstractRaftRequest {
     return nextChunkId;
   }
 
+  /**
+   * Returns the version of the snapshot.
+   *
+   * @return The version of the snapshot.
+   */
+  public int version() {
+    return version;
+  }
+
   /**
    * @return true if this is the first chunk of a snapshot
    */
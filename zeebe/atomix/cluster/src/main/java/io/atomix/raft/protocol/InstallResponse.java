@@ -16,19 +16,31 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response to the
+ * initial request may contain the files which the follower can reuse from its own latest snapshot,
+ * such that the leader doesn't need to send them.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
-  public InstallResponse(final Status status, final RaftError error) {
+  // a HashMap, since it is registered for serialization; null if sent by an older version
+  private final HashMap<String, Long> reusableFiles;
+
+  public InstallResponse(
+      final Status status, final RaftError error, final Map<String, Long> reusableFiles) {
     super(status, error);
+    this.reusableFiles = new HashMap<>(reusableFiles);
   }
 
   /**
@@ -40,13 +52,64 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the files which the follower can reuse from its latest snapshot, by file name and
+   * checksum.
+   *
+   * @return The reusable files, which is empty if there are none.
+   */
+  public Map<String, Long> reusableFiles() {
+    return reusableFiles != null ? reusableFiles : Map.of();
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, reusableFiles());
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (object instanceof final InstallResponse response) {
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && response.reusableFiles().equals(reusableFiles());
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("reusableFiles", reusableFiles().size())
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private Map<String, Long> reusableFiles = Map.of();
+
+    /**
+     * Sets the files which the follower can reuse from its latest snapshot.
+     *
+     * @param reusableFiles The checksums of the reusable files by file name.
+     * @return The install response builder.
+     * @throws NullPointerException if {@code reusableFiles} is null
+     */
+    public Builder withReusableFiles(final Map<String, Long> reusableFiles) {
+      this.reusableFiles = checkNotNull(reusableFiles, "reusableFiles cannot be null");
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, reusableFiles);
     }
   }
 }
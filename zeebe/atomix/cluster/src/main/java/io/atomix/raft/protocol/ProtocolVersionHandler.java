@@ -9,10 +9,38 @@ package io.atomix.raft.protocol;
 
 public final class ProtocolVersionHandler {
 
+  /**
+   * The version of the protocol in which {@link VersionedAppendRequest}s and {@link
+   * InstallRequest}s are serialized with Kryo. Every member supports it.
+   */
+  public static final int KRYO_PROTOCOL_VERSION = 2;
+
+  /**
+   * The version of the protocol in which {@link VersionedAppendRequest}s and {@link
+   * InstallRequest}s are encoded with SBE, see {@link
+   * io.atomix.raft.protocol.serializer.RaftRequestSBESerializer}.
+   */
+  public static final int SBE_PROTOCOL_VERSION = 3;
+
+  /** The highest version of the protocol which this member can receive. */
+  public static final int PROTOCOL_VERSION = SBE_PROTOCOL_VERSION;
+
   private ProtocolVersionHandler() {
     // To hide the public constructor
   }
 
+  /**
+   * Returns the version of the protocol to use for requests to a member, given the highest version
+   * it supports as reported in its {@link AppendResponse#protocolVersion()}. Members of older
+   * versions don't report it, in which case they only receive requests of the Kryo protocol.
+   *
+   * @param remoteProtocolVersion the highest version the member supports, or 0 if unknown
+   * @return the version to send requests to the member with
+   */
+  public static int negotiateProtocolVersion(final int remoteProtocolVersion) {
+    return Math.max(KRYO_PROTOCOL_VERSION, Math.min(PROTOCOL_VERSION, remoteProtocolVersion));
+  }
+
   public static InternalAppendRequest transform(final AppendRequest request) {
     return new InternalAppendRequest(
         request.term(),
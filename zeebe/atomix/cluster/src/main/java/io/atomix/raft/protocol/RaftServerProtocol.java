@@ -78,6 +78,20 @@ public interface RaftServerProtocol {
    */
   CompletableFuture<InstallResponse> install(MemberId memberId, InstallRequest request);
 
+  /**
+   * Sends an install request to the given node, encoded for the given protocol version of the node.
+   * Implementations which only support a single encoding may ignore the version.
+   *
+   * @param memberId the node to which to send the request
+   * @param request the request to send
+   * @param protocolVersion the protocol version negotiated with the node
+   * @return a future to be completed with the response
+   */
+  default CompletableFuture<InstallResponse> install(
+      final MemberId memberId, final InstallRequest request, final int protocolVersion) {
+    return install(memberId, request);
+  }
+
   /**
    * Sends a transfer request to the given node.
    *
@@ -114,6 +128,14 @@ public interface RaftServerProtocol {
    */
   CompletableFuture<AppendResponse> append(MemberId memberId, AppendRequest request);
 
+  /**
+   * Sends a versioned append request to the given node, encoded for the {@link
+   * VersionedAppendRequest#version()} of the request.
+   *
+   * @param memberId the node to which to send the request
+   * @param request the request to send
+   * @return a future to be completed with the response
+   */
   CompletableFuture<AppendResponse> append(MemberId memberId, VersionedAppendRequest request);
 
   /**
@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.serializer.AppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.protocol.serializer.AppendRequestEncoder.EntriesEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Encodes the requests of the replication hot path, i.e. {@link VersionedAppendRequest}s and {@link
+ * InstallRequest}s, with SBE instead of Kryo. The length of a request is computed upfront, such
+ * that it is written in a single pass into a payload of exactly that size, and the chunk of an
+ * install request is decoded as a view of the payload instead of a copy.
+ *
+ * <p>Only members which support the {@link ProtocolVersionHandler#SBE_PROTOCOL_VERSION} receive
+ * requests encoded this way. The encoders and decoders are created per call, since requests may be
+ * encoded and decoded concurrently by the threads of the messaging service.
+ */
+public final class RaftRequestSBESerializer {
+
+  public byte[] encodeAppendRequest(final VersionedAppendRequest request) {
+    final var headerEncoder = new MessageHeaderEncoder();
+    final var encoder = new AppendRequestEncoder();
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+
+    int length =
+        headerEncoder.encodedLength()
+            + encoder.sbeBlockLength()
+            + EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+    for (final ReplicatableJournalRecord entry : request.entries()) {
+      length +=
+          EntriesEncoder.sbeBlockLength()
+              + EntriesEncoder.serializedJournalRecordHeaderLength()
+              + entry.serializedJournalRecord().length;
+    }
+
+    final byte[] payload = new byte[length];
+    final var buffer = new UnsafeBuffer(payload);
+    encoder
+        .wrapAndApplyHeader(buffer, 0, headerEncoder)
+        .term(request.term())
+        .prevLogIndex(request.prevLogIndex())
+        .prevLogTerm(request.prevLogTerm())
+        .commitIndex(request.commitIndex());
+
+    final var entriesEncoder = encoder.entriesCount(request.entries().size());
+    for (final ReplicatableJournalRecord entry : request.entries()) {
+      final byte[] serializedJournalRecord = entry.serializedJournalRecord();
+      entriesEncoder
+          .next()
+          .term(entry.term())
+          .index(entry.index())
+          .checksum(entry.checksum())
+          .putSerializedJournalRecord(serializedJournalRecord, 0, serializedJournalRecord.length);
+    }
+
+    encoder.putLeader(leader, 0, leader.length);
+    return payload;
+  }
+
+  public VersionedAppendRequest decodeAppendRequest(final byte[] payload) {
+    final var headerDecoder = new MessageHeaderDecoder();
+    final var decoder = new AppendRequestDecoder();
+    decoder.wrapAndApplyHeader(new UnsafeBuffer(payload), 0, headerDecoder);
+
+    final long term = decoder.term();
+    final long prevLogIndex = decoder.prevLogIndex();
+    final long prevLogTerm = decoder.prevLogTerm();
+    final long commitIndex = decoder.commitIndex();
+
+    final EntriesDecoder entriesDecoder = decoder.entries();
+    final List<ReplicatableJournalRecord> entries = new ArrayList<>(entriesDecoder.count());
+    for (final EntriesDecoder entry : entriesDecoder) {
+      final long entryTerm = entry.term();
+      final long index = entry.index();
+      final long checksum = entry.checksum();
+      // the journal appends records from arrays, so this is the only copy of the entry
+      final byte[] serializedJournalRecord = new byte[entry.serializedJournalRecordLength()];
+      entry.getSerializedJournalRecord(serializedJournalRecord, 0, serializedJournalRecord.length);
+      entries.add(
+          new ReplicatableJournalRecord(entryTerm, index, checksum, serializedJournalRecord));
+    }
+
+    return new VersionedAppendRequest(
+        ProtocolVersionHandler.SBE_PROTOCOL_VERSION,
+        term,
+        decoder.leader(),
+        prevLogIndex,
+        prevLogTerm,
+        entries,
+        commitIndex);
+  }
+
+  public byte[] encodeInstallRequest(final InstallRequest request) {
+    final var headerEncoder = new MessageHeaderEncoder();
+    final var encoder = new InstallRequestEncoder();
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final DirectBuffer chunkId = view(request.chunkId());
+    final DirectBuffer nextChunkId = view(request.nextChunkId());
+    final DirectBuffer data = view(request.data());
+
+    final int length =
+        headerEncoder.encodedLength()
+            + encoder.sbeBlockLength()
+            + InstallRequestEncoder.leaderHeaderLength()
+            + leader.length
+            + InstallRequestEncoder.chunkIdHeaderLength()
+            + chunkId.capacity()
+            + InstallRequestEncoder.nextChunkIdHeaderLength()
+            + nextChunkId.capacity()
+            + InstallRequestEncoder.dataHeaderLength()
+            + data.capacity();
+
+    final byte[] payload = new byte[length];
+    encoder
+        .wrapAndApplyHeader(new UnsafeBuffer(payload), 0, headerEncoder)
+        .currentTerm(request.currentTerm())
+        .index(request.index())
+        .term(request.term())
+        .version(request.version())
+        .initial(request.isInitial() ? BooleanType.TRUE : BooleanType.FALSE)
+        .complete(request.complete() ? BooleanType.TRUE : BooleanType.FALSE)
+        .putLeader(leader, 0, leader.length)
+        .putChunkId(chunkId, 0, chunkId.capacity())
+        .putNextChunkId(nextChunkId, 0, nextChunkId.capacity())
+        .putData(data, 0, data.capacity());
+    return payload;
+  }
+
+  public InstallRequest decodeInstallRequest(final byte[] payload) {
+    final var headerDecoder = new MessageHeaderDecoder();
+    final var decoder = new InstallRequestDecoder();
+    decoder.wrapAndApplyHeader(new UnsafeBuffer(payload), 0, headerDecoder);
+
+    final long currentTerm = decoder.currentTerm();
+    final long index = decoder.index();
+    final long term = decoder.term();
+    final int version = decoder.version();
+    final boolean initial = decoder.initial() == BooleanType.TRUE;
+    final boolean complete = decoder.complete() == BooleanType.TRUE;
+    final MemberId leader = MemberId.from(decoder.leader());
+    final ByteBuffer chunkId =
+        slice(
+            payload,
+            decoder.limit() + InstallRequestDecoder.chunkIdHeaderLength(),
+            decoder.chunkIdLength());
+    decoder.skipChunkId();
+    final ByteBuffer nextChunkId =
+        decoder.nextChunkIdLength() > 0
+            ? slice(
+                payload,
+                decoder.limit() + InstallRequestDecoder.nextChunkIdHeaderLength(),
+                decoder.nextChunkIdLength())
+            : null;
+    decoder.skipNextChunkId();
+    final ByteBuffer data =
+        slice(
+            payload,
+            decoder.limit() + InstallRequestDecoder.dataHeaderLength(),
+            decoder.dataLength());
+    decoder.skipData();
+
+    return new InstallRequest(
+        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+  }
+
+  private static DirectBuffer view(final ByteBuffer buffer) {
+    if (buffer == null) {
+      return new UnsafeBuffer(0, 0);
+    }
+    return new UnsafeBuffer(buffer, buffer.position(), buffer.remaining());
+  }
+
+  /** Returns a view of the given range of the payload, which starts at position 0. */
+  private static ByteBuffer slice(final byte[] payload, final int offset, final int length) {
+    return ByteBuffer.wrap(payload, offset, length).slice();
+  }
+}
@@ -32,6 +32,7 @@ import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
 import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
 import io.atomix.raft.protocol.RaftRequest;
 import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
@@ -136,6 +137,7 @@ final class LeaderAppender {
         .withLeader(leader.memberId())
         .withEntries(Collections.emptyList())
         .withCommitIndex(raft.getCommitIndex())
+        .withVersion(member.getProtocolVersion())
         .build();
   }
 
@@ -167,7 +169,8 @@ final class LeaderAppender {
         builderWithPreviousEntry(prevEntry)
             .withTerm(raft.getTerm())
             .withLeader(leader.memberId())
-            .withCommitIndex(raft.getCommitIndex());
+            .withCommitIndex(raft.getCommitIndex())
+            .withVersion(member.getProtocolVersion());
 
     // Build a list of entries to send to the member.
     final List<ReplicatableJournalRecord> entries = new ArrayList<>();
@@ -378,12 +381,18 @@ final class LeaderAppender {
     appendEntries(member);
   }
 
-  /** Builds an install request for the given member. */
+  /**
+   * Builds an install request for the given member. The chunk reader of the member is the cursor of
+   * the chunks to send, such that multiple install requests can be in flight. It is only moved back
+   * to the next chunk the member expects if a request failed, see {@link
+   * #rewindSnapshotChunkReader(RaftMemberContext)}.
+   */
   private Optional<InstallRequest> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        snapshotChunkReader.setMaximumChunkSize(raft.getSnapshotChunkSize());
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         log.warn(
@@ -395,24 +404,22 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunk(null);
+      // responses to requests of a previous snapshot must not move the new reader
+      member.abortInstalls();
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
 
     try {
-      // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
-      // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
-        // member.getNextSnapshotChunk is null when it is the first chunk.
-        reader.reset();
-      }
-
       if (!reader.hasNext()) {
+        // all chunks were sent already, and we wait for the responses
         return Optional.empty();
       }
+
+      // it is the first chunk if the member didn't acknowledge any chunk, and none is in flight
+      final boolean initial =
+          member.getNextSnapshotChunk() == null && !member.hasInstallsInFlight();
+      final ByteBuffer chunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
 
       // Create the install request, indicating whether this is the last chunk of data based on
@@ -427,8 +434,8 @@ final class LeaderAppender {
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withChunkId(chunkId)
+              .withInitial(initial)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
@@ -446,22 +453,40 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * Moves the chunk reader of the member back to the next chunk which the member expects, such that
+   * the chunks which were sent after it are sent again. Responses to requests which are still in
+   * flight are ignored from now on.
+   */
+  private void rewindSnapshotChunkReader(final RaftMemberContext member) {
+    final SnapshotChunkReader reader = member.getSnapshotChunkReader();
+    if (reader == null) {
+      return;
+    }
+
+    if (member.getNextSnapshotChunk() != null) {
+      reader.seek(member.getNextSnapshotChunk());
+    } else {
+      reader.reset();
+    }
+    member.abortInstalls();
+  }
+
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
-    member.startInstall();
+    final int installEpoch = member.startInstall();
 
     final long timestamp = System.currentTimeMillis();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
-        .install(member.getMember().memberId(), request)
+        .install(member.getMember().memberId(), request, member.getProtocolVersion())
         .whenCompleteAsync(
             (response, error) -> {
-              if (open) {
-                // Complete the install to the member.
-                member.completeInstall();
-
+              // Complete the install to the member, unless it was aborted in the meantime, e.g.
+              // because an earlier request failed and the chunks after it are sent again.
+              if (open && member.completeInstall(installEpoch)) {
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
                   handleInstallResponse(member, request, response, timestamp);
@@ -486,6 +511,9 @@ final class LeaderAppender {
     if (!isTimeout) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunk(null);
+    } else {
+      // resume from the chunk which timed out, or the first one which wasn't acknowledged before
+      rewindSnapshotChunkReader(member);
     }
 
     // Log the failed attempt to contact the member.
@@ -494,10 +522,28 @@ final class LeaderAppender {
 
   /** Handles an OK install response. */
   private void handleInstallResponseOk(
-      final RaftMemberContext member, final InstallRequest request) {
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
+    // The member answers the initial request with the files it already has, which then don't need
+    // to be sent again, but only referred to.
+    if (request.isInitial()
+        && !response.reusableFiles().isEmpty()
+        && member.getNextSnapshotIndex() == request.index()) {
+      try {
+        member.getSnapshotChunkReader().setReusableFiles(response.reusableFiles());
+      } catch (final UncheckedIOException e) {
+        log.warn(
+            "Failed to compare the files of snapshot {} with the files of {}, sending all of them",
+            request.index(),
+            member.getMember().memberId(),
+            e);
+      }
+    }
+
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -506,7 +552,8 @@ final class LeaderAppender {
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
+    // If more install requests remain, remember the next chunk the member expects, to resume from
+    // it if a later request fails.
     else {
       member.setNextSnapshotChunk(request.nextChunkId());
     }
@@ -639,6 +686,10 @@ final class LeaderAppender {
       log.warn("{} to {} failed", request, member.getMember().memberId(), error);
     }
 
+    // The member may have been restarted with an older version in the meantime, so fall back to
+    // the protocol every member understands until it responds again.
+    member.setProtocolVersion(ProtocolVersionHandler.KRYO_PROTOCOL_VERSION);
+
     // Fail heartbeat futures.
     failHeartbeat();
 
@@ -667,6 +718,8 @@ final class LeaderAppender {
       final VersionedAppendRequest request,
       final AppendResponse response,
       final long timestamp) {
+    member.setProtocolVersion(
+        ProtocolVersionHandler.negotiateProtocolVersion(response.protocolVersion()));
     if (response.status() == RaftResponse.Status.OK) {
       handleAppendResponseOk(member, request, response);
     } else {
@@ -843,7 +896,7 @@ final class LeaderAppender {
       final InstallResponse response,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleInstallResponseOk(member, request);
+      handleInstallResponseOk(member, request, response);
     } else {
       handleInstallResponseError(member, request, response);
     }
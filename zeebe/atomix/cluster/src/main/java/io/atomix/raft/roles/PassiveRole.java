@@ -56,6 +56,7 @@ import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -277,12 +278,32 @@ public class PassiveRole extends InactiveRole {
       onSnapshotReceiveCompletedOrAborted();
     } else {
       setNextExpected(request.nextChunkId());
+
+      if (request.isInitial()) {
+        // let the leader know which files it doesn't need to send, as they can be reused
+        return CompletableFuture.completedFuture(
+            logResponse(
+                InstallResponse.builder()
+                    .withStatus(RaftResponse.Status.OK)
+                    .withReusableFiles(collectReusableFiles())
+                    .build()));
+      }
     }
 
     return CompletableFuture.completedFuture(
         logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
   }
 
+  private Map<String, Long> collectReusableFiles() {
+    try {
+      return pendingSnapshot.getReusableFiles().join();
+    } catch (final Exception e) {
+      // the snapshot can still be received, only without reusing any files
+      log.warn("Failed to collect reusable files for pending snapshot {}", pendingSnapshot, e);
+      return Map.of();
+    }
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
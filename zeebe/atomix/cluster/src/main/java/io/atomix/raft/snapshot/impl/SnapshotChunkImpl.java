@@ -35,6 +35,9 @@ public final class SnapshotChunkImpl
   private String chunkName;
   private long checksum;
   private long snapshotChecksum;
+  private long fileBlockPosition;
+  private long totalFileSize;
+  private boolean fileReference;
 
   public SnapshotChunkImpl() {}
 
@@ -44,6 +47,9 @@ public final class SnapshotChunkImpl
     chunkName = chunk.getChunkName();
     checksum = chunk.getChecksum();
     snapshotChecksum = chunk.getSnapshotChecksum();
+    fileBlockPosition = chunk.getFileBlockPosition();
+    totalFileSize = chunk.getTotalFileSize();
+    fileReference = chunk.isFileReference();
     content.wrap(chunk.getContent());
   }
 
@@ -64,6 +70,9 @@ public final class SnapshotChunkImpl
     totalCount = SnapshotChunkDecoder.totalCountNullValue();
     checksum = SnapshotChunkDecoder.checksumNullValue();
     snapshotChecksum = SnapshotChunkDecoder.snapshotChecksumNullValue();
+    fileBlockPosition = 0;
+    totalFileSize = 0;
+    fileReference = false;
 
     snapshotId = "";
     chunkName = "";
@@ -91,6 +100,9 @@ public final class SnapshotChunkImpl
         .chunkName(chunkName)
         .checksum(checksum)
         .snapshotChecksum(snapshotChecksum)
+        .fileBlockPosition(fileBlockPosition)
+        .totalFileSize(totalFileSize)
+        .fileReference(fileReference ? BooleanType.TRUE : BooleanType.FALSE)
         .putContent(content, 0, content.capacity());
   }
 
@@ -103,9 +115,25 @@ public final class SnapshotChunkImpl
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
     snapshotChecksum = decoder.snapshotChecksum();
+    fileReference = BooleanType.TRUE.equals(decoder.fileReference());
+
+    final long decodedFileBlockPosition = decoder.fileBlockPosition();
+    final long decodedTotalFileSize = decoder.totalFileSize();
 
     if (decoder.contentLength() > 0) {
       decoder.wrapContent(content);
+    } else {
+      content.wrap(0, 0);
+    }
+
+    // chunks of older versions always contain the whole file
+    if (decodedFileBlockPosition == SnapshotChunkDecoder.fileBlockPositionNullValue()
+        || decodedTotalFileSize == SnapshotChunkDecoder.totalFileSizeNullValue()) {
+      fileBlockPosition = 0;
+      totalFileSize = content.capacity();
+    } else {
+      fileBlockPosition = decodedFileBlockPosition;
+      totalFileSize = decodedTotalFileSize;
     }
   }
 
@@ -139,6 +167,21 @@ public final class SnapshotChunkImpl
     return snapshotChecksum;
   }
 
+  @Override
+  public long getFileBlockPosition() {
+    return fileBlockPosition;
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return totalFileSize;
+  }
+
+  @Override
+  public boolean isFileReference() {
+    return fileReference;
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -153,6 +196,12 @@ public final class SnapshotChunkImpl
         + checksum
         + ", snapshotChecksum="
         + snapshotChecksum
+        + ", fileBlockPosition="
+        + fileBlockPosition
+        + ", totalFileSize="
+        + totalFileSize
+        + ", fileReference="
+        + fileReference
         + "} "
         + super.toString();
   }
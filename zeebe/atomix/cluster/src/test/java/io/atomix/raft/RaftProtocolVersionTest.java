@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft;
+
+import static io.atomix.raft.protocol.ProtocolVersionHandler.KRYO_PROTOCOL_VERSION;
+import static io.atomix.raft.protocol.ProtocolVersionHandler.SBE_PROTOCOL_VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Verifies that members of different versions can replicate to each other during a rolling update,
+ * where only some of them support the SBE encoded requests yet.
+ */
+public class RaftProtocolVersionTest {
+
+  @Rule public RaftRule raftRule = RaftRule.withBootstrappedNodes(3);
+
+  @Test
+  public void shouldReplicateWithSbeToFollowerWhichSupportsIt() throws Exception {
+    // given
+    final var follower = raftRule.getServerProtocol(raftRule.getFollower().orElseThrow());
+
+    // when
+    final var commitIndex = raftRule.appendEntries(5);
+
+    // then
+    raftRule.awaitSameLogSizeOnAllNodes(commitIndex);
+    Awaitility.await("until the leader negotiated the SBE protocol with the follower")
+        .untilAsserted(
+            () -> assertThat(follower.getReceivedAppendVersions()).contains(SBE_PROTOCOL_VERSION));
+  }
+
+  @Test
+  public void shouldFallBackToKryoForFollowerWhichOnlySupportsIt() throws Exception {
+    // given - the leader replicates with SBE to the follower
+    final var follower = raftRule.getServerProtocol(raftRule.getFollower().orElseThrow());
+    Awaitility.await("until the leader negotiated the SBE protocol with the follower")
+        .untilAsserted(
+            () -> assertThat(follower.getReceivedAppendVersions()).contains(SBE_PROTOCOL_VERSION));
+
+    // when - the follower is replaced by one of an older version
+    follower.setProtocolVersion(KRYO_PROTOCOL_VERSION);
+    final var receivedBefore = awaitKryoRequest(follower);
+    final var commitIndex = raftRule.appendEntries(5);
+
+    // then - the first SBE request failed, and the leader kept replicating with Kryo
+    raftRule.awaitSameLogSizeOnAllNodes(commitIndex);
+    assertThat(receivedSince(follower, receivedBefore)).containsOnly(KRYO_PROTOCOL_VERSION);
+  }
+
+  @Test
+  public void shouldReplicateFromLeaderWhichOnlySupportsKryo() throws Exception {
+    // given
+    final var leader = raftRule.getServerProtocol(raftRule.getLeader().orElseThrow());
+    final var follower = raftRule.getServerProtocol(raftRule.getFollower().orElseThrow());
+
+    // when
+    leader.setProtocolVersion(KRYO_PROTOCOL_VERSION);
+    final var receivedBefore = awaitKryoRequest(follower);
+    final var commitIndex = raftRule.appendEntries(5);
+
+    // then
+    raftRule.awaitSameLogSizeOnAllNodes(commitIndex);
+    assertThat(receivedSince(follower, receivedBefore)).containsOnly(KRYO_PROTOCOL_VERSION);
+  }
+
+  @Test
+  public void shouldInstallSnapshotOnFollowerWhichOnlySupportsKryo() throws Exception {
+    // given
+    final var follower = raftRule.getFollower().orElseThrow();
+    final var followerProtocol = raftRule.getServerProtocol(follower);
+    followerProtocol.setProtocolVersion(KRYO_PROTOCOL_VERSION);
+
+    // when
+    awaitSnapshotReplication(follower);
+
+    // then
+    assertThat(followerProtocol.getReceivedInstallVersions())
+        .isNotEmpty()
+        .containsOnly(KRYO_PROTOCOL_VERSION);
+  }
+
+  @Test
+  public void shouldInstallSnapshotFromLeaderWhichOnlySupportsKryo() throws Exception {
+    // given
+    final var follower = raftRule.getFollower().orElseThrow();
+    raftRule
+        .getServerProtocol(raftRule.getLeader().orElseThrow())
+        .setProtocolVersion(KRYO_PROTOCOL_VERSION);
+
+    // when
+    awaitSnapshotReplication(follower);
+
+    // then
+    assertThat(raftRule.getServerProtocol(follower).getReceivedInstallVersions())
+        .isNotEmpty()
+        .containsOnly(KRYO_PROTOCOL_VERSION);
+  }
+
+  /**
+   * Lets the follower fall behind the leader's snapshot, and awaits until the leader installed it
+   * on the follower after it reconnected.
+   */
+  private void awaitSnapshotReplication(final RaftServer follower) throws Exception {
+    raftRule.partition(follower);
+
+    final var leader = raftRule.getLeader().orElseThrow();
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2);
+    raftRule.takeSnapshot(leader, commitIndex, 1);
+    final var lastIndex = raftRule.appendEntry();
+
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+  }
+
+  /**
+   * Awaits until the follower accepted a Kryo request, so that any request which was already in
+   * flight when the protocol version was changed is excluded.
+   *
+   * @return the number of append requests the follower accepted so far
+   */
+  private static int awaitKryoRequest(final TestRaftServerProtocol follower) {
+    return Awaitility.await("until the follower accepted a Kryo request")
+        .until(
+            () -> List.copyOf(follower.getReceivedAppendVersions()),
+            versions ->
+                !versions.isEmpty() && versions.get(versions.size() - 1) == KRYO_PROTOCOL_VERSION)
+        .size();
+  }
+
+  private static List<Integer> receivedSince(
+      final TestRaftServerProtocol follower, final int receivedBefore) {
+    final var versions = List.copyOf(follower.getReceivedAppendVersions());
+    return versions.subList(receivedBefore, versions.size());
+  }
+}
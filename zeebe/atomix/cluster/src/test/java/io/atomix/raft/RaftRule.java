@@ -632,6 +632,10 @@ public final class RaftRule extends ExternalResource {
                 .addCommittedEntryListener(raftApplicationEntryCommittedPositionListener));
   }
 
+  public TestRaftServerProtocol getServerProtocol(final RaftServer server) {
+    return protocolFactory.getServerProtocol(server.cluster().getLocalMember().memberId());
+  }
+
   public void partition(final RaftServer follower) {
     protocolFactory.partition(follower.cluster().getLocalMember().memberId());
   }
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.atomix.raft.protocol.TestRaftServerProtocol.ResponseInterceptor;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftSnapshotReplicationInFlightTest {
+
+  private static final int MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 3;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new Configurator() {
+            @Override
+            public void configure(final MemberId id, final RaftServer.Builder builder) {
+              final var partitionConfig =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              partitionConfig.setMaxSnapshotChunksInFlight(MAX_SNAPSHOT_CHUNKS_IN_FLIGHT);
+              builder.withPartitionConfig(partitionConfig);
+            }
+          });
+
+  private RaftServer follower;
+  private AtomicInteger totalInstallRequest;
+  private TestRaftServerProtocol leaderProtocol;
+  private RaftServer leader;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    totalInstallRequest = new AtomicInteger(0);
+    leaderProtocol.interceptRequest(
+        InstallRequest.class, (request) -> totalInstallRequest.incrementAndGet());
+  }
+
+  @Test
+  public void shouldReplicateSnapshotWithMultipleChunksInFlight() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(totalInstallRequest.get())
+        .describedAs("Should send each snapshot chunk once")
+        // Before follower reconnects, sometimes leader sends InstallRequests which end up in
+        // connect exceptions
+        .isLessThan(numberOfChunks + 3 * MAX_SNAPSHOT_CHUNKS_IN_FLIGHT);
+  }
+
+  @Test
+  public void shouldResumeFromChunkWhichTimedOut() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    leaderProtocol.interceptResponse(InstallResponse.class, new TimingOutInterceptor(5));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(totalInstallRequest.get())
+        .describedAs("Should only resend the chunks which were in flight after the timed out one")
+        .isLessThan(numberOfChunks + 4 * MAX_SNAPSHOT_CHUNKS_IN_FLIGHT);
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot(final int numberOfChunks) throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, commitIndex, numberOfChunks);
+    raftRule.appendEntry();
+  }
+
+  private static class TimingOutInterceptor implements ResponseInterceptor<InstallResponse> {
+    private int count = 0;
+    private final int timeoutAtRequest;
+
+    public TimingOutInterceptor(final int timeoutAtRequest) {
+      this.timeoutAtRequest = timeoutAtRequest;
+    }
+
+    @Override
+    public CompletableFuture<InstallResponse> apply(final InstallResponse installResponse) {
+      count++;
+      if (count == timeoutAtRequest) {
+        return CompletableFuture.failedFuture(new TimeoutException());
+      } else {
+        return CompletableFuture.completedFuture(installResponse);
+      }
+    }
+  }
+}
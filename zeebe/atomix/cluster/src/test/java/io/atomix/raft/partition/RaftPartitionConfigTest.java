@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class RaftPartitionConfigTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1})
+  void shouldRejectMaxSnapshotChunksInFlightBelowOne(final int maxSnapshotChunksInFlight) {
+    // given
+    final var config = new RaftPartitionConfig();
+
+    // when - then
+    assertThatCode(() -> config.setMaxSnapshotChunksInFlight(maxSnapshotChunksInFlight))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxSnapshotChunksInFlight");
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlight() {
+    // given
+    final var config = new RaftPartitionConfig();
+
+    // when
+    config.setMaxSnapshotChunksInFlight(1);
+
+    // then
+    assertThat(config.getMaxSnapshotChunksInFlight()).isOne();
+  }
+}
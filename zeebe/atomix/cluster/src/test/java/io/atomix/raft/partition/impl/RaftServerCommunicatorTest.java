@@ -0,0 +1,288 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RaftServerCommunicatorTest {
+
+  private static final String PREFIX = "raft-partition-1";
+  private static final MemberId FOLLOWER = MemberId.from("follower");
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private final RaftMessageContext context = new RaftMessageContext(PREFIX);
+  private final Map<String, Function<byte[], CompletableFuture<byte[]>>> followerHandlers =
+      new ConcurrentHashMap<>();
+  private final List<String> sentSubjects = new CopyOnWriteArrayList<>();
+  private final List<VersionedAppendRequest> receivedAppendRequests = new CopyOnWriteArrayList<>();
+  private final List<InstallRequest> receivedInstallRequests = new CopyOnWriteArrayList<>();
+
+  private RaftServerCommunicator leader;
+  private RaftServerCommunicator follower;
+
+  @BeforeEach
+  void setup() {
+    leader = communicator(leaderCommunicationService());
+    follower = communicator(followerCommunicationService());
+
+    follower.registerAppendV2Handler(
+        request -> {
+          receivedAppendRequests.add(request);
+          return CompletableFuture.completedFuture(appendResponse());
+        });
+    follower.registerInstallHandler(
+        request -> {
+          receivedInstallRequests.add(request);
+          return CompletableFuture.completedFuture(
+              InstallResponse.builder().withStatus(Status.OK).build());
+        });
+  }
+
+  @Test
+  void shouldSendKryoAppendRequestToVersionedSubject() {
+    // given
+    final var request = appendRequest(ProtocolVersionHandler.KRYO_PROTOCOL_VERSION);
+
+    // when
+    final var response = leader.append(FOLLOWER, request).join();
+
+    // then
+    assertThat(sentSubjects).containsExactly(context.appendV2subject);
+    assertThat(receivedAppendRequests).containsExactly(request);
+    assertThat(response).isEqualTo(appendResponse());
+  }
+
+  @Test
+  void shouldSendSbeAppendRequestToSbeSubject() {
+    // given
+    final var request = appendRequest(ProtocolVersionHandler.SBE_PROTOCOL_VERSION);
+
+    // when
+    final var response = leader.append(FOLLOWER, request).join();
+
+    // then
+    assertThat(sentSubjects).containsExactly(context.appendV3subject);
+    assertThat(receivedAppendRequests).containsExactly(request);
+    assertThat(response).isEqualTo(appendResponse());
+  }
+
+  @Test
+  void shouldSendKryoInstallRequestToInstallSubject() {
+    // given
+    final var request = installRequest();
+
+    // when
+    leader.install(FOLLOWER, request, ProtocolVersionHandler.KRYO_PROTOCOL_VERSION).join();
+
+    // then
+    assertThat(sentSubjects).containsExactly(context.installSubject);
+    assertThat(receivedInstallRequests).containsExactly(request);
+  }
+
+  @Test
+  void shouldSendSbeInstallRequestToSbeSubject() {
+    // given
+    final var request = installRequest();
+
+    // when
+    leader.install(FOLLOWER, request, ProtocolVersionHandler.SBE_PROTOCOL_VERSION).join();
+
+    // then
+    assertThat(sentSubjects).containsExactly(context.installSbeSubject);
+    assertThat(receivedInstallRequests).containsExactly(request);
+  }
+
+  @Test
+  void shouldSendInstallRequestWithoutVersionToInstallSubject() {
+    // given
+    final var request = installRequest();
+
+    // when
+    leader.install(FOLLOWER, request).join();
+
+    // then
+    assertThat(sentSubjects).containsExactly(context.installSubject);
+    assertThat(receivedInstallRequests).containsExactly(request);
+  }
+
+  @Test
+  void shouldFailSbeRequestsToMemberWhichOnlySupportsKryo() {
+    // given - a member of an older version never subscribed to the SBE subjects
+    followerHandlers.remove(context.appendV3subject);
+    followerHandlers.remove(context.installSbeSubject);
+
+    // when
+    final var append =
+        leader.append(FOLLOWER, appendRequest(ProtocolVersionHandler.SBE_PROTOCOL_VERSION));
+    final var install =
+        leader.install(FOLLOWER, installRequest(), ProtocolVersionHandler.SBE_PROTOCOL_VERSION);
+
+    // then
+    assertThat(append)
+        .failsWithin(TIMEOUT)
+        .withThrowableOfType(Exception.class)
+        .withRootCauseInstanceOf(MessagingException.NoRemoteHandler.class);
+    assertThat(install)
+        .failsWithin(TIMEOUT)
+        .withThrowableOfType(Exception.class)
+        .withRootCauseInstanceOf(MessagingException.NoRemoteHandler.class);
+    assertThat(receivedAppendRequests).isEmpty();
+    assertThat(receivedInstallRequests).isEmpty();
+  }
+
+  @Test
+  void shouldSendKryoRequestsToMemberWhichOnlySupportsKryo() {
+    // given
+    followerHandlers.remove(context.appendV3subject);
+    followerHandlers.remove(context.installSbeSubject);
+    final var appendRequest = appendRequest(ProtocolVersionHandler.KRYO_PROTOCOL_VERSION);
+    final var installRequest = installRequest();
+
+    // when
+    final var response = leader.append(FOLLOWER, appendRequest).join();
+    leader.install(FOLLOWER, installRequest, ProtocolVersionHandler.KRYO_PROTOCOL_VERSION).join();
+
+    // then
+    assertThat(response).isEqualTo(appendResponse());
+    assertThat(receivedAppendRequests).containsExactly(appendRequest);
+    assertThat(receivedInstallRequests).containsExactly(installRequest);
+  }
+
+  @Test
+  void shouldStopReceivingSbeRequestsOnceUnregistered() {
+    // when
+    follower.unregisterAppendHandler();
+    follower.unregisterInstallHandler();
+
+    // then
+    assertThat(followerHandlers).isEmpty();
+  }
+
+  private RaftServerCommunicator communicator(
+      final ClusterCommunicationService communicationService) {
+    return new RaftServerCommunicator(
+        PREFIX,
+        Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+        communicationService,
+        TIMEOUT,
+        TIMEOUT,
+        TIMEOUT);
+  }
+
+  /** Sends every request through its encoder to the handler the follower subscribed for it. */
+  @SuppressWarnings("unchecked")
+  private ClusterCommunicationService leaderCommunicationService() {
+    final var communicationService = mock(ClusterCommunicationService.class);
+    doAnswer(
+            invocation -> {
+              final String subject = invocation.getArgument(0);
+              final Function<Object, byte[]> encoder = invocation.getArgument(2);
+              final Function<byte[], Object> decoder = invocation.getArgument(3);
+              sentSubjects.add(subject);
+
+              final var handler = followerHandlers.get(subject);
+              if (handler == null) {
+                return CompletableFuture.failedFuture(
+                    new MessagingException.NoRemoteHandler(subject));
+              }
+              return handler.apply(encoder.apply(invocation.getArgument(1))).thenApply(decoder);
+            })
+        .when(communicationService)
+        .send(anyString(), any(), any(), any(), any(), any());
+    return communicationService;
+  }
+
+  /** Keeps the handlers the follower subscribed, with their decoder and encoder applied. */
+  @SuppressWarnings("unchecked")
+  private ClusterCommunicationService followerCommunicationService() {
+    final var communicationService = mock(ClusterCommunicationService.class);
+    doAnswer(
+            invocation -> {
+              final Function<byte[], Object> decoder = invocation.getArgument(1);
+              final Function<Object, CompletableFuture<Object>> handler = invocation.getArgument(2);
+              final Function<Object, byte[]> encoder = invocation.getArgument(3);
+              followerHandlers.put(
+                  invocation.getArgument(0),
+                  bytes -> handler.apply(decoder.apply(bytes)).thenApply(encoder));
+              return null;
+            })
+        .when(communicationService)
+        .replyTo(anyString(), any(), any(Function.class), any());
+    doAnswer(invocation -> followerHandlers.remove(invocation.<String>getArgument(0)))
+        .when(communicationService)
+        .unsubscribe(anyString());
+    return communicationService;
+  }
+
+  private static VersionedAppendRequest appendRequest(final int version) {
+    return VersionedAppendRequest.builder()
+        .withVersion(version)
+        .withTerm(2)
+        .withLeader(MemberId.from("leader"))
+        .withPrevLogIndex(4)
+        .withPrevLogTerm(1)
+        .withCommitIndex(4)
+        .withEntries(
+            new ArrayList<>(
+                List.of(new ReplicatableJournalRecord(2, 5, 123, new byte[] {1, 2, 3}))))
+        .build();
+  }
+
+  private static AppendResponse appendResponse() {
+    return AppendResponse.builder()
+        .withStatus(Status.OK)
+        .withTerm(2)
+        .withSucceeded(true)
+        .withLastLogIndex(5)
+        .withLastSnapshotIndex(0)
+        .withConfigurationIndex(0)
+        .build();
+  }
+
+  private static InstallRequest installRequest() {
+    return InstallRequest.builder()
+        .withCurrentTerm(2)
+        .withLeader(MemberId.from("leader"))
+        .withIndex(10)
+        .withTerm(1)
+        .withVersion(1)
+        .withChunkId(ByteBuffer.wrap(new byte[] {1}))
+        .withNextChunkId(ByteBuffer.wrap(new byte[] {2}))
+        .withData(ByteBuffer.wrap(new byte[] {3, 4}))
+        .withInitial(true)
+        .withComplete(false)
+        .build();
+  }
+}
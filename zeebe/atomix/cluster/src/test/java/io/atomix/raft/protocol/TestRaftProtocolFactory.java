@@ -39,6 +39,11 @@ public class TestRaftProtocolFactory {
     return protocol;
   }
 
+  /** Returns the protocol of the given server */
+  public TestRaftServerProtocol getServerProtocol(final MemberId memberId) {
+    return servers.get(memberId);
+  }
+
   /** Disconnect server from rest of the servers */
   public void partition(final MemberId target) {
     servers.keySet().forEach(other -> partition(target, other));
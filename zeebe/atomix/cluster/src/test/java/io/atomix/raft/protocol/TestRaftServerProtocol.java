@@ -18,11 +18,14 @@ package io.atomix.raft.protocol;
 
 import com.google.common.collect.Sets;
 import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingException;
 import java.net.ConnectException;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -48,6 +51,9 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
   private final Map<MemberId, TestRaftServerProtocol> servers;
   private final Map<Class<?>, ResponseInterceptor<?>> responseInterceptors =
       new ConcurrentHashMap<>();
+  private final Collection<Integer> receivedAppendVersions = new ConcurrentLinkedQueue<>();
+  private final Collection<Integer> receivedInstallVersions = new ConcurrentLinkedQueue<>();
+  private volatile int protocolVersion = ProtocolVersionHandler.PROTOCOL_VERSION;
 
   public TestRaftServerProtocol(
       final MemberId memberId, final Map<MemberId, TestRaftServerProtocol> servers) {
@@ -63,6 +69,26 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
     partitions.remove(target);
   }
 
+  /**
+   * Emulates a member which only supports the protocol up to the given version, e.g. one which was
+   * not updated yet during a rolling update. It sends its requests with at most that version,
+   * rejects requests of a newer version as if it had no handler registered for them, and reports
+   * that version in its append responses.
+   */
+  public void setProtocolVersion(final int protocolVersion) {
+    this.protocolVersion = protocolVersion;
+  }
+
+  /** Returns the protocol versions of all append requests this member accepted. */
+  public Collection<Integer> getReceivedAppendVersions() {
+    return receivedAppendVersions;
+  }
+
+  /** Returns the protocol versions of all install requests this member accepted. */
+  public Collection<Integer> getReceivedInstallVersions() {
+    return receivedInstallVersions;
+  }
+
   TestRaftServerProtocol server(final MemberId memberId) {
     if (partitions.contains(memberId)) {
       return null;
@@ -122,9 +148,16 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
   @Override
   public CompletableFuture<InstallResponse> install(
       final MemberId memberId, final InstallRequest request) {
+    return install(memberId, request, ProtocolVersionHandler.KRYO_PROTOCOL_VERSION);
+  }
+
+  @Override
+  public CompletableFuture<InstallResponse> install(
+      final MemberId memberId, final InstallRequest request, final int protocolVersion) {
     intercept(request, InstallRequest.class);
+    final int version = Math.min(protocolVersion, this.protocolVersion);
     return getServer(memberId)
-        .thenCompose(listener -> listener.install(request))
+        .thenCompose(listener -> listener.install(request, version))
         .thenCompose(response -> transformResponse(response, InstallResponse.class))
         .orTimeout(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
   }
@@ -167,8 +200,9 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
     intercept(request, VersionedAppendRequest.class);
+    final var versionedRequest = withVersion(request, Math.min(request.version(), protocolVersion));
     return getServer(memberId)
-        .thenCompose(listener -> listener.append(request))
+        .thenCompose(listener -> listener.append(versionedRequest))
         .thenCompose(response -> transformResponse(response, AppendResponse.class))
         .orTimeout(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
   }
@@ -299,8 +333,12 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
   }
 
   CompletableFuture<AppendResponse> append(final VersionedAppendRequest request) {
-    if (appendHandler != null) {
-      return appendHandler.apply(request);
+    if (request.version() > protocolVersion) {
+      return CompletableFuture.failedFuture(
+          new MessagingException.NoRemoteHandler("append-v" + request.version()));
+    } else if (appendHandler != null) {
+      receivedAppendVersions.add(request.version());
+      return appendHandler.apply(request).thenApply(this::withProtocolVersion);
     } else {
       return CompletableFuture.failedFuture(new ConnectException());
     }
@@ -331,9 +369,13 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
     }
   }
 
-  CompletableFuture<InstallResponse> install(final InstallRequest request) {
-    if (installHandler != null) {
+  CompletableFuture<InstallResponse> install(final InstallRequest request, final int version) {
+    if (version > protocolVersion) {
+      return CompletableFuture.failedFuture(
+          new MessagingException.NoRemoteHandler("install-v" + version));
+    } else if (installHandler != null) {
       intercept(request, InstallRequest.class);
+      receivedInstallVersions.add(version);
       return installHandler.apply(request);
     } else {
       return CompletableFuture.failedFuture(new ConnectException());
@@ -380,6 +422,34 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
     }
   }
 
+  private VersionedAppendRequest withVersion(
+      final VersionedAppendRequest request, final int version) {
+    if (request.version() == version) {
+      return request;
+    }
+
+    return new VersionedAppendRequest(
+        version,
+        request.term(),
+        request.leader().id(),
+        request.prevLogIndex(),
+        request.prevLogTerm(),
+        request.entries(),
+        request.commitIndex());
+  }
+
+  private AppendResponse withProtocolVersion(final AppendResponse response) {
+    return new AppendResponse(
+        response.status(),
+        response.error(),
+        response.term(),
+        response.succeeded(),
+        response.lastLogIndex(),
+        response.lastSnapshotIndex(),
+        response.configurationIndex(),
+        protocolVersion);
+  }
+
   public <T> void interceptRequest(final Class<T> requestType, final Consumer<T> interceptor) {
     interceptors.put(requestType, interceptor);
   }
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class RaftRequestSBESerializerTest {
+
+  private final RaftRequestSBESerializer serializer = new RaftRequestSBESerializer();
+
+  @Test
+  void shouldEncodeAndDecodeAppendRequest() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withVersion(ProtocolVersionHandler.SBE_PROTOCOL_VERSION)
+            .withTerm(3)
+            .withLeader(MemberId.from("leader"))
+            .withPrevLogIndex(10)
+            .withPrevLogTerm(2)
+            .withCommitIndex(9)
+            .withEntries(
+                List.of(
+                    new ReplicatableJournalRecord(3, 11, 123, new byte[] {1, 2, 3}),
+                    new ReplicatableJournalRecord(3, 12, 456, new byte[] {4, 5})))
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldEncodeAndDecodeAppendRequestWithoutEntries() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withVersion(ProtocolVersionHandler.SBE_PROTOCOL_VERSION)
+            .withTerm(1)
+            .withLeader(MemberId.from("leader"))
+            .withPrevLogIndex(0)
+            .withPrevLogTerm(0)
+            .withCommitIndex(0)
+            .withEntries(List.of())
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldEncodeAndDecodeInstallRequest() {
+    // given
+    final var request =
+        installRequestBuilder()
+            .withNextChunkId(buffer("file-2"))
+            .withData(buffer("some data of the chunk"))
+            .withInitial(true)
+            .withComplete(false)
+            .build();
+
+    // when
+    final var decoded = serializer.decodeInstallRequest(serializer.encodeInstallRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.isInitial()).isTrue();
+    assertThat(decoded.complete()).isFalse();
+    assertThat(decoded.version()).isEqualTo(request.version());
+  }
+
+  @Test
+  void shouldEncodeAndDecodeLastInstallRequest() {
+    // given
+    final var request =
+        installRequestBuilder()
+            .withNextChunkId(null)
+            .withData(buffer("last chunk"))
+            .withInitial(false)
+            .withComplete(true)
+            .build();
+
+    // when
+    final var decoded = serializer.decodeInstallRequest(serializer.encodeInstallRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.nextChunkId()).isNull();
+    assertThat(decoded.complete()).isTrue();
+  }
+
+  @Test
+  void shouldOnlyEncodeRemainingBytesOfInstallRequestData() {
+    // given
+    final var data = buffer("skipped|remaining");
+    data.position("skipped|".length());
+    final var request = installRequestBuilder().withData(data).build();
+
+    // when
+    final var decoded = serializer.decodeInstallRequest(serializer.encodeInstallRequest(request));
+
+    // then
+    assertThat(decoded.data()).isEqualTo(buffer("remaining"));
+    assertThat(decoded.data().position()).isZero();
+  }
+
+  private static InstallRequest.Builder installRequestBuilder() {
+    return InstallRequest.builder()
+        .withCurrentTerm(5)
+        .withLeader(MemberId.from("leader"))
+        .withIndex(100)
+        .withTerm(4)
+        .withVersion(1)
+        .withChunkId(buffer("file-1"))
+        .withData(buffer("data"));
+  }
+
+  private static ByteBuffer buffer(final String content) {
+    return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -17,6 +17,7 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,23 +25,34 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
@@ -54,6 +66,7 @@ public class PassiveRoleTest {
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private ReceivableSnapshotStore store;
 
   @Before
   public void setup() throws IOException {
@@ -67,7 +80,7 @@ public class PassiveRoleTest {
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
 
-    final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
+    store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
 
     final RaftStorage storage = mock(RaftStorage.class);
@@ -237,4 +250,49 @@ public class PassiveRoleTest {
     // then
     assertThat(response.succeeded()).isTrue();
   }
+
+  @Test
+  public void shouldRespondWithReusableFilesToInitialInstallRequest() {
+    // given
+    final var reusableFiles = Map.of("000001.sst", 1L);
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
+    final ReceivedSnapshot receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.index()).thenReturn(2L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(receivedSnapshot.getReusableFiles())
+        .thenReturn(CompletableActorFuture.completed(reusableFiles));
+    doReturn(CompletableActorFuture.completed(receivedSnapshot))
+        .when(store)
+        .newReceivedSnapshot(any());
+
+    // when
+    final InstallResponse initialResponse = role.onInstall(installRequest(true)).join();
+    final InstallResponse nextResponse = role.onInstall(installRequest(false)).join();
+
+    // then
+    assertThat(initialResponse.status()).isEqualTo(Status.OK);
+    assertThat(initialResponse.reusableFiles()).isEqualTo(reusableFiles);
+    assertThat(nextResponse.status()).isEqualTo(Status.OK);
+    assertThat(nextResponse.reusableFiles()).isEmpty();
+  }
+
+  private InstallRequest installRequest(final boolean initial) {
+    final SnapshotChunk chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn("2-1-2-2");
+    when(chunk.getChunkName()).thenReturn(initial ? "000001.sst" : "000002.sst");
+    when(chunk.getContent()).thenReturn(new byte[1]);
+
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(new MemberId("leader"))
+        .withIndex(2)
+        .withTerm(1)
+        .withVersion(1)
+        .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+        .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes(StandardCharsets.UTF_8)))
+        .withNextChunkId(ByteBuffer.wrap("zeebe.metadata".getBytes(StandardCharsets.UTF_8)))
+        .withInitial(initial)
+        .withComplete(false)
+        .build();
+  }
 }
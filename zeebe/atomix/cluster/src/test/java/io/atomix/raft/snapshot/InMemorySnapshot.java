@@ -28,6 +28,7 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
@@ -118,6 +119,16 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
         return ByteBuffer.wrap(iterator.firstEntry().getKey().getBytes());
       }
 
+      @Override
+      public void setMaximumChunkSize(final int maximumChunkSize) {
+        // each chunk is a single entry, which is never split
+      }
+
+      @Override
+      public void setReusableFiles(final Map<String, Long> reusableFiles) {
+        // entries are never reused
+      }
+
       @Override
       public void close() {
         iterator = null;
@@ -198,6 +209,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Map<String, Long>> getReusableFiles() {
+    return CompletableActorFuture.completed(Map.of());
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
@@ -61,4 +61,19 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
   public long getSnapshotChecksum() {
     return 0;
   }
+
+  @Override
+  public long getFileBlockPosition() {
+    return 0;
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return content.length;
+  }
+
+  @Override
+  public boolean isFileReference() {
+    return false;
+  }
 }
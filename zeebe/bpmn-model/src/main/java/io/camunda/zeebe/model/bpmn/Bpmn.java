@@ -301,6 +301,19 @@ public class Bpmn {
     return INSTANCE.doReadModelFromInputStream(stream);
   }
 
+  /**
+   * Allows reading a {@link BpmnModelInstance} from an {@link InputStream} without validating it
+   * against the BPMN schema. This is considerably faster, but must only be used for models which
+   * have already been validated before, e.g. when reading them again from a trusted store.
+   *
+   * @param stream the {@link InputStream} to read the {@link BpmnModelInstance} from
+   * @return the model read
+   * @throws ModelParseException if the model cannot be read
+   */
+  public static BpmnModelInstance readValidatedModelFromStream(final InputStream stream) {
+    return INSTANCE.doReadValidatedModelFromInputStream(stream);
+  }
+
   /**
    * Allows writing a {@link BpmnModelInstance} to a File. It will be validated before writing.
    *
@@ -406,6 +419,10 @@ public class Bpmn {
     return bpmnParser.parseModelFromStream(is);
   }
 
+  protected BpmnModelInstance doReadValidatedModelFromInputStream(final InputStream is) {
+    return bpmnParser.parseModelFromStreamWithoutValidation(is);
+  }
+
   protected void doWriteModelToFile(final File file, final BpmnModelInstance modelInstance) {
     OutputStream os = null;
     try {
@@ -25,8 +25,12 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.validation.SchemaFactory;
 import org.camunda.bpm.model.xml.impl.ModelImpl;
 import org.camunda.bpm.model.xml.impl.parser.AbstractModelParser;
+import org.camunda.bpm.model.xml.impl.util.DomUtil;
 import org.camunda.bpm.model.xml.impl.util.ReflectUtil;
 import org.camunda.bpm.model.xml.instance.DomDocument;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 
 /**
  * The parser used when parsing BPMN Files
@@ -41,10 +45,17 @@ public class BpmnParser extends AbstractModelParser {
       "http://java.sun.com/xml/jaxp/properties/schemaLanguage";
 
   private static final String W3C_XML_SCHEMA = "http://www.w3.org/2001/XMLSchema";
+  private static final String ID_ATTRIBUTE = "id";
+
+  private final DocumentBuilderFactory nonValidatingDocumentBuilderFactory;
 
   public BpmnParser() {
     schemaFactory = SchemaFactory.newInstance(W3C_XML_SCHEMA);
     addSchema(BPMN20_NS, createSchema(BPMN_20_SCHEMA_LOCATION, BpmnParser.class.getClassLoader()));
+
+    nonValidatingDocumentBuilderFactory = DocumentBuilderFactory.newInstance();
+    super.configureFactory(nonValidatingDocumentBuilderFactory);
+    nonValidatingDocumentBuilderFactory.setValidating(false);
   }
 
   @Override
@@ -62,6 +73,38 @@ public class BpmnParser extends AbstractModelParser {
     return (BpmnModelInstanceImpl) super.parseModelFromStream(inputStream);
   }
 
+  /**
+   * Parses the model without validating it against the BPMN schema, neither while parsing nor
+   * afterwards. The schema validation is the most expensive part of parsing a model, so this should
+   * be used for models which have already been validated before.
+   */
+  public BpmnModelInstanceImpl parseModelFromStreamWithoutValidation(
+      final InputStream inputStream) {
+    final DomDocument document;
+    synchronized (nonValidatingDocumentBuilderFactory) {
+      document = DomUtil.parseInputStream(nonValidatingDocumentBuilderFactory, inputStream);
+    }
+    registerIdAttributes(((Document) document.getDomSource().getNode()).getDocumentElement());
+    return createModelInstance(document);
+  }
+
+  /**
+   * Without the schema, the parser doesn't know that the id attributes are of the type ID, so the
+   * elements can't be looked up by their id. All attributes named id are declared as ID by the BPMN
+   * and the DI schemas, so we can mark them as ID ourselves.
+   */
+  private static void registerIdAttributes(final Element element) {
+    if (element.hasAttribute(ID_ATTRIBUTE)) {
+      element.setIdAttribute(ID_ATTRIBUTE, true);
+    }
+
+    for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+      if (child.getNodeType() == Node.ELEMENT_NODE) {
+        registerIdAttributes((Element) child);
+      }
+    }
+  }
+
   @Override
   public BpmnModelInstanceImpl getEmptyModel() {
     return (BpmnModelInstanceImpl) super.getEmptyModel();
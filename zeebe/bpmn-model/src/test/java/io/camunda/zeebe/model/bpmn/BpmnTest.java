@@ -20,9 +20,15 @@ import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_EXECUTION
 import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_EXPORTER;
 import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.MODELER_NS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.model.bpmn.instance.Definitions;
+import io.camunda.zeebe.model.bpmn.instance.EndEvent;
+import io.camunda.zeebe.model.bpmn.instance.ServiceTask;
 import io.camunda.zeebe.model.bpmn.util.VersionUtil;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.camunda.bpm.model.xml.ModelParseException;
 import org.junit.Test;
 
 /**
@@ -46,4 +52,50 @@ public class BpmnTest {
     assertThat(definitions.getAttributeValueNs(MODELER_NS, "executionPlatformVersion"))
         .isEqualTo(VersionUtil.getVersion());
   }
+
+  @Test
+  public void shouldReadValidatedModel() {
+    // given
+    final BpmnModelInstance model =
+        Bpmn.createExecutableProcess("process")
+            .startEvent()
+            .serviceTask("task", t -> t.zeebeJobType("type"))
+            .endEvent()
+            .done();
+    final String xml = Bpmn.convertToString(model);
+
+    // when
+    final BpmnModelInstance readModel =
+        Bpmn.readValidatedModelFromStream(
+            new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+    // then
+    final ServiceTask task = readModel.getModelElementById("task");
+    assertThat(task).isNotNull();
+    assertThat(task.getIncoming()).hasSize(1);
+    assertThat(task.getOutgoing()).hasSize(1);
+    assertThat(task.getOutgoing().iterator().next().getTarget().getId())
+        .isEqualTo(model.getModelElementsByType(EndEvent.class).iterator().next().getId());
+  }
+
+  @Test
+  public void shouldNotValidateSchemaWhenReadingValidatedModel() {
+    // given
+    final String xml =
+        Bpmn.convertToString(Bpmn.createExecutableProcess("process").startEvent().done())
+            .replace("isExecutable=\"true\"", "isExecutable=\"maybe\"");
+
+    // when
+    final BpmnModelInstance readModel =
+        Bpmn.readValidatedModelFromStream(
+            new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+    // then
+    assertThat((Object) readModel.getModelElementById("process")).isNotNull();
+    assertThatThrownBy(
+            () ->
+                Bpmn.readModelFromStream(
+                    new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))))
+        .isInstanceOf(ModelParseException.class);
+  }
 }
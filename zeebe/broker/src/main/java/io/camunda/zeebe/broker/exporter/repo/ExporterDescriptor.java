@@ -13,15 +13,28 @@ import io.camunda.zeebe.util.ReflectUtil;
 import java.util.Map;
 
 public class ExporterDescriptor {
+  /** The group of all exporters which were not explicitly assigned to one. */
+  public static final String DEFAULT_GROUP = "default";
+
   private final ExporterConfiguration configuration;
   private final Class<? extends Exporter> exporterClass;
+  private final String group;
 
   public ExporterDescriptor(
       final String id,
       final Class<? extends Exporter> exporterClass,
       final Map<String, Object> args) {
+    this(id, exporterClass, args, null);
+  }
+
+  public ExporterDescriptor(
+      final String id,
+      final Class<? extends Exporter> exporterClass,
+      final Map<String, Object> args,
+      final String group) {
     this.exporterClass = exporterClass;
     configuration = new ExporterConfiguration(id, args);
+    this.group = group == null || group.isBlank() ? DEFAULT_GROUP : group;
   }
 
   public Exporter newInstance() throws ExporterInstantiationException {
@@ -39,4 +52,12 @@ public class ExporterDescriptor {
   public String getId() {
     return configuration.id();
   }
+
+  /**
+   * @return the exporting group of this exporter; exporters of the same group are exported by the
+   *     same actor
+   */
+  public String getGroup() {
+    return group;
+  }
 }
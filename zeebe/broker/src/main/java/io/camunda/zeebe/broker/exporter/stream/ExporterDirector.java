@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.exporter.stream;
 
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -38,6 +39,7 @@ import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -48,6 +50,17 @@ import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
+/**
+ * Exports the records of a partition's log to the configured exporters.
+ *
+ * <p>By default, a single director reads the log once and hands each record to every exporter in
+ * turn. When exporters are assigned to more than one exporting group (see {@link
+ * ExporterDescriptor#getGroup()}), this director instead coordinates one director per group. Each
+ * group director runs on its own actor with its own log reader, such that a slow exporter only
+ * delays the exporters of its own group, while this director keeps the partition facing
+ * responsibilities: clearing the state of removed exporters, pausing and resuming, and reporting
+ * the lowest exported position.
+ */
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
@@ -55,10 +68,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  private static final String EXPORTER_GROUP_STATE_TOPIC_FORMAT = "exporterState-%d-%s";
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
+  private final List<ExporterDirector> groupDirectors;
+  private final Set<String> configuredExporterIds;
+  private final boolean isGroupDirector;
   private final LogStream logStream;
   private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
@@ -71,6 +88,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private EventFilter eventFilter;
   private ExportersState state;
 
+  private final ExporterGroupsHealth groupsHealth = new ExporterGroupsHealth(this);
+
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport = HealthReport.healthy(this);
 
@@ -84,16 +103,40 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private ExporterStateDistributionService exporterDistributionService;
   private final int partitionId;
   private final EventFilter positionsToSkipFilter;
+  private ActorSchedulingService actorSchedulingService;
 
   public ExporterDirector(final ExporterDirectorContext context, final boolean shouldPauseOnStart) {
     name = context.getName();
 
     logStream = Objects.requireNonNull(context.getLogStream());
     partitionId = logStream.getPartitionId();
-    containers =
+    configuredExporterIds =
+        context.getDescriptors().stream()
+            .map(ExporterDescriptor::getId)
+            .collect(Collectors.toSet());
+    isGroupDirector = context.getExporterGroup() != null;
+
+    final Map<String, List<ExporterDescriptor>> descriptorsByGroup =
         context.getDescriptors().stream()
-            .map(descriptor -> new ExporterContainer(descriptor, partitionId))
-            .collect(Collectors.toList());
+            .collect(
+                Collectors.groupingBy(
+                    ExporterDescriptor::getGroup, LinkedHashMap::new, Collectors.toList()));
+    if (!isGroupDirector && descriptorsByGroup.size() > 1) {
+      containers = List.of();
+      groupDirectors =
+          descriptorsByGroup.entrySet().stream()
+              .map(
+                  group ->
+                      new ExporterDirector(
+                          context.forGroup(group.getKey(), group.getValue()), shouldPauseOnStart))
+              .toList();
+    } else {
+      groupDirectors = List.of();
+      containers =
+          context.getDescriptors().stream()
+              .map(descriptor -> new ExporterContainer(descriptor, partitionId))
+              .collect(Collectors.toList());
+    }
     metrics = new ExporterMetrics(partitionId);
     recordExporter = new RecordExporter(metrics, containers, partitionId);
     exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
@@ -101,13 +144,18 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     zeebeDb = context.getZeebeDb();
     isHardPaused = shouldPauseOnStart;
     partitionMessagingService = context.getPartitionMessagingService();
-    exporterPositionsTopic = String.format(EXPORTER_STATE_TOPIC_FORMAT, partitionId);
+    exporterPositionsTopic =
+        isGroupDirector
+            ? String.format(
+                EXPORTER_GROUP_STATE_TOPIC_FORMAT, partitionId, context.getExporterGroup())
+            : String.format(EXPORTER_STATE_TOPIC_FORMAT, partitionId);
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -129,6 +177,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
+    if (!groupDirectors.isEmpty()) {
+      return forEachGroupDirector(ExporterDirector::pauseExporting, ExporterPhase.PAUSED);
+    }
     return actor.call(
         () -> {
           isHardPaused = true;
@@ -151,6 +202,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
+    if (!groupDirectors.isEmpty()) {
+      return forEachGroupDirector(ExporterDirector::softPauseExporting, ExporterPhase.SOFT_PAUSED);
+    }
     return actor.call(
         () -> {
           isHardPaused = false;
@@ -171,6 +225,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // state will be applied and exporting "resumes".
       return CompletableActorFuture.completed(null);
     }
+    if (!groupDirectors.isEmpty()) {
+      return forEachGroupDirector(ExporterDirector::resumeExporting, ExporterPhase.EXPORTING);
+    }
 
     return actor.call(
         () -> {
@@ -206,7 +263,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (!groupDirectors.isEmpty()) {
+      startGroupDirectors();
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
       actor.runOnCompletionBlockingCurrentPhase(
           newReaderFuture,
@@ -232,6 +291,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     try {
       LOG.debug("Recovering exporter from snapshot");
       recoverFromSnapshot();
+      if (!groupDirectors.isEmpty()) {
+        // the group directors export and distribute the state of their own exporters
+        isOpened.set(true);
+        clearExporterState();
+        exporterPhase = isHardPaused ? ExporterPhase.PAUSED : ExporterPhase.EXPORTING;
+        return;
+      }
+
       exporterDistributionService =
           new ExporterStateDistributionService(
               this::consumeExporterStateFromLeader,
@@ -248,8 +315,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     isOpened.set(true);
 
     // remove exporters from state
-    // which are no longer in our configuration
-    clearExporterState();
+    // which are no longer in our configuration; the state is shared by all exporting groups, so
+    // this is left to the coordinating director
+    if (!isGroupDirector) {
+      clearExporterState();
+    }
     if (exporterMode == ExporterMode.ACTIVE) {
       startActiveExportingMode();
     } else { // PASSIVE, we consume the messages and set it in our state
@@ -259,6 +329,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorClosing() {
+    for (final ExporterDirector groupDirector : groupDirectors) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          groupDirector.closeAsync(),
+          (ok, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter director '{}'", groupDirector.getName(), error);
+            }
+          });
+    }
     if (logStreamReader != null) {
       logStreamReader.close();
     }
@@ -274,6 +353,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
+    if (!groupDirectors.isEmpty()) {
+      return;
+    }
     if (exporterMode == ExporterMode.ACTIVE) {
       containers.forEach(ExporterContainer::close);
     } else {
@@ -305,6 +387,42 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
   }
 
+  private void startGroupDirectors() {
+    for (final ExporterDirector groupDirector : groupDirectors) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          groupDirector.startAsync(actorSchedulingService),
+          (ok, error) -> {
+            if (error != null) {
+              LOG.error("Failed to start exporter director '{}'", groupDirector.getName(), error);
+              onFailure();
+            } else {
+              groupDirector.addFailureListener(new GroupDirectorFailureListener(groupDirector));
+            }
+          });
+    }
+  }
+
+  private ActorFuture<Void> forEachGroupDirector(
+      final Function<ExporterDirector, ActorFuture<Void>> operation, final ExporterPhase phase) {
+    final CompletableActorFuture<Void> result = new CompletableActorFuture<>();
+    actor.run(
+        () -> {
+          isHardPaused = phase == ExporterPhase.PAUSED;
+          final List<ActorFuture<Void>> futures = groupDirectors.stream().map(operation).toList();
+          actor.runOnCompletion(
+              futures,
+              error -> {
+                if (error == null) {
+                  exporterPhase = phase;
+                  result.complete(null);
+                } else {
+                  result.completeExceptionally(error);
+                }
+              });
+        });
+    return result;
+  }
+
   private void consumeExporterStateFromLeader(
       final String exporterId,
       final ExporterStateDistributeMessage.ExporterStateEntry exporterState) {
@@ -370,7 +488,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
 
     if (state.hasExporters()) {
-      final long snapshotPosition = state.getLowestPosition();
+      // other exporting groups may be further behind, so we only need to start reading from the
+      // lowest position of our own exporters
+      final long snapshotPosition =
+          containers.stream()
+              .mapToLong(ExporterContainer::getPosition)
+              .min()
+              .orElse(ExportersState.VALUE_NOT_FOUND);
       final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
       if (failedToRecoverReader) {
         throw new IllegalStateException(
@@ -477,12 +601,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void clearExporterState() {
-    final List<String> exporterIds =
-        containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
-
     state.visitExporterState(
         (exporterId, exporterStateEntry) -> {
-          if (!exporterIds.contains(exporterId)) {
+          if (!configuredExporterIds.contains(exporterId)) {
             state.removeExporterState(exporterId);
             LOG.info(
                 "The exporter '{}' is not configured anymore. Its lastExportedPosition is removed from the state.",
@@ -522,6 +643,49 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return actor.call(() -> state.getLowestPosition());
   }
 
+  /**
+   * Propagates the health of a group director to the health of this director, which is derived from
+   * the health of all group directors.
+   */
+  private final class GroupDirectorFailureListener implements FailureListener {
+
+    private final ExporterDirector groupDirector;
+
+    private GroupDirectorFailureListener(final ExporterDirector groupDirector) {
+      this.groupDirector = groupDirector;
+    }
+
+    @Override
+    public void onFailure(final HealthReport report) {
+      actor.run(() -> updateGroupHealth(report));
+    }
+
+    @Override
+    public void onRecovered() {
+      actor.run(() -> updateGroupHealth(HealthReport.healthy(groupDirector)));
+    }
+
+    @Override
+    public void onUnrecoverableFailure(final HealthReport report) {
+      actor.run(() -> updateGroupHealth(report));
+    }
+
+    private void updateGroupHealth(final HealthReport report) {
+      groupsHealth
+          .update(groupDirector.getName(), report)
+          .ifPresent(
+              groupsReport -> {
+                healthReport = groupsReport;
+                switch (groupsReport.getStatus()) {
+                  case HEALTHY -> listeners.forEach(FailureListener::onRecovered);
+                  case UNHEALTHY -> listeners.forEach(l -> l.onFailure(groupsReport));
+                  case DEAD -> listeners.forEach(l -> l.onUnrecoverableFailure(groupsReport));
+                  default -> LOG.warn("Unknown health status {}", groupsReport);
+                }
+              });
+    }
+  }
+
   private static class RecordExporter {
 
     private final RecordValues recordValues = new RecordValues();
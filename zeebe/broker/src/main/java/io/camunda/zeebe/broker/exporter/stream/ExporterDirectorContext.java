@@ -28,6 +28,7 @@ public final class ExporterDirectorContext {
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
   private EventFilter positionsToSkipFilter;
+  private String exporterGroup;
 
   public int getId() {
     return id;
@@ -65,6 +66,10 @@ public final class ExporterDirectorContext {
     return positionsToSkipFilter;
   }
 
+  public String getExporterGroup() {
+    return exporterGroup;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -111,6 +116,30 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  public ExporterDirectorContext exporterGroup(final String exporterGroup) {
+    this.exporterGroup = exporterGroup;
+    return this;
+  }
+
+  /**
+   * Creates a copy of this context which only contains the given descriptors, to be used by the
+   * director of a single exporting group.
+   */
+  ExporterDirectorContext forGroup(
+      final String group, final Collection<ExporterDescriptor> groupDescriptors) {
+    return new ExporterDirectorContext()
+        .id(id)
+        .name(name + "-" + group)
+        .logStream(logStream)
+        .zeebeDb(zeebeDb)
+        .partitionMessagingService(partitionMessagingService)
+        .exporterMode(exporterMode)
+        .distributionInterval(distributionInterval)
+        .positionsToSkipFilter(positionsToSkipFilter)
+        .descriptors(groupDescriptors)
+        .exporterGroup(group);
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.util.health.HealthMonitorable;
+import io.camunda.zeebe.util.health.HealthReport;
+import io.camunda.zeebe.util.health.HealthStatus;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tracks the health of each group director of an {@link ExporterDirector}, and derives the health
+ * of the director from all of them: it is dead if any group director is dead, unhealthy if any is
+ * unhealthy, and only healthy if all of them are healthy.
+ *
+ * <p>Not thread safe, it must only be used by the actor of the director.
+ */
+final class ExporterGroupsHealth {
+
+  private final Map<String, HealthReport> groupHealth = new HashMap<>();
+  private final HealthMonitorable director;
+  private HealthReport healthReport;
+
+  ExporterGroupsHealth(final HealthMonitorable director) {
+    this.director = director;
+    healthReport = HealthReport.healthy(director);
+  }
+
+  /**
+   * Updates the health of a single group director.
+   *
+   * @param groupDirector the name of the group director
+   * @param report the current health of the group director
+   * @return the health of the director, if its status changed
+   */
+  Optional<HealthReport> update(final String groupDirector, final HealthReport report) {
+    groupHealth.put(groupDirector, report);
+
+    final var previousStatus = healthReport.getStatus();
+    healthReport = calculateHealth();
+    return previousStatus == healthReport.getStatus()
+        ? Optional.empty()
+        : Optional.of(healthReport);
+  }
+
+  HealthReport getHealthReport() {
+    return healthReport;
+  }
+
+  private HealthReport calculateHealth() {
+    HealthReport unhealthyReport = null;
+    for (final HealthReport report : groupHealth.values()) {
+      if (report.getStatus() == HealthStatus.DEAD) {
+        return HealthReport.dead(director).withIssue(report);
+      } else if (report.getStatus() == HealthStatus.UNHEALTHY && unhealthyReport == null) {
+        unhealthyReport = report;
+      }
+    }
+
+    return unhealthyReport != null
+        ? HealthReport.unhealthy(director).withIssue(unhealthyReport)
+        : HealthReport.healthy(director);
+  }
+}
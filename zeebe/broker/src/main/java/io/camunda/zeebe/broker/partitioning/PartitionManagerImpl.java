@@ -26,6 +26,8 @@ import io.camunda.zeebe.broker.system.monitoring.BrokerHealthCheckService;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.system.partitions.ZeebePartition;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiService;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.MemoryAllocationStrategy;
+import io.camunda.zeebe.db.impl.rocksdb.SharedRocksDbResources;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -43,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,6 +66,7 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
   private final BrokerCfg brokerCfg;
   private final ZeebePartitionFactory zeebePartitionFactory;
   private final RaftPartitionFactory raftPartitionFactory;
+  private final SharedRocksDbResources sharedRocksDbResources;
 
   public PartitionManagerImpl(
       final ConcurrencyControl concurrencyControl,
@@ -92,6 +96,14 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
     final List<PartitionListener> listeners = new ArrayList<>(partitionListeners);
     listeners.add(topologyManager);
 
+    final var rocksdbCfg = brokerCfg.getExperimental().getRocksdb();
+    sharedRocksDbResources =
+        rocksdbCfg.getMemoryAllocationStrategy() == MemoryAllocationStrategy.BROKER
+            ? SharedRocksDbResources.allocate(
+                rocksdbCfg.getMemoryLimit().toBytes(),
+                countLocalPartitions(clusterServices, partitionDistribution))
+            : null;
+
     zeebePartitionFactory =
         new ZeebePartitionFactory(
             actorSchedulingService,
@@ -106,13 +118,24 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
             listeners,
             partitionRaftListeners,
             topologyManager,
-            featureFlags);
+            featureFlags,
+            sharedRocksDbResources);
     managementService =
         new DefaultPartitionManagementService(
             clusterServices.getMembershipService(), clusterServices.getCommunicationService());
     raftPartitionFactory = new RaftPartitionFactory(brokerCfg);
   }
 
+  private static int countLocalPartitions(
+      final ClusterServices clusterServices, final PartitionDistribution partitionDistribution) {
+    final var localMemberId = clusterServices.getMembershipService().getLocalMember().id();
+    final var localPartitionCount =
+        partitionDistribution.partitions().stream()
+            .filter(p -> p.members().contains(localMemberId))
+            .count();
+    return (int) Math.max(1, localPartitionCount);
+  }
+
   public void start() {
     actorSchedulingService.submitActor(topologyManager);
     final var localMemberId = managementService.getMembershipService().getLocalMember().id();
@@ -227,6 +250,8 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
             result.completeExceptionally(error);
           } else {
             partitions.clear();
+            // only safe once all databases using the shared resources are closed
+            CloseHelper.quietClose(sharedRocksDbResources);
             topologyManager.closeAsync().onComplete(result);
           }
         });
@@ -93,6 +93,13 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setSnapshotChunkSize(
+        (int)
+            Math.min(
+                Integer.MAX_VALUE,
+                brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes()));
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
@@ -46,6 +46,8 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String MAX_SNAPSHOT_CHUNKS_IN_FLIGHT_ERROR_MSG =
+      "Expected to have at least one snapshot chunk in flight per follower, but was '%d'.";
 
   private final Duration shutdownTimeout;
   private final BrokerCfg brokerCfg;
@@ -109,6 +111,12 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final var maxSnapshotChunksInFlight = experimental.getRaft().getMaxSnapshotChunksInFlight();
+    if (maxSnapshotChunksInFlight < 1) {
+      throw new IllegalArgumentException(
+          String.format(MAX_SNAPSHOT_CHUNKS_IN_FLIGHT_ERROR_MSG, maxSnapshotChunksInFlight));
+    }
+
     final var partitioningConfig = experimental.getPartitioning();
     if (partitioningConfig.getScheme() == Scheme.FIXED) {
       validateFixedPartitioningScheme(cluster, experimental);
@@ -28,6 +28,16 @@ public final class ExporterCfg implements ConfigurationEntry {
   /** map of arguments to use when instantiating the exporter */
   private Map<String, Object> args;
 
+  /**
+   * name of the exporting group this exporter belongs to
+   *
+   * <p>optional field: exporters of the same group are driven by a single actor which reads the log
+   * once for all of them. Each additional group gets its own actor and log reader, such that a slow
+   * exporter only delays the exporters of its own group. If missing, the exporter is part of the
+   * default group.
+   */
+  private String group;
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     if (isExternal()) {
@@ -63,13 +73,21 @@ public final class ExporterCfg implements ConfigurationEntry {
     this.args = args;
   }
 
+  public String getGroup() {
+    return group;
+  }
+
+  public void setGroup(final String group) {
+    this.group = group;
+  }
+
   private boolean isEmpty(final String value) {
     return value == null || value.isEmpty();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(jarPath, className, args);
+    return Objects.hash(jarPath, className, args, group);
   }
 
   @Override
@@ -83,7 +101,8 @@ public final class ExporterCfg implements ConfigurationEntry {
     final ExporterCfg that = (ExporterCfg) o;
     return Objects.equals(jarPath, that.jarPath)
         && Objects.equals(className, that.className)
-        && Objects.equals(args, that.args);
+        && Objects.equals(args, that.args)
+        && Objects.equals(group, that.group);
   }
 
   @Override
@@ -97,6 +116,9 @@ public final class ExporterCfg implements ConfigurationEntry {
         + '\''
         + ", args="
         + args
+        + ", group='"
+        + group
+        + '\''
         + '}';
   }
 }
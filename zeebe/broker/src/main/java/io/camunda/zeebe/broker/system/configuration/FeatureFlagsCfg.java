@@ -40,6 +40,8 @@ public final class FeatureFlagsCfg {
 
   private boolean enableDynamicClusterTopology = DEFAULT_SETTINGS.enableDynamicClusterTopology();
 
+  private boolean enableTimerDueDateWheel = DEFAULT_SETTINGS.enableTimerDueDateWheel();
+
   public boolean isEnableYieldingDueDateChecker() {
     return enableYieldingDueDateChecker;
   }
@@ -89,6 +91,14 @@ public final class FeatureFlagsCfg {
     this.enableDynamicClusterTopology = enableDynamicClusterTopology;
   }
 
+  public boolean isEnableTimerDueDateWheel() {
+    return enableTimerDueDateWheel;
+  }
+
+  public void setEnableTimerDueDateWheel(final boolean enableTimerDueDateWheel) {
+    this.enableTimerDueDateWheel = enableTimerDueDateWheel;
+  }
+
   public FeatureFlags toFeatureFlags() {
     return new FeatureFlags(
         enableYieldingDueDateChecker,
@@ -96,7 +106,8 @@ public final class FeatureFlagsCfg {
         enableMessageTtlCheckerAsync,
         enableTimerDueDateCheckerAsync,
         enableStraightThroughProcessingLoopDetector,
-        enableDynamicClusterTopology
+        enableDynamicClusterTopology,
+        enableTimerDueDateWheel
         /*, enableFoo*/ );
   }
 
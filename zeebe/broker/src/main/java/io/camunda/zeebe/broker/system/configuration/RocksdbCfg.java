@@ -9,6 +9,15 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.MemoryAllocationStrategy;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +37,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private MemoryAllocationStrategy memoryAllocationStrategy =
+      RocksDbConfiguration.DEFAULT_MEMORY_ALLOCATION_STRATEGY;
+  private TransactionMode transactionMode = RocksDbConfiguration.DEFAULT_TRANSACTION_MODE;
+  private List<String> dedicatedColumnFamilies = new ArrayList<>();
+  private Map<String, Properties> dedicatedColumnFamilyOptions = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -39,6 +53,37 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    dedicatedColumnFamilies =
+        dedicatedColumnFamilies.stream().map(RocksdbCfg::toColumnFamilyName).toList();
+    final var dedicatedOptions = new HashMap<String, Properties>();
+    dedicatedColumnFamilyOptions.forEach(
+        (columnFamily, options) -> {
+          final var name = toColumnFamilyName(columnFamily);
+          if (!dedicatedColumnFamilies.contains(name)) {
+            throw new IllegalArgumentException(
+                "Expected options only for dedicated column families %s, but got options for %s"
+                    .formatted(dedicatedColumnFamilies, name));
+          }
+          dedicatedOptions.put(name, initColumnFamilyOptions(options));
+        });
+    dedicatedColumnFamilyOptions = dedicatedOptions;
+  }
+
+  /**
+   * Map keys which are given as environment variables are lower case, while the column families are
+   * identified by the upper case name of the {@link ZbColumnFamilies} value.
+   */
+  private static String toColumnFamilyName(final String columnFamily) {
+    final var name = columnFamily.trim().toUpperCase(Locale.ROOT);
+    try {
+      return ZbColumnFamilies.valueOf(name).name();
+    } catch (final IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Expected a dedicated column family to be one of %s, but got %s"
+              .formatted(Arrays.toString(ZbColumnFamilies.values()), columnFamily),
+          e);
+    }
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -129,6 +174,39 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.accessMetrics = accessMetrics;
   }
 
+  public MemoryAllocationStrategy getMemoryAllocationStrategy() {
+    return memoryAllocationStrategy;
+  }
+
+  public void setMemoryAllocationStrategy(final MemoryAllocationStrategy memoryAllocationStrategy) {
+    this.memoryAllocationStrategy = memoryAllocationStrategy;
+  }
+
+  public TransactionMode getTransactionMode() {
+    return transactionMode;
+  }
+
+  public void setTransactionMode(final TransactionMode transactionMode) {
+    this.transactionMode = transactionMode;
+  }
+
+  public List<String> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public void setDedicatedColumnFamilies(final List<String> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+  }
+
+  public Map<String, Properties> getDedicatedColumnFamilyOptions() {
+    return dedicatedColumnFamilyOptions;
+  }
+
+  public void setDedicatedColumnFamilyOptions(
+      final Map<String, Properties> dedicatedColumnFamilyOptions) {
+    this.dedicatedColumnFamilyOptions = dedicatedColumnFamilyOptions;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -139,7 +217,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setMemoryAllocationStrategy(memoryAllocationStrategy)
+        .setTransactionMode(transactionMode)
+        .setDedicatedColumnFamilies(dedicatedColumnFamilies)
+        .setDedicatedColumnFamilyOptions(dedicatedColumnFamilyOptions);
   }
 
   @Override
@@ -165,6 +247,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", memoryAllocationStrategy="
+        + memoryAllocationStrategy
+        + ", transactionMode="
+        + transactionMode
+        + ", dedicatedColumnFamilies="
+        + dedicatedColumnFamilies
+        + ", dedicatedColumnFamilyOptions="
+        + dedicatedColumnFamilyOptions
         + '}';
   }
 
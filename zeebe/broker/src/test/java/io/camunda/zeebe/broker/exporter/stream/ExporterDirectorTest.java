@@ -42,6 +42,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.awaitility.Awaitility;
@@ -664,6 +665,75 @@ public final class ExporterDirectorTest {
     assertThat(exporters.get(1).getExportedRecords()).isEmpty();
   }
 
+  @Test
+  public void shouldKeepExportingOtherGroupsWhileExporterIsRetrying() {
+    // given
+    final AtomicBoolean shouldFail = new AtomicBoolean(true);
+    final ControlledTestExporter failingExporter = exporters.get(0);
+    final ControlledTestExporter otherExporter = exporters.get(1);
+    failingExporter.onExport(
+        r -> {
+          if (shouldFail.get()) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        });
+    startExporterDirector(List.of(inGroup(0, "first"), inGroup(1, "second")));
+
+    // when
+    final long eventPosition = writeEvent();
+
+    // then
+    Awaitility.await("Exporter %s has exported the record".formatted(EXPORTER_ID_2))
+        .untilAsserted(
+            () ->
+                assertThat(otherExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition));
+    assertThat(failingExporter.getExportedRecords()).isEmpty();
+
+    shouldFail.set(false);
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> !failingExporter.getExportedRecords().isEmpty());
+    assertThat(failingExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition);
+  }
+
+  @Test
+  public void shouldPauseAndResumeAllExportingGroups() {
+    // given
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    startExporterDirector(List.of(inGroup(0, "first"), inGroup(1, "second")));
+    rule.getDirector().pauseExporting().join();
+
+    // when
+    final long eventPosition = writeEvent();
+
+    // then
+    assertThat(rule.getDirector().getPhase().join()).isEqualTo(ExporterPhase.PAUSED);
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+    assertThat(exporters.get(1).getExportedRecords()).isEmpty();
+
+    rule.getDirector().resumeExporting().join();
+    assertThat(rule.getDirector().getPhase().join()).isEqualTo(ExporterPhase.EXPORTING);
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 1);
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 1);
+    waitUntil(() -> rule.getDirector().getLowestPosition().join() == eventPosition);
+  }
+
+  private ExporterDescriptor inGroup(final int exporterIndex, final String group) {
+    final ControlledTestExporter exporter = exporters.get(exporterIndex);
+    final ExporterDescriptor descriptor =
+        spy(
+            new ExporterDescriptor(
+                exporterDescriptors.get(exporterIndex).getId(),
+                exporter.getClass(),
+                Collections.emptyMap(),
+                group));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    return descriptor;
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.util.health.HealthMonitorable;
+import io.camunda.zeebe.util.health.HealthReport;
+import io.camunda.zeebe.util.health.HealthStatus;
+import org.junit.jupiter.api.Test;
+
+final class ExporterGroupsHealthTest {
+
+  private final HealthMonitorable director = component("director");
+  private final HealthMonitorable firstGroup = component("first");
+  private final HealthMonitorable secondGroup = component("second");
+  private final ExporterGroupsHealth groupsHealth = new ExporterGroupsHealth(director);
+
+  @Test
+  void shouldStayUnhealthyWhileAnyGroupIsUnhealthy() {
+    // given
+    groupsHealth.update("first", unhealthy(firstGroup));
+    groupsHealth.update("second", unhealthy(secondGroup));
+
+    // when
+    final var changedHealth = groupsHealth.update("second", HealthReport.healthy(secondGroup));
+
+    // then
+    assertThat(changedHealth).isEmpty();
+    assertThat(groupsHealth.getHealthReport().getStatus()).isEqualTo(HealthStatus.UNHEALTHY);
+    assertThat(groupsHealth.getHealthReport().getIssue().cause()).isEqualTo(unhealthy(firstGroup));
+  }
+
+  @Test
+  void shouldRecoverOnceAllGroupsAreHealthy() {
+    // given
+    groupsHealth.update("first", unhealthy(firstGroup));
+    groupsHealth.update("second", unhealthy(secondGroup));
+    groupsHealth.update("second", HealthReport.healthy(secondGroup));
+
+    // when
+    final var changedHealth = groupsHealth.update("first", HealthReport.healthy(firstGroup));
+
+    // then
+    assertThat(changedHealth).contains(HealthReport.healthy(director));
+    assertThat(groupsHealth.getHealthReport().isHealthy()).isTrue();
+  }
+
+  @Test
+  void shouldBeDeadIfAnyGroupIsDead() {
+    // given
+    groupsHealth.update("first", unhealthy(firstGroup));
+
+    // when
+    final var changedHealth =
+        groupsHealth.update("second", HealthReport.dead(secondGroup).withMessage("dead"));
+    final var unchangedHealth = groupsHealth.update("first", HealthReport.healthy(firstGroup));
+
+    // then
+    assertThat(changedHealth).hasValueSatisfying(report -> assertThat(report.isDead()).isTrue());
+    assertThat(unchangedHealth).isEmpty();
+    assertThat(groupsHealth.getHealthReport().isDead()).isTrue();
+  }
+
+  @Test
+  void shouldOnlyReportChangedStatus() {
+    // when
+    final var firstFailure = groupsHealth.update("first", unhealthy(firstGroup));
+    final var secondFailure = groupsHealth.update("second", unhealthy(secondGroup));
+
+    // then
+    assertThat(firstFailure)
+        .hasValueSatisfying(report -> assertThat(report.isUnhealthy()).isTrue());
+    assertThat(secondFailure).isEmpty();
+  }
+
+  private static HealthReport unhealthy(final HealthMonitorable group) {
+    return HealthReport.unhealthy(group).withMessage("failed");
+  }
+
+  private static HealthMonitorable component(final String name) {
+    final var component = mock(HealthMonitorable.class);
+    when(component.getName()).thenReturn(name);
+    return component;
+  }
+}
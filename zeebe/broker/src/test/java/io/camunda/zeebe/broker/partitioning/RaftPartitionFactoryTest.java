@@ -192,6 +192,33 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(1000);
   }
 
+  @Test
+  void shouldSetSnapshotChunkSize() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setSnapshotChunkSize(DataSize.ofMegabytes(8));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getSnapshotChunkSize())
+        .isEqualTo(DataSize.ofMegabytes(8).toBytes());
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlight() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxSnapshotChunksInFlight(3);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxSnapshotChunksInFlight()).isEqualTo(3);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void shouldSetSegmentFilesPreallocation(final boolean value) {
@@ -82,6 +82,22 @@ final class SystemContextTest {
             "Expected to have an append batch size maximum which is non negative and smaller then '2147483647', but was '3221225472B'.");
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1})
+  void shouldThrowExceptionIfMaxSnapshotChunksInFlightIsNotPositive(
+      final int maxSnapshotChunksInFlight) {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxSnapshotChunksInFlight(maxSnapshotChunksInFlight);
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected to have at least one snapshot chunk in flight per follower, but was '%d'.",
+            maxSnapshotChunksInFlight);
+  }
+
   @Test
   void shouldNotThrowExceptionIfSnapshotPeriodIsEqualToOneMinute() {
     // given
@@ -15,6 +15,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.util.unit.DataSize;
 
 @Execution(ExecutionMode.CONCURRENT)
 final class ExperimentalCfgTest {
@@ -113,6 +114,52 @@ final class ExperimentalCfgTest {
     assertThat(raft.getPreferSnapshotReplicationThreshold()).isEqualTo(10);
   }
 
+  @Test
+  void shouldSetSnapshotChunkSizeFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getSnapshotChunkSize()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  void shouldSetSnapshotChunkSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.snapshotChunkSize", "1MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getSnapshotChunkSize()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlightFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxSnapshotChunksInFlight()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlightFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.maxSnapshotChunksInFlight", "2");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxSnapshotChunksInFlight()).isEqualTo(2);
+  }
+
   @Test
   void shouldSetEnablePreconditionsFromConfig() {
     // when
@@ -139,6 +139,39 @@ final class FeatureFlagsCfgTest {
     assertThat(featureFlagsCfg.isEnableTimerDueDateCheckerAsync()).isFalse();
   }
 
+  @Test
+  void shouldDisableTimerDueDateWheelByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableTimerDueDateWheel()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableTimerDueDateWheelFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableTimerDueDateWheel()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableTimerDueDateWheelFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.features.enableTimerDueDateWheel", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableTimerDueDateWheel()).isFalse();
+  }
+
   @Test
   void shouldSetEnableStraightThroughProcessingLoopDetectorFromConfig() {
     // when
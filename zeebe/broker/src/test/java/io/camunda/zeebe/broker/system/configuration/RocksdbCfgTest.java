@@ -8,7 +8,10 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.MemoryAllocationStrategy;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -130,6 +133,100 @@ public final class RocksdbCfgTest {
     assertThat(rocksdb.getMemoryLimit()).isEqualTo(DataSize.ofMegabytes(32));
   }
 
+  @Test
+  public void shouldAllocateMemoryPerPartitionByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getMemoryAllocationStrategy()).isEqualTo(MemoryAllocationStrategy.PARTITION);
+  }
+
+  @Test
+  public void shouldSetMemoryAllocationStrategyViaEnvironment() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.memoryAllocationStrategy", "BROKER");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getMemoryAllocationStrategy())
+        .isEqualTo(MemoryAllocationStrategy.BROKER);
+  }
+
+  @Test
+  public void shouldUseOptimisticTransactionsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getTransactionMode()).isEqualTo(TransactionMode.OPTIMISTIC);
+  }
+
+  @Test
+  public void shouldSetTransactionModeViaEnvironment() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.transactionMode", "SINGLE_WRITER");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getTransactionMode())
+        .isEqualTo(TransactionMode.SINGLE_WRITER);
+  }
+
+  @Test
+  public void shouldHaveNoDedicatedColumnFamiliesByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getDedicatedColumnFamilies()).isEmpty();
+    assertThat(rocksdb.getDedicatedColumnFamilyOptions()).isEmpty();
+  }
+
+  @Test
+  public void shouldSetDedicatedColumnFamiliesViaEnvironment() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.dedicatedColumnFamilies", "VARIABLES,timer_due_dates");
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.dedicatedColumnFamilyOptions.variables.write.buffer.size",
+        "8388608");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamilies())
+        .containsExactly("VARIABLES", "TIMER_DUE_DATES");
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamilyOptions())
+        .containsOnlyKeys("VARIABLES");
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamilyOptions().get("VARIABLES"))
+        .containsEntry("write_buffer_size", "8388608");
+  }
+
+  @Test
+  public void shouldRejectUnknownDedicatedColumnFamily() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.dedicatedColumnFamilies", "FOO");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("rocksdb-cfg", environment))
+        .hasRootCauseInstanceOf(IllegalArgumentException.class)
+        .rootCause()
+        .hasMessageContaining("FOO");
+  }
+
   @Test
   public void shouldSetMaxOpenFilesViaConfig() {
     // when
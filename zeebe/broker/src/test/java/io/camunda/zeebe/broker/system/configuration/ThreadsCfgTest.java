@@ -115,4 +115,56 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldNotUseVirtualIoThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean virtualIoThreads = cfg.isVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isFalse();
+  }
+
+  @Test
+  void shouldSetVirtualIoThreadsFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.virtualIoThreads", "true");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final boolean virtualIoThreads = cfg.isVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isTrue();
+  }
+
+  @Test
+  void shouldNotUsePartitionAffinityByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean partitionAffinity = cfg.isPartitionAffinity();
+
+    // then
+    assertThat(partitionAffinity).isFalse();
+  }
+
+  @Test
+  void shouldSetPartitionAffinityFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.partitionAffinity", "true");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final boolean partitionAffinity = cfg.isPartitionAffinity();
+
+    // then
+    assertThat(partitionAffinity).isTrue();
+  }
 }
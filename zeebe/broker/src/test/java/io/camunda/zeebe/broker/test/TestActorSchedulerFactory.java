@@ -27,6 +27,8 @@ public final class TestActorSchedulerFactory {
         ActorScheduler.newActorScheduler()
             .setCpuBoundActorThreadCount(threads.getCpuThreadCount())
             .setIoBoundActorThreadCount(threads.getIoThreadCount())
+            .setIoBoundActorThreadsVirtual(threads.isVirtualIoThreads())
+            .setPartitionAffinityEnabled(threads.isPartitionAffinity())
             .setMetricsEnabled(features.isEnableActorMetrics())
             .setActorClock(clock)
             .build();
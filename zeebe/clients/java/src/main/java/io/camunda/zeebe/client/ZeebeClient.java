@@ -28,6 +28,7 @@ import io.camunda.zeebe.client.api.command.EvaluateDecisionCommandStep1;
 import io.camunda.zeebe.client.api.command.MigrateProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.ModifyProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.camunda.zeebe.client.api.command.PublishMessagesCommandStep1;
 import io.camunda.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.camunda.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.camunda.zeebe.client.api.command.TopologyRequestStep1;
@@ -292,6 +293,25 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   PublishMessageCommandStep1 newPublishMessageCommand();
 
+  /**
+   * Command to publish many messages with a single request. The messages are published on their
+   * partitions with one command per partition, and the result of each message is returned
+   * separately, such that a message which could not be published doesn't fail the others.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newPublishMessagesCommand()
+   *  .message("order canceled", firstOrderId)
+   *  .variables(json)
+   *  .message("order canceled", secondOrderId)
+   *  .messageId(messageId)
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  PublishMessagesCommandStep1 newPublishMessagesCommand();
+
   /**
    * Command to broadcast a signal.
    *
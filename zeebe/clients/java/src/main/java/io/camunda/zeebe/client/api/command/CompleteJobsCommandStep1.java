@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.command;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.response.CompleteJobsResponse;
+import java.io.InputStream;
+import java.util.Map;
+
+public interface CompleteJobsCommandStep1 extends FinalCommandStep<CompleteJobsResponse> {
+
+  /**
+   * Add a job to complete with this command. Jobs of different partitions can be completed by the
+   * same command, as they are sent to their partitions in separate requests.
+   *
+   * @param jobKey the key which identifies the job
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker, or add the variables to complete the job with.
+   */
+  CompleteJobsCommandStep2 job(long jobKey);
+
+  /**
+   * Add a job to complete with this command.
+   *
+   * @param job the activated job
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker, or add the variables to complete the job with.
+   */
+  CompleteJobsCommandStep2 job(ActivatedJob job);
+
+  interface CompleteJobsCommandStep2 extends CompleteJobsCommandStep1 {
+
+    /**
+     * Set the variables to complete the last added job with.
+     *
+     * @param variables the variables (JSON) as stream
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CompleteJobsCommandStep2 variables(InputStream variables);
+
+    /**
+     * Set the variables to complete the last added job with.
+     *
+     * @param variables the variables (JSON) as String
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CompleteJobsCommandStep2 variables(String variables);
+
+    /**
+     * Set the variables to complete the last added job with.
+     *
+     * @param variables the variables as map
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CompleteJobsCommandStep2 variables(Map<String, Object> variables);
+
+    /**
+     * Set the variables to complete the last added job with.
+     *
+     * @param variables the variables as object
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CompleteJobsCommandStep2 variables(Object variables);
+
+    /**
+     * Set a single variable to complete the last added job with.
+     *
+     * @param key the key of the variable as string
+     * @param value the value of the variable as object
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CompleteJobsCommandStep2 variable(String key, Object value);
+  }
+}
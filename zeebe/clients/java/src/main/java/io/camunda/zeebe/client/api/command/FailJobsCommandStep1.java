@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.command;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.response.FailJobsResponse;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+
+public interface FailJobsCommandStep1 extends FinalCommandStep<FailJobsResponse> {
+
+  /**
+   * Add a job to fail with this command. Jobs of different partitions can be failed by the same
+   * command, as they are sent to their partitions in separate requests.
+   *
+   * <p>If the remaining retries are greater than zero then this job will be picked up again by a
+   * job subscription. Otherwise, an incident is created for this job.
+   *
+   * @param jobKey the key which identifies the job
+   * @param remainingRetries the remaining retries of this job (e.g. "jobEvent.getRetries() - 1")
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker, or set the optional parameters of the failed job.
+   */
+  FailJobsCommandStep2 job(long jobKey, int remainingRetries);
+
+  /**
+   * Add a job to fail with this command.
+   *
+   * @param job the activated job
+   * @param remainingRetries the remaining retries of this job (e.g. "job.getRetries() - 1")
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker, or set the optional parameters of the failed job.
+   * @see #job(long, int)
+   */
+  FailJobsCommandStep2 job(ActivatedJob job, int remainingRetries);
+
+  interface FailJobsCommandStep2 extends FailJobsCommandStep1 {
+
+    /**
+     * Set the backoff timeout for failing the last added job.
+     *
+     * <p>If the backoff timeout is greater than zero and retries are greater than zero then this
+     * job will be picked up again after the given backoff timeout is expired.
+     *
+     * @param backoffTimeout the backoff timeout of this job
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    FailJobsCommandStep2 retryBackoff(Duration backoffTimeout);
+
+    /**
+     * Provide an error message describing the reason for the failure of the last added job. If
+     * failing the job creates an incident, this error message will be used as incident message.
+     *
+     * @param errorMsg error message to be attached to the failed job
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    FailJobsCommandStep2 errorMessage(String errorMsg);
+
+    /**
+     * Set the variables of the last added job, which are set as local variables of the failed job.
+     *
+     * @param variables the variables (JSON) as stream
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    FailJobsCommandStep2 variables(InputStream variables);
+
+    /**
+     * Set the variables of the last added job, which are set as local variables of the failed job.
+     *
+     * @param variables the variables (JSON) as String
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    FailJobsCommandStep2 variables(String variables);
+
+    /**
+     * Set the variables of the last added job, which are set as local variables of the failed job.
+     *
+     * @param variables the variables as map
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    FailJobsCommandStep2 variables(Map<String, Object> variables);
+
+    /**
+     * Set the variables of the last added job, which are set as local variables of the failed job.
+     *
+     * @param variables the variables as object
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    FailJobsCommandStep2 variables(Object variables);
+
+    /**
+     * Set a single variable of the last added job, which is set as local variable of the failed
+     * job.
+     *
+     * @param key the key of the variable as string
+     * @param value the value of the variable as object
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    FailJobsCommandStep2 variable(String key, Object value);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.response;
+
+/**
+ * The result of a single message of a {@link PublishMessagesResponse}. The key and the tenant id
+ * are only set if the message was published.
+ */
+public interface PublishMessageResult extends PublishMessageResponse {
+
+  /**
+   * @return true if the message was published, otherwise false
+   */
+  boolean isPublished();
+
+  /**
+   * Returns the reason why the message was not published, as the name of a gRPC status code, e.g.
+   * {@code ALREADY_EXISTS} if a message with the same id was already published, or {@code
+   * RESOURCE_EXHAUSTED} if the message was not processed and can be published again.
+   *
+   * @return the error code, or an empty string if the message was published
+   */
+  String getErrorCode();
+
+  /**
+   * @return the error message, or an empty string if the message was published
+   */
+  String getErrorMessage();
+}
@@ -18,7 +18,9 @@ package io.camunda.zeebe.client.api.worker;
 import io.camunda.zeebe.client.api.ExperimentalApi;
 import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1.StreamJobsCommandStep3;
 import io.camunda.zeebe.client.api.command.ThrowErrorCommandStep1;
@@ -113,6 +115,52 @@ public interface JobClient {
    */
   FailJobCommandStep1 newFailCommand(ActivatedJob job);
 
+  /**
+   * Command to complete many jobs with a single request.
+   *
+   * <pre>
+   * long jobKey = ..;
+   * long otherJobKey = ..;
+   *
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .job(jobKey)
+   *  .variables(json)
+   *  .job(otherJobKey)
+   *  .send();
+   * </pre>
+   *
+   * <p>The jobs are completed on their partitions independently of each other. The response
+   * contains the keys of the jobs which were completed and of the jobs which were rejected, e.g.
+   * because they were completed already.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
+  /**
+   * Command to mark many jobs as failed with a single request.
+   *
+   * <pre>
+   * long jobKey = ..;
+   * long otherJobKey = ..;
+   *
+   * jobClient
+   *  .newFailJobsCommand()
+   *  .job(jobKey, 3)
+   *  .errorMessage("timed out")
+   *  .job(otherJobKey, 0)
+   *  .send();
+   * </pre>
+   *
+   * <p>The jobs are failed on their partitions independently of each other. The response contains
+   * the keys of the jobs which were failed and of the jobs which were rejected, e.g. because they
+   * were completed already.
+   *
+   * @return a builder for the command
+   */
+  FailJobsCommandStep1 newFailJobsCommand();
+
   /**
    * Command to report a business error (i.e. non-technical) that occurs while processing a job.
    *
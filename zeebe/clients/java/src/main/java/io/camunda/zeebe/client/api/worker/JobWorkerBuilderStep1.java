@@ -232,6 +232,25 @@ public interface JobWorkerBuilderStep1 {
     @ExperimentalApi("https://github.com/camunda/zeebe/issues/11231")
     JobWorkerBuilderStep3 streamTimeout(final Duration timeout);
 
+    /**
+     * Opt-in to run each job handler on its own virtual thread, instead of on the job worker
+     * executor of the client. A handler which blocks, e.g. while it calls a database or another
+     * service, then doesn't occupy a platform thread while it waits, such that a worker can handle
+     * thousands of jobs concurrently without sizing the thread pool of the client accordingly.
+     *
+     * <p>The number of jobs which are handled concurrently is still bounded by {@link
+     * #maxJobsActive(int)}, which should be raised accordingly. If streaming is enabled, the worker
+     * only accepts the next streamed job once a handler finished, such that the jobs are streamed
+     * at the rate at which they are completed.
+     *
+     * <p>NOTE: virtual threads require at least Java 21, the worker fails to open with an {@link
+     * UnsupportedOperationException} on older versions.
+     *
+     * @param areVirtualThreadsEnabled true to run the job handlers on virtual threads
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 virtualThreadsEnabled(boolean areVirtualThreadsEnabled);
+
     /**
      * Sets the job worker metrics implementation to use. See {@link JobWorkerMetrics} for more.
      * Defaults to {@link JobWorkerMetrics#noop()}, an implementation which simply does nothing.
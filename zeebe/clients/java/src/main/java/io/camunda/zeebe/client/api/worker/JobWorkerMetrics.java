@@ -17,6 +17,7 @@ package io.camunda.zeebe.client.api.worker;
 
 import io.camunda.zeebe.client.api.worker.metrics.MicrometerJobWorkerMetricsBuilder;
 import io.camunda.zeebe.client.impl.worker.metrics.MicrometerJobWorkerMetricsBuilderImpl;
+import java.time.Duration;
 
 /** Worker metrics API. Allows basic instrumenting of job activation and handling. */
 public interface JobWorkerMetrics {
@@ -39,6 +40,19 @@ public interface JobWorkerMetrics {
    */
   default void jobHandled(final int count) {}
 
+  /**
+   * Called every time the job handler starts to work on a job, i.e. the job is in flight until
+   * {@link #jobHandlerFinished(Duration)} is called for it.
+   */
+  default void jobHandlerStarted() {}
+
+  /**
+   * Called every time the job handler finished to work on a job, successfully or not.
+   *
+   * @param duration how long the job handler worked on the job
+   */
+  default void jobHandlerFinished(final Duration duration) {}
+
   /**
    * Returns a new builder for the Micrometer bridge.
    *
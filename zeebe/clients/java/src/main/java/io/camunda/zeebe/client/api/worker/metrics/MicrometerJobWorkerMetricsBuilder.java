@@ -19,6 +19,7 @@ import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import java.time.Duration;
 
 /**
  * Builder interface for the {@link JobWorkerMetrics} backed by Micrometer. This is an optional
@@ -32,10 +33,13 @@ import io.micrometer.core.instrument.Tag;
  * <ul>
  *   <li>A counter for the jobs activated count
  *   <li>A counter for the jobs handled count
+ *   <li>A gauge for the count of jobs which are currently worked on by the job handler
+ *   <li>A timer for how long the job handler works on a job
  * </ul>
  *
  * From these counters you can derive the rate of jobs activated, the rate of jobs handled, and
- * subtract both to estimate the count/rate of jobs queued in a given worker.
+ * subtract both to estimate the count/rate of jobs queued in a given worker. Subtracting the jobs
+ * in flight from it gives the count of jobs which wait for a thread to work on them.
  *
  * <p>NOTE: the names may be changed depending on the registry backing Micrometer (e.g. Prometheus
  * names will replace the periods with underscore, etc.)
@@ -78,6 +82,22 @@ public interface MicrometerJobWorkerMetricsBuilder {
       public String asString() {
         return "zeebe.client.worker.job.handled";
       }
+    },
+
+    /** Gauge of the jobs between {@link JobWorkerMetrics#jobHandlerStarted()} and finished. */
+    JOB_IN_FLIGHT {
+      @Override
+      public String asString() {
+        return "zeebe.client.worker.job.inflight";
+      }
+    },
+
+    /** Timer backing the {@link JobWorkerMetrics#jobHandlerFinished(Duration)} durations. */
+    JOB_HANDLER_LATENCY {
+      @Override
+      public String asString() {
+        return "zeebe.client.worker.job.handler.latency";
+      }
     }
   }
 }
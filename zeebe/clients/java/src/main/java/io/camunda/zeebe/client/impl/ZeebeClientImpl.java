@@ -28,6 +28,7 @@ import io.camunda.zeebe.client.api.command.BroadcastSignalCommandStep1;
 import io.camunda.zeebe.client.api.command.CancelProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.ClientException;
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteUserTaskCommandStep1;
 import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.DeleteResourceCommandStep1;
@@ -35,9 +36,11 @@ import io.camunda.zeebe.client.api.command.DeployProcessCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployResourceCommandStep1;
 import io.camunda.zeebe.client.api.command.EvaluateDecisionCommandStep1;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.MigrateProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.ModifyProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.camunda.zeebe.client.api.command.PublishMessagesCommandStep1;
 import io.camunda.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.camunda.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1;
@@ -64,6 +67,7 @@ import io.camunda.zeebe.client.impl.command.JobUpdateTimeoutCommandImpl;
 import io.camunda.zeebe.client.impl.command.MigrateProcessInstanceCommandImpl;
 import io.camunda.zeebe.client.impl.command.ModifyProcessInstanceCommandImpl;
 import io.camunda.zeebe.client.impl.command.PublishMessageCommandImpl;
+import io.camunda.zeebe.client.impl.command.PublishMessagesCommandImpl;
 import io.camunda.zeebe.client.impl.command.ResolveIncidentCommandImpl;
 import io.camunda.zeebe.client.impl.command.SetVariablesCommandImpl;
 import io.camunda.zeebe.client.impl.command.StreamJobsCommandImpl;
@@ -391,6 +395,11 @@ public final class ZeebeClientImpl implements ZeebeClient {
         asyncStub, config, jsonMapper, credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public PublishMessagesCommandStep1 newPublishMessagesCommand() {
+    return new PublishMessagesCommandImpl(asyncStub, config, jsonMapper);
+  }
+
   @Override
   public BroadcastSignalCommandStep1 newBroadcastSignalCommand() {
     return new BroadcastSignalCommandImpl(
@@ -493,6 +502,16 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return newFailCommand(job.getKey());
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return jobClient.newCompleteJobsCommand();
+  }
+
+  @Override
+  public FailJobsCommandStep1 newFailJobsCommand() {
+    return jobClient.newFailJobsCommand();
+  }
+
   @Override
   public ThrowErrorCommandStep1 newThrowErrorCommand(final long jobKey) {
     return jobClient.newThrowErrorCommand(jobKey);
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1.CompleteJobsCommandStep2;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.response.CompleteJobsResponse;
+import io.camunda.zeebe.client.impl.ZeebeStreamingClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.CompleteJobsResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completes many jobs with a single request. The request is not retried, as the jobs which were
+ * already completed by a previous attempt would be rejected by the retry.
+ */
+public final class CompleteJobsCommandImpl extends CommandWithVariables<CompleteJobsCommandStep2>
+    implements CompleteJobsCommandStep1, CompleteJobsCommandStep2 {
+
+  private final GatewayStub asyncStub;
+  private final CompleteJobsRequest.Builder builder = CompleteJobsRequest.newBuilder();
+  private CompleteJobRequest.Builder jobBuilder;
+  private Duration requestTimeout;
+
+  public CompleteJobsCommandImpl(
+      final GatewayStub asyncStub, final JsonMapper jsonMapper, final Duration requestTimeout) {
+    super(jsonMapper);
+    this.asyncStub = asyncStub;
+    this.requestTimeout = requestTimeout;
+  }
+
+  @Override
+  public CompleteJobsCommandStep2 job(final long jobKey) {
+    jobBuilder = builder.addJobsBuilder().setJobKey(jobKey);
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep2 job(final ActivatedJob job) {
+    return job(job.getKey());
+  }
+
+  @Override
+  protected CompleteJobsCommandStep2 setVariablesInternal(final String variables) {
+    jobBuilder.setVariables(variables);
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<CompleteJobsResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<CompleteJobsResponse> send() {
+    final CompleteJobsRequest request = builder.build();
+
+    final CompleteJobsResponseImpl response = new CompleteJobsResponseImpl();
+    final ZeebeStreamingClientFutureImpl<
+            CompleteJobsResponse, GatewayOuterClass.CompleteJobsResponse>
+        future = new ZeebeStreamingClientFutureImpl<>(response, response::addResponse);
+
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(request, future);
+    return future;
+  }
+}
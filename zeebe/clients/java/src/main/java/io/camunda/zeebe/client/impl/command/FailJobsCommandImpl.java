@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1.FailJobsCommandStep2;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.response.FailJobsResponse;
+import io.camunda.zeebe.client.impl.ZeebeStreamingClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.FailJobsResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fails many jobs with a single request. The request is not retried, as the jobs which were already
+ * failed by a previous attempt would be rejected by the retry.
+ */
+public final class FailJobsCommandImpl extends CommandWithVariables<FailJobsCommandStep2>
+    implements FailJobsCommandStep1, FailJobsCommandStep2 {
+
+  private final GatewayStub asyncStub;
+  private final FailJobsRequest.Builder builder = FailJobsRequest.newBuilder();
+  private FailJobRequest.Builder jobBuilder;
+  private Duration requestTimeout;
+
+  public FailJobsCommandImpl(
+      final GatewayStub asyncStub, final JsonMapper jsonMapper, final Duration requestTimeout) {
+    super(jsonMapper);
+    this.asyncStub = asyncStub;
+    this.requestTimeout = requestTimeout;
+  }
+
+  @Override
+  public FailJobsCommandStep2 job(final long jobKey, final int remainingRetries) {
+    jobBuilder = builder.addJobsBuilder().setJobKey(jobKey).setRetries(remainingRetries);
+    return this;
+  }
+
+  @Override
+  public FailJobsCommandStep2 job(final ActivatedJob job, final int remainingRetries) {
+    return job(job.getKey(), remainingRetries);
+  }
+
+  @Override
+  public FailJobsCommandStep2 retryBackoff(final Duration backoffTimeout) {
+    jobBuilder.setRetryBackOff(backoffTimeout.toMillis());
+    return this;
+  }
+
+  @Override
+  public FailJobsCommandStep2 errorMessage(final String errorMsg) {
+    jobBuilder.setErrorMessage(errorMsg);
+    return this;
+  }
+
+  @Override
+  protected FailJobsCommandStep2 setVariablesInternal(final String variables) {
+    jobBuilder.setVariables(variables);
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<FailJobsResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<FailJobsResponse> send() {
+    final FailJobsRequest request = builder.build();
+
+    final FailJobsResponseImpl response = new FailJobsResponseImpl();
+    final ZeebeStreamingClientFutureImpl<FailJobsResponse, GatewayOuterClass.FailJobsResponse>
+        future = new ZeebeStreamingClientFutureImpl<>(response, response::addResponse);
+
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .failJobs(request, future);
+    return future;
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.command.PublishMessagesCommandStep1;
+import io.camunda.zeebe.client.api.command.PublishMessagesCommandStep1.PublishMessagesCommandStep2;
+import io.camunda.zeebe.client.api.response.PublishMessagesResponse;
+import io.camunda.zeebe.client.impl.ZeebeClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.PublishMessagesResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes many messages with a single request. The request is not retried, as the messages which
+ * were already published by a previous attempt would be published again by the retry.
+ */
+public final class PublishMessagesCommandImpl
+    extends CommandWithVariables<PublishMessagesCommandStep2>
+    implements PublishMessagesCommandStep1, PublishMessagesCommandStep2 {
+
+  private final GatewayStub asyncStub;
+  private final PublishMessagesRequest.Builder builder = PublishMessagesRequest.newBuilder();
+  private final long defaultTimeToLive;
+  private final String defaultTenantId;
+  private PublishMessageRequest.Builder messageBuilder;
+  private Duration requestTimeout;
+
+  public PublishMessagesCommandImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration configuration,
+      final JsonMapper jsonMapper) {
+    super(jsonMapper);
+    this.asyncStub = asyncStub;
+    defaultTimeToLive = configuration.getDefaultMessageTimeToLive().toMillis();
+    defaultTenantId = configuration.getDefaultTenantId();
+    requestTimeout = configuration.getDefaultRequestTimeout();
+  }
+
+  @Override
+  public PublishMessagesCommandStep2 message(
+      final String messageName, final String correlationKey) {
+    messageBuilder =
+        builder
+            .addMessagesBuilder()
+            .setName(messageName)
+            .setCorrelationKey(correlationKey)
+            .setTimeToLive(defaultTimeToLive)
+            .setTenantId(defaultTenantId);
+    return this;
+  }
+
+  @Override
+  public PublishMessagesCommandStep2 messageId(final String messageId) {
+    messageBuilder.setMessageId(messageId);
+    return this;
+  }
+
+  @Override
+  public PublishMessagesCommandStep2 timeToLive(final Duration timeToLive) {
+    messageBuilder.setTimeToLive(timeToLive.toMillis());
+    return this;
+  }
+
+  @Override
+  public PublishMessagesCommandStep2 tenantId(final String tenantId) {
+    messageBuilder.setTenantId(tenantId);
+    return this;
+  }
+
+  @Override
+  protected PublishMessagesCommandStep2 setVariablesInternal(final String variables) {
+    messageBuilder.setVariables(variables);
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<PublishMessagesResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<PublishMessagesResponse> send() {
+    final PublishMessagesRequest request = builder.build();
+
+    final ZeebeClientFutureImpl<PublishMessagesResponse, GatewayOuterClass.PublishMessagesResponse>
+        future = new ZeebeClientFutureImpl<>(PublishMessagesResponseImpl::new);
+
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .publishMessages(request, future);
+    return future;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.response;
+
+import io.camunda.zeebe.client.api.response.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CompleteJobsResponseImpl implements CompleteJobsResponse {
+
+  private final List<Long> completedJobKeys = new ArrayList<>();
+  private final List<Long> rejectedJobKeys = new ArrayList<>();
+  private final List<Long> unprocessedJobKeys = new ArrayList<>();
+
+  public void addResponse(final GatewayOuterClass.CompleteJobsResponse response) {
+    completedJobKeys.addAll(response.getCompletedJobKeysList());
+    rejectedJobKeys.addAll(response.getRejectedJobKeysList());
+    unprocessedJobKeys.addAll(response.getUnprocessedJobKeysList());
+  }
+
+  @Override
+  public List<Long> getCompletedJobKeys() {
+    return completedJobKeys;
+  }
+
+  @Override
+  public List<Long> getRejectedJobKeys() {
+    return rejectedJobKeys;
+  }
+
+  @Override
+  public List<Long> getUnprocessedJobKeys() {
+    return unprocessedJobKeys;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.response;
+
+import io.camunda.zeebe.client.api.response.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult.ResultCase;
+
+public final class PublishMessageResultImpl implements PublishMessageResult {
+
+  private final boolean published;
+  private final long key;
+  private final String tenantId;
+  private final String errorCode;
+  private final String errorMessage;
+
+  public PublishMessageResultImpl(final GatewayOuterClass.PublishMessageResult result) {
+    published = result.getResultCase() == ResultCase.MESSAGE;
+    key = result.getMessage().getKey();
+    tenantId = result.getMessage().getTenantId();
+    errorCode = result.getError().getCode();
+    errorMessage = result.getError().getMessage();
+  }
+
+  @Override
+  public boolean isPublished() {
+    return published;
+  }
+
+  @Override
+  public long getMessageKey() {
+    return key;
+  }
+
+  @Override
+  public String getTenantId() {
+    return tenantId;
+  }
+
+  @Override
+  public String getErrorCode() {
+    return errorCode;
+  }
+
+  @Override
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  @Override
+  public String toString() {
+    return "PublishMessageResultImpl{"
+        + "published="
+        + published
+        + ", key="
+        + key
+        + ", tenantId='"
+        + tenantId
+        + '\''
+        + ", errorCode='"
+        + errorCode
+        + '\''
+        + ", errorMessage='"
+        + errorMessage
+        + '\''
+        + '}';
+  }
+}
@@ -20,14 +20,18 @@ import io.camunda.zeebe.client.ZeebeClientConfiguration;
 import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.ThrowErrorCommandStep1;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.client.impl.command.ActivateJobsCommandImpl;
 import io.camunda.zeebe.client.impl.command.CompleteJobCommandImpl;
+import io.camunda.zeebe.client.impl.command.CompleteJobsCommandImpl;
 import io.camunda.zeebe.client.impl.command.FailJobCommandImpl;
+import io.camunda.zeebe.client.impl.command.FailJobsCommandImpl;
 import io.camunda.zeebe.client.impl.command.StreamJobsCommandImpl;
 import io.camunda.zeebe.client.impl.command.ThrowErrorCommandImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
@@ -73,6 +77,16 @@ public final class JobClientImpl implements JobClient {
     return newFailCommand(job.getKey());
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return new CompleteJobsCommandImpl(asyncStub, jsonMapper, config.getDefaultRequestTimeout());
+  }
+
+  @Override
+  public FailJobsCommandStep1 newFailJobsCommand() {
+    return new FailJobsCommandImpl(asyncStub, jsonMapper, config.getDefaultRequestTimeout());
+  }
+
   @Override
   public ThrowErrorCommandStep1 newThrowErrorCommand(final long jobKey) {
     return new ThrowErrorCommandImpl(
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 public final class JobWorkerBuilderImpl
@@ -59,6 +60,7 @@ public final class JobWorkerBuilderImpl
   private BackoffSupplier backoffSupplier;
   private boolean enableStreaming;
   private Duration streamingTimeout;
+  private boolean enableVirtualThreads;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
 
   public JobWorkerBuilderImpl(
@@ -158,6 +160,12 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 virtualThreadsEnabled(final boolean areVirtualThreadsEnabled) {
+    enableVirtualThreads = areVirtualThreadsEnabled;
+    return this;
+  }
+
   @Override
   public JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics) {
     this.metrics = metrics == null ? JobWorkerMetrics.noop() : metrics;
@@ -185,6 +193,18 @@ public final class JobWorkerBuilderImpl
             getTenantIds(),
             maxJobsActive);
 
+    final Executor handlerExecutor;
+    final ExecutorService virtualThreadExecutor;
+    if (enableVirtualThreads) {
+      virtualThreadExecutor =
+          VirtualThreadExecutors.newVirtualThreadPerTaskExecutor(
+              "zeebe-job-handler-" + jobType + "-");
+      handlerExecutor = virtualThreadExecutor;
+    } else {
+      virtualThreadExecutor = null;
+      handlerExecutor = executorService;
+    }
+
     final Executor jobExecutor;
     if (enableStreaming) {
       if (streamingTimeout != null) {
@@ -202,10 +222,12 @@ public final class JobWorkerBuilderImpl
               streamingTimeout,
               backoffSupplier,
               executorService);
-      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
+      // a lease is only released when a handler finished, such that the next job is only taken
+      // from the stream once another one was completed
+      jobExecutor = new BlockingExecutor(handlerExecutor, maxJobsActive, timeout);
     } else {
       jobStreamer = JobStreamer.noop();
-      jobExecutor = executorService;
+      jobExecutor = handlerExecutor;
     }
 
     final JobWorkerImpl jobWorker =
@@ -220,6 +242,10 @@ public final class JobWorkerBuilderImpl
             metrics,
             jobExecutor);
     closeables.add(jobWorker);
+    if (virtualThreadExecutor != null) {
+      // the handlers which are still running are allowed to finish
+      closeables.add(virtualThreadExecutor::shutdown);
+    }
     return jobWorker;
   }
 
@@ -252,7 +252,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private void handleActivatedJob(final ActivatedJob job, final Runnable finalizer) {
     metrics.jobActivated(1);
     try {
-      executor.execute(jobHandlerFactory.create(job, finalizer));
+      executor.execute(instrument(jobHandlerFactory.create(job, finalizer)));
     } catch (final RejectedExecutionException e) {
       if (isClosed()) {
         return;
@@ -268,6 +268,18 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     }
   }
 
+  private Runnable instrument(final Runnable jobRunnable) {
+    return () -> {
+      metrics.jobHandlerStarted();
+      final long startNanos = System.nanoTime();
+      try {
+        jobRunnable.run();
+      } finally {
+        metrics.jobHandlerFinished(Duration.ofNanos(System.nanoTime() - startNanos));
+      }
+    };
+  }
+
   private void handleJobFinished() {
     final int actualRemainingJobs = remainingJobs.decrementAndGet();
     if (!isPollScheduled.get() && shouldPoll(actualRemainingJobs)) {
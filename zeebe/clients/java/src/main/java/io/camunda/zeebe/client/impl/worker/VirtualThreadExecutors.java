@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors which run each task on a new virtual thread. Virtual threads are only available
+ * from Java 21 on, but the client is compiled for Java 8, so they are created reflectively.
+ */
+final class VirtualThreadExecutors {
+
+  private VirtualThreadExecutors() {}
+
+  /**
+   * @return true if virtual threads are available in the running JVM, otherwise false
+   */
+  static boolean isSupported() {
+    try {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns an executor which starts a new virtual thread for each task, whose name is the given
+   * prefix followed by a counter. The executor holds no threads while it's idle.
+   *
+   * @throws UnsupportedOperationException if the running JVM doesn't support virtual threads
+   */
+  static ExecutorService newVirtualThreadPerTaskExecutor(final String threadNamePrefix) {
+    try {
+      final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Object namedBuilder =
+          builderType
+              .getMethod("name", String.class, long.class)
+              .invoke(builder, threadNamePrefix, 0L);
+      final ThreadFactory threadFactory =
+          (ThreadFactory) builderType.getMethod("factory").invoke(namedBuilder);
+
+      return (ExecutorService)
+          Executors.class
+              .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+              .invoke(null, threadFactory);
+    } catch (final ClassNotFoundException | NoSuchMethodException e) {
+      throw new UnsupportedOperationException(
+          "Expected to run the job handlers on virtual threads, but they require at least Java 21",
+          e);
+    } catch (final InvocationTargetException e) {
+      // e.g. on Java 19 and 20, where virtual threads are a preview feature
+      if (e.getCause() instanceof UnsupportedOperationException) {
+        throw (UnsupportedOperationException) e.getCause();
+      }
+      throw new IllegalStateException("Expected to create a virtual thread executor", e);
+    } catch (final IllegalAccessException e) {
+      throw new IllegalStateException("Expected to create a virtual thread executor", e);
+    }
+  }
+}
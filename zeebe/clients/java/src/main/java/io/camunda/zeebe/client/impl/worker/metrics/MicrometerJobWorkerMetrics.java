@@ -17,19 +17,35 @@ package io.camunda.zeebe.client.impl.worker.metrics;
 
 import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
 
   private final Counter jobActivatedCounter;
   private final Counter jobHandledCounter;
+  private final AtomicInteger jobsInFlight;
+  private final Timer jobHandlerTimer;
 
   public MicrometerJobWorkerMetrics(
       final Counter jobActivatedCounter, final Counter jobHandledCounter) {
+    this(jobActivatedCounter, jobHandledCounter, new AtomicInteger(), null);
+  }
+
+  public MicrometerJobWorkerMetrics(
+      final Counter jobActivatedCounter,
+      final Counter jobHandledCounter,
+      final AtomicInteger jobsInFlight,
+      final Timer jobHandlerTimer) {
     this.jobActivatedCounter =
         Objects.requireNonNull(jobActivatedCounter, "must specify a job activated counter");
     this.jobHandledCounter =
         Objects.requireNonNull(jobHandledCounter, "must specify a job handled counter");
+    this.jobsInFlight =
+        Objects.requireNonNull(jobsInFlight, "must specify the value of the jobs in flight gauge");
+    this.jobHandlerTimer = jobHandlerTimer;
   }
 
   @Override
@@ -41,4 +57,17 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
   public void jobHandled(final int count) {
     jobHandledCounter.increment(count);
   }
+
+  @Override
+  public void jobHandlerStarted() {
+    jobsInFlight.incrementAndGet();
+  }
+
+  @Override
+  public void jobHandlerFinished(final Duration duration) {
+    jobsInFlight.decrementAndGet();
+    if (jobHandlerTimer != null) {
+      jobHandlerTimer.record(duration);
+    }
+  }
 }
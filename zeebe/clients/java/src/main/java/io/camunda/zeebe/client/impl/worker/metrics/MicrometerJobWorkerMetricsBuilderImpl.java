@@ -22,9 +22,22 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class MicrometerJobWorkerMetricsBuilderImpl
     implements MicrometerJobWorkerMetricsBuilder {
+
+  // workers with the same registry and tags share the jobs in flight gauge, so they must also share
+  // its value; this also keeps the value strongly referenced, as the registry only references it
+  // weakly
+  private static final Map<MeterRegistry, Map<Tags, AtomicInteger>> JOBS_IN_FLIGHT =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
   private MeterRegistry meterRegistry = Metrics.globalRegistry;
   private Iterable<Tag> tags = Tags.empty();
 
@@ -44,6 +57,16 @@ public final class MicrometerJobWorkerMetricsBuilderImpl
   public JobWorkerMetrics build() {
     final Counter jobActivatedCounter = meterRegistry.counter(Names.JOB_ACTIVATED.asString(), tags);
     final Counter jobHandledCounter = meterRegistry.counter(Names.JOB_HANDLED.asString(), tags);
-    return new MicrometerJobWorkerMetrics(jobActivatedCounter, jobHandledCounter);
+    final AtomicInteger jobsInFlight =
+        meterRegistry.gauge(Names.JOB_IN_FLIGHT.asString(), tags, sharedJobsInFlight());
+    final Timer jobHandlerTimer = meterRegistry.timer(Names.JOB_HANDLER_LATENCY.asString(), tags);
+    return new MicrometerJobWorkerMetrics(
+        jobActivatedCounter, jobHandledCounter, jobsInFlight, jobHandlerTimer);
+  }
+
+  private AtomicInteger sharedJobsInFlight() {
+    return JOBS_IN_FLIGHT
+        .computeIfAbsent(meterRegistry, registry -> new ConcurrentHashMap<>())
+        .computeIfAbsent(Tags.of(tags), ignored -> new AtomicInteger());
   }
 }
@@ -17,6 +17,7 @@ package io.camunda.zeebe.client.impl.worker;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -31,9 +32,12 @@ import io.camunda.zeebe.client.api.ZeebeFuture;
 import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1.ActivateJobsCommandStep3;
 import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1.StreamJobsCommandStep3;
 import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
 import io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl;
+import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
+import io.camunda.zeebe.client.impl.response.ActivatedJobImpl;
 import java.io.Closeable;
 import java.io.IOException;
 import java.time.Duration;
@@ -42,6 +46,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.awaitility.Awaitility;
 import org.awaitility.core.ThrowingRunnable;
 import org.junit.jupiter.api.AfterEach;
@@ -308,6 +314,43 @@ class JobWorkerBuilderImplTest {
         () -> assertThat(tenantIdCaptor.getValue()).containsExactlyInAnyOrder("1", "2", "3", "4"));
   }
 
+  @Test
+  void shouldHandleJobsOnVirtualThreads() {
+    // given
+    assumeTrue(VirtualThreadExecutors.isSupported(), "virtual threads require Java 21");
+    final StreamJobsCommandStep3 lastStep = Mockito.mock(Answers.RETURNS_SELF);
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Consumer<ActivatedJob>> consumerCaptor =
+        ArgumentCaptor.forClass(Consumer.class);
+    Mockito.when(
+            jobClient
+                .newStreamJobsCommand()
+                .jobType(anyString())
+                .consumer(consumerCaptor.capture()))
+        .thenReturn(lastStep);
+    Mockito.when(lastStep.tenantIds(anyList())).thenReturn(lastStep);
+    Mockito.when(lastStep.send()).thenReturn(Mockito.mock());
+
+    final AtomicReference<Thread> handlerThread = new AtomicReference<>();
+    jobWorkerBuilder
+        .jobType("type")
+        .handler((c, j) -> handlerThread.set(Thread.currentThread()))
+        .timeout(Duration.ofSeconds(5))
+        .name("test")
+        .maxJobsActive(1000)
+        .streamEnabled(true)
+        .virtualThreadsEnabled(true)
+        .open();
+
+    // when
+    consumerCaptor.getValue().accept(new ActivatedJobImpl(new ZeebeObjectMapper(), TestData.job()));
+
+    // then
+    await(() -> assertThat(handlerThread.get()).isNotNull());
+    assertThat(handlerThread.get().getName()).startsWith("zeebe-job-handler-type-");
+    assertThat(handlerThread.get().isDaemon()).isTrue();
+  }
+
   private void await(final ThrowingRunnable throwingRunnable) {
     Awaitility.await()
         .ignoreExceptions()
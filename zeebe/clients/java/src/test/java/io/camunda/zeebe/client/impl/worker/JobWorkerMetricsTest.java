@@ -75,6 +75,8 @@ final class JobWorkerMetricsTest {
   private static final class TestJobWorkerMetrics implements JobWorkerMetrics {
     private final AtomicInteger jobsActivated = new AtomicInteger();
     private final AtomicInteger jobsHandled = new AtomicInteger();
+    private final AtomicInteger jobHandlersStarted = new AtomicInteger();
+    private final AtomicInteger jobHandlersFinished = new AtomicInteger();
 
     @Override
     public void jobActivated(final int count) {
@@ -85,6 +87,17 @@ final class JobWorkerMetricsTest {
     public void jobHandled(final int count) {
       jobsHandled.addAndGet(count);
     }
+
+    @Override
+    public void jobHandlerStarted() {
+      jobHandlersStarted.incrementAndGet();
+    }
+
+    @Override
+    public void jobHandlerFinished(final Duration duration) {
+      assertThat(duration.isNegative()).isFalse();
+      jobHandlersFinished.incrementAndGet();
+    }
   }
 
   private static final class TestJobPoller implements JobPoller {
@@ -188,6 +201,24 @@ final class JobWorkerMetricsTest {
         assertThat(metrics.jobsHandled).hasValue(2);
       }
     }
+
+    @Test
+    void shouldMeasureJobHandlers() {
+      // given
+      final TestJobStreamer streamer = new TestJobStreamer();
+      final TestJobWorkerMetrics metrics = new TestJobWorkerMetrics();
+
+      try (final JobWorkerImpl ignored = createWorker(AUTO_COMPLETE_ALL_JOBS, streamer, metrics)) {
+        // when
+        streamer.streamJob();
+        streamer.streamJob();
+
+        // then
+        executor.runUntilIdle();
+        assertThat(metrics.jobHandlersStarted).hasValue(2);
+        assertThat(metrics.jobHandlersFinished).hasValue(2);
+      }
+    }
   }
 
   @Nested
@@ -229,5 +260,24 @@ final class JobWorkerMetricsTest {
         assertThat(metrics.jobsHandled).hasValue(3);
       }
     }
+
+    @Test
+    void shouldMeasureJobHandlers() {
+      // given
+      final TestJobPoller poller = new TestJobPoller();
+      final TestJobWorkerMetrics metrics = new TestJobWorkerMetrics();
+
+      try (final JobWorkerImpl ignored = createWorker(AUTO_COMPLETE_ALL_JOBS, poller, metrics)) {
+        // when
+        executor.tick(1, TimeUnit.MINUTES);
+        poller.produceJob();
+        poller.produceJob();
+
+        // then
+        executor.runUntilIdle();
+        assertThat(metrics.jobHandlersStarted).hasValue(2);
+        assertThat(metrics.jobHandlersFinished).hasValue(2);
+      }
+    }
   }
 }
@@ -18,13 +18,17 @@ package io.camunda.zeebe.client.impl.worker.metrics;
 import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.camunda.zeebe.client.api.worker.metrics.MicrometerJobWorkerMetricsBuilder.Names;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
 import org.assertj.core.condition.VerboseCondition;
@@ -58,6 +62,72 @@ final class MicrometerJobWorkerMetricsTest {
         .has(hasCount(3));
   }
 
+  @Test
+  void shouldTrackJobsInFlight() {
+    // when
+    metrics.jobHandlerStarted();
+    metrics.jobHandlerStarted();
+    metrics.jobHandlerFinished(Duration.ofMillis(10));
+
+    // then
+    Assertions.assertThat(meterRegistry.get(Names.JOB_IN_FLIGHT.asString()).tags(tags).gauge())
+        .extracting(Gauge::value)
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void shouldTrackJobsInFlightOfWorkersWithSameTags() {
+    // given
+    final JobWorkerMetrics otherMetrics =
+        JobWorkerMetrics.micrometer().withMeterRegistry(meterRegistry).withTags(tags).build();
+
+    // when
+    metrics.jobHandlerStarted();
+    otherMetrics.jobHandlerStarted();
+    otherMetrics.jobHandlerStarted();
+    System.gc();
+
+    // then
+    Assertions.assertThat(meterRegistry.get(Names.JOB_IN_FLIGHT.asString()).tags(tags).gauge())
+        .extracting(Gauge::value)
+        .isEqualTo(3.0);
+  }
+
+  @Test
+  void shouldTrackJobsInFlightPerTags() {
+    // given
+    final Iterable<Tag> otherTags = Tags.of("foo", "baz");
+    final JobWorkerMetrics otherMetrics =
+        JobWorkerMetrics.micrometer().withMeterRegistry(meterRegistry).withTags(otherTags).build();
+
+    // when
+    metrics.jobHandlerStarted();
+    otherMetrics.jobHandlerStarted();
+    otherMetrics.jobHandlerStarted();
+
+    // then
+    Assertions.assertThat(meterRegistry.get(Names.JOB_IN_FLIGHT.asString()).tags(tags).gauge())
+        .extracting(Gauge::value)
+        .isEqualTo(1.0);
+    Assertions.assertThat(meterRegistry.get(Names.JOB_IN_FLIGHT.asString()).tags(otherTags).gauge())
+        .extracting(Gauge::value)
+        .isEqualTo(2.0);
+  }
+
+  @Test
+  void shouldMeasureJobHandlerLatency() {
+    // when
+    metrics.jobHandlerStarted();
+    metrics.jobHandlerFinished(Duration.ofMillis(10));
+    metrics.jobHandlerStarted();
+    metrics.jobHandlerFinished(Duration.ofMillis(30));
+
+    // then
+    final Timer timer = meterRegistry.get(Names.JOB_HANDLER_LATENCY.asString()).tags(tags).timer();
+    Assertions.assertThat(timer.count()).isEqualTo(2);
+    Assertions.assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40.0);
+  }
+
   private Condition<MeterRegistry> hasCounter(final Names name, final Iterable<Tag> tags) {
     return VerboseCondition.verboseCondition(
         registry -> registry.find(name.asString()).tags(tags).counter() != null,
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.job;
+
+import static io.camunda.zeebe.client.util.JsonUtil.fromJsonAsMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.response.CompleteJobsResponse;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final ActivatedJob job = Mockito.mock(ActivatedJob.class);
+    Mockito.when(job.getKey()).thenReturn(34L);
+
+    // when
+    final CompleteJobsResponse response =
+        client.newCompleteJobsCommand().job(12).job(job).send().join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(12L, 34L);
+    assertThat(response.getCompletedJobKeys()).containsExactly(12L, 34L);
+    assertThat(response.getRejectedJobKeys()).isEmpty();
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldCompleteJobsWithVariables() {
+    // when
+    client
+        .newCompleteJobsCommand()
+        .job(12)
+        .variables(Collections.singletonMap("foo", "bar"))
+        .job(34)
+        .job(56)
+        .variable("baz", 1)
+        .send()
+        .join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(fromJsonAsMap(request.getJobs(0).getVariables()))
+        .containsExactlyEntriesOf(Collections.singletonMap("foo", "bar"));
+    assertThat(request.getJobs(1).getVariables()).isEmpty();
+    assertThat(fromJsonAsMap(request.getJobs(2).getVariables()))
+        .containsExactlyEntriesOf(Collections.singletonMap("baz", 1));
+  }
+
+  @Test
+  public void shouldCollectResponsesOfAllPartitions() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        GatewayOuterClass.CompleteJobsResponse.newBuilder()
+            .addCompletedJobKeys(12)
+            .addRejectedJobKeys(34)
+            .build(),
+        GatewayOuterClass.CompleteJobsResponse.newBuilder()
+            .addCompletedJobKeys(56)
+            .addUnprocessedJobKeys(78)
+            .build());
+
+    // when
+    final CompleteJobsResponse response =
+        client.newCompleteJobsCommand().job(12).job(34).job(56).job(78).send().join();
+
+    // then
+    assertThat(response.getCompletedJobKeys()).containsExactly(12L, 56L);
+    assertThat(response.getRejectedJobKeys()).containsExactly(34L);
+    assertThat(response.getUnprocessedJobKeys()).containsExactly(78L);
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client.newCompleteJobsCommand().job(12).requestTimeout(requestTimeout).send().join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
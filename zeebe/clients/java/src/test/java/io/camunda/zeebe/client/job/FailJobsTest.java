@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.job;
+
+import static io.camunda.zeebe.client.util.JsonUtil.fromJsonAsMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.client.api.response.FailJobsResponse;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class FailJobsTest extends ClientTest {
+
+  @Test
+  public void shouldFailJobs() {
+    // when
+    final FailJobsResponse response =
+        client
+            .newFailJobsCommand()
+            .job(12, 3)
+            .retryBackoff(Duration.ofSeconds(1))
+            .errorMessage("failed message")
+            .job(34, 0)
+            .variable("foo", "bar")
+            .send()
+            .join();
+
+    // then
+    final FailJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList()).hasSize(2);
+
+    final FailJobRequest first = request.getJobs(0);
+    assertThat(first.getJobKey()).isEqualTo(12L);
+    assertThat(first.getRetries()).isEqualTo(3);
+    assertThat(first.getRetryBackOff()).isEqualTo(1000L);
+    assertThat(first.getErrorMessage()).isEqualTo("failed message");
+
+    final FailJobRequest second = request.getJobs(1);
+    assertThat(second.getJobKey()).isEqualTo(34L);
+    assertThat(second.getRetries()).isZero();
+    assertThat(second.getErrorMessage()).isEmpty();
+    assertThat(fromJsonAsMap(second.getVariables()))
+        .containsExactlyEntriesOf(Collections.singletonMap("foo", "bar"));
+
+    assertThat(response.getFailedJobKeys()).containsExactly(12L, 34L);
+    assertThat(response.getRejectedJobKeys()).isEmpty();
+
+    rule.verifyDefaultRequestTimeout();
+  }
+}
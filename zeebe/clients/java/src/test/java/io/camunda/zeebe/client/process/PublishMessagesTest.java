@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.process;
+
+import static io.camunda.zeebe.client.util.JsonUtil.fromJsonAsMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.client.api.command.CommandWithTenantStep;
+import io.camunda.zeebe.client.api.response.PublishMessageResult;
+import io.camunda.zeebe.client.api.response.PublishMessagesResponse;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageError;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends ClientTest {
+
+  @Test
+  public void shouldPublishMessages() {
+    // when
+    client
+        .newPublishMessagesCommand()
+        .message("first", "key-1")
+        .messageId("theId")
+        .timeToLive(Duration.ofDays(1))
+        .variables(Collections.singletonMap("foo", "bar"))
+        .message("second", "key-2")
+        .tenantId("acme")
+        .send()
+        .join();
+
+    // then
+    final PublishMessagesRequest request = gatewayService.getLastRequest();
+    assertThat(request.getMessagesList())
+        .extracting(PublishMessageRequest::getName, PublishMessageRequest::getCorrelationKey)
+        .containsExactly(tuple("first", "key-1"), tuple("second", "key-2"));
+
+    final PublishMessageRequest first = request.getMessages(0);
+    assertThat(first.getMessageId()).isEqualTo("theId");
+    assertThat(first.getTimeToLive()).isEqualTo(Duration.ofDays(1).toMillis());
+    assertThat(first.getTenantId()).isEqualTo(CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER);
+    assertThat(fromJsonAsMap(first.getVariables())).containsOnly(entry("foo", "bar"));
+
+    final PublishMessageRequest second = request.getMessages(1);
+    assertThat(second.getMessageId()).isEmpty();
+    assertThat(second.getTimeToLive())
+        .isEqualTo(client.getConfiguration().getDefaultMessageTimeToLive().toMillis());
+    assertThat(second.getTenantId()).isEqualTo("acme");
+    assertThat(second.getVariables()).isEmpty();
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReturnResultOfEachMessage() {
+    // given
+    gatewayService.onPublishMessagesRequest(
+        GatewayOuterClass.PublishMessageResult.newBuilder()
+            .setMessage(PublishMessageResponse.newBuilder().setKey(123L).setTenantId("acme"))
+            .build(),
+        GatewayOuterClass.PublishMessageResult.newBuilder()
+            .setError(
+                PublishMessageError.newBuilder()
+                    .setCode("ALREADY_EXISTS")
+                    .setMessage("already published"))
+            .build());
+
+    // when
+    final PublishMessagesResponse response =
+        client
+            .newPublishMessagesCommand()
+            .message("first", "key-1")
+            .message("second", "key-2")
+            .messageId("theId")
+            .send()
+            .join();
+
+    // then
+    assertThat(response.getResults()).hasSize(2);
+
+    final PublishMessageResult published = response.getResults().get(0);
+    assertThat(published.isPublished()).isTrue();
+    assertThat(published.getMessageKey()).isEqualTo(123L);
+    assertThat(published.getTenantId()).isEqualTo("acme");
+    assertThat(published.getErrorCode()).isEmpty();
+
+    final PublishMessageResult rejected = response.getResults().get(1);
+    assertThat(rejected.isPublished()).isFalse();
+    assertThat(rejected.getErrorCode()).isEqualTo("ALREADY_EXISTS");
+    assertThat(rejected.getErrorMessage()).isEqualTo("already published");
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client
+        .newPublishMessagesCommand()
+        .message("name", "key")
+        .requestTimeout(requestTimeout)
+        .send()
+        .join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
@@ -29,6 +29,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -46,6 +48,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FormMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceResponse;
@@ -57,6 +61,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBr
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -82,6 +89,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public final class RecordingGatewayService extends GatewayImplBase {
 
@@ -99,6 +107,21 @@ public final class RecordingGatewayService extends GatewayImplBase {
         DeployResourceRequest.class, r -> DeployResourceResponse.getDefaultInstance());
     addRequestHandler(
         PublishMessageRequest.class, r -> PublishMessageResponse.getDefaultInstance());
+    addRequestHandler(
+        PublishMessagesRequest.class,
+        r ->
+            PublishMessagesResponse.newBuilder()
+                .addAllResults(
+                    r.getMessagesList().stream()
+                        .map(
+                            message ->
+                                PublishMessageResult.newBuilder()
+                                    .setMessage(
+                                        PublishMessageResponse.newBuilder()
+                                            .setTenantId(message.getTenantId()))
+                                    .build())
+                        .collect(Collectors.toList()))
+                .build());
     addRequestHandler(
         CreateProcessInstanceRequest.class,
         r -> CreateProcessInstanceResponse.getDefaultInstance());
@@ -116,6 +139,24 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(FailJobRequest.class, r -> FailJobResponse.getDefaultInstance());
     addRequestHandler(ThrowErrorRequest.class, r -> ThrowErrorResponse.getDefaultInstance());
     addRequestHandler(CompleteJobRequest.class, r -> CompleteJobResponse.getDefaultInstance());
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        r ->
+            CompleteJobsResponse.newBuilder()
+                .addAllCompletedJobKeys(
+                    r.getJobsList().stream()
+                        .map(CompleteJobRequest::getJobKey)
+                        .collect(Collectors.toList()))
+                .build());
+    addRequestHandler(
+        FailJobsRequest.class,
+        r ->
+            FailJobsResponse.newBuilder()
+                .addAllFailedJobKeys(
+                    r.getJobsList().stream()
+                        .map(FailJobRequest::getJobKey)
+                        .collect(Collectors.toList()))
+                .build());
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
@@ -366,6 +407,19 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
+  @Override
+  public void failJobs(
+      final FailJobsRequest request, final StreamObserver<FailJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void throwError(
       final ThrowErrorRequest request, final StreamObserver<ThrowErrorResponse> responseObserver) {
@@ -379,6 +433,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final StreamObserver<PublishMessagesResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void resolveIncident(
       final ResolveIncidentRequest request,
@@ -502,6 +563,23 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(EvaluateDecisionRequest.class, request -> evaluateDecisionResponse);
   }
 
+  public void onCompleteJobsRequest(final CompleteJobsResponse... responses) {
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        new RequestHandler<CompleteJobsRequest, CompleteJobsResponse>() {
+          @Override
+          public CompleteJobsResponse handle(final CompleteJobsRequest request) {
+            return responses[0];
+          }
+
+          @Override
+          public Collection<CompleteJobsResponse> handleMultiple(
+              final CompleteJobsRequest request) {
+            return Arrays.asList(responses);
+          }
+        });
+  }
+
   public void onPublishMessageRequest(final long key) {
     addRequestHandler(
         PublishMessageRequest.class,
@@ -512,6 +590,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
                 .build());
   }
 
+  public void onPublishMessagesRequest(final PublishMessageResult... results) {
+    addRequestHandler(
+        PublishMessagesRequest.class,
+        request ->
+            PublishMessagesResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+  }
+
   public void onBroadcastSignalRequest(final long key) {
     addRequestHandler(
         BroadcastSignalRequest.class,
@@ -92,6 +92,7 @@ public class Engine implements RecordProcessor {
 
   @Override
   public void replay(final TypedRecord event) {
+    processingState.getVariableState().clearCache();
     eventApplier.applyState(
         event.getKey(), event.getIntent(), event.getValue(), event.getRecordVersion());
   }
@@ -100,6 +101,9 @@ public class Engine implements RecordProcessor {
   public ProcessingResult process(
       final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
 
+    // the cached variables of the previous command may have been rolled back
+    processingState.getVariableState().clearCache();
+
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
       TypedRecordProcessor<?> currentProcessor = null;
 
@@ -135,6 +139,9 @@ public class Engine implements RecordProcessor {
       final Throwable processingException,
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
+    // the transaction of the failed processing was rolled back
+    processingState.getVariableState().clearCache();
+
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
 
       final var typedCommand = (TypedRecord<?>) record;
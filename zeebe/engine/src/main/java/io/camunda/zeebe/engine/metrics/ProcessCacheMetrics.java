@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class ProcessCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+  private static final String RESULT_LABEL = "result";
+  private static final String RESULT_HIT = "hit";
+  private static final String RESULT_MISS = "miss";
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_lookups_total")
+          .help("Number of lookups of deployed processes in the process cache, by result")
+          .labelNames(PARTITION_LABEL, RESULT_LABEL)
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_evictions_total")
+          .help("Number of deployed processes evicted from the process cache")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Gauge ENTRIES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_entries")
+          .help("Current number of deployed processes in the process cache")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Gauge WEIGHT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_weight_bytes")
+          .help("Estimated heap size of the deployed processes in the process cache")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+  private final Gauge.Child entries;
+  private final Gauge.Child weight;
+
+  public ProcessCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = LOOKUPS.labels(partitionIdLabel, RESULT_HIT);
+    misses = LOOKUPS.labels(partitionIdLabel, RESULT_MISS);
+    evictions = EVICTIONS.labels(partitionIdLabel);
+    entries = ENTRIES.labels(partitionIdLabel);
+    weight = WEIGHT.labels(partitionIdLabel);
+  }
+
+  public void countHit() {
+    hits.inc();
+  }
+
+  public void countMiss() {
+    misses.inc();
+  }
+
+  public void countEviction() {
+    evictions.inc();
+  }
+
+  public void setCacheSize(final long cachedProcesses, final long cachedProcessesWeight) {
+    entries.set(cachedProcesses);
+    weight.set(cachedProcessesWeight);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class VariableScopeCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+  private static final String TYPE_LABEL = "type";
+  private static final String RESULT_LABEL = "result";
+  private static final String TYPE_VARIABLE = "variable";
+  private static final String TYPE_SCOPE = "scope";
+  private static final String RESULT_HIT = "hit";
+  private static final String RESULT_MISS = "miss";
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("variable_scope_cache_lookups_total")
+          .help(
+              "Number of lookups of variables and parent scopes in the variable scope cache, by type and result")
+          .labelNames(PARTITION_LABEL, TYPE_LABEL, RESULT_LABEL)
+          .register();
+
+  private final Counter.Child variableHits;
+  private final Counter.Child variableMisses;
+  private final Counter.Child scopeHits;
+  private final Counter.Child scopeMisses;
+
+  public VariableScopeCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    variableHits = LOOKUPS.labels(partitionIdLabel, TYPE_VARIABLE, RESULT_HIT);
+    variableMisses = LOOKUPS.labels(partitionIdLabel, TYPE_VARIABLE, RESULT_MISS);
+    scopeHits = LOOKUPS.labels(partitionIdLabel, TYPE_SCOPE, RESULT_HIT);
+    scopeMisses = LOOKUPS.labels(partitionIdLabel, TYPE_SCOPE, RESULT_MISS);
+  }
+
+  public void countVariableHit() {
+    variableHits.inc();
+  }
+
+  public void countVariableMiss() {
+    variableMisses.inc();
+  }
+
+  public void countScopeHit() {
+    scopeHits.inc();
+  }
+
+  public void countScopeMiss() {
+    scopeMisses.inc();
+  }
+}
@@ -36,7 +36,7 @@ final class JobBatchCollector {
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
 
   private final JobState jobState;
-  private final JobVariablesCollector jobVariablesCollector;
+  private final JobBatchVariablesCollector jobVariablesCollector;
   private final Predicate<Integer> canWriteEventOfLength;
 
   /**
@@ -53,7 +53,7 @@ final class JobBatchCollector {
       final Predicate<Integer> canWriteEventOfLength) {
     this.jobState = jobState;
     this.canWriteEventOfLength = canWriteEventOfLength;
-    jobVariablesCollector = new JobVariablesCollector(variableState);
+    jobVariablesCollector = new JobBatchVariablesCollector(variableState);
   }
 
   /**
@@ -80,6 +80,9 @@ final class JobBatchCollector {
             ? List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER)
             : value.getTenantIds();
 
+    // the variables of a previous batch may be left over if it failed to be collected
+    jobVariablesCollector.reset();
+
     jobState.forEachActivatableJobs(
         value.getTypeBuffer(),
         tenantIds,
@@ -115,6 +118,8 @@ final class JobBatchCollector {
 
           return activatedCount.value < maxActivatedCount;
         });
+    // the collected variables are only valid for this batch
+    jobVariablesCollector.reset();
 
     if (unwritableJob.ref != null) {
       return Either.left(unwritableJob.ref);
@@ -0,0 +1,226 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.streamprocessor.BatchedCommand;
+import io.camunda.zeebe.engine.processing.streamprocessor.CommandProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.CommandProcessor.CommandControl;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * Processes the {@link JobBatchIntent#COMPLETE} and {@link JobBatchIntent#FAIL} commands, which
+ * complete or fail many jobs of the same partition with a single command.
+ *
+ * <p>Each job of the batch is processed in order, by the same logic as a single {@link
+ * JobIntent#COMPLETE} or {@link JobIntent#FAIL} command, such that completing a job in a batch has
+ * the same effects as completing it on its own, e.g. the same events, follow-up commands and
+ * rejections are written. Only the batch command itself is responded to, with an event which
+ * contains the keys of the jobs which were completed or failed, and the number of jobs which were
+ * processed. The commands for all other processed jobs of the batch were rejected.
+ *
+ * <p>If the results of the remaining jobs would not fit in the current batch of records anymore,
+ * these jobs are not processed, and the resulting event is marked as truncated.
+ */
+public final class JobBatchCommandProcessor implements TypedRecordProcessor<JobBatchRecord> {
+
+  private static final String INVALID_BATCH_MESSAGE =
+      "Expected to %s a job batch with as many jobs as job keys, but it has %d jobs and %d job keys";
+
+  private final StateWriter stateWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+  private final KeyGenerator keyGenerator;
+  private final String commandName;
+  private final JobBatchIntent resultIntent;
+  private final JobCommandHandler jobCommandHandler;
+  private final BatchedCommand<JobRecord> jobCommand;
+
+  private final LongArrayList jobKeys = new LongArrayList();
+  private final JobBatchRecord result = new JobBatchRecord();
+
+  private JobBatchCommandProcessor(
+      final Writers writers,
+      final KeyGenerator keyGenerator,
+      final String commandName,
+      final JobIntent jobIntent,
+      final JobBatchIntent resultIntent,
+      final JobCommandHandler jobCommandHandler) {
+    stateWriter = writers.state();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+    this.keyGenerator = keyGenerator;
+    this.commandName = commandName;
+    this.resultIntent = resultIntent;
+    this.jobCommandHandler = jobCommandHandler;
+    jobCommand = new BatchedCommand<>(ValueType.JOB, jobIntent);
+  }
+
+  /**
+   * Creates a processor for the {@link JobBatchIntent#COMPLETE} command, which completes each job
+   * with the given processor of the {@link JobIntent#COMPLETE} command.
+   */
+  public static JobBatchCommandProcessor complete(
+      final Writers writers,
+      final KeyGenerator keyGenerator,
+      final CommandProcessor<JobRecord> jobCompleteProcessor) {
+    return new JobBatchCommandProcessor(
+        writers,
+        keyGenerator,
+        "complete",
+        JobIntent.COMPLETE,
+        JobBatchIntent.COMPLETED,
+        new CommandProcessorHandler(jobCompleteProcessor, writers));
+  }
+
+  /**
+   * Creates a processor for the {@link JobBatchIntent#FAIL} command, which fails each job with the
+   * given processor of the {@link JobIntent#FAIL} command.
+   */
+  public static JobBatchCommandProcessor fail(
+      final Writers writers,
+      final KeyGenerator keyGenerator,
+      final JobFailProcessor jobFailProcessor) {
+    return new JobBatchCommandProcessor(
+        writers,
+        keyGenerator,
+        "fail",
+        JobIntent.FAIL,
+        JobBatchIntent.FAILED,
+        command -> jobFailProcessor.tryFailJob(command, failedJob -> {}).isRight());
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<JobBatchRecord> record) {
+    final JobBatchRecord value = record.getValue();
+    final int jobCount = value.jobs().size();
+    final int jobKeyCount = value.jobKeys().size();
+    if (jobCount != jobKeyCount) {
+      final String reason =
+          String.format(INVALID_BATCH_MESSAGE, commandName, jobCount, jobKeyCount);
+      rejectionWriter.appendRejection(record, RejectionType.INVALID_ARGUMENT, reason);
+      responseWriter.writeRejectionOnCommand(record, RejectionType.INVALID_ARGUMENT, reason);
+      return;
+    }
+
+    jobKeys.clear();
+    for (final LongValue jobKey : value.jobKeys()) {
+      jobKeys.addLong(jobKey.getValue());
+    }
+
+    result.reset();
+    result.setType(value.getTypeBuffer()).setWorker(value.getWorkerBuffer());
+
+    int index = 0;
+    for (final JobRecord job : value.jobs()) {
+      final var expectedEventLength =
+          job.getLength() + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+      if (!stateWriter.canWriteEventOfLength(expectedEventLength)) {
+        result.setTruncated(true);
+        break;
+      }
+
+      final long jobKey = jobKeys.getLong(index++);
+      if (jobCommandHandler.handle(jobCommand.wrap(record, jobKey, job))) {
+        result.jobKeys().add().setValue(jobKey);
+      }
+    }
+    result.setProcessedJobCount(index);
+
+    final long jobBatchKey = keyGenerator.nextKey();
+    stateWriter.appendFollowUpEvent(jobBatchKey, resultIntent, result);
+    responseWriter.writeEventOnCommand(jobBatchKey, resultIntent, result, record);
+  }
+
+  @FunctionalInterface
+  private interface JobCommandHandler {
+
+    /**
+     * Processes the command of a single job of the batch, writing its events or its rejection.
+     *
+     * @return true if the command was accepted, otherwise false
+     */
+    boolean handle(TypedRecord<JobRecord> command);
+  }
+
+  /**
+   * Processes the job commands with a {@link CommandProcessor}, in the same way as it would be by
+   * the {@link io.camunda.zeebe.engine.processing.streamprocessor.CommandProcessorImpl}, except
+   * that it never responds.
+   */
+  private static final class CommandProcessorHandler
+      implements JobCommandHandler, CommandControl<JobRecord> {
+
+    private final CommandProcessor<JobRecord> processor;
+    private final StateWriter stateWriter;
+    private final TypedCommandWriter commandWriter;
+    private final TypedRejectionWriter rejectionWriter;
+
+    private long entityKey;
+    private boolean isAccepted;
+    private Intent newState;
+    private JobRecord updatedValue;
+    private RejectionType rejectionType;
+    private String rejectionReason;
+
+    private CommandProcessorHandler(
+        final CommandProcessor<JobRecord> processor, final Writers writers) {
+      this.processor = processor;
+      stateWriter = writers.state();
+      commandWriter = writers.command();
+      rejectionWriter = writers.rejection();
+    }
+
+    @Override
+    public boolean handle(final TypedRecord<JobRecord> command) {
+      entityKey = command.getKey();
+      isAccepted = false;
+      processor.onCommand(command, this);
+
+      if (isAccepted) {
+        stateWriter.appendFollowUpEvent(entityKey, newState, updatedValue);
+        processor.afterAccept(commandWriter, stateWriter, entityKey, newState, updatedValue);
+      } else {
+        rejectionWriter.appendRejection(command, rejectionType, rejectionReason);
+      }
+
+      return isAccepted;
+    }
+
+    @Override
+    public long accept(final Intent newState, final JobRecord updatedValue) {
+      isAccepted = true;
+      this.newState = newState;
+      this.updatedValue = updatedValue;
+      return entityKey;
+    }
+
+    @Override
+    public void reject(final RejectionType type, final String reason) {
+      isAccepted = false;
+      rejectionType = type;
+      rejectionReason = reason;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.value.DocumentValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Collection;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.ObjectHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects the variables of the jobs of a single batch. Unlike the {@link JobVariablesCollector},
+ * the variables of each scope and its parent scope key are read from the {@link VariableState} at
+ * most once per batch, and reused for all jobs of the batch which share that scope, e.g. the jobs
+ * of the same process instance. Since the requested variables are the same for all jobs of a batch,
+ * only these are read and kept for each scope.
+ *
+ * <p>The collected scopes are kept until {@link #reset()} is called, which should be done once the
+ * batch was collected, in order to not keep stale variables around.
+ */
+final class JobBatchVariablesCollector {
+
+  private final VariableState variableState;
+  private final Long2ObjectHashMap<ScopeVariables> scopes = new Long2ObjectHashMap<>();
+  private final MsgPackReader reader = new MsgPackReader();
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer documentBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer documentView = new UnsafeBuffer(0, 0);
+  private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
+
+  JobBatchVariablesCollector(final VariableState variableState) {
+    this.variableState = variableState;
+  }
+
+  /**
+   * Sets the variables visible from the job's element instance on the given job. Variables of a
+   * scope shadow the variables with the same name of its parent scopes.
+   *
+   * @param requestedVariables the names of the variables to collect, or all variables if empty;
+   *     must be the same for all jobs until the collector is reset
+   * @param jobRecord the job on which to set the variables
+   */
+  void setJobVariables(
+      final Collection<DirectBuffer> requestedVariables, final JobRecord jobRecord) {
+    final long elementInstanceKey = jobRecord.getElementInstanceKey();
+    if (elementInstanceKey >= 0) {
+      jobRecord.setVariables(collectVariables(requestedVariables, elementInstanceKey));
+    } else {
+      jobRecord.setVariables(DocumentValue.EMPTY_DOCUMENT);
+    }
+  }
+
+  /** Discards all variables collected so far. */
+  void reset() {
+    scopes.clear();
+  }
+
+  private DirectBuffer collectVariables(
+      final Collection<DirectBuffer> requestedVariables, final long elementInstanceKey) {
+    collectedVariables.clear();
+    writer.wrap(documentBuffer, 0);
+    writer.reserveMapHeader();
+
+    final boolean collectAll = requestedVariables.isEmpty();
+    long scopeKey = elementInstanceKey;
+    while (scopeKey >= 0 && (collectAll || collectedVariables.size() < requestedVariables.size())) {
+      final var scope = getScope(scopeKey, requestedVariables);
+      for (int i = 0; i < scope.size; i++) {
+        final DirectBuffer name = scope.names[i];
+        if (collectedVariables.add(name)) {
+          writer.writeString(name);
+          writer.writeRaw(scope.document, scope.valueOffsets[i], scope.valueLengths[i]);
+        }
+      }
+
+      scopeKey = scope.parentKey;
+    }
+
+    writer.writeReservedMapHeader(0, collectedVariables.size());
+    documentView.wrap(documentBuffer, 0, writer.getOffset());
+    return documentView;
+  }
+
+  private ScopeVariables getScope(
+      final long scopeKey, final Collection<DirectBuffer> requestedVariables) {
+    var scope = scopes.get(scopeKey);
+    if (scope == null) {
+      final var document =
+          requestedVariables.isEmpty()
+              ? variableState.getVariablesLocalAsDocument(scopeKey)
+              : variableState.getVariablesLocalAsDocument(scopeKey, requestedVariables);
+      scope = readScope(variableState.getParentScopeKey(scopeKey), document);
+      scopes.put(scopeKey, scope);
+    }
+
+    return scope;
+  }
+
+  private ScopeVariables readScope(final long parentKey, final DirectBuffer document) {
+    final var scope = new ScopeVariables(parentKey, BufferUtil.cloneBuffer(document));
+    reader.wrap(scope.document, 0, scope.document.capacity());
+
+    final int size = reader.readMapHeader();
+    scope.names = new DirectBuffer[size];
+    scope.valueOffsets = new int[size];
+    scope.valueLengths = new int[size];
+    for (int i = 0; i < size; i++) {
+      final int nameLength = reader.readStringLength();
+      scope.names[i] = new UnsafeBuffer(scope.document, reader.getOffset(), nameLength);
+      reader.skipBytes(nameLength);
+
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      scope.valueOffsets[i] = valueOffset;
+      scope.valueLengths[i] = reader.getOffset() - valueOffset;
+    }
+    scope.size = size;
+
+    return scope;
+  }
+
+  private static final class ScopeVariables {
+    private final long parentKey;
+    private final DirectBuffer document;
+    private DirectBuffer[] names;
+    private int[] valueOffsets;
+    private int[] valueLengths;
+    private int size;
+
+    private ScopeVariables(final long parentKey, final DirectBuffer document) {
+      this.parentKey = parentKey;
+      this.document = document;
+    }
+  }
+}
@@ -45,21 +45,20 @@ public final class JobEventProcessors {
 
     final var jobBackoffChecker =
         new JobBackoffChecker(scheduledTaskStateFactory.get().getJobState());
+    final var jobCompleteProcessor =
+        new JobCompleteProcessor(processingState, jobMetrics, eventHandle);
+    final var jobFailProcessor =
+        new JobFailProcessor(
+            processingState,
+            writers,
+            processingState.getKeyGenerator(),
+            jobMetrics,
+            jobBackoffChecker,
+            bpmnBehaviors);
+
     typedRecordProcessors
-        .onCommand(
-            ValueType.JOB,
-            JobIntent.COMPLETE,
-            new JobCompleteProcessor(processingState, jobMetrics, eventHandle))
-        .onCommand(
-            ValueType.JOB,
-            JobIntent.FAIL,
-            new JobFailProcessor(
-                processingState,
-                writers,
-                processingState.getKeyGenerator(),
-                jobMetrics,
-                jobBackoffChecker,
-                bpmnBehaviors))
+        .onCommand(ValueType.JOB, JobIntent.COMPLETE, jobCompleteProcessor)
+        .onCommand(ValueType.JOB, JobIntent.FAIL, jobFailProcessor)
         .onCommand(
             ValueType.JOB,
             JobIntent.YIELD,
@@ -94,6 +93,14 @@ public final class JobEventProcessors {
             JobBatchIntent.ACTIVATE,
             new JobBatchActivateProcessor(
                 writers, processingState, processingState.getKeyGenerator(), jobMetrics))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.COMPLETE,
+            JobBatchCommandProcessor.complete(writers, keyGenerator, jobCompleteProcessor))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.FAIL,
+            JobBatchCommandProcessor.fail(writers, keyGenerator, jobFailProcessor))
         .withListener(
             new JobTimeoutCheckerScheduler(
                 scheduledTaskStateFactory.get().getJobState(),
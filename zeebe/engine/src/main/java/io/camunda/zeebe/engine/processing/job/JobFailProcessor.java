@@ -28,11 +28,15 @@ import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.collection.Tuple;
 import java.util.List;
+import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 
 public final class JobFailProcessor implements TypedRecordProcessor<JobRecord> {
@@ -77,21 +81,44 @@ public final class JobFailProcessor implements TypedRecordProcessor<JobRecord> {
 
   @Override
   public void processRecord(final TypedRecord<JobRecord> record) {
+    tryFailJob(
+            record,
+            failedJob ->
+                responseWriter.writeEventOnCommand(
+                    record.getKey(), JobIntent.FAILED, failedJob, record))
+        .ifLeft(
+            rejection ->
+                responseWriter.writeRejectionOnCommand(
+                    record, rejection.getLeft(), rejection.getRight()));
+  }
+
+  /**
+   * Fails the job of the given command, or rejects the command. Unlike {@link
+   * #processRecord(TypedRecord)}, this does not respond to the command, such that it can also be
+   * used to fail the jobs of a {@link JobBatchIntent#FAIL} command.
+   *
+   * @param record the command to fail the job
+   * @param failedJobConsumer is called with the failed job, before any further commands are
+   *     processed
+   * @return the type and reason of the rejection, if the command was rejected
+   */
+  Either<Tuple<RejectionType, String>, Void> tryFailJob(
+      final TypedRecord<JobRecord> record, final Consumer<JobRecord> failedJobConsumer) {
     final long jobKey = record.getKey();
     final JobState.State state = jobState.getState(jobKey);
 
-    preconditionChecker
-        .check(state, jobKey)
-        .ifRightOrLeft(
-            ok -> failJob(record),
-            violation -> {
-              rejectionWriter.appendRejection(record, violation.getLeft(), violation.getRight());
-              responseWriter.writeRejectionOnCommand(
-                  record, violation.getLeft(), violation.getRight());
-            });
+    final var preconditionCheck = preconditionChecker.check(state, jobKey);
+    if (preconditionCheck.isLeft()) {
+      final var violation = preconditionCheck.getLeft();
+      rejectionWriter.appendRejection(record, violation.getLeft(), violation.getRight());
+      return Either.left(violation);
+    }
+
+    return failJob(record, failedJobConsumer);
   }
 
-  private void failJob(final TypedRecord<JobRecord> record) {
+  private Either<Tuple<RejectionType, String>, Void> failJob(
+      final TypedRecord<JobRecord> record, final Consumer<JobRecord> failedJobConsumer) {
     final long jobKey = record.getKey();
     final JobRecord failJobCommandRecord = record.getValue();
     final var retries = failJobCommandRecord.getRetries();
@@ -101,8 +128,7 @@ public final class JobFailProcessor implements TypedRecordProcessor<JobRecord> {
     if (failedJob == null) {
       final String errorMessage = String.format(NO_JOB_FOUND_MESSAGE, jobKey);
       rejectionWriter.appendRejection(record, RejectionType.NOT_FOUND, errorMessage);
-      responseWriter.writeRejectionOnCommand(record, RejectionType.NOT_FOUND, errorMessage);
-      return;
+      return Either.left(Tuple.of(RejectionType.NOT_FOUND, errorMessage));
     }
 
     failedJob.setRetries(retries);
@@ -121,7 +147,7 @@ public final class JobFailProcessor implements TypedRecordProcessor<JobRecord> {
           });
     }
     stateWriter.appendFollowUpEvent(jobKey, JobIntent.FAILED, failedJob);
-    responseWriter.writeEventOnCommand(jobKey, JobIntent.FAILED, failedJob, record);
+    failedJobConsumer.accept(failedJob);
     jobMetrics.jobFailed(failedJob.getType());
 
     setFailedVariables(failedJob);
@@ -134,6 +160,8 @@ public final class JobFailProcessor implements TypedRecordProcessor<JobRecord> {
     if (retries <= 0) {
       raiseIncident(jobKey, failedJob);
     }
+
+    return Either.right(null);
   }
 
   private void setFailedVariables(final JobRecord value) {
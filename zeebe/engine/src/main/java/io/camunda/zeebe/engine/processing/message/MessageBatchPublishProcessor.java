@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.streamprocessor.BatchedCommand;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+
+/**
+ * Processes the {@link MessageBatchIntent#PUBLISH} command, which publishes many messages of the
+ * same partition with a single command.
+ *
+ * <p>Each message of the batch is published in order, by the same logic as a single {@link
+ * MessageIntent#PUBLISH} command, such that the same events, follow-up commands and rejections are
+ * written. Only the batch command itself is responded to, with an event which contains the key of
+ * each published message, or -1 if the message was rejected.
+ *
+ * <p>If the results of the remaining messages would not fit in the current batch of records
+ * anymore, these messages are not published and have no key in the resulting event.
+ */
+public final class MessageBatchPublishProcessor
+    implements TypedRecordProcessor<MessageBatchRecord> {
+
+  private static final long REJECTED_MESSAGE_KEY = -1L;
+
+  private final StateWriter stateWriter;
+  private final TypedResponseWriter responseWriter;
+  private final KeyGenerator keyGenerator;
+  private final MessagePublishProcessor messagePublishProcessor;
+
+  private final BatchedCommand<MessageRecord> messageCommand =
+      new BatchedCommand<>(ValueType.MESSAGE, MessageIntent.PUBLISH);
+  private final MessageRecord message = new MessageRecord();
+  private final MessageBatchRecord result = new MessageBatchRecord();
+
+  public MessageBatchPublishProcessor(
+      final Writers writers,
+      final KeyGenerator keyGenerator,
+      final MessagePublishProcessor messagePublishProcessor) {
+    stateWriter = writers.state();
+    responseWriter = writers.response();
+    this.keyGenerator = keyGenerator;
+    this.messagePublishProcessor = messagePublishProcessor;
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<MessageBatchRecord> record) {
+    result.reset();
+
+    for (final MessageRecord batchedMessage : record.getValue().messages()) {
+      final var expectedEventLength =
+          batchedMessage.getLength() + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+      if (!stateWriter.canWriteEventOfLength(expectedEventLength)) {
+        break;
+      }
+
+      // copy the message, as publishing it modifies it, e.g. to set its deadline
+      message.reset();
+      message.wrap(batchedMessage);
+
+      final long messageKey =
+          messagePublishProcessor
+              .tryPublish(messageCommand.wrap(record, record.getKey(), message), key -> {})
+              .getOrElse(REJECTED_MESSAGE_KEY);
+      result.addMessageKey(messageKey);
+    }
+
+    final long messageBatchKey = keyGenerator.nextKey();
+    stateWriter.appendFollowUpEvent(messageBatchKey, MessageBatchIntent.PUBLISHED, result);
+    responseWriter.writeEventOnCommand(
+        messageBatchKey, MessageBatchIntent.PUBLISHED, result, record);
+  }
+}
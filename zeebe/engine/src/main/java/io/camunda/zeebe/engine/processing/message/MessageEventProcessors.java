@@ -48,21 +48,25 @@ public final class MessageEventProcessors {
     final KeyGenerator keyGenerator = processingState.getKeyGenerator();
     final var processState = processingState.getProcessState();
 
+    final var messagePublishProcessor =
+        new MessagePublishProcessor(
+            messageState,
+            subscriptionState,
+            startEventSubscriptionState,
+            eventScopeInstanceState,
+            subscriptionCommandSender,
+            keyGenerator,
+            writers,
+            processState,
+            bpmnBehaviors.eventTriggerBehavior(),
+            bpmnBehaviors.stateBehavior());
+
     typedRecordProcessors
+        .onCommand(ValueType.MESSAGE, MessageIntent.PUBLISH, messagePublishProcessor)
         .onCommand(
-            ValueType.MESSAGE,
-            MessageIntent.PUBLISH,
-            new MessagePublishProcessor(
-                messageState,
-                subscriptionState,
-                startEventSubscriptionState,
-                eventScopeInstanceState,
-                subscriptionCommandSender,
-                keyGenerator,
-                writers,
-                processState,
-                bpmnBehaviors.eventTriggerBehavior(),
-                bpmnBehaviors.stateBehavior()))
+            ValueType.MESSAGE_BATCH,
+            MessageBatchIntent.PUBLISH,
+            new MessageBatchPublishProcessor(writers, keyGenerator, messagePublishProcessor))
         .onCommand(
             ValueType.MESSAGE_BATCH,
             MessageBatchIntent.EXPIRE,
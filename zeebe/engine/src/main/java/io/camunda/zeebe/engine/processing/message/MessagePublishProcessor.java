@@ -25,10 +25,14 @@ import io.camunda.zeebe.engine.state.immutable.MessageSubscriptionState;
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.collection.Tuple;
+import java.util.function.LongConsumer;
 
 public final class MessagePublishProcessor implements TypedRecordProcessor<MessageRecord> {
 
@@ -81,6 +85,29 @@ public final class MessagePublishProcessor implements TypedRecordProcessor<Messa
 
   @Override
   public void processRecord(final TypedRecord<MessageRecord> command) {
+    tryPublish(
+            command,
+            publishedMessageKey ->
+                responseWriter.writeEventOnCommand(
+                    publishedMessageKey, MessageIntent.PUBLISHED, command.getValue(), command))
+        .ifLeft(
+            rejection ->
+                responseWriter.writeRejectionOnCommand(
+                    command, rejection.getLeft(), rejection.getRight()));
+  }
+
+  /**
+   * Publishes the message of the given command, or rejects the command. Unlike {@link
+   * #processRecord(TypedRecord)}, this does not respond to the command, such that it can also be
+   * used to publish the messages of a {@link MessageBatchIntent#PUBLISH} command.
+   *
+   * @param command the command to publish the message
+   * @param publishedMessageConsumer is called with the key of the published message, before it is
+   *     correlated
+   * @return the key of the published message, or the type and reason of the rejection
+   */
+  Either<Tuple<RejectionType, String>, Long> tryPublish(
+      final TypedRecord<MessageRecord> command, final LongConsumer publishedMessageConsumer) {
     messageRecord = command.getValue();
 
     correlatingSubscriptions.clear();
@@ -96,22 +123,22 @@ public final class MessagePublishProcessor implements TypedRecordProcessor<Messa
               ALREADY_PUBLISHED_MESSAGE, bufferAsString(messageRecord.getMessageIdBuffer()));
 
       rejectionWriter.appendRejection(command, RejectionType.ALREADY_EXISTS, rejectionReason);
-      responseWriter.writeRejectionOnCommand(
-          command, RejectionType.ALREADY_EXISTS, rejectionReason);
-    } else {
-      handleNewMessage(command);
+      return Either.left(Tuple.of(RejectionType.ALREADY_EXISTS, rejectionReason));
     }
+
+    handleNewMessage(command, publishedMessageConsumer);
+    return Either.right(messageKey);
   }
 
-  private void handleNewMessage(final TypedRecord<MessageRecord> command) {
+  private void handleNewMessage(
+      final TypedRecord<MessageRecord> command, final LongConsumer publishedMessageConsumer) {
     messageKey = keyGenerator.nextKey();
 
     // calculate the deadline based on the command's timestamp
     messageRecord.setDeadline(command.getTimestamp() + messageRecord.getTimeToLive());
 
     stateWriter.appendFollowUpEvent(messageKey, MessageIntent.PUBLISHED, command.getValue());
-    responseWriter.writeEventOnCommand(
-        messageKey, MessageIntent.PUBLISHED, command.getValue(), command);
+    publishedMessageConsumer.accept(messageKey);
 
     correlateToSubscriptions(messageKey, messageRecord);
     correlateToMessageStartEvents(messageRecord);
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.RecordMetadataEncoder;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.util.Map;
+
+/**
+ * The command for a single entry of a batch command, e.g. the command to complete one of the jobs
+ * of a job batch. It shares the position, timestamp and authorizations of the batch command, such
+ * that it can be processed by the same processors as a command which was written on its own.
+ *
+ * <p>The command has no request metadata, as only the batch command is responded to.
+ */
+public final class BatchedCommand<T extends UnifiedRecordValue> implements TypedRecord<T> {
+
+  private final ValueType valueType;
+  private final Intent intent;
+  private TypedRecord<?> batchCommand;
+  private long key;
+  private T value;
+
+  public BatchedCommand(final ValueType valueType, final Intent intent) {
+    this.valueType = valueType;
+    this.intent = intent;
+  }
+
+  public BatchedCommand<T> wrap(final TypedRecord<?> batchCommand, final long key, final T value) {
+    this.batchCommand = batchCommand;
+    this.key = key;
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public long getPosition() {
+    return batchCommand.getPosition();
+  }
+
+  @Override
+  public long getSourceRecordPosition() {
+    return batchCommand.getSourceRecordPosition();
+  }
+
+  @Override
+  public long getKey() {
+    return key;
+  }
+
+  @Override
+  public long getTimestamp() {
+    return batchCommand.getTimestamp();
+  }
+
+  @Override
+  public Intent getIntent() {
+    return intent;
+  }
+
+  @Override
+  public int getPartitionId() {
+    return batchCommand.getPartitionId();
+  }
+
+  @Override
+  public RecordType getRecordType() {
+    return RecordType.COMMAND;
+  }
+
+  @Override
+  public RejectionType getRejectionType() {
+    return RejectionType.NULL_VAL;
+  }
+
+  @Override
+  public String getRejectionReason() {
+    return "";
+  }
+
+  @Override
+  public String getBrokerVersion() {
+    return batchCommand.getBrokerVersion();
+  }
+
+  @Override
+  public Map<String, Object> getAuthorizations() {
+    return batchCommand.getAuthorizations();
+  }
+
+  @Override
+  public int getRecordVersion() {
+    return batchCommand.getRecordVersion();
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return valueType;
+  }
+
+  @Override
+  public T getValue() {
+    return value;
+  }
+
+  @Override
+  public int getRequestStreamId() {
+    return RecordMetadataEncoder.requestStreamIdNullValue();
+  }
+
+  @Override
+  public long getRequestId() {
+    return RecordMetadataEncoder.requestIdNullValue();
+  }
+
+  @Override
+  public int getLength() {
+    return value.getLength();
+  }
+
+  @Override
+  public String toString() {
+    return "BatchedCommand{"
+        + "valueType="
+        + valueType
+        + ", intent="
+        + intent
+        + ", key="
+        + key
+        + ", position="
+        + batchCommand.getPosition()
+        + ", value="
+        + value
+        + '}';
+  }
+}
@@ -26,23 +26,50 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private static final double GIVE_YIELD_FACTOR = 0.5;
   private final DueDateChecker dueDateChecker;
+  private final TimerWheel timerWheel;
 
   public DueDateTimerChecker(
       final TimerInstanceState timerInstanceState, final FeatureFlags featureFlags) {
+    final Function<TaskResultBuilder, Long> triggerTimers;
+    if (featureFlags.enableTimerDueDateWheel()) {
+      timerWheel = new TimerWheel(TIMER_RESOLUTION);
+      triggerTimers =
+          new TriggerIndexedTimersSideEffect(
+              timerInstanceState,
+              timerWheel,
+              ActorClock.current(),
+              featureFlags.yieldingDueDateChecker());
+    } else {
+      timerWheel = null;
+      triggerTimers =
+          new TriggerTimersSideEffect(
+              timerInstanceState, ActorClock.current(), featureFlags.yieldingDueDateChecker());
+    }
+
     dueDateChecker =
         new DueDateChecker(
-            TIMER_RESOLUTION,
-            featureFlags.enableTimerDueDateCheckerAsync(),
-            new TriggerTimersSideEffect(
-                timerInstanceState, ActorClock.current(), featureFlags.yieldingDueDateChecker()));
+            TIMER_RESOLUTION, featureFlags.enableTimerDueDateCheckerAsync(), triggerTimers);
   }
 
-  public void scheduleTimer(final long dueDate) {
+  /**
+   * Schedules the checker for a timer which was created, after it was committed.
+   *
+   * @param dueDate the due date of the timer
+   * @param elementInstanceKey the key of the element instance of the timer, or -1 for a timer start
+   *     event
+   * @param timerKey the key of the timer
+   */
+  public void scheduleTimer(
+      final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (timerWheel != null) {
+      timerWheel.add(dueDate, elementInstanceKey, timerKey);
+    }
     dueDateChecker.schedule(dueDate);
   }
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    reloadTimerWheel();
     dueDateChecker.onRecovered(context);
   }
 
@@ -63,9 +90,18 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
   @Override
   public void onResumed() {
+    reloadTimerWheel();
     dueDateChecker.onResumed();
   }
 
+  private void reloadTimerWheel() {
+    // the timers which were polled before may not have been triggered, e.g. if writing the
+    // commands was aborted, but they are still in the state
+    if (timerWheel != null) {
+      timerWheel.reload();
+    }
+  }
+
   protected static final class TriggerTimersSideEffect
       implements Function<TaskResultBuilder, Long> {
 
@@ -102,6 +138,57 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     }
   }
 
+  /**
+   * Triggers the due timers of the {@link TimerWheel}, instead of scanning the due dates in the
+   * state. Each due timer is looked up in the state before it is triggered, and dropped if it does
+   * not exist anymore.
+   */
+  protected static final class TriggerIndexedTimersSideEffect
+      implements Function<TaskResultBuilder, Long> {
+
+    private final ActorClock actorClock;
+
+    private final TimerInstanceState timerInstanceState;
+    private final TimerWheel timerWheel;
+    private final boolean yieldControl;
+
+    TriggerIndexedTimersSideEffect(
+        final TimerInstanceState timerInstanceState,
+        final TimerWheel timerWheel,
+        final ActorClock actorClock,
+        final boolean yieldControl) {
+      this.timerInstanceState = timerInstanceState;
+      this.timerWheel = timerWheel;
+      this.actorClock = actorClock;
+      this.yieldControl = yieldControl;
+    }
+
+    @Override
+    public Long apply(final TaskResultBuilder taskResultBuilder) {
+      final var now = actorClock.getTimeMillis();
+
+      final var yieldAfter = now + Math.round(TIMER_RESOLUTION * GIVE_YIELD_FACTOR);
+
+      final TimerVisitor timerVisitor;
+      if (yieldControl) {
+        timerVisitor =
+            new YieldingDecorator(
+                actorClock, yieldAfter, new WriteTriggerTimerCommandVisitor(taskResultBuilder));
+      } else {
+        timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
+      }
+
+      return timerWheel.poll(
+          now,
+          timerInstanceState,
+          (dueDate, elementInstanceKey, timerKey) -> {
+            final var timer = timerInstanceState.get(elementInstanceKey, timerKey);
+            // the timer was triggered or canceled in the meantime
+            return timer == null || timerVisitor.visit(timer);
+          });
+    }
+  }
+
   protected static final class WriteTriggerTimerCommandVisitor implements TimerVisitor {
 
     private final TimerRecord timerRecord = new TimerRecord();
@@ -0,0 +1,324 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.agrona.collections.LongHashSet;
+
+/**
+ * An in-memory index of the timers which are due within the next minutes, such that the due date
+ * checker doesn't have to scan the due dates in the state from the start whenever it runs, which is
+ * expensive when many timers are due at once, e.g. a million timers firing in the same minute.
+ *
+ * <p>The index is a hierarchical timer wheel of two levels. The first level has a slot for each
+ * tick of the current round, and the second level has a slot for each of the next rounds, up to the
+ * horizon. When the wheel reaches the next round, the timers of that round are cascaded into the
+ * first level, and the round after the horizon is loaded from the state, with a range scan which
+ * starts at the old horizon. The timers beyond the horizon are not indexed.
+ *
+ * <p>The wheel contains all timers in the state which are due before the horizon, as it is loaded
+ * from the state when it is first polled, and the created timers are added to it after they were
+ * committed. The timers which were removed from the state in the meantime are not removed from the
+ * wheel, but are dropped when they are due, as a due timer is always looked up in the state before
+ * it is triggered.
+ *
+ * <p>The timers can be added concurrently from another thread than the one polling the wheel, but
+ * the wheel must only be polled by one thread at a time.
+ */
+final class TimerWheel {
+
+  private static final int ROUND_BITS = 10;
+  private static final int TICKS_PER_ROUND = 1 << ROUND_BITS;
+  private static final int TICK_MASK = TICKS_PER_ROUND - 1;
+  private static final int ROUNDS = 8;
+  private static final int ROUND_MASK = ROUNDS - 1;
+
+  private static final long NOT_LOADED = Long.MIN_VALUE;
+
+  private final long tickMillis;
+  private final Slot[] ticks = new Slot[TICKS_PER_ROUND];
+  private final Slot[] rounds = new Slot[ROUNDS];
+  private final LongHashSet indexedTimerKeys = new LongHashSet();
+  private final Queue<AddedTimer> addedTimers = new ConcurrentLinkedQueue<>();
+
+  private long currentTick = NOT_LOADED;
+  private long horizonTick;
+
+  /**
+   * The due date before which all timers are indexed, or {@link #NOT_LOADED} if the wheel is not
+   * loaded. It is published before the timers up to it are loaded, such that a timer which is added
+   * concurrently is either found by the range scan, or added to the wheel.
+   */
+  private volatile long horizon = NOT_LOADED;
+
+  private volatile boolean reloadRequested;
+
+  /**
+   * @param tickMillis the resolution of the wheel in milliseconds
+   */
+  TimerWheel(final long tickMillis) {
+    this.tickMillis = tickMillis;
+    Arrays.setAll(ticks, i -> new Slot());
+    Arrays.setAll(rounds, i -> new Slot());
+  }
+
+  /**
+   * Adds a timer which was created and committed. Timers beyond the horizon are ignored, as they
+   * are loaded from the state when the horizon reaches them.
+   */
+  void add(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (dueDate < horizon) {
+      addedTimers.add(new AddedTimer(dueDate, elementInstanceKey, timerKey));
+    }
+  }
+
+  /**
+   * Requests to load the wheel from the state again on the next poll, e.g. because the stream
+   * processor was recovered or resumed, and the timers which were polled before may have not been
+   * triggered.
+   */
+  void reload() {
+    reloadRequested = true;
+  }
+
+  /**
+   * Presents the timers which are due at {@code now} to the {@code visitor}, in the order of their
+   * ticks, until it returns false. The timers which were visited successfully are removed from the
+   * wheel.
+   *
+   * @return the due date of the next timer, which may be due already if the visitor stopped early,
+   *     or {@code -1} if there is none
+   */
+  long poll(final long now, final TimerInstanceState state, final DueTimerVisitor visitor) {
+    final long nowTick = now / tickMillis;
+
+    if (reloadRequested || currentTick == NOT_LOADED) {
+      reloadRequested = false;
+      load(nowTick, state);
+    }
+
+    indexAddedTimers();
+
+    while (true) {
+      if (indexedTimerKeys.isEmpty()) {
+        skipTo(nowTick, state);
+      }
+
+      if (!ticks[tickIndex(currentTick)].visitDueTimers(now, visitor, indexedTimerKeys)) {
+        break;
+      }
+
+      if (currentTick >= nowTick) {
+        break;
+      }
+      advance(state);
+    }
+
+    return nextDueDate(state);
+  }
+
+  private void load(final long tick, final TimerInstanceState state) {
+    clear();
+    startAt(tick);
+    // the timers which are due already are put into the current tick
+    state.forEachDueDateInRange(0, horizonTick * tickMillis, this::index);
+  }
+
+  /** Skips the ticks up to the given tick, which must not contain any timers anymore. */
+  private void skipTo(final long tick, final TimerInstanceState state) {
+    if (tick <= currentTick) {
+      return;
+    }
+
+    final long previousHorizon = horizonTick * tickMillis;
+    startAt(tick);
+    state.forEachDueDateInRange(previousHorizon, horizonTick * tickMillis, this::index);
+  }
+
+  private void startAt(final long tick) {
+    currentTick = tick;
+    horizonTick = (round(tick) + ROUNDS) << ROUND_BITS;
+    horizon = horizonTick * tickMillis;
+  }
+
+  /** Advances to the next tick, cascading the next round and extending the horizon if needed. */
+  private void advance(final TimerInstanceState state) {
+    currentTick++;
+    if (tickIndex(currentTick) != 0) {
+      return;
+    }
+
+    final Slot round = rounds[roundIndex(round(currentTick))];
+    for (int i = 0; i < round.size; i += Slot.ENTRY_SIZE) {
+      final long dueDate = round.entries[i];
+      ticks[tickIndex(tickOf(dueDate))].add(dueDate, round.entries[i + 1], round.entries[i + 2]);
+    }
+    round.clear();
+
+    final long previousHorizon = horizon;
+    horizonTick += TICKS_PER_ROUND;
+    horizon = horizonTick * tickMillis;
+    state.forEachDueDateInRange(previousHorizon, horizon, this::index);
+  }
+
+  private void indexAddedTimers() {
+    AddedTimer timer;
+    while ((timer = addedTimers.poll()) != null) {
+      index(timer.dueDate(), timer.elementInstanceKey(), timer.timerKey());
+    }
+  }
+
+  private void index(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    final long tick = tickOf(dueDate);
+    if (tick >= horizonTick || !indexedTimerKeys.add(timerKey)) {
+      return;
+    }
+
+    final Slot slot =
+        round(tick) == round(currentTick)
+            ? ticks[tickIndex(tick)]
+            : rounds[roundIndex(round(tick))];
+    slot.add(dueDate, elementInstanceKey, timerKey);
+  }
+
+  private long nextDueDate(final TimerInstanceState state) {
+    if (indexedTimerKeys.isEmpty()) {
+      return nextDueDateBeyondHorizon(state);
+    }
+
+    for (long tick = currentTick; round(tick) == round(currentTick); tick++) {
+      final Slot slot = ticks[tickIndex(tick)];
+      if (slot.size > 0) {
+        return slot.minDueDate();
+      }
+    }
+
+    for (long round = round(currentTick) + 1; round < round(horizonTick); round++) {
+      final Slot slot = rounds[roundIndex(round)];
+      if (slot.size > 0) {
+        return slot.minDueDate();
+      }
+    }
+
+    return nextDueDateBeyondHorizon(state);
+  }
+
+  /** Finds the next timer beyond the horizon with a single seek, without visiting any timer. */
+  private long nextDueDateBeyondHorizon(final TimerInstanceState state) {
+    return state.forEachDueDateInRange(horizon, horizon, (dueDate, element, timer) -> {});
+  }
+
+  private void clear() {
+    for (final Slot slot : ticks) {
+      slot.clear();
+    }
+    for (final Slot slot : rounds) {
+      slot.clear();
+    }
+    indexedTimerKeys.clear();
+  }
+
+  /** The tick of a due date, where timers which are overdue are due in the current tick. */
+  private long tickOf(final long dueDate) {
+    return Math.max(dueDate / tickMillis, currentTick);
+  }
+
+  private static long round(final long tick) {
+    return tick >> ROUND_BITS;
+  }
+
+  private static int tickIndex(final long tick) {
+    return (int) (tick & TICK_MASK);
+  }
+
+  private static int roundIndex(final long round) {
+    return (int) (round & ROUND_MASK);
+  }
+
+  @FunctionalInterface
+  interface DueTimerVisitor {
+
+    /**
+     * @return {@code true} if the timer was processed, or {@code false} if the timer could not be
+     *     processed and needs to be revisited later on
+     */
+    boolean visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
+
+  private record AddedTimer(long dueDate, long elementInstanceKey, long timerKey) {}
+
+  /** The timers of a tick or a round, as (due date, element instance key, timer key) triples. */
+  private static final class Slot {
+    private static final int ENTRY_SIZE = 3;
+
+    private long[] entries = new long[0];
+    private int size;
+
+    private void add(final long dueDate, final long elementInstanceKey, final long timerKey) {
+      if (size + ENTRY_SIZE > entries.length) {
+        entries = Arrays.copyOf(entries, Math.max(4 * ENTRY_SIZE, entries.length * 2));
+      }
+
+      entries[size] = dueDate;
+      entries[size + 1] = elementInstanceKey;
+      entries[size + 2] = timerKey;
+      size += ENTRY_SIZE;
+    }
+
+    /**
+     * Visits the timers which are due, and removes those which were visited successfully.
+     *
+     * @return false if the visitor stopped the iteration, otherwise true
+     */
+    private boolean visitDueTimers(
+        final long now, final DueTimerVisitor visitor, final LongHashSet indexedTimerKeys) {
+      boolean completed = true;
+      int retained = 0;
+
+      for (int i = 0; i < size; i += ENTRY_SIZE) {
+        final long dueDate = entries[i];
+        final long timerKey = entries[i + 2];
+        if (completed && dueDate <= now) {
+          if (visitor.visit(dueDate, entries[i + 1], timerKey)) {
+            indexedTimerKeys.remove(timerKey);
+            continue;
+          }
+          completed = false;
+        }
+
+        if (retained != i) {
+          System.arraycopy(entries, i, entries, retained, ENTRY_SIZE);
+        }
+        retained += ENTRY_SIZE;
+      }
+
+      size = retained;
+      if (size == 0 && entries.length > 64 * ENTRY_SIZE) {
+        // don't keep the memory of a burst of timers
+        entries = new long[0];
+      }
+      return completed;
+    }
+
+    private long minDueDate() {
+      long min = Long.MAX_VALUE;
+      for (int i = 0; i < size; i += ENTRY_SIZE) {
+        min = Math.min(min, entries[i]);
+      }
+      return min;
+    }
+
+    private void clear() {
+      size = 0;
+      entries = new long[0];
+    }
+  }
+}
@@ -102,8 +102,8 @@ public class ProcessingDbState implements MutableProcessingState {
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
-    variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext);
+    variableState = new DbVariableState(zeebeDb, transactionContext, partitionId);
+    processState = new DbProcessState(zeebeDb, transactionContext, partitionId, config);
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
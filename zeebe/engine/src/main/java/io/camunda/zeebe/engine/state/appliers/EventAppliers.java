@@ -29,6 +29,7 @@ import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageStartEventSubscriptionIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
@@ -82,6 +83,8 @@ public final class EventAppliers implements EventApplier {
     registerJobIntentEventAppliers(state);
     registerVariableEventAppliers(state);
     register(JobBatchIntent.ACTIVATED, new JobBatchActivatedApplier(state));
+    register(JobBatchIntent.COMPLETED, NOOP_EVENT_APPLIER);
+    register(JobBatchIntent.FAILED, NOOP_EVENT_APPLIER);
     registerIncidentEventAppliers(state);
     registerProcessMessageSubscriptionEventAppliers(state);
     registerTimeEventAppliers(state);
@@ -219,6 +222,7 @@ public final class EventAppliers implements EventApplier {
   private void registerMessageAppliers(final MutableProcessingState state) {
     register(MessageIntent.PUBLISHED, new MessagePublishedApplier(state.getMessageState()));
     register(MessageIntent.EXPIRED, new MessageExpiredApplier(state.getMessageState()));
+    register(MessageBatchIntent.PUBLISHED, NOOP_EVENT_APPLIER);
   }
 
   private void registerMessageSubscriptionAppliers(final MutableProcessingState state) {
@@ -9,6 +9,10 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -19,6 +23,8 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -27,6 +33,7 @@ import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProces
 import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
@@ -40,7 +47,7 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
@@ -48,12 +55,35 @@ public final class DbProcessState implements MutableProcessState {
 
   private static final int DEFAULT_VERSION_VALUE = 0;
 
+  /**
+   * Rough estimate of the heap used by a single transformed flow element, including its parsed
+   * expressions. It's only used to weigh the processes in the cache, so it doesn't need to be
+   * exact.
+   */
+  private static final int ESTIMATED_FLOW_ELEMENT_WEIGHT = 1024;
+
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
-  private final Map<String, Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>>
-      processesByTenantAndProcessIdAndVersionCache = new HashMap<>();
-  private final Map<String, Long2ObjectHashMap<DeployedProcess>> processByTenantAndKeyCache;
+  /**
+   * [tenant id | process definition key] => process. Bounded by the estimated heap size of the
+   * processes; the least recently used processes are evicted first and transformed again on the
+   * next access.
+   */
+  private final Cache<TenantIdAndProcessKey, DeployedProcess> processByTenantAndKeyCache;
+
+  /**
+   * [tenant id | process id | version] => process definition key, for the processes which are in
+   * {@link #processByTenantAndKeyCache}. Entries are removed together with the cached process.
+   */
+  private final Map<String, Map<DirectBuffer, Int2ObjectHashMap<TenantIdAndProcessKey>>>
+      processKeyByTenantAndProcessIdAndVersion = new HashMap<>();
+
+  /** Reused to look up processes by key, the cache doesn't keep the keys it's queried with. */
+  private final TenantIdAndProcessKey processKeyLookup = new TenantIdAndProcessKey();
+
+  private final ProcessCacheMetrics cacheMetrics;
+  private long cachedProcessesWeight;
 
   /** [tenant id | process definition key] => process */
   private final ColumnFamily<DbTenantAwareKey<DbLong>, PersistedProcess> processColumnFamily;
@@ -82,6 +112,14 @@ public final class DbProcessState implements MutableProcessState {
 
   public DbProcessState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, Protocol.DEPLOYMENT_PARTITION, new EngineConfiguration());
+  }
+
+  public DbProcessState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -119,7 +157,17 @@ public final class DbProcessState implements MutableProcessState {
             fkTenantAwareProcessId,
             digest);
 
-    processByTenantAndKeyCache = new HashMap<>();
+    cacheMetrics = new ProcessCacheMetrics(partitionId);
+    processByTenantAndKeyCache =
+        CacheBuilder.newBuilder()
+            // the cache is only accessed by the stream processor; a single segment makes sure the
+            // whole capacity is available and the least recently used process is evicted first
+            .concurrencyLevel(1)
+            .maximumWeight(config.getProcessCacheCapacity())
+            .weigher(
+                (final TenantIdAndProcessKey key, final DeployedProcess process) -> weigh(process))
+            .removalListener(this::onProcessRemovedFromCache)
+            .build();
 
     versionManager =
         new VersionManager(
@@ -177,12 +225,9 @@ public final class DbProcessState implements MutableProcessState {
     processColumnFamily.deleteExisting(tenantAwareProcessDefinitionKey);
     processByIdAndVersionColumnFamily.deleteExisting(tenantAwareProcessIdAndVersionKey);
 
-    processesByTenantAndProcessIdAndVersionCache
-        .getOrDefault(processRecord.getTenantId(), new HashMap<>())
-        .remove(processRecord.getBpmnProcessIdBuffer());
-    processByTenantAndKeyCache
-        .getOrDefault(processRecord.getTenantId(), new Long2ObjectHashMap<>())
-        .remove(processRecord.getProcessDefinitionKey());
+    processByTenantAndKeyCache.invalidate(
+        processKeyLookup.wrap(
+            processRecord.getTenantId(), processRecord.getProcessDefinitionKey()));
 
     final long latestVersion =
         versionManager.getLatestResourceVersion(
@@ -255,63 +300,113 @@ public final class DbProcessState implements MutableProcessState {
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
-      return Bpmn.readModelFromStream(stream);
+      return Bpmn.readValidatedModelFromStream(stream);
     }
   }
 
   private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
-    final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
+    final var cacheKey =
+        new TenantIdAndProcessKey(deployedProcess.getTenantId(), deployedProcess.getKey());
+    processKeyByTenantAndProcessIdAndVersion
+        .computeIfAbsent(deployedProcess.getTenantId(), key -> new HashMap<>())
+        .computeIfAbsent(deployedProcess.getBpmnProcessId(), key -> new Int2ObjectHashMap<>())
+        .put(deployedProcess.getVersion(), cacheKey);
+
+    // the index has to be updated first, as the process may be evicted right away if it's bigger
+    // than the cache, which removes it from the index again
+    cachedProcessesWeight += weigh(deployedProcess);
+    processByTenantAndKeyCache.put(cacheKey, deployedProcess);
+    cacheMetrics.setCacheSize(processByTenantAndKeyCache.size(), cachedProcessesWeight);
+  }
 
-    final Long2ObjectHashMap<DeployedProcess> keyMap =
-        processByTenantAndKeyCache.computeIfAbsent(
-            deployedProcess.getTenantId(), key -> new Long2ObjectHashMap<>());
-    keyMap.put(deployedProcess.getKey(), deployedProcess);
+  private void onProcessRemovedFromCache(
+      final RemovalNotification<TenantIdAndProcessKey, DeployedProcess> notification) {
+    final DeployedProcess removedProcess = notification.getValue();
+    cachedProcessesWeight -= weigh(removedProcess);
+    cacheMetrics.setCacheSize(processByTenantAndKeyCache.size(), cachedProcessesWeight);
+    if (notification.wasEvicted()) {
+      cacheMetrics.countEviction();
+    }
+
+    if (notification.getCause() == RemovalCause.REPLACED) {
+      // the index still points to the same key, which now belongs to the new process
+      return;
+    }
 
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .computeIfAbsent(deployedProcess.getTenantId(), key -> new HashMap<>())
-            .computeIfAbsent(bpmnProcessId, key -> new Long2ObjectHashMap<>());
+    final var processesById =
+        processKeyByTenantAndProcessIdAndVersion.get(removedProcess.getTenantId());
+    if (processesById == null) {
+      return;
+    }
 
-    final int version = deployedProcess.getVersion();
-    versionMap.put(version, deployedProcess);
+    final var versions = processesById.get(removedProcess.getBpmnProcessId());
+    if (versions != null) {
+      if (notification.getKey().equals(versions.get(removedProcess.getVersion()))) {
+        versions.remove(removedProcess.getVersion());
+      }
+      if (versions.isEmpty()) {
+        processesById.remove(removedProcess.getBpmnProcessId());
+      }
+    }
+    if (processesById.isEmpty()) {
+      processKeyByTenantAndProcessIdAndVersion.remove(removedProcess.getTenantId());
+    }
+  }
+
+  private int weigh(final DeployedProcess process) {
+    // the persisted process holds a copy of the BPMN resource, which is usually the biggest part
+    return process.getResource().capacity()
+        + process.getProcess().getFlowElements().size() * ESTIMATED_FLOW_ELEMENT_WEIGHT;
+  }
+
+  private DeployedProcess getCachedProcess(
+      final DirectBuffer processIdBuffer, final long version, final String tenantId) {
+    final var processesById = processKeyByTenantAndProcessIdAndVersion.get(tenantId);
+    if (processesById != null) {
+      final var versions = processesById.get(processIdBuffer);
+      if (versions != null) {
+        final var cacheKey = versions.get((int) version);
+        if (cacheKey != null) {
+          return getCachedProcess(cacheKey);
+        }
+      }
+    }
+
+    cacheMetrics.countMiss();
+    return null;
+  }
+
+  private DeployedProcess getCachedProcess(final TenantIdAndProcessKey cacheKey) {
+    final DeployedProcess deployedProcess = processByTenantAndKeyCache.getIfPresent(cacheKey);
+    if (deployedProcess != null) {
+      cacheMetrics.countHit();
+    } else {
+      cacheMetrics.countMiss();
+    }
+    return deployedProcess;
   }
 
   @Override
   public DeployedProcess getLatestProcessVersionByProcessId(
       final DirectBuffer processIdBuffer, final String tenantId) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .getOrDefault(tenantId, new HashMap<>())
-            .get(processIdBuffer);
-
     processId.wrapBuffer(processIdBuffer);
     final long latestVersion = versionManager.getLatestResourceVersion(processIdBuffer, tenantId);
 
-    DeployedProcess deployedProcess;
-    if (versionMap == null) {
-      deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
+    final DeployedProcess deployedProcess =
+        getCachedProcess(processIdBuffer, latestVersion, tenantId);
+    if (deployedProcess != null) {
+      return deployedProcess;
     } else {
-      deployedProcess = versionMap.get(latestVersion);
-      if (deployedProcess == null) {
-        deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
-      }
+      return lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
     }
-    return deployedProcess;
   }
 
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version, final String tenantId) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .getOrDefault(tenantId, new HashMap<>())
-            .get(processId);
-
-    if (versionMap != null) {
-      final DeployedProcess deployedProcess = versionMap.get(version);
-      return deployedProcess != null
-          ? deployedProcess
-          : lookupPersistenceState(processId, version, tenantId);
+    final DeployedProcess deployedProcess = getCachedProcess(processId, version, tenantId);
+    if (deployedProcess != null) {
+      return deployedProcess;
     } else {
       return lookupPersistenceState(processId, version, tenantId);
     }
@@ -319,8 +414,7 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public DeployedProcess getProcessByKeyAndTenant(final long key, final String tenantId) {
-    final DeployedProcess deployedProcess =
-        processByTenantAndKeyCache.getOrDefault(tenantId, new Long2ObjectHashMap<>()).get(key);
+    final DeployedProcess deployedProcess = getCachedProcess(processKeyLookup.wrap(tenantId, key));
 
     if (deployedProcess != null) {
       return deployedProcess;
@@ -383,8 +477,8 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public void clearCache() {
-    processByTenantAndKeyCache.clear();
-    processesByTenantAndProcessIdAndVersionCache.clear();
+    processByTenantAndKeyCache.invalidateAll();
+    processKeyByTenantAndProcessIdAndVersion.clear();
     versionManager.clear();
   }
 
@@ -412,16 +506,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedProcess> newVersionMap =
-          processesByTenantAndProcessIdAndVersionCache
-              .getOrDefault(tenantId, new HashMap<>())
-              .get(processIdBuffer);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -435,13 +520,46 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess processWithKey =
         processColumnFamily.get(tenantAwareProcessDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      return processByTenantAndKeyCache
-          .getOrDefault(tenantId, new Long2ObjectHashMap<>())
-          .get(processDefinitionKey);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
   }
+
+  /**
+   * Mutable so that a single instance can be reused for lookups; instances which are put into the
+   * cache or its index must not be changed anymore.
+   */
+  private static final class TenantIdAndProcessKey {
+    private String tenantId;
+    private long processDefinitionKey;
+
+    private TenantIdAndProcessKey() {}
+
+    private TenantIdAndProcessKey(final String tenantId, final long processDefinitionKey) {
+      wrap(tenantId, processDefinitionKey);
+    }
+
+    private TenantIdAndProcessKey wrap(final String tenantId, final long processDefinitionKey) {
+      this.tenantId = tenantId;
+      this.processDefinitionKey = processDefinitionKey;
+      return this;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * tenantId.hashCode() + Long.hashCode(processDefinitionKey);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof final TenantIdAndProcessKey that)) {
+        return false;
+      }
+      return processDefinitionKey == that.processDefinitionKey && tenantId.equals(that.tenantId);
+    }
+  }
 }
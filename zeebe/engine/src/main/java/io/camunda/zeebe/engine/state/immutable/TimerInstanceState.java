@@ -19,6 +19,17 @@ public interface TimerInstanceState {
    */
   long processTimersWithDueDateBefore(long timestamp, TimerVisitor consumer);
 
+  /**
+   * Presents the due dates of the timers with a due date in the range [{@code fromDueDate}, {@code
+   * toDueDate}) to the {@code visitor}, in the order of their due date, without reading the timers
+   * themselves. The iteration starts at {@code fromDueDate}, so it doesn't pass over the due dates
+   * before it.
+   *
+   * @return due date of the first timer at or after {@code toDueDate} (or {@code -1} if no such
+   *     timer exists)
+   */
+  long forEachDueDateInRange(long fromDueDate, long toDueDate, TimerDueDateVisitor visitor);
+
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
    * iteration.
@@ -27,6 +38,12 @@ public interface TimerInstanceState {
 
   TimerInstance get(long elementInstanceKey, long timerKey);
 
+  @FunctionalInterface
+  interface TimerDueDateVisitor {
+
+    void visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
+
   @FunctionalInterface
   interface TimerVisitor {
 
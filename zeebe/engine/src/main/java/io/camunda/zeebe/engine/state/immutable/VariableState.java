@@ -29,6 +29,16 @@ public interface VariableState {
 
   DirectBuffer getVariablesLocalAsDocument(long scopeKey);
 
+  /**
+   * Returns the variables with the given names which are directly stored at the given scope key,
+   * without traversing the scope hierarchy.
+   *
+   * @param scopeKey the scope key to get the variables for
+   * @param names the names of the variables to collect
+   * @return a document containing the variables of the scope with the given names
+   */
+  DirectBuffer getVariablesLocalAsDocument(long scopeKey, Collection<DirectBuffer> names);
+
   boolean isEmpty();
 
   /**
@@ -115,6 +115,34 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  @Override
+  public long forEachDueDateInRange(
+      final long fromDueDate, final long toDueDate, final TimerDueDateVisitor visitor) {
+    nextDueDate = -1L;
+
+    dueDate.wrapLong(fromDueDate);
+    elementInstanceKey.inner().wrapLong(0);
+    timerKey.wrapLong(0);
+    dueDateColumnFamily.whileTrue(
+        dueDateCompositeKey,
+        (key, nil) -> {
+          final var dueDate = key.first().getValue();
+          if (dueDate >= toDueDate) {
+            nextDueDate = dueDate;
+            return false;
+          }
+
+          final var elementAndTimerKey = key.second();
+          visitor.visit(
+              dueDate,
+              elementAndTimerKey.first().inner().getValue(),
+              elementAndTimerKey.second().getValue());
+          return true;
+        });
+
+    return nextDueDate;
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
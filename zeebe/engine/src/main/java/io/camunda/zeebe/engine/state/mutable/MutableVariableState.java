@@ -61,4 +61,11 @@ public interface MutableVariableState extends VariableState {
   void removeScope(long scopeKey);
 
   void removeAllVariables(long scopeKey);
+
+  /**
+   * Discards the variables and parent scopes which were cached while looking up variables. The
+   * cache reflects all changes made through this state, but not the rollback of a transaction, and
+   * must be cleared before processing the next command or after a rollback.
+   */
+  void clearCache();
 }
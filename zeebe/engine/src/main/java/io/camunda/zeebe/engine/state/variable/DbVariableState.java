@@ -13,6 +13,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.VariableScopeCacheMetrics;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
@@ -56,8 +57,12 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  private final VariableScopeCache cache;
+
   public DbVariableState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -75,6 +80,8 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    cache = new VariableScopeCache(new VariableScopeCacheMetrics(partitionId));
   }
 
   @Override
@@ -109,6 +116,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    cache.invalidateVariable(name, nameOffset, nameLength);
   }
 
   @Override
@@ -117,6 +125,8 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    cache.invalidateScope(childKey);
+    cache.putParentScopeKey(childKey, parentKey);
   }
 
   @Override
@@ -128,6 +138,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    cache.invalidateScope(scopeKey);
   }
 
   @Override
@@ -137,6 +148,12 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    cache.invalidateVariables();
+  }
+
+  @Override
+  public void clearCache() {
+    cache.clear();
   }
 
   @Override
@@ -176,6 +193,10 @@ public class DbVariableState implements MutableVariableState {
   @Override
   public DirectBuffer getVariable(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final DirectBuffer cachedValue = cache.getVariable(scopeKey, name, nameOffset, nameLength);
+    if (cachedValue != VariableScopeCache.UNKNOWN_VARIABLE) {
+      return cachedValue;
+    }
 
     long currentScopeKey = scopeKey;
     do {
@@ -183,13 +204,13 @@ public class DbVariableState implements MutableVariableState {
           getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
       if (variable != null) {
-        return variable.getValue();
+        return cache.putVariable(scopeKey, name, nameOffset, nameLength, variable.getValue());
       }
 
       currentScopeKey = getParentScopeKey(currentScopeKey);
     } while (currentScopeKey >= 0);
 
-    return null;
+    return cache.putVariable(scopeKey, name, nameOffset, nameLength, null);
   }
 
   @Override
@@ -272,6 +293,32 @@ public class DbVariableState implements MutableVariableState {
     return resultView;
   }
 
+  @Override
+  public DirectBuffer getVariablesLocalAsDocument(
+      final long scopeKey, final Collection<DirectBuffer> names) {
+    variablesToCollect.clear();
+    variablesToCollect.addAll(names);
+
+    writer.wrap(documentResultBuffer, 0);
+    writer.reserveMapHeader();
+
+    visitVariablesLocal(
+        scopeKey,
+        name -> variablesToCollect.contains(name.getBuffer()),
+        (name, value) -> {
+          writer.writeString(name.getBuffer());
+          writer.writeRaw(value.getValue());
+
+          variablesToCollect.remove(name.getBuffer());
+        },
+        variablesToCollect::isEmpty);
+
+    writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
+
+    resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+    return resultView;
+  }
+
   @Override
   public boolean isEmpty() {
     return variablesColumnFamily.isEmpty() && childParentColumnFamily.isEmpty();
@@ -301,10 +348,17 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    final long cachedParentScopeKey = cache.getParentScopeKey(childScopeKey);
+    if (cachedParentScopeKey != VariableScopeCache.UNKNOWN_PARENT) {
+      return cachedParentScopeKey;
+    }
+
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    final long parentScopeKeyValue = parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    cache.putParentScopeKey(childScopeKey, parentScopeKeyValue);
+    return parentScopeKeyValue;
   }
 
   private VariableInstance getVariableLocal(
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.engine.metrics.VariableScopeCacheMetrics;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the parent scopes and the resolved variables which are looked up by {@link
+ * DbVariableState}, such that evaluating many expressions in the same scope, e.g. the input and
+ * output mappings of an element, doesn't walk up the scope hierarchy in the state again and again
+ * for the same variables.
+ *
+ * <p>A resolved variable is the value of the variable as seen from a scope, i.e. the value of the
+ * closest scope which has a variable with the name, or no value if none has. Since setting a
+ * variable may change the resolved value of the variable for all the scopes below, it invalidates
+ * the variable in all scopes. Removing the variables of a scope invalidates all resolved variables.
+ *
+ * <p>The cache only reflects the changes which are made through the {@link DbVariableState}, and
+ * must be cleared when a transaction is rolled back, such that it never contains values which were
+ * not committed. It is meant to live for the processing of a single command.
+ */
+final class VariableScopeCache {
+
+  /** Returned by {@link #getParentScopeKey(long)} if the parent scope is not cached. */
+  static final long UNKNOWN_PARENT = Long.MIN_VALUE;
+
+  /** Returned by {@link #getVariable(long, DirectBuffer, int, int)} if it is not cached. */
+  static final DirectBuffer UNKNOWN_VARIABLE = new UnsafeBuffer(0, 0);
+
+  private static final DirectBuffer NO_VARIABLE = new UnsafeBuffer(0, 0);
+
+  // (child scope key) => (parent scope key)
+  private final Long2LongHashMap parentScopeKeys = new Long2LongHashMap(UNKNOWN_PARENT);
+
+  // (variable name) => (scope key) => (resolved variable value)
+  private final Object2ObjectHashMap<DirectBuffer, Long2ObjectHashMap<DirectBuffer>>
+      resolvedVariables = new Object2ObjectHashMap<>();
+  private final UnsafeBuffer nameView = new UnsafeBuffer(0, 0);
+
+  private final VariableScopeCacheMetrics metrics;
+
+  VariableScopeCache(final VariableScopeCacheMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the cached parent scope key of the given scope, which may be {@link
+   *     io.camunda.zeebe.engine.state.immutable.VariableState#NO_PARENT}, or {@link
+   *     #UNKNOWN_PARENT} if it is not cached
+   */
+  long getParentScopeKey(final long childScopeKey) {
+    final long parentScopeKey = parentScopeKeys.get(childScopeKey);
+    if (parentScopeKey == UNKNOWN_PARENT) {
+      metrics.countScopeMiss();
+    } else {
+      metrics.countScopeHit();
+    }
+    return parentScopeKey;
+  }
+
+  void putParentScopeKey(final long childScopeKey, final long parentScopeKey) {
+    parentScopeKeys.put(childScopeKey, parentScopeKey);
+  }
+
+  /**
+   * @return the cached resolved value of the variable, {@code null} if it is cached that there is
+   *     no such variable, or {@link #UNKNOWN_VARIABLE} if it is not cached
+   */
+  DirectBuffer getVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    nameView.wrap(name, nameOffset, nameLength);
+
+    final var variablesByScope = resolvedVariables.get(nameView);
+    final DirectBuffer value = variablesByScope != null ? variablesByScope.get(scopeKey) : null;
+    if (value == null) {
+      metrics.countVariableMiss();
+      return UNKNOWN_VARIABLE;
+    }
+
+    metrics.countVariableHit();
+    return value == NO_VARIABLE ? null : value;
+  }
+
+  /**
+   * Caches a copy of the resolved value of the variable, or that there is no such variable if the
+   * value is {@code null}.
+   *
+   * @return the cached copy of the value
+   */
+  DirectBuffer putVariable(
+      final long scopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final DirectBuffer value) {
+    nameView.wrap(name, nameOffset, nameLength);
+
+    var variablesByScope = resolvedVariables.get(nameView);
+    if (variablesByScope == null) {
+      variablesByScope = new Long2ObjectHashMap<>();
+      resolvedVariables.put(new UnsafeBuffer(BufferUtil.bufferAsArray(nameView)), variablesByScope);
+    }
+
+    final DirectBuffer cachedValue =
+        value != null ? new UnsafeBuffer(BufferUtil.bufferAsArray(value)) : null;
+    variablesByScope.put(scopeKey, cachedValue != null ? cachedValue : NO_VARIABLE);
+    return cachedValue;
+  }
+
+  /** Invalidates the variable with the given name in all scopes. */
+  void invalidateVariable(final DirectBuffer name, final int nameOffset, final int nameLength) {
+    nameView.wrap(name, nameOffset, nameLength);
+    resolvedVariables.remove(nameView);
+  }
+
+  /** Invalidates all resolved variables. */
+  void invalidateVariables() {
+    if (!resolvedVariables.isEmpty()) {
+      resolvedVariables.clear();
+    }
+  }
+
+  /** Invalidates the parent of the given scope, and all variables resolved from it. */
+  void invalidateScope(final long scopeKey) {
+    parentScopeKeys.remove(scopeKey);
+    for (final var variablesByScope : resolvedVariables.values()) {
+      variablesByScope.remove(scopeKey);
+    }
+  }
+
+  void clear() {
+    if (!parentScopeKeys.isEmpty()) {
+      parentScopeKeys.clear();
+    }
+    invalidateVariables();
+  }
+}
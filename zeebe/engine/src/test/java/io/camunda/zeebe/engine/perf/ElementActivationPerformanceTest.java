@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast the BPMN stream processor activates and completes elements, by running process
+ * instances of a process with {@value #TASK_COUNT} undefined tasks in sequence to completion. Each
+ * instance activates and completes {@value #TASK_COUNT} + 3 elements, including the process itself.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ElementActivationPerformanceTest {
+
+  private static final int TASK_COUNT = 10;
+
+  private ProcessInstanceClient processInstanceClient;
+  private TestEngine.TestContext testContext;
+  private TestEngine singlePartitionEngine;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = TestEngine.createTestContext();
+    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("process").startEvent();
+    for (int i = 0; i < TASK_COUNT; i++) {
+      builder = builder.task("task-" + i);
+    }
+
+    singlePartitionEngine
+        .createDeploymentClient()
+        .withXmlResource(builder.endEvent().done())
+        .deploy();
+    processInstanceClient = singlePartitionEngine.createProcessInstanceClient();
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<ProcessInstanceRecordValue> measureElementActivation() {
+    final long processInstanceKey =
+        processInstanceClient.ofBpmnProcessId("process").withVariable("x", 1).create();
+
+    final var completed =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.PROCESS)
+            .getFirst();
+
+    singlePartitionEngine.reset();
+    return completed;
+  }
+
+  @JMHTest("measureElementActivation")
+  void shouldActivateElementsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 120;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
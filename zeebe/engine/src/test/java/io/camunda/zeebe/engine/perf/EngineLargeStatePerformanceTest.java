@@ -7,21 +7,15 @@
  */
 package io.camunda.zeebe.engine.perf;
 
-import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.value.JobRecordValue;
-import io.camunda.zeebe.scheduler.ActorScheduler;
-import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
-import io.camunda.zeebe.test.util.AutoCloseableRule;
 import io.camunda.zeebe.test.util.jmh.JMHTestCase;
 import io.camunda.zeebe.test.util.junit.JMHTest;
 import io.camunda.zeebe.test.util.record.RecordingExporter;
-import java.io.IOException;
 import java.util.concurrent.TimeUnit;
-import org.junit.rules.TemporaryFolder;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -54,7 +48,7 @@ public class EngineLargeStatePerformanceTest {
 
   @Setup
   public void setup() throws Throwable {
-    testContext = createTestContext();
+    testContext = TestEngine.createTestContext();
 
     singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
 
@@ -91,24 +85,6 @@ public class EngineLargeStatePerformanceTest {
     LOG.info("Started {} process instances.", count);
   }
 
-  private TestEngine.TestContext createTestContext() throws IOException {
-    final var autoCloseableRule = new AutoCloseableRule();
-    final var temporaryFolder = new TemporaryFolder();
-    temporaryFolder.create();
-
-    // scheduler
-    final var builder =
-        ActorScheduler.newActorScheduler()
-            .setCpuBoundActorThreadCount(1)
-            .setIoBoundActorThreadCount(1)
-            .setActorClock(new DefaultActorClock());
-
-    final var actorScheduler = builder.build();
-    autoCloseableRule.manage(actorScheduler);
-    actorScheduler.start();
-    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
-  }
-
   @TearDown
   public void tearDown() {
     LOG.info("Started {} process instances", count);
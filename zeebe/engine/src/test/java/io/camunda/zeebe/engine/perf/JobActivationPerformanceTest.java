@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.util.client.JobActivationClient;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures activating batches of {@value #BATCH_SIZE} jobs, including collecting their variables.
+ * Before each iteration, enough process instances are created such that every activation in the
+ * iteration finds a full batch of jobs; creating them is not measured.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JobActivationPerformanceTest {
+
+  private static final int BATCH_SIZE = 10;
+  private static final int JOBS_PER_ITERATION = 5_000;
+  private static final Map<String, Object> VARIABLES =
+      Map.of("orderId", "order-1234", "amount", 150, "items", List.of(1, 2, 3));
+
+  private ProcessInstanceClient processInstanceClient;
+  private JobActivationClient jobActivationClient;
+  private TestEngine.TestContext testContext;
+  private TestEngine singlePartitionEngine;
+  private int availableJobs;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = TestEngine.createTestContext();
+    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+
+    singlePartitionEngine
+        .createDeploymentClient()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .serviceTask("task", (t) -> t.zeebeJobType("task"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    processInstanceClient = singlePartitionEngine.createProcessInstanceClient();
+    jobActivationClient =
+        singlePartitionEngine
+            .createJobActivationClient()
+            .withType("task")
+            .withMaxJobsToActivate(BATCH_SIZE)
+            .withTimeout(TimeUnit.HOURS.toMillis(1));
+  }
+
+  @Setup(Level.Iteration)
+  public void createJobs() {
+    while (availableJobs < JOBS_PER_ITERATION) {
+      final long processInstanceKey =
+          processInstanceClient.ofBpmnProcessId("process").withVariables(VARIABLES).create();
+      RecordingExporter.jobRecords(JobIntent.CREATED)
+          .withProcessInstanceKey(processInstanceKey)
+          .getFirst();
+      availableJobs++;
+
+      if (availableJobs % 1_000 == 0) {
+        singlePartitionEngine.reset();
+      }
+    }
+
+    singlePartitionEngine.reset();
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<JobBatchRecordValue> measureJobActivation() {
+    final var batch = jobActivationClient.activate();
+    availableJobs -= batch.getValue().getJobKeys().size();
+
+    singlePartitionEngine.reset();
+    return batch;
+  }
+
+  @JMHTest("measureJobActivation")
+  void shouldActivateJobsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 110;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
@@ -16,12 +16,15 @@ import io.camunda.zeebe.engine.util.StreamProcessingComposite;
 import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender;
 import io.camunda.zeebe.engine.util.TestStreams;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
+import io.camunda.zeebe.engine.util.client.JobActivationClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
 import io.camunda.zeebe.stream.impl.StreamProcessorMode;
 import io.camunda.zeebe.test.util.AutoCloseableRule;
 import io.camunda.zeebe.test.util.record.RecordingExporter;
 import io.camunda.zeebe.util.FeatureFlags;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Optional;
 import org.junit.rules.TemporaryFolder;
@@ -94,10 +97,36 @@ public final class TestEngine {
     return new ProcessInstanceClient(streamProcessingComposite);
   }
 
+  public JobActivationClient createJobActivationClient() {
+    return new JobActivationClient(streamProcessingComposite);
+  }
+
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
     return new TestEngine(1, 1, testContext);
   }
 
+  /**
+   * Creates a context with a started actor scheduler, using a single CPU and IO bound thread, and a
+   * new temporary folder. Close it via {@link TestContext#autoCloseableRule()} once done.
+   */
+  public static TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    // scheduler
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock());
+
+    final var actorScheduler = builder.build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
   public void reset() {
     RecordingExporter.reset();
     testStreams.resetLog();
@@ -243,6 +243,82 @@ final class JobBatchCollectorTest {
             });
   }
 
+  @Test
+  void shouldCollectVariablesOfSharedParentScope() {
+    // given - two jobs whose scopes share the same parent scope
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(firstScopeKey, parentScopeKey);
+    state.getVariableState().createScope(secondScopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("foo", "parent", "baz", "parent"));
+    createJobWithVariables(firstScopeKey, Map.of("foo", "first"));
+    createJobWithVariables(secondScopeKey, Map.of("fizz", "second"));
+
+    // when
+    collector.collectJobs(record);
+
+    // then - variables of the job's scope shadow the ones of the parent scope
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("foo", "first", "baz", "parent"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("foo", "parent", "baz", "parent", "fizz", "second"));
+            });
+  }
+
+  @Test
+  void shouldFetchOnlyRequestedVariablesOfSharedParentScope() {
+    // given
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(firstScopeKey, parentScopeKey);
+    state.getVariableState().createScope(secondScopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("foo", "parent", "baz", "parent"));
+    createJobWithVariables(firstScopeKey, Map.of("foo", "first"));
+    createJobWithVariables(secondScopeKey, Map.of("fizz", "second"));
+    record.getValue().variables().add().wrap(BufferUtil.wrapString("foo"));
+
+    // when
+    collector.collectJobs(record);
+
+    // then
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("foo", "first"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("foo", "parent"));
+            });
+  }
+
+  @Test
+  void shouldNotReuseVariablesOfPreviousBatch() {
+    // given
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    createJobWithVariables(scopeKey, Map.of("foo", "bar"));
+    collector.collectJobs(createRecord());
+
+    // when
+    setVariables(scopeKey, Map.of("foo", "baz"));
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    collector.collectJobs(record);
+
+    // then
+    RecordValueWithVariablesAssert.assertThat(record.getValue().getJobs().get(0))
+        .hasVariables(Map.of("foo", "baz"));
+  }
+
   /**
    * This is specifically a regression test for #5525. It's possible for this test to become
    * outdated if we ever change how records are serialized, variables packed, etc. But it's a
@@ -0,0 +1,221 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ErrorType;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.test.util.Strings;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class JobBatchCommandTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+  private static final String PROCESS_ID = "process";
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  private String jobType;
+
+  @Before
+  public void setup() {
+    jobType = Strings.newRandomValidBpmnId();
+  }
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final List<Long> jobKeys = activateJobs(3);
+
+    // when
+    final Record<JobBatchRecordValue> completed = ENGINE.jobBatch().withJobs(jobKeys).complete();
+
+    // then
+    Assertions.assertThat(completed)
+        .hasRecordType(RecordType.EVENT)
+        .hasIntent(JobBatchIntent.COMPLETED);
+    assertThat(completed.getValue().getJobKeys()).containsExactlyElementsOf(jobKeys);
+    assertThat(completed.getValue().isTruncated()).isFalse();
+    assertThat(completed.getValue().getProcessedJobCount()).isEqualTo(jobKeys.size());
+
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withSourceRecordPosition(completed.getSourceRecordPosition())
+                .limit(jobKeys.size()))
+        .extracting(Record::getKey)
+        .containsExactlyElementsOf(jobKeys);
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withElementType(BpmnElementType.PROCESS)
+                .withBpmnProcessId(PROCESS_ID)
+                .limit(jobKeys.size()))
+        .hasSize(jobKeys.size());
+  }
+
+  @Test
+  public void shouldCompleteJobsWithVariables() {
+    // given
+    final List<Long> jobKeys = activateJobs(2);
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE
+            .jobBatch()
+            .withJob(jobKeys.get(0), Map.of("foo", "bar"))
+            .withJob(jobKeys.get(1), Map.of("foo", "baz"))
+            .complete();
+
+    // then
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withSourceRecordPosition(completed.getSourceRecordPosition())
+                .limit(jobKeys.size()))
+        .extracting(record -> record.getValue().getVariables())
+        .containsExactly(Map.of("foo", "bar"), Map.of("foo", "baz"));
+  }
+
+  @Test
+  public void shouldRejectOnlyJobsWhichCannotBeCompleted() {
+    // given
+    final List<Long> jobKeys = activateJobs(1);
+    final long unknownJobKey = 123L;
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE.jobBatch().withJob(unknownJobKey).withJob(jobKeys.get(0)).complete();
+
+    // then
+    assertThat(completed.getValue().getJobKeys()).containsExactly(jobKeys.get(0));
+    assertThat(completed.getValue().getProcessedJobCount()).isEqualTo(2);
+
+    final var rejection =
+        RecordingExporter.jobRecords(JobIntent.COMPLETE)
+            .onlyCommandRejections()
+            .withSourceRecordPosition(completed.getSourceRecordPosition())
+            .getFirst();
+    Assertions.assertThat(rejection)
+        .hasKey(unknownJobKey)
+        .hasRejectionType(RejectionType.NOT_FOUND);
+  }
+
+  @Test
+  public void shouldRejectJobsCompletedTwiceInSameBatch() {
+    // given
+    final List<Long> jobKeys = activateJobs(1);
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE.jobBatch().withJob(jobKeys.get(0)).withJob(jobKeys.get(0)).complete();
+
+    // then
+    assertThat(completed.getValue().getJobKeys()).containsExactly(jobKeys.get(0));
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETE)
+                .onlyCommandRejections()
+                .withSourceRecordPosition(completed.getSourceRecordPosition())
+                .getFirst())
+        .extracting(Record::getKey)
+        .isEqualTo(jobKeys.get(0));
+  }
+
+  @Test
+  public void shouldFailJobs() {
+    // given
+    final List<Long> jobKeys = activateJobs(2);
+
+    // when
+    final Record<JobBatchRecordValue> failed =
+        ENGINE
+            .jobBatch()
+            .withFailedJob(jobKeys.get(0), 3, Duration.ZERO, "retry me")
+            .withFailedJob(jobKeys.get(1), 0, Duration.ZERO, "give up")
+            .fail();
+
+    // then
+    Assertions.assertThat(failed).hasRecordType(RecordType.EVENT).hasIntent(JobBatchIntent.FAILED);
+    assertThat(failed.getValue().getJobKeys()).containsExactlyElementsOf(jobKeys);
+
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.FAILED)
+                .withSourceRecordPosition(failed.getSourceRecordPosition())
+                .limit(jobKeys.size()))
+        .extracting(
+            record -> entry(record.getValue().getRetries(), record.getValue().getErrorMessage()))
+        .containsExactly(entry(3, "retry me"), entry(0, "give up"));
+    Assertions.assertThat(
+            RecordingExporter.incidentRecords(IncidentIntent.CREATED)
+                .withSourceRecordPosition(failed.getSourceRecordPosition())
+                .getFirst()
+                .getValue())
+        .hasErrorType(ErrorType.JOB_NO_RETRIES)
+        .hasJobKey(jobKeys.get(1));
+  }
+
+  @Test
+  public void shouldNotCompleteJobsOfUnauthorizedTenant() {
+    // given
+    final String tenantId = "acme";
+    ENGINE.createJob(jobType, PROCESS_ID, Collections.emptyMap(), tenantId);
+    final long jobKey =
+        ENGINE
+            .jobs()
+            .withType(jobType)
+            .withTenantId(tenantId)
+            .activate()
+            .getValue()
+            .getJobKeys()
+            .get(0);
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE.jobBatch().withJob(jobKey).withAuthorizedTenantIds("foo").complete();
+
+    // then
+    assertThat(completed.getValue().getJobKeys()).isEmpty();
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETE)
+                .onlyCommandRejections()
+                .withSourceRecordPosition(completed.getSourceRecordPosition())
+                .getFirst()
+                .getRejectionType())
+        .isEqualTo(RejectionType.NOT_FOUND);
+  }
+
+  private List<Long> activateJobs(final int count) {
+    for (int i = 0; i < count; i++) {
+      ENGINE.createJob(jobType, PROCESS_ID);
+    }
+
+    final var activated = ENGINE.jobs().withType(jobType).withMaxJobsToActivate(count).activate();
+    assertThat(activated.getValue().getJobKeys()).hasSize(count);
+    return activated.getValue().getJobKeys();
+  }
+}
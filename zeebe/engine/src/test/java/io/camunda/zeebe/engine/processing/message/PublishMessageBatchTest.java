@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.MessageBatchRecordValue;
+import io.camunda.zeebe.test.util.Strings;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.Map;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class PublishMessageBatchTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Test
+  public void shouldPublishMessages() {
+    // when
+    final Record<MessageBatchRecordValue> published =
+        ENGINE
+            .messageBatch()
+            .withMessage("a", "order-1")
+            .withMessage("b", "order-2")
+            .withMessage("c", "order-3")
+            .publish();
+
+    // then
+    Assertions.assertThat(published)
+        .hasRecordType(RecordType.EVENT)
+        .hasIntent(MessageBatchIntent.PUBLISHED);
+
+    assertThat(
+            RecordingExporter.messageRecords(MessageIntent.PUBLISHED)
+                .withSourceRecordPosition(published.getSourceRecordPosition())
+                .limit(3))
+        .extracting(Record::getKey, record -> record.getValue().getName())
+        .containsExactly(
+            tuple(published.getValue().getMessageKeys().get(0), "a"),
+            tuple(published.getValue().getMessageKeys().get(1), "b"),
+            tuple(published.getValue().getMessageKeys().get(2), "c"));
+  }
+
+  @Test
+  public void shouldRejectMessageWithSameIdInSameBatch() {
+    // when
+    final Record<MessageBatchRecordValue> published =
+        ENGINE
+            .messageBatch()
+            .withMessageWithId("a", "order-1", "id-1")
+            .withMessageWithId("a", "order-1", "id-1")
+            .publish();
+
+    // then
+    assertThat(published.getValue().getMessageKeys()).hasSize(2).endsWith(-1L);
+    assertThat(published.getValue().getMessageKeys().get(0)).isPositive();
+
+    final var rejection =
+        RecordingExporter.messageRecords(MessageIntent.PUBLISH)
+            .onlyCommandRejections()
+            .withSourceRecordPosition(published.getSourceRecordPosition())
+            .getFirst();
+    Assertions.assertThat(rejection).hasRejectionType(RejectionType.ALREADY_EXISTS);
+  }
+
+  @Test
+  public void shouldCorrelateMessages() {
+    // given
+    final String processId = Strings.newRandomValidBpmnId();
+    final BpmnModelInstance process =
+        Bpmn.createExecutableProcess(processId)
+            .startEvent()
+            .intermediateCatchEvent("receive-message")
+            .message(m -> m.name("message").zeebeCorrelationKeyExpression("key"))
+            .endEvent()
+            .done();
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    final long firstInstanceKey =
+        ENGINE.processInstance().ofBpmnProcessId(processId).withVariable("key", "a").create();
+    final long secondInstanceKey =
+        ENGINE.processInstance().ofBpmnProcessId(processId).withVariable("key", "b").create();
+
+    // when
+    ENGINE
+        .messageBatch()
+        .withMessage("message", "a", Map.of("foo", 1))
+        .withMessage("message", "b", Map.of("foo", 2))
+        .publish();
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withBpmnProcessId(processId)
+                .withElementType(BpmnElementType.PROCESS)
+                .limit(2))
+        .extracting(Record::getKey)
+        .containsExactlyInAnyOrder(firstInstanceKey, secondInstanceKey);
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withName("foo")
+                .filter(
+                    record ->
+                        record.getValue().getProcessInstanceKey() == firstInstanceKey
+                            || record.getValue().getProcessInstanceKey() == secondInstanceKey)
+                .limit(2))
+        .extracting(record -> record.getValue().getValue())
+        .containsExactlyInAnyOrder("1", "2");
+  }
+}
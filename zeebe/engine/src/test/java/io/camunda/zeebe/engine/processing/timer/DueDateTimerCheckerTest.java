@@ -231,6 +231,12 @@ class DueDateTimerCheckerTest {
       return 0;
     }
 
+    @Override
+    public long forEachDueDateInRange(
+        final long fromDueDate, final long toDueDate, final TimerDueDateVisitor visitor) {
+      return -1;
+    }
+
     @Override
     public void forEachTimerForElementInstance(
         final long elementInstanceKey, final Consumer<TimerInstance> action) {}
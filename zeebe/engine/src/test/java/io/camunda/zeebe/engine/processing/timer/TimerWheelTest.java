@@ -0,0 +1,279 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
+import io.camunda.zeebe.engine.state.instance.TimerInstance;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+final class TimerWheelTest {
+
+  private static final long TICK = 100;
+  private static final long ROUND = 1024 * TICK;
+  private static final long HORIZON = 8 * ROUND;
+
+  private final InMemoryTimerState state = new InMemoryTimerState();
+  private final TimerWheel wheel = new TimerWheel(TICK);
+  private final List<Long> triggered = new ArrayList<>();
+
+  @Test
+  void shouldTriggerOnlyDueTimers() {
+    // given
+    state.put(1_000, 1);
+    state.put(2_000, 2);
+    state.put(3_000, 3);
+
+    // when
+    final long nextDueDate = poll(2_000);
+
+    // then
+    assertThat(triggered).containsExactly(1L, 2L);
+    assertThat(nextDueDate).isEqualTo(3_000);
+  }
+
+  @Test
+  void shouldTriggerOverdueTimersOnFirstPoll() {
+    // given
+    state.put(1_000, 1);
+    state.put(50_000, 2);
+
+    // when
+    final long nextDueDate = poll(5 * ROUND);
+
+    // then
+    assertThat(triggered).containsExactly(1L, 2L);
+    assertThat(nextDueDate).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldNotTriggerTimerTwice() {
+    // given
+    state.put(1_000, 1);
+    poll(1_000);
+
+    // when
+    poll(2_000);
+
+    // then
+    assertThat(triggered).containsExactly(1L);
+  }
+
+  @Test
+  void shouldTriggerAddedTimers() {
+    // given
+    poll(1_000);
+    state.put(2_000, 1);
+    wheel.add(2_000, 1, 1);
+
+    // when
+    final long nextDueDate = poll(1_500);
+    poll(2_000);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(2_000);
+    assertThat(triggered).containsExactly(1L);
+  }
+
+  @Test
+  void shouldIgnoreTimerAddedTwice() {
+    // given
+    state.put(2_000, 1);
+    poll(1_000);
+    wheel.add(2_000, 1, 1);
+
+    // when
+    poll(2_000);
+
+    // then
+    assertThat(triggered).containsExactly(1L);
+  }
+
+  @Test
+  void shouldDropTimersWhichWereRemoved() {
+    // given
+    state.put(2_000, 1);
+    state.put(2_000, 2);
+    poll(1_000);
+    state.remove(1);
+
+    // when
+    poll(2_000);
+
+    // then
+    assertThat(triggered).containsExactly(2L);
+  }
+
+  @Test
+  void shouldRetainTimersWhichWereNotVisited() {
+    // given
+    state.put(1_000, 1);
+    state.put(1_000, 2);
+    state.put(1_500, 3);
+
+    // when
+    final long nextDueDate =
+        wheel.poll(
+            2_000,
+            state,
+            (dueDate, elementInstanceKey, timerKey) -> {
+              if (!triggered.isEmpty()) {
+                return false;
+              }
+              triggered.add(timerKey);
+              return true;
+            });
+
+    // then
+    assertThat(triggered).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(1_000);
+
+    // when
+    poll(2_000);
+
+    // then
+    assertThat(triggered).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldLoadTimersBeyondHorizonWhenReached() {
+    // given
+    final long beyondHorizon = HORIZON + 3 * ROUND;
+    state.put(ROUND + 500, 1);
+    state.put(beyondHorizon, 2);
+
+    // when
+    final long nextDueDate = poll(0);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(ROUND + 500);
+
+    // when
+    poll(ROUND + 500);
+    final long nextDueDateAfterFirstTimer = poll(ROUND + 600);
+
+    // then
+    assertThat(triggered).containsExactly(1L);
+    assertThat(nextDueDateAfterFirstTimer).isEqualTo(beyondHorizon);
+
+    // when
+    poll(beyondHorizon);
+
+    // then
+    assertThat(triggered).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldCascadeTimersOfNextRounds() {
+    // given
+    state.put(ROUND + 100, 1);
+    state.put(2 * ROUND + 100, 2);
+    state.put(HORIZON - TICK, 3);
+    poll(0);
+
+    // when
+    for (long now = 0; now <= HORIZON; now += ROUND / 4) {
+      poll(now);
+    }
+
+    // then
+    assertThat(triggered).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldLoadTimersAfterReload() {
+    // given
+    state.put(1_000, 1);
+    wheel.poll(1_000, state, (dueDate, elementInstanceKey, timerKey) -> true);
+
+    // when
+    wheel.reload();
+    poll(1_000);
+
+    // then
+    assertThat(triggered).containsExactly(1L);
+  }
+
+  private long poll(final long now) {
+    return wheel.poll(
+        now,
+        state,
+        (dueDate, elementInstanceKey, timerKey) -> {
+          if (state.get(elementInstanceKey, timerKey) == null) {
+            return true;
+          }
+          triggered.add(timerKey);
+          state.remove(timerKey);
+          return true;
+        });
+  }
+
+  /** Keeps the due dates of the timers, where the element instance key is the timer key. */
+  private static final class InMemoryTimerState implements TimerInstanceState {
+
+    private final NavigableMap<Long, Long> dueDatesByTimerKey = new TreeMap<>();
+
+    private void put(final long dueDate, final long timerKey) {
+      dueDatesByTimerKey.put(timerKey, dueDate);
+    }
+
+    private void remove(final long timerKey) {
+      dueDatesByTimerKey.remove(timerKey);
+    }
+
+    @Override
+    public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long forEachDueDateInRange(
+        final long fromDueDate, final long toDueDate, final TimerDueDateVisitor visitor) {
+      long nextDueDate = -1;
+      final var timers =
+          dueDatesByTimerKey.entrySet().stream().sorted(Map.Entry.comparingByValue()).toList();
+      for (final var timer : timers) {
+        final long dueDate = timer.getValue();
+        if (dueDate < fromDueDate) {
+          continue;
+        }
+        if (dueDate >= toDueDate) {
+          nextDueDate = dueDate;
+          break;
+        }
+        visitor.visit(dueDate, timer.getKey(), timer.getKey());
+      }
+      return nextDueDate;
+    }
+
+    @Override
+    public void forEachTimerForElementInstance(
+        final long elementInstanceKey, final Consumer<TimerInstance> action) {}
+
+    @Override
+    public TimerInstance get(final long elementInstanceKey, final long timerKey) {
+      final Long dueDate = dueDatesByTimerKey.get(timerKey);
+      if (dueDate == null) {
+        return null;
+      }
+
+      final var timer = new TimerInstance();
+      timer.setElementInstanceKey(elementInstanceKey);
+      timer.setKey(timerKey);
+      timer.setDueDate(dueDate);
+      return timer;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.engine.state.deployment.ProcessStateTest.creatingProcessRecord;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.Protocol;
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ProcessCacheTest {
+
+  private static final String TENANT_ID = "defaultTenant";
+
+  @Rule
+  public final ProcessingStateRule stateRule =
+      new ProcessingStateRule(
+          Protocol.DEPLOYMENT_PARTITION, new EngineConfiguration().setProcessCacheCapacity(1));
+
+  private MutableProcessState processState;
+  private MutableProcessingState processingState;
+
+  @Before
+  public void setUp() {
+    processingState = stateRule.getProcessingState();
+    processState = processingState.getProcessState();
+  }
+
+  @Test
+  public void shouldEvictProcessesWhichExceedTheCapacity() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    final double evictionsBefore = readMetric("zeebe_process_cache_evictions_total");
+
+    // when
+    processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+    processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(readMetric("zeebe_process_cache_evictions_total") - evictionsBefore).isEqualTo(2);
+    assertThat(readMetric("zeebe_process_cache_entries")).isZero();
+  }
+
+  @Test
+  public void shouldLoadEvictedProcessFromState() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.getProcessByProcessIdAndVersion(wrapString("processId"), 1, TENANT_ID);
+
+    // when
+    final var byKey = processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+    final var byVersion =
+        processState.getProcessByProcessIdAndVersion(wrapString("processId"), 1, TENANT_ID);
+    final var latest =
+        processState.getLatestProcessVersionByProcessId(wrapString("processId"), TENANT_ID);
+
+    // then
+    assertThat(byKey.getKey()).isEqualTo(processRecord.getKey());
+    assertThat(byVersion.getKey()).isEqualTo(processRecord.getKey());
+    assertThat(latest.getKey()).isEqualTo(processRecord.getKey());
+    assertThat(byKey.getProcess().getElementById("test")).isNotNull();
+  }
+
+  @Test
+  public void shouldCountMissesOfEvictedProcesses() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    final double hitsBefore = readLookups("hit");
+    final double missesBefore = readLookups("miss");
+
+    // when
+    processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+    processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(readLookups("hit") - hitsBefore).isZero();
+    assertThat(readLookups("miss") - missesBefore).isEqualTo(2);
+  }
+
+  private static double readLookups(final String result) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_process_cache_lookups_total",
+            new String[] {"partition", "result"},
+            new String[] {String.valueOf(Protocol.DEPLOYMENT_PARTITION), result});
+    return value == null ? 0 : value;
+  }
+
+  private static double readMetric(final String name) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            name,
+            new String[] {"partition"},
+            new String[] {String.valueOf(Protocol.DEPLOYMENT_PARTITION)});
+    return value == null ? 0 : value;
+  }
+}
@@ -170,6 +170,38 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldVisitDueDatesInRange() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 3000L);
+    createTimerInstance(4, 4, 4000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.forEachDueDateInRange(
+            2000L, 4000L, (dueDate, elementInstanceKey, timerKey) -> keys.add(timerKey));
+
+    // then
+    assertThat(keys).containsExactly(2L, 3L);
+    assertThat(nextDueDate).isEqualTo(4000L);
+  }
+
+  @Test
+  public void shouldReturnNegativeDueDateIfNoTimersAfterRange() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+
+    // when
+    final long nextDueDate =
+        state.forEachDueDateInRange(2000L, 2000L, (dueDate, elementInstanceKey, timerKey) -> {});
+
+    // then
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
@@ -106,7 +106,7 @@ public class TemporaryVariableMigrationTest {
       legacyTemporaryVariablesState =
           new LegacyDbTemporaryVariablesState(zeebeDb, transactionContext);
       legacyTemporaryVariablesState.put(EVENT_SCOPE_KEY, VARIABLES);
-      variableState = new DbVariableState(zeebeDb, transactionContext);
+      variableState = new DbVariableState(zeebeDb, transactionContext, 1);
       elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     }
 
@@ -205,6 +205,25 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1, 'c': 3}");
   }
 
+  @Test
+  public void shouldCollectLocalVariablesByName() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("c"), asMsgPack("3"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesLocalAsDocument(
+            child, Arrays.asList(wrapString("a"), wrapString("c")));
+
+    // then
+    assertEquality(variablesDocument, "{'c': 3}");
+  }
+
   @Test
   public void shouldCollectVariablesByNameFromMultipleScopes() {
     // given
@@ -365,6 +384,59 @@ public final class VariableStateTest {
     assertThat(variableFromChildScope).isNull();
   }
 
+  @Test
+  public void shouldGetVariableSetAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(child, child2);
+    assertThat(variableState.getVariable(child2, wrapString("a"))).isNull();
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    final DirectBuffer variableFromParentScope =
+        cloneBuffer(variableState.getVariable(child2, wrapString("a")));
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+    final DirectBuffer variableFromChildScope =
+        cloneBuffer(variableState.getVariable(child2, wrapString("a")));
+
+    // then
+    assertEquality(variableFromParentScope, "1");
+    assertEquality(variableFromChildScope, "2");
+  }
+
+  @Test
+  public void shouldNotGetVariableRemovedAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(child, child2);
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+    assertEquality(variableState.getVariable(child2, wrapString("b")), "2");
+
+    // when
+    variableState.removeAllVariables(child);
+
+    // then
+    assertThat(variableState.getVariable(child2, wrapString("b"))).isNull();
+  }
+
+  @Test
+  public void shouldGetVariableOfScopeCreatedAfterLookup() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    assertThat(variableState.getVariable(child, wrapString("a"))).isNull();
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(VariableState.NO_PARENT);
+
+    // when
+    declareScope(parent, child);
+
+    // then
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(parent);
+    assertEquality(variableState.getVariable(child, wrapString("a")), "1");
+  }
+
   @Test
   public void shouldNotGetVariableInstanceLocal() {
     // given
@@ -23,7 +23,9 @@ import io.camunda.zeebe.engine.util.client.DecisionEvaluationClient;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
 import io.camunda.zeebe.engine.util.client.IncidentClient;
 import io.camunda.zeebe.engine.util.client.JobActivationClient;
+import io.camunda.zeebe.engine.util.client.JobBatchClient;
 import io.camunda.zeebe.engine.util.client.JobClient;
+import io.camunda.zeebe.engine.util.client.MessageBatchClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.engine.util.client.PublishMessageClient;
 import io.camunda.zeebe.engine.util.client.ResourceDeletionClient;
@@ -279,6 +281,10 @@ public final class EngineRule extends ExternalResource {
     return new PublishMessageClient(environmentRule, partitionCount);
   }
 
+  public MessageBatchClient messageBatch() {
+    return new MessageBatchClient(environmentRule);
+  }
+
   public VariableClient variables() {
     return new VariableClient(environmentRule);
   }
@@ -291,6 +297,10 @@ public final class EngineRule extends ExternalResource {
     return new JobClient(environmentRule);
   }
 
+  public JobBatchClient jobBatch() {
+    return new JobBatchClient(environmentRule);
+  }
+
   public IncidentClient incident() {
     return new IncidentClient(environmentRule);
   }
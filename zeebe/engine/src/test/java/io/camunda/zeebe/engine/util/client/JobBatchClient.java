@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.util.client;
+
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/** Completes or fails many jobs with a single {@link JobBatchIntent#COMPLETE} or FAIL command. */
+public final class JobBatchClient {
+
+  private final CommandWriter writer;
+  private final JobBatchRecord jobBatchRecord = new JobBatchRecord().setType("");
+  private List<String> authorizedTenantIds = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  private boolean expectRejection;
+
+  public JobBatchClient(final CommandWriter writer) {
+    this.writer = writer;
+  }
+
+  public JobBatchClient withJob(final long jobKey) {
+    return withJob(jobKey, job -> {});
+  }
+
+  public JobBatchClient withJob(final long jobKey, final Map<String, Object> variables) {
+    return withJob(jobKey, job -> job.setVariables(MsgPackUtil.asMsgPack(variables)));
+  }
+
+  public JobBatchClient withFailedJob(
+      final long jobKey, final int retries, final Duration backOff, final String errorMessage) {
+    return withJob(
+        jobKey,
+        job ->
+            job.setRetries(retries)
+                .setRetryBackoff(backOff.toMillis())
+                .setErrorMessage(errorMessage));
+  }
+
+  public JobBatchClient withJobs(final List<Long> jobKeys) {
+    jobKeys.forEach(this::withJob);
+    return this;
+  }
+
+  public JobBatchClient withAuthorizedTenantIds(final String... tenantIds) {
+    authorizedTenantIds = List.of(tenantIds);
+    return this;
+  }
+
+  public JobBatchClient expectRejection() {
+    expectRejection = true;
+    return this;
+  }
+
+  public Record<JobBatchRecordValue> complete() {
+    return write(JobBatchIntent.COMPLETE, JobBatchIntent.COMPLETED);
+  }
+
+  public Record<JobBatchRecordValue> fail() {
+    return write(JobBatchIntent.FAIL, JobBatchIntent.FAILED);
+  }
+
+  private JobBatchClient withJob(final long jobKey, final Consumer<JobRecord> jobModifier) {
+    jobBatchRecord.jobKeys().add().setValue(jobKey);
+    jobModifier.accept(jobBatchRecord.jobs().add());
+    return this;
+  }
+
+  private Record<JobBatchRecordValue> write(
+      final JobBatchIntent intent, final JobBatchIntent resultIntent) {
+    final long position =
+        writer.writeCommand(intent, jobBatchRecord, authorizedTenantIds.toArray(new String[0]));
+
+    if (expectRejection) {
+      return RecordingExporter.jobBatchRecords(intent)
+          .onlyCommandRejections()
+          .withSourceRecordPosition(position)
+          .getFirst();
+    }
+
+    return RecordingExporter.jobBatchRecords(resultIntent)
+        .withSourceRecordPosition(position)
+        .getFirst();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.util.client;
+
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.protocol.record.value.MessageBatchRecordValue;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Publishes many messages of the same partition with a single {@link MessageBatchIntent#PUBLISH}.
+ */
+public final class MessageBatchClient {
+
+  private static final Duration DEFAULT_MSG_TTL = Duration.ofHours(1);
+
+  private final CommandWriter writer;
+  private final MessageBatchRecord messageBatchRecord = new MessageBatchRecord();
+  private int partitionId = 1;
+
+  public MessageBatchClient(final CommandWriter writer) {
+    this.writer = writer;
+  }
+
+  public MessageBatchClient withMessage(final String name, final String correlationKey) {
+    return withMessage(name, correlationKey, Map.of());
+  }
+
+  public MessageBatchClient withMessage(
+      final String name, final String correlationKey, final Map<String, Object> variables) {
+    return withMessage(
+        new MessageRecord()
+            .setName(name)
+            .setCorrelationKey(correlationKey)
+            .setTimeToLive(DEFAULT_MSG_TTL.toMillis())
+            .setVariables(MsgPackUtil.asMsgPack(variables)));
+  }
+
+  public MessageBatchClient withMessageWithId(
+      final String name, final String correlationKey, final String messageId) {
+    return withMessage(
+        new MessageRecord()
+            .setName(name)
+            .setCorrelationKey(correlationKey)
+            .setTimeToLive(DEFAULT_MSG_TTL.toMillis())
+            .setMessageId(messageId));
+  }
+
+  public MessageBatchClient withMessage(final MessageRecord message) {
+    messageBatchRecord.addMessage(message);
+    return this;
+  }
+
+  public MessageBatchClient onPartition(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public Record<MessageBatchRecordValue> publish() {
+    final long position =
+        writer.writeCommandOnPartition(partitionId, MessageBatchIntent.PUBLISH, messageBatchRecord);
+
+    return RecordingExporter.messageBatchRecords(MessageBatchIntent.PUBLISHED)
+        .withPartitionId(partitionId)
+        .withSourceRecordPosition(position)
+        .getFirst();
+  }
+}
@@ -12,16 +12,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
  * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
  * avoid having to serialize it again on retry.
+ *
+ * <p>The operations are serialized as nd-json directly into a single buffer, which is reused for
+ * every bulk request. This avoids allocating a new array for every record, and serializing the
+ * action metadata again every time the request is sent.
  */
 final class BulkIndexRequest implements ContentProducer {
 
@@ -34,6 +39,7 @@ final class BulkIndexRequest implements ContentProducer {
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
 
   private final List<BulkOperation> operations = new ArrayList<>();
+  private final BulkBuffer buffer = new BulkBuffer();
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -56,31 +62,38 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.size();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      MAPPER.writeValue(buffer, action);
+      buffer.write('\n');
+      sourceOffset = buffer.size();
+      serializeRecord(record, recordSequence);
+      buffer.write('\n');
     } catch (final IOException e) {
+      // drop whatever was written of the failed operation
+      buffer.truncate(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    final BulkOperation command =
+        new BulkOperation(action, sourceOffset, buffer.size() - 1 - sourceOffset);
+    memoryUsageBytes += command.sourceLength();
     lastIndexedMetadata = action;
     operations.add(command);
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
+  private void serializeRecord(final Record<?> record, final RecordSequence recordSequence)
       throws IOException {
-    return MAPPER
+    MAPPER
         .writer()
         // Enhance the serialized record by its sequence number. The sequence number is not a part
         // of the record itself but a special property for Elasticsearch. It can be used to limit
         // the number of records when reading from the index, for example, by using a range query.
         // Read https://github.com/camunda/zeebe/issues/10568 for details.
         .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+        .writeValue(buffer, record);
   }
 
   /** Returns the number of operations indexed so far. */
@@ -98,9 +111,10 @@ final class BulkIndexRequest implements ContentProducer {
     return operations.isEmpty();
   }
 
-  /** Clears the buffer entirely. */
+  /** Clears the buffer entirely. The memory of the buffer is kept to be reused by the next bulk. */
   void clear() {
     operations.clear();
+    buffer.reset();
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -112,7 +126,12 @@ final class BulkIndexRequest implements ContentProducer {
 
   /** Returns the currently indexed operations as an unmodifiable shallow copy. */
   List<BulkOperation> bulkOperations() {
-    return Collections.unmodifiableList(operations);
+    return List.copyOf(operations);
+  }
+
+  /** Returns a copy of the serialized source of the given operation. */
+  byte[] source(final BulkOperation operation) {
+    return buffer.copyOf(operation.sourceOffset(), operation.sourceLength());
   }
 
   /**
@@ -121,15 +140,37 @@ final class BulkIndexRequest implements ContentProducer {
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
   }
 
-  record BulkOperation(BulkIndexAction metadata, byte[] source) {}
+  /**
+   * An operation serialized in the buffer. The action metadata and the source are each terminated
+   * by a line ending.
+   *
+   * @param metadata the action metadata
+   * @param sourceOffset the offset of the serialized source in the buffer
+   * @param sourceLength the length of the serialized source, without the line ending
+   */
+  record BulkOperation(BulkIndexAction metadata, int sourceOffset, int sourceLength) {}
+
+  /**
+   * A byte array output stream which gives access to its content without copying it, and which can
+   * be truncated to discard partially written operations.
+   */
+  private static final class BulkBuffer extends ByteArrayOutputStream {
+
+    private BulkBuffer() {
+      super(64 * 1024);
+    }
+
+    private void truncate(final int size) {
+      count = size;
+    }
+
+    private byte[] copyOf(final int offset, final int length) {
+      return Arrays.copyOfRange(buf, offset, offset + length);
+    }
+  }
 
   @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
   private static final class RecordSequenceMixin {}
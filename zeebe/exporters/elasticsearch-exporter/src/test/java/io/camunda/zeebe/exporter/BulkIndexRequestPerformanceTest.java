@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonAppend;
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares serializing a bulk of records into the reusable buffer of the {@link BulkIndexRequest}
+ * with serializing each record into its own byte array, as it was done before. Run both benchmarks
+ * with the JMH runner to compare them, e.g. with {@code -prof gc} to compare the allocation rates.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class BulkIndexRequestPerformanceTest {
+
+  private static final int BULK_SIZE = 1_000;
+  private static final ObjectMapper BYTE_ARRAY_MAPPER =
+      new ObjectMapper().addMixIn(Record.class, RecordSequenceMixin.class);
+
+  private final BulkIndexRequest request = new BulkIndexRequest();
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+  private final List<Record<?>> records = new ArrayList<>(BULK_SIZE);
+  private final List<BulkIndexAction> actions = new ArrayList<>(BULK_SIZE);
+  private final List<RecordSequence> sequences = new ArrayList<>(BULK_SIZE);
+
+  @Setup
+  public void setup() {
+    final var factory = new ProtocolFactory();
+    factory.generateRecords().limit(BULK_SIZE).forEach(records::add);
+
+    for (int i = 0; i < BULK_SIZE; i++) {
+      final var record = records.get(i);
+      actions.add(
+          new BulkIndexAction(
+              "zeebe-record_" + record.getValueType(),
+              record.getPartitionId() + "-" + record.getPosition(),
+              String.valueOf(record.getPartitionId())));
+      sequences.add(new RecordSequence(record.getPartitionId(), i));
+    }
+  }
+
+  @Benchmark
+  public int measureBulkIndexRequest() throws IOException {
+    for (int i = 0; i < BULK_SIZE; i++) {
+      request.index(actions.get(i), records.get(i), sequences.get(i));
+    }
+
+    request.writeTo(output);
+    request.clear();
+    final int size = output.size();
+    output.reset();
+    return size;
+  }
+
+  @Benchmark
+  public int measureByteArrayPerRecord() throws IOException {
+    final List<byte[]> sources = new ArrayList<>(BULK_SIZE);
+    for (int i = 0; i < BULK_SIZE; i++) {
+      sources.add(
+          BYTE_ARRAY_MAPPER
+              .writer()
+              .withAttribute("sequence", sequences.get(i).sequence())
+              .writeValueAsBytes(records.get(i)));
+    }
+
+    for (int i = 0; i < BULK_SIZE; i++) {
+      BYTE_ARRAY_MAPPER.writeValue(output, actions.get(i));
+      output.write('\n');
+      output.write(sources.get(i));
+      output.write('\n');
+    }
+    final int size = output.size();
+    output.reset();
+    return size;
+  }
+
+  @JMHTest("measureBulkIndexRequest")
+  void shouldSerializeBulkWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 150;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JsonAppend(attrs = {@JsonAppend.Attr(value = "sequence")})
+  private static final class RecordSequenceMixin {}
+}
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.exporter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -197,6 +199,68 @@ final class BulkIndexRequestTest {
               Tuple.tuple(actions.get(1), records.get(1)));
     }
 
+    @Test
+    void shouldWriteOnlyOperationsIndexedAfterClear() throws IOException {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      final var actions =
+          List.of(
+              new BulkIndexAction("index", "id", "routing"),
+              new BulkIndexAction("index2", "id2", "routing2"));
+      request.index(actions.get(0), records.get(0), new RecordSequence(PARTITION_ID, 1));
+      request.clear();
+
+      // when
+      request.index(actions.get(1), records.get(1), new RecordSequence(PARTITION_ID, 2));
+
+      // then
+      final var output = new ByteArrayOutputStream();
+      request.writeTo(output);
+      try (final var input =
+          new BufferedReader(
+              new InputStreamReader(new ByteArrayInputStream(output.toByteArray())))) {
+        assertThat(deserializeOperation(input.readLine().getBytes(), input.readLine().getBytes()))
+            .isEqualTo(Tuple.tuple(actions.get(1), records.get(1)));
+        assertThat(input.readLine()).isNull();
+      }
+    }
+
+    @Test
+    void shouldDiscardOperationWhichFailedToSerialize() throws IOException {
+      // given
+      final var record = recordFactory.generateRecord();
+      final var action = new BulkIndexAction("index", "id", "routing");
+      final Record<?> failingRecord =
+          mock(
+              Record.class,
+              invocation -> {
+                throw new IllegalStateException("expected");
+              });
+      request.index(action, record, new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      assertThatThrownBy(
+              () ->
+                  request.index(
+                      new BulkIndexAction("index2", "id2", "routing2"),
+                      failingRecord,
+                      new RecordSequence(PARTITION_ID, 2)))
+          .isInstanceOf(ElasticsearchExporterException.class);
+
+      // then
+      final var output = new ByteArrayOutputStream();
+      request.writeTo(output);
+      try (final var input =
+          new BufferedReader(
+              new InputStreamReader(new ByteArrayInputStream(output.toByteArray())))) {
+        assertThat(deserializeOperation(input.readLine().getBytes(), input.readLine().getBytes()))
+            .isEqualTo(Tuple.tuple(action, record));
+        assertThat(input.readLine()).isNull();
+      }
+      assertThat(request.size()).isOne();
+      assertThat(request.lastIndexedMetadata()).isEqualTo(action);
+    }
+
     @Test
     void shouldIndexRecordWithSequence() {
       // given
@@ -217,7 +281,7 @@ final class BulkIndexRequestTest {
       // then
       assertThat(request.bulkOperations())
           .hasSize(2)
-          .map(operation -> MAPPER.readValue(operation.source(), MAP_TYPE_REFERENCE))
+          .map(operation -> MAPPER.readValue(request.source(operation), MAP_TYPE_REFERENCE))
           .extracting(source -> source.get("sequence"))
           .describedAs("Expect that the records are serialized with the sequences")
           .containsExactly(recordSequences.get(0).sequence(), recordSequences.get(1).sequence());
@@ -225,7 +289,7 @@ final class BulkIndexRequestTest {
 
     private Record<?> deserializeSource(final BulkOperation operation) {
       try {
-        return MAPPER.readValue(operation.source(), new TypeReference<>() {});
+        return MAPPER.readValue(request.source(operation), new TypeReference<>() {});
       } catch (final IOException e) {
         throw new UncheckedIOException(
             String.format("Failed to deserialize operation [%s] source", operation.metadata()), e);
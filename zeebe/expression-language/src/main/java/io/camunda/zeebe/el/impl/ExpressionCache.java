@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.el.Expression;
+import io.prometheus.client.Counter;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed expressions, keyed by the expression text. Parsed expressions are
+ * immutable and do not depend on the engine which parsed them, so a single cache can be shared by
+ * all expression languages of the process. This avoids parsing the same expressions again, e.g.
+ * when deploying many versions of the same process, and lets all these versions share the same
+ * parsed expressions.
+ */
+final class ExpressionCache {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String RESULT_LABEL = "result";
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("expression_cache_lookups_total")
+          .help("Number of lookups of parsed expressions in the expression cache, by result")
+          .labelNames(RESULT_LABEL)
+          .register();
+
+  private final Cache<String, Expression> expressions;
+  private final Counter.Child hits = LOOKUPS.labels("hit");
+  private final Counter.Child misses = LOOKUPS.labels("miss");
+
+  ExpressionCache(final long maximumSize) {
+    expressions = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+  }
+
+  /**
+   * Returns the cached expression for the given text, or parses it and adds it to the cache if it
+   * is not cached yet. Concurrent callers may parse the same expression more than once, in which
+   * case the last parsed expression is kept.
+   *
+   * @param expression the text of the expression
+   * @param parser parses the text of the expression
+   * @return the parsed expression
+   */
+  Expression get(final String expression, final Function<String, Expression> parser) {
+    final var cached = expressions.getIfPresent(expression);
+    if (cached != null) {
+      hits.inc();
+      return cached;
+    }
+
+    misses.inc();
+    final var parsed = parser.apply(expression);
+    expressions.put(expression, parsed);
+    return parsed;
+  }
+
+  long size() {
+    return expressions.size();
+  }
+}
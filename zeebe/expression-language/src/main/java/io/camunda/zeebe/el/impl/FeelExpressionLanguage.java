@@ -40,6 +40,9 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\=(.+)", Pattern.DOTALL);
 
+  /** Shared by all instances, since the parsed expressions don't depend on the engine. */
+  private static final ExpressionCache EXPRESSION_CACHE = new ExpressionCache(10_000);
+
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
@@ -58,6 +61,10 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   public Expression parseExpression(final String expression) {
     ensureNotNull("expression", expression);
 
+    return EXPRESSION_CACHE.get(expression, this::parse);
+  }
+
+  private Expression parse(final String expression) {
     final var expressionMatcher = EXPRESSION_PATTERN.matcher(expression);
 
     if (expressionMatcher.matches()) {
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.prometheus.client.CollectorRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ExpressionCacheTest {
+
+  @Test
+  public void shouldParseExpressionOnlyOnce() {
+    // given
+    final var cache = new ExpressionCache(10);
+    final var parsed = new AtomicInteger();
+
+    // when
+    final var first = cache.get("foo", text -> parse(parsed, text));
+    final var second = cache.get("foo", text -> parse(parsed, text));
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(parsed).hasValue(1);
+  }
+
+  @Test
+  public void shouldEvictExpressionsWhichExceedTheMaximumSize() {
+    // given
+    final var cache = new ExpressionCache(1);
+    final var parsed = new AtomicInteger();
+
+    // when
+    cache.get("foo", text -> parse(parsed, text));
+    cache.get("bar", text -> parse(parsed, text));
+    cache.get("foo", text -> parse(parsed, text));
+
+    // then
+    assertThat(parsed).hasValue(3);
+    assertThat(cache.size()).isOne();
+  }
+
+  @Test
+  public void shouldCountHitsAndMisses() {
+    // given
+    final var cache = new ExpressionCache(10);
+    final double hitsBefore = readLookups("hit");
+    final double missesBefore = readLookups("miss");
+
+    // when
+    cache.get("foo", StaticExpression::new);
+    cache.get("foo", StaticExpression::new);
+    cache.get("foo", StaticExpression::new);
+
+    // then
+    assertThat(readLookups("hit") - hitsBefore).isEqualTo(2);
+    assertThat(readLookups("miss") - missesBefore).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldShareParsedExpressionsBetweenExpressionLanguages() {
+    // given
+    final var expressionLanguage = new FeelExpressionLanguage(new TestFeelEngineClock());
+    final var otherExpressionLanguage = new FeelExpressionLanguage(new TestFeelEngineClock());
+
+    // when
+    final var expression = expressionLanguage.parseExpression("=x + y");
+    final var otherExpression = otherExpressionLanguage.parseExpression("=x + y");
+
+    // then
+    assertThat(otherExpression).isSameAs(expression);
+  }
+
+  private static StaticExpression parse(final AtomicInteger parsed, final String text) {
+    parsed.incrementAndGet();
+    return new StaticExpression(text);
+  }
+
+  private static double readLookups(final String result) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_expression_cache_lookups_total", new String[] {"result"}, new String[] {result});
+    return value == null ? 0 : value;
+  }
+}
@@ -13,11 +13,14 @@ import io.camunda.zeebe.auth.impl.Authorization;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.NoTopologyAvailableException;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessagesRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
@@ -33,6 +36,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -47,6 +52,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
@@ -56,6 +63,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBr
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -75,12 +85,18 @@ import io.grpc.Context;
 import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 public final class EndpointManager {
 
+  private static final GrpcErrorMapper ERROR_MAPPER = new GrpcErrorMapper();
+
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
@@ -213,6 +229,17 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    sendPartitionedRequests(
+        request,
+        RequestMapper::toCompleteJobsRequests,
+        (brokerRequest, response) ->
+            ResponseMapper.toCompleteJobsResponse(brokerRequest.getJobKeys(), response),
+        responseObserver);
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -283,6 +310,17 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void failJobs(
+      final FailJobsRequest request,
+      final ServerStreamObserver<FailJobsResponse> responseObserver) {
+    sendPartitionedRequests(
+        request,
+        RequestMapper::toFailJobsRequests,
+        (brokerRequest, response) ->
+            ResponseMapper.toFailJobsResponse(brokerRequest.getJobKeys(), response),
+        responseObserver);
+  }
+
   public void throwError(
       final ThrowErrorRequest request,
       final ServerStreamObserver<ThrowErrorResponse> responseObserver) {
@@ -304,6 +342,63 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final ServerStreamObserver<PublishMessagesResponse> responseObserver) {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology == null || topology.getPartitionsCount() == 0) {
+      responseObserver.onError(
+          new NoTopologyAvailableException(
+              "Expected to pick partitions for the messages, but no topology is available"));
+      return;
+    }
+
+    final List<BrokerPublishMessagesRequest> brokerRequests;
+    try {
+      brokerRequests =
+          RequestMapper.toPublishMessagesRequests(request, topology.getPartitionsCount());
+      for (final BrokerPublishMessagesRequest brokerRequest : brokerRequests) {
+        setAuthorization(brokerRequest);
+      }
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    if (brokerRequests.isEmpty()) {
+      responseObserver.onNext(PublishMessagesResponse.getDefaultInstance());
+      responseObserver.onCompleted();
+      return;
+    }
+
+    // each partition sets the results of its own messages, such that a partition which cannot be
+    // reached only fails its own messages
+    final PublishMessageResult[] results = new PublishMessageResult[request.getMessagesCount()];
+    final var pendingRequests = new AtomicInteger(brokerRequests.size());
+    final Runnable onRequestDone =
+        () -> {
+          if (pendingRequests.decrementAndGet() == 0) {
+            responseObserver.onNext(
+                PublishMessagesResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+            responseObserver.onCompleted();
+          }
+        };
+
+    for (final BrokerPublishMessagesRequest brokerRequest : brokerRequests) {
+      brokerClient.sendRequestWithRetry(
+          brokerRequest,
+          (key, response) -> {
+            ResponseMapper.toPublishMessageResults(request, brokerRequest, response, results);
+            onRequestDone.run();
+          },
+          error -> {
+            ResponseMapper.toPublishMessageErrors(
+                brokerRequest, ERROR_MAPPER.mapError(error).getStatus(), results);
+            onRequestDone.run();
+          });
+    }
+  }
+
   public void resolveIncident(
       final ResolveIncidentRequest request,
       final ServerStreamObserver<ResolveIncidentResponse> responseObserver) {
@@ -481,13 +576,84 @@ public final class EndpointManager {
         timeout);
   }
 
+  /**
+   * Sends the broker requests, into which the gRPC request is split, e.g. one for each partition,
+   * concurrently. Streams back a response for each of them as soon as it is received, and completes
+   * the stream once all responses were received. If any of the requests fails, the stream is
+   * completed with that error instead, once all other requests are done.
+   */
+  private <
+          GrpcRequestT,
+          BrokerRequestT extends BrokerRequest<BrokerResponseT>,
+          BrokerResponseT,
+          GrpcResponseT>
+      void sendPartitionedRequests(
+          final GrpcRequestT grpcRequest,
+          final Function<GrpcRequestT, List<BrokerRequestT>> requestMapper,
+          final BiFunction<BrokerRequestT, BrokerResponseT, GrpcResponseT> responseMapper,
+          final ServerStreamObserver<GrpcResponseT> streamObserver) {
+
+    final List<BrokerRequestT> brokerRequests;
+    try {
+      brokerRequests = requestMapper.apply(grpcRequest);
+      for (final BrokerRequestT brokerRequest : brokerRequests) {
+        setAuthorization(brokerRequest);
+      }
+    } catch (final Exception e) {
+      streamObserver.onError(e);
+      return;
+    }
+
+    if (brokerRequests.isEmpty()) {
+      streamObserver.onCompleted();
+      return;
+    }
+
+    final var pendingRequests = new AtomicInteger(brokerRequests.size());
+    final var failure = new AtomicReference<Throwable>();
+    final Runnable onRequestDone =
+        () -> {
+          if (pendingRequests.decrementAndGet() == 0) {
+            synchronized (streamObserver) {
+              final Throwable error = failure.get();
+              if (error == null) {
+                streamObserver.onCompleted();
+              } else {
+                streamObserver.onError(error);
+              }
+            }
+          }
+        };
+
+    for (final BrokerRequestT brokerRequest : brokerRequests) {
+      brokerClient.sendRequestWithRetry(
+          brokerRequest,
+          (key, response) -> {
+            final GrpcResponseT grpcResponse = responseMapper.apply(brokerRequest, response);
+            synchronized (streamObserver) {
+              streamObserver.onNext(grpcResponse);
+            }
+            onRequestDone.run();
+          },
+          error -> {
+            failure.compareAndSet(null, error);
+            onRequestDone.run();
+          });
+    }
+  }
+
   private <GrpcRequestT, BrokerResponseT> BrokerRequest<BrokerResponseT> mapToBrokerRequest(
       final GrpcRequestT grpcRequest,
       final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper)
       throws Exception {
 
     final BrokerRequest<BrokerResponseT> brokerRequest = requestMapper.apply(grpcRequest);
+    setAuthorization(brokerRequest);
 
+    return brokerRequest;
+  }
+
+  private void setAuthorization(final BrokerRequest<?> brokerRequest) throws Exception {
     final List<String> authorizedTenants =
         multiTenancy.isEnabled()
             ? Context.current().call(InterceptorUtil.getAuthorizedTenantsKey()::get)
@@ -500,8 +666,6 @@ public final class EndpointManager {
             .withClaim(Authorization.AUTHORIZED_TENANTS, authorizedTenants)
             .encode();
     brokerRequest.setAuthorization(authorizationToken);
-
-    return brokerRequest;
   }
 
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
@@ -18,6 +18,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -32,12 +34,16 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -92,6 +98,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    endpointManager.completeJobs(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
@@ -138,6 +152,13 @@ public class GatewayGrpcService extends GatewayImplBase {
     endpointManager.failJob(request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void failJobs(
+      final FailJobsRequest request, final StreamObserver<FailJobsResponse> responseObserver) {
+    endpointManager.failJobs(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void throwError(
       final ThrowErrorRequest request, final StreamObserver<ThrowErrorResponse> responseObserver) {
@@ -153,6 +174,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final StreamObserver<PublishMessagesResponse> responseObserver) {
+    endpointManager.publishMessages(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void resolveIncident(
       final ResolveIncidentRequest request,
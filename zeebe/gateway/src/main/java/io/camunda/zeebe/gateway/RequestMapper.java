@@ -17,15 +17,18 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerBroadcastSignalRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerDeleteResourceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerDeployResourceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerEvaluateDecisionRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerMigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerModifyProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessagesRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerResolveIncidentRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
@@ -36,6 +39,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
@@ -43,10 +47,12 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployResourceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessRequestObject;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Resource;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -56,12 +62,17 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.grpc.Context;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -124,6 +135,33 @@ public final class RequestMapper {
     return brokerRequest;
   }
 
+  /**
+   * Groups the messages of the request by the partition they are published to, such that the
+   * messages of each partition can be published with a single command.
+   */
+  public static List<BrokerPublishMessagesRequest> toPublishMessagesRequests(
+      final PublishMessagesRequest grpcRequest, final int partitionsCount) {
+    final Map<Integer, BrokerPublishMessagesRequest> brokerRequests = new LinkedHashMap<>();
+    for (int index = 0; index < grpcRequest.getMessagesCount(); index++) {
+      final PublishMessageRequest message = grpcRequest.getMessages(index);
+      final int partitionId =
+          SubscriptionUtil.getSubscriptionPartitionId(
+              wrapString(message.getCorrelationKey()), partitionsCount);
+      brokerRequests
+          .computeIfAbsent(partitionId, BrokerPublishMessagesRequest::new)
+          .addMessage(
+              index,
+              message.getName(),
+              message.getCorrelationKey(),
+              message.getMessageId(),
+              message.getTimeToLive(),
+              ensureJsonSet(message.getVariables()),
+              ensureTenantIdSet("PublishMessages", message.getTenantId()));
+    }
+
+    return new ArrayList<>(brokerRequests.values());
+  }
+
   public static BrokerUpdateJobRetriesRequest toUpdateJobRetriesRequest(
       final UpdateJobRetriesRequest grpcRequest) {
     return new BrokerUpdateJobRetriesRequest(grpcRequest.getJobKey(), grpcRequest.getRetries());
@@ -141,6 +179,27 @@ public final class RequestMapper {
         .setVariables(ensureJsonSet(grpcRequest.getVariables()));
   }
 
+  /**
+   * Groups the jobs of the request by the partition they belong to, such that the jobs of each
+   * partition can be failed with a single command.
+   */
+  public static List<BrokerFailJobsRequest> toFailJobsRequests(final FailJobsRequest grpcRequest) {
+    final Map<Integer, BrokerFailJobsRequest> brokerRequests = new LinkedHashMap<>();
+    for (final FailJobRequest job : grpcRequest.getJobsList()) {
+      final long jobKey = job.getJobKey();
+      brokerRequests
+          .computeIfAbsent(Protocol.decodePartitionId(jobKey), BrokerFailJobsRequest::new)
+          .addJob(
+              jobKey,
+              job.getRetries(),
+              job.getRetryBackOff(),
+              job.getErrorMessage(),
+              ensureJsonSet(job.getVariables()));
+    }
+
+    return new ArrayList<>(brokerRequests.values());
+  }
+
   public static BrokerThrowErrorRequest toThrowErrorRequest(final ThrowErrorRequest grpcRequest) {
     return new BrokerThrowErrorRequest(grpcRequest.getJobKey(), grpcRequest.getErrorCode())
         .setErrorMessage(grpcRequest.getErrorMessage())
@@ -153,6 +212,23 @@ public final class RequestMapper {
         grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
   }
 
+  /**
+   * Groups the jobs of the request by the partition they belong to, such that the jobs of each
+   * partition can be completed with a single command.
+   */
+  public static List<BrokerCompleteJobsRequest> toCompleteJobsRequests(
+      final CompleteJobsRequest grpcRequest) {
+    final Map<Integer, BrokerCompleteJobsRequest> brokerRequests = new LinkedHashMap<>();
+    for (final CompleteJobRequest job : grpcRequest.getJobsList()) {
+      final long jobKey = job.getJobKey();
+      brokerRequests
+          .computeIfAbsent(Protocol.decodePartitionId(jobKey), BrokerCompleteJobsRequest::new)
+          .addJob(jobKey, ensureJsonSet(job.getVariables()));
+    }
+
+    return new ArrayList<>(brokerRequests.values());
+  }
+
   public static BrokerCreateProcessInstanceRequest toCreateProcessInstanceRequest(
       final CreateProcessInstanceRequest grpcRequest) {
     final BrokerCreateProcessInstanceRequest brokerRequest =
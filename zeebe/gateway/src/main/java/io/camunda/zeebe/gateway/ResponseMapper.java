@@ -10,11 +10,13 @@ package io.camunda.zeebe.gateway;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessagesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
@@ -27,12 +29,16 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluatedDecision;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluatedDecisionInput;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluatedDecisionOutput;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FormMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MatchedDecisionRule;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessMetadata;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageError;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
@@ -45,6 +51,7 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationRecord;
@@ -55,13 +62,23 @@ import io.camunda.zeebe.protocol.impl.record.value.resource.ResourceDeletionReco
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
+import io.grpc.Status;
+import io.grpc.Status.Code;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
 
+  private static final String MESSAGE_ALREADY_PUBLISHED_ERROR =
+      "Expected to publish a new message with id '%s', but a message with that id was already published";
+  private static final String MESSAGE_NOT_PROCESSED_ERROR =
+      "Expected to publish the message, but the messages of its partition exceeded the maximum batch size; publish it again";
+
   public static DeployProcessResponse toDeployProcessResponse(
       final long key, final DeploymentRecord brokerResponse) {
     final DeployProcessResponse.Builder responseBuilder =
@@ -149,6 +166,66 @@ public final class ResponseMapper {
         .build();
   }
 
+  /**
+   * Sets the result of each message of the given request, at the index of the message in the
+   * request of the client. The messages which were not published, as a message with the same id was
+   * published already, or as the results exceeded the maximum batch size, get an error as result.
+   */
+  public static void toPublishMessageResults(
+      final PublishMessagesRequest grpcRequest,
+      final BrokerPublishMessagesRequest brokerRequest,
+      final MessageBatchRecord brokerResponse,
+      final PublishMessageResult[] results) {
+    final List<Integer> messageIndexes = brokerRequest.getMessageIndexes();
+    final List<String> tenantIds = brokerRequest.getTenantIds();
+    final List<Long> messageKeys = brokerResponse.getMessageKeys();
+
+    for (int i = 0; i < messageIndexes.size(); i++) {
+      final int messageIndex = messageIndexes.get(i);
+      final PublishMessageResult.Builder result = PublishMessageResult.newBuilder();
+
+      if (i >= messageKeys.size()) {
+        result.setError(
+            PublishMessageError.newBuilder()
+                .setCode(Code.RESOURCE_EXHAUSTED.name())
+                .setMessage(MESSAGE_NOT_PROCESSED_ERROR));
+      } else if (messageKeys.get(i) < 0) {
+        final String messageId = grpcRequest.getMessages(messageIndex).getMessageId();
+        result.setError(
+            PublishMessageError.newBuilder()
+                .setCode(Code.ALREADY_EXISTS.name())
+                .setMessage(String.format(MESSAGE_ALREADY_PUBLISHED_ERROR, messageId)));
+      } else {
+        result.setMessage(
+            PublishMessageResponse.newBuilder()
+                .setKey(messageKeys.get(i))
+                .setTenantId(tenantIds.get(i)));
+      }
+
+      results[messageIndex] = result.build();
+    }
+  }
+
+  /**
+   * Sets the given error as result of each message of the given request, at the index of the
+   * message in the request of the client.
+   */
+  public static void toPublishMessageErrors(
+      final BrokerPublishMessagesRequest brokerRequest,
+      final Status error,
+      final PublishMessageResult[] results) {
+    final PublishMessageResult result =
+        PublishMessageResult.newBuilder()
+            .setError(
+                PublishMessageError.newBuilder()
+                    .setCode(error.getCode().name())
+                    .setMessage(Objects.requireNonNullElse(error.getDescription(), "")))
+            .build();
+    for (final int messageIndex : brokerRequest.getMessageIndexes()) {
+      results[messageIndex] = result;
+    }
+  }
+
   public static UpdateJobRetriesResponse toUpdateJobRetriesResponse(
       final long key, final JobRecord brokerResponse) {
     return UpdateJobRetriesResponse.getDefaultInstance();
@@ -163,6 +240,39 @@ public final class ResponseMapper {
     return FailJobResponse.getDefaultInstance();
   }
 
+  public static FailJobsResponse toFailJobsResponse(
+      final List<Long> requestedJobKeys, final JobBatchRecord brokerResponse) {
+    final List<Long> failedJobKeys = brokerResponse.getJobKeys();
+    final int processedJobCount = getProcessedJobCount(requestedJobKeys, brokerResponse);
+    final List<Long> processedJobKeys = requestedJobKeys.subList(0, processedJobCount);
+    return FailJobsResponse.newBuilder()
+        .addAllFailedJobKeys(failedJobKeys)
+        .addAllRejectedJobKeys(withoutJobKeys(processedJobKeys, failedJobKeys))
+        .addAllUnprocessedJobKeys(
+            withoutJobKeys(
+                requestedJobKeys.subList(processedJobCount, requestedJobKeys.size()),
+                processedJobKeys))
+        .build();
+  }
+
+  /**
+   * Returns how many of the requested jobs were processed, in the order of the request. Only if the
+   * response is truncated, the jobs after them were not processed at all.
+   */
+  private static int getProcessedJobCount(
+      final List<Long> requestedJobKeys, final JobBatchRecord brokerResponse) {
+    if (!brokerResponse.isTruncated()) {
+      return requestedJobKeys.size();
+    }
+    return Math.min(Math.max(brokerResponse.getProcessedJobCount(), 0), requestedJobKeys.size());
+  }
+
+  private static List<Long> withoutJobKeys(
+      final List<Long> jobKeys, final List<Long> excludedJobKeys) {
+    final Set<Long> excluded = new HashSet<>(excludedJobKeys);
+    return jobKeys.stream().filter(key -> !excluded.contains(key)).distinct().toList();
+  }
+
   public static ThrowErrorResponse toThrowErrorResponse(
       final long key, final JobRecord brokerResponse) {
     return ThrowErrorResponse.getDefaultInstance();
@@ -173,6 +283,21 @@ public final class ResponseMapper {
     return CompleteJobResponse.getDefaultInstance();
   }
 
+  public static CompleteJobsResponse toCompleteJobsResponse(
+      final List<Long> requestedJobKeys, final JobBatchRecord brokerResponse) {
+    final List<Long> completedJobKeys = brokerResponse.getJobKeys();
+    final int processedJobCount = getProcessedJobCount(requestedJobKeys, brokerResponse);
+    final List<Long> processedJobKeys = requestedJobKeys.subList(0, processedJobCount);
+    return CompleteJobsResponse.newBuilder()
+        .addAllCompletedJobKeys(completedJobKeys)
+        .addAllRejectedJobKeys(withoutJobKeys(processedJobKeys, completedJobKeys))
+        .addAllUnprocessedJobKeys(
+            withoutJobKeys(
+                requestedJobKeys.subList(processedJobCount, requestedJobKeys.size()),
+                processedJobKeys))
+        .build();
+  }
+
   public static CreateProcessInstanceResponse toCreateProcessInstanceResponse(
       final long key, final ProcessInstanceCreationRecord brokerResponse) {
     return CreateProcessInstanceResponse.newBuilder()
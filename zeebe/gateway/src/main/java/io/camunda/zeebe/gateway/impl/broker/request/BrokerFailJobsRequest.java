@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/** Fails many jobs of the same partition with a single command. */
+public final class BrokerFailJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
+
+  private final JobBatchRecord requestDto = new JobBatchRecord().setType("");
+  private final List<Long> jobKeys = new ArrayList<>();
+
+  public BrokerFailJobsRequest(final int partitionId) {
+    super(ValueType.JOB_BATCH, JobBatchIntent.FAIL);
+    setPartitionId(partitionId);
+  }
+
+  public BrokerFailJobsRequest addJob(
+      final long jobKey,
+      final int retries,
+      final long retryBackOff,
+      final String errorMessage,
+      final DirectBuffer variables) {
+    jobKeys.add(jobKey);
+    requestDto.jobKeys().add().setValue(jobKey);
+    requestDto
+        .jobs()
+        .add()
+        .setRetries(retries)
+        .setRetryBackoff(retryBackOff)
+        .setErrorMessage(errorMessage)
+        .setVariables(variables);
+    return this;
+  }
+
+  /**
+   * @return the keys of the jobs to fail, in the order in which they were added
+   */
+  public List<Long> getJobKeys() {
+    return jobKeys;
+  }
+
+  @Override
+  public JobBatchRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected JobBatchRecord toResponseDto(final DirectBuffer buffer) {
+    final JobBatchRecord responseDto = new JobBatchRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
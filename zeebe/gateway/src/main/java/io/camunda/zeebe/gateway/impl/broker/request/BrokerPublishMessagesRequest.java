@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/** Publishes many messages of the same partition with a single command. */
+public final class BrokerPublishMessagesRequest extends BrokerExecuteCommand<MessageBatchRecord> {
+
+  private final MessageBatchRecord requestDto = new MessageBatchRecord();
+  private final MessageRecord message = new MessageRecord();
+  private final List<Integer> messageIndexes = new ArrayList<>();
+  private final List<String> tenantIds = new ArrayList<>();
+
+  public BrokerPublishMessagesRequest(final int partitionId) {
+    super(ValueType.MESSAGE_BATCH, MessageBatchIntent.PUBLISH);
+    setPartitionId(partitionId);
+  }
+
+  /**
+   * Adds a message to publish.
+   *
+   * @param messageIndex the index of the message in the request of the client
+   */
+  public BrokerPublishMessagesRequest addMessage(
+      final int messageIndex,
+      final String name,
+      final String correlationKey,
+      final String messageId,
+      final long timeToLive,
+      final DirectBuffer variables,
+      final String tenantId) {
+    messageIndexes.add(messageIndex);
+    tenantIds.add(tenantId);
+
+    message.reset();
+    message
+        .setName(name)
+        .setCorrelationKey(correlationKey)
+        .setMessageId(messageId)
+        .setTimeToLive(timeToLive)
+        .setVariables(variables)
+        .setTenantId(tenantId);
+    requestDto.addMessage(message);
+    return this;
+  }
+
+  /**
+   * @return the index of each message in the request of the client, in the order in which the
+   *     messages were added
+   */
+  public List<Integer> getMessageIndexes() {
+    return messageIndexes;
+  }
+
+  /**
+   * @return the tenant of each message, in the order in which the messages were added
+   */
+  public List<String> getTenantIds() {
+    return tenantIds;
+  }
+
+  @Override
+  public MessageBatchRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected MessageBatchRecord toResponseDto(final DirectBuffer buffer) {
+    final MessageBatchRecord responseDto = new MessageBatchRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
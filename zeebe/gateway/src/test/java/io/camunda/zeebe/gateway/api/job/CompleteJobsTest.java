@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.test.util.JsonUtil;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long FIRST_JOB_KEY = Protocol.encodePartitionId(1, 10);
+  private static final long SECOND_JOB_KEY = Protocol.encodePartitionId(2, 11);
+  private static final long THIRD_JOB_KEY = Protocol.encodePartitionId(1, 12);
+
+  @Test
+  public void shouldSendOneRequestPerPartition() {
+    // given
+    new CompleteJobsStub().registerWith(brokerClient);
+    final String variables = JsonUtil.toJson(Collections.singletonMap("key", "value"));
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(
+                CompleteJobRequest.newBuilder().setJobKey(FIRST_JOB_KEY).setVariables(variables))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(SECOND_JOB_KEY))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(THIRD_JOB_KEY))
+            .build();
+
+    // when
+    final List<CompleteJobsResponse> responses = new ArrayList<>();
+    client.completeJobs(request).forEachRemaining(responses::add);
+
+    // then
+    assertThat(responses)
+        .flatExtracting(CompleteJobsResponse::getCompletedJobKeysList)
+        .containsExactlyInAnyOrder(FIRST_JOB_KEY, SECOND_JOB_KEY, THIRD_JOB_KEY);
+    assertThat(responses).flatExtracting(CompleteJobsResponse::getRejectedJobKeysList).isEmpty();
+
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .allSatisfy(
+            brokerRequest -> {
+              final var completeJobsRequest = (BrokerCompleteJobsRequest) brokerRequest;
+              assertThat(completeJobsRequest.getValueType()).isEqualTo(ValueType.JOB_BATCH);
+              assertThat(completeJobsRequest.getIntent()).isEqualTo(JobBatchIntent.COMPLETE);
+            })
+        .extracting(brokerRequest -> ((BrokerCompleteJobsRequest) brokerRequest).getJobKeys())
+        .containsExactlyInAnyOrder(List.of(FIRST_JOB_KEY, THIRD_JOB_KEY), List.of(SECOND_JOB_KEY));
+
+    final BrokerCompleteJobsRequest firstPartitionRequest =
+        brokerClient.getBrokerRequests().stream()
+            .map(BrokerCompleteJobsRequest.class::cast)
+            .filter(brokerRequest -> brokerRequest.getPartitionId() == 1)
+            .findFirst()
+            .orElseThrow();
+    final JobBatchRecord brokerRequestValue = firstPartitionRequest.getRequestWriter();
+    assertThat(brokerRequestValue.getJobs()).hasSize(2);
+    MsgPackUtil.assertEqualityExcluding(
+        brokerRequestValue.jobs().iterator().next().getVariablesBuffer(), variables);
+  }
+
+  @Test
+  public void shouldReturnRejectedJobKeys() {
+    // given
+    new CompleteJobsStub(THIRD_JOB_KEY).registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(FIRST_JOB_KEY))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(THIRD_JOB_KEY))
+            .build();
+
+    // when
+    final List<CompleteJobsResponse> responses = new ArrayList<>();
+    client.completeJobs(request).forEachRemaining(responses::add);
+
+    // then
+    assertThat(responses).hasSize(1);
+    assertThat(responses.get(0).getCompletedJobKeysList()).containsExactly(FIRST_JOB_KEY);
+    assertThat(responses.get(0).getRejectedJobKeysList()).containsExactly(THIRD_JOB_KEY);
+    assertThat(responses.get(0).getUnprocessedJobKeysList()).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnUnprocessedJobKeysOfTruncatedBatch() {
+    // given
+    final long fourthJobKey = Protocol.encodePartitionId(1, 13);
+    new CompleteJobsStub(FIRST_JOB_KEY).truncateAfter(2).registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(FIRST_JOB_KEY))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(THIRD_JOB_KEY))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(fourthJobKey))
+            .build();
+
+    // when
+    final List<CompleteJobsResponse> responses = new ArrayList<>();
+    client.completeJobs(request).forEachRemaining(responses::add);
+
+    // then
+    assertThat(responses).hasSize(1);
+    assertThat(responses.get(0).getCompletedJobKeysList()).containsExactly(THIRD_JOB_KEY);
+    assertThat(responses.get(0).getRejectedJobKeysList()).containsExactly(FIRST_JOB_KEY);
+    assertThat(responses.get(0).getUnprocessedJobKeysList()).containsExactly(fourthJobKey);
+  }
+
+  @Test
+  public void shouldCompleteStreamWithoutJobs() {
+    // when
+    final List<CompleteJobsResponse> responses = new ArrayList<>();
+    client.completeJobs(CompleteJobsRequest.getDefaultInstance()).forEachRemaining(responses::add);
+
+    // then
+    assertThat(responses).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+}
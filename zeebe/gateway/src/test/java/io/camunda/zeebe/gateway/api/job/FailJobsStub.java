@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobsRequest;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import java.util.Set;
+
+/**
+ * Fails all jobs of the request, except those with one of the given keys. If a limit of processed
+ * jobs is set, the response is truncated after that many jobs, as if their results filled the batch
+ * of records.
+ */
+public final class FailJobsStub
+    implements RequestStub<BrokerFailJobsRequest, BrokerResponse<JobBatchRecord>> {
+
+  private final Set<Long> rejectedJobKeys;
+  private int processedJobLimit = Integer.MAX_VALUE;
+
+  public FailJobsStub(final Long... rejectedJobKeys) {
+    this.rejectedJobKeys = Set.of(rejectedJobKeys);
+  }
+
+  public FailJobsStub truncateAfter(final int processedJobLimit) {
+    this.processedJobLimit = processedJobLimit;
+    return this;
+  }
+
+  @Override
+  public BrokerResponse<JobBatchRecord> handle(final BrokerFailJobsRequest request)
+      throws Exception {
+    final int processedJobCount = Math.min(processedJobLimit, request.getJobKeys().size());
+    final JobBatchRecord responseValue =
+        new JobBatchRecord()
+            .setType("")
+            .setProcessedJobCount(processedJobCount)
+            .setTruncated(processedJobCount < request.getJobKeys().size());
+    request.getJobKeys().stream()
+        .limit(processedJobCount)
+        .filter(key -> !rejectedJobKeys.contains(key))
+        .forEach(key -> responseValue.jobKeys().add().setValue(key));
+    return new BrokerResponse<>(responseValue, request.getPartitionId(), 1L);
+  }
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerFailJobsRequest.class, this);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class FailJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestAndResponse() {
+    // given
+    final long failedJobKey = Protocol.encodePartitionId(1, 10);
+    final long rejectedJobKey = Protocol.encodePartitionId(1, 11);
+    new FailJobsStub(rejectedJobKey).registerWith(brokerClient);
+
+    final FailJobsRequest request =
+        FailJobsRequest.newBuilder()
+            .addJobs(
+                FailJobRequest.newBuilder()
+                    .setJobKey(failedJobKey)
+                    .setRetries(3)
+                    .setRetryBackOff(100)
+                    .setErrorMessage("failed"))
+            .addJobs(FailJobRequest.newBuilder().setJobKey(rejectedJobKey))
+            .build();
+
+    // when
+    final List<FailJobsResponse> responses = new ArrayList<>();
+    client.failJobs(request).forEachRemaining(responses::add);
+
+    // then
+    assertThat(responses).hasSize(1);
+    assertThat(responses.get(0).getFailedJobKeysList()).containsExactly(failedJobKey);
+    assertThat(responses.get(0).getRejectedJobKeysList()).containsExactly(rejectedJobKey);
+
+    final BrokerFailJobsRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    assertThat(brokerRequest.getPartitionId()).isEqualTo(1);
+    assertThat(brokerRequest.getValueType()).isEqualTo(ValueType.JOB_BATCH);
+    assertThat(brokerRequest.getIntent()).isEqualTo(JobBatchIntent.FAIL);
+    assertThat(brokerRequest.getJobKeys()).containsExactly(failedJobKey, rejectedJobKey);
+
+    final JobRecord failedJob = brokerRequest.getRequestWriter().jobs().iterator().next();
+    assertThat(failedJob.getRetries()).isEqualTo(3);
+    assertThat(failedJob.getRetryBackoff()).isEqualTo(100);
+    assertThat(failedJob.getErrorMessage()).isEqualTo("failed");
+  }
+
+  @Test
+  public void shouldReturnUnprocessedJobKeysOfTruncatedBatch() {
+    // given
+    final long failedJobKey = Protocol.encodePartitionId(1, 10);
+    final long unprocessedJobKey = Protocol.encodePartitionId(1, 11);
+    new FailJobsStub().truncateAfter(1).registerWith(brokerClient);
+
+    final FailJobsRequest request =
+        FailJobsRequest.newBuilder()
+            .addJobs(FailJobRequest.newBuilder().setJobKey(failedJobKey))
+            .addJobs(FailJobRequest.newBuilder().setJobKey(unprocessedJobKey))
+            .build();
+
+    // when
+    final List<FailJobsResponse> responses = new ArrayList<>();
+    client.failJobs(request).forEachRemaining(responses::add);
+
+    // then
+    assertThat(responses).hasSize(1);
+    assertThat(responses.get(0).getFailedJobKeysList()).containsExactly(failedJobKey);
+    assertThat(responses.get(0).getRejectedJobKeysList()).isEmpty();
+    assertThat(responses.get(0).getUnprocessedJobKeysList()).containsExactly(unprocessedJobKey);
+  }
+}
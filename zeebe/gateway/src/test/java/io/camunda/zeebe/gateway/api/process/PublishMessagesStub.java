@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerError;
+import io.camunda.zeebe.broker.client.api.dto.BrokerErrorResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessagesRequest;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Publishes the messages of each request, unless its partition is unavailable. Messages with an id
+ * which was already published are reported as duplicates, and at most the given number of messages
+ * is processed per request.
+ */
+public final class PublishMessagesStub
+    implements RequestStub<BrokerPublishMessagesRequest, BrokerResponse<MessageBatchRecord>> {
+
+  private final Set<String> publishedMessageIds = new HashSet<>();
+  private final Set<Integer> unavailablePartitions = new HashSet<>();
+  private int maxMessagesPerRequest = Integer.MAX_VALUE;
+
+  public PublishMessagesStub withPublishedMessageId(final String messageId) {
+    publishedMessageIds.add(messageId);
+    return this;
+  }
+
+  public PublishMessagesStub withUnavailablePartition(final int partitionId) {
+    unavailablePartitions.add(partitionId);
+    return this;
+  }
+
+  public PublishMessagesStub withMaxMessagesPerRequest(final int maxMessagesPerRequest) {
+    this.maxMessagesPerRequest = maxMessagesPerRequest;
+    return this;
+  }
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerPublishMessagesRequest.class, this);
+  }
+
+  @Override
+  public BrokerResponse<MessageBatchRecord> handle(final BrokerPublishMessagesRequest request)
+      throws Exception {
+    final int partitionId = request.getPartitionId();
+    if (unavailablePartitions.contains(partitionId)) {
+      return new BrokerErrorResponse<>(
+          new BrokerError(ErrorCode.PARTITION_LEADER_MISMATCH, "Partition is unavailable"));
+    }
+
+    final MessageBatchRecord responseValue = new MessageBatchRecord();
+    int processedMessages = 0;
+    for (final MessageRecord message : request.getRequestWriter().messages()) {
+      if (processedMessages++ >= maxMessagesPerRequest) {
+        break;
+      }
+
+      final String messageId = BufferUtil.bufferAsString(message.getMessageIdBuffer());
+      if (!messageId.isEmpty() && !publishedMessageIds.add(messageId)) {
+        responseValue.addMessageKey(-1L);
+      } else {
+        responseValue.addMessageKey(Protocol.encodePartitionId(partitionId, processedMessages));
+      }
+    }
+
+    return new BrokerResponse<>(responseValue, partitionId, 1L);
+  }
+}
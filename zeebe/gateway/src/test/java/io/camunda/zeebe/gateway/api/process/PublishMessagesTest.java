@@ -0,0 +1,198 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult.ResultCase;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.JsonUtil;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends GatewayTest {
+
+  private String firstCorrelationKey;
+  private String secondCorrelationKey;
+  private int firstPartitionId;
+  private int secondPartitionId;
+
+  @Before
+  public void pickCorrelationKeys() {
+    // pick two correlation keys which are published to different partitions
+    firstCorrelationKey = "key-0";
+    firstPartitionId = partitionOf(firstCorrelationKey);
+
+    int index = 1;
+    do {
+      secondCorrelationKey = "key-" + index++;
+      secondPartitionId = partitionOf(secondCorrelationKey);
+    } while (secondPartitionId == firstPartitionId);
+  }
+
+  @Test
+  public void shouldSendOneRequestPerPartition() {
+    // given
+    new PublishMessagesStub().registerWith(brokerClient);
+    final String variables = JsonUtil.toJson(Collections.singletonMap("key", "value"));
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(message(firstCorrelationKey).setMessageId("a").setVariables(variables))
+            .addMessages(message(secondCorrelationKey))
+            .addMessages(message(firstCorrelationKey))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(result -> result.getMessage().getKey())
+        .containsExactly(
+            Protocol.encodePartitionId(firstPartitionId, 1),
+            Protocol.encodePartitionId(secondPartitionId, 1),
+            Protocol.encodePartitionId(firstPartitionId, 2));
+    assertThat(response.getResultsList())
+        .extracting(result -> result.getMessage().getTenantId())
+        .containsOnly(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .allSatisfy(
+            brokerRequest -> {
+              final var publishMessagesRequest = (BrokerPublishMessagesRequest) brokerRequest;
+              assertThat(publishMessagesRequest.getValueType()).isEqualTo(ValueType.MESSAGE_BATCH);
+              assertThat(publishMessagesRequest.getIntent()).isEqualTo(MessageBatchIntent.PUBLISH);
+            })
+        .extracting(
+            brokerRequest -> ((BrokerPublishMessagesRequest) brokerRequest).getMessageIndexes())
+        .containsExactlyInAnyOrder(List.of(0, 2), List.of(1));
+
+    final BrokerPublishMessagesRequest firstPartitionRequest =
+        brokerClient.getBrokerRequests().stream()
+            .map(BrokerPublishMessagesRequest.class::cast)
+            .filter(brokerRequest -> brokerRequest.getPartitionId() == firstPartitionId)
+            .findFirst()
+            .orElseThrow();
+    final MessageRecord firstMessage =
+        firstPartitionRequest.getRequestWriter().messages().iterator().next();
+    assertThat(bufferAsString(firstMessage.getCorrelationKeyBuffer()))
+        .isEqualTo(firstCorrelationKey);
+    assertThat(bufferAsString(firstMessage.getNameBuffer())).isEqualTo("message");
+    assertThat(bufferAsString(firstMessage.getMessageIdBuffer())).isEqualTo("a");
+    assertThat(firstMessage.getTimeToLive()).isEqualTo(1000L);
+    MsgPackUtil.assertEqualityExcluding(firstMessage.getVariablesBuffer(), variables);
+  }
+
+  @Test
+  public void shouldReturnErrorForAlreadyPublishedMessage() {
+    // given
+    new PublishMessagesStub().withPublishedMessageId("a").registerWith(brokerClient);
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(message(firstCorrelationKey).setMessageId("a"))
+            .addMessages(message(firstCorrelationKey).setMessageId("b"))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(PublishMessageResult::getResultCase)
+        .containsExactly(ResultCase.ERROR, ResultCase.MESSAGE);
+    assertThat(response.getResults(0).getError().getCode()).isEqualTo("ALREADY_EXISTS");
+    assertThat(response.getResults(0).getError().getMessage()).contains("'a'");
+  }
+
+  @Test
+  public void shouldReturnErrorForMessagesWhichWereNotProcessed() {
+    // given
+    new PublishMessagesStub().withMaxMessagesPerRequest(1).registerWith(brokerClient);
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(message(firstCorrelationKey))
+            .addMessages(message(firstCorrelationKey))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(PublishMessageResult::getResultCase)
+        .containsExactly(ResultCase.MESSAGE, ResultCase.ERROR);
+    assertThat(response.getResults(1).getError().getCode()).isEqualTo("RESOURCE_EXHAUSTED");
+  }
+
+  @Test
+  public void shouldOnlyFailMessagesOfUnavailablePartition() {
+    // given
+    new PublishMessagesStub()
+        .withUnavailablePartition(secondPartitionId)
+        .registerWith(brokerClient);
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(message(secondCorrelationKey))
+            .addMessages(message(firstCorrelationKey))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(PublishMessageResult::getResultCase)
+        .containsExactly(ResultCase.ERROR, ResultCase.MESSAGE);
+    assertThat(response.getResults(0).getError().getCode()).isEqualTo("UNAVAILABLE");
+  }
+
+  @Test
+  public void shouldRespondWithoutMessages() {
+    // when
+    final PublishMessagesResponse response =
+        client.publishMessages(PublishMessagesRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private PublishMessageRequest.Builder message(final String correlationKey) {
+    return PublishMessageRequest.newBuilder()
+        .setName("message")
+        .setCorrelationKey(correlationKey)
+        .setTimeToLive(1000L);
+  }
+
+  private int partitionOf(final String correlationKey) {
+    final int partitionsCount =
+        brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+    return SubscriptionUtil.getSubscriptionPartitionId(wrapString(correlationKey), partitionsCount);
+  }
+}
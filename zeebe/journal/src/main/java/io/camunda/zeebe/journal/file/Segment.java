@@ -149,6 +149,16 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return writer.getLastAsqn();
   }
 
+  /**
+   * Sets the last application sequence number of the previous segments, for a segment which was
+   * loaded before the previous segments were.
+   *
+   * @param lastWrittenAsqn the last application sequence number of the previous segments
+   */
+  void setLastWrittenAsqn(final long lastWrittenAsqn) {
+    writer.setLastWrittenAsqn(lastWrittenAsqn);
+  }
+
   /**
    * Returns the segment file.
    *
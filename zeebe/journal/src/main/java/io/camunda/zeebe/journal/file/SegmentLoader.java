@@ -112,14 +112,36 @@ final class SegmentLoader {
         journalIndex);
   }
 
+  /**
+   * Maps an existing segment file, reads its descriptor and finds its last entry, verifying the
+   * checksums of the entries it reads on the way. This does not read any other segment, and can
+   * thus be done for multiple segments concurrently, as long as the journal index is thread safe.
+   *
+   * @param segmentFile the segment file to load
+   * @param lastWrittenAsqn the last asqn written in the previous segments; if it is not known yet,
+   *     pass {@link SegmentedJournal#ASQN_IGNORE} and set it later via {@link
+   *     Segment#setLastWrittenAsqn(long)}
+   * @param journalIndex the index to add the entries found while loading to
+   * @return the loaded segment
+   * @throws CorruptedJournalException if the descriptor cannot be recognized
+   * @throws JournalException if the segment cannot be mapped or its descriptor cannot be read
+   */
   Segment loadExistingSegment(
       final Path segmentFile, final long lastWrittenAsqn, final JournalIndex journalIndex) {
-    try (final var channel =
-        FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+    try (final var ignored = metrics.observeSegmentLoad();
+        final var channel =
+            FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
       MappedByteBuffer mappedSegment;
       final var initialMappedLength = Files.size(segmentFile);
       mappedSegment = mapSegment(channel, initialMappedLength);
-      final var descriptor = readDescriptor(mappedSegment, segmentFile.getFileName().toString());
+
+      final SegmentDescriptor descriptor;
+      try {
+        descriptor = readDescriptor(mappedSegment, segmentFile.getFileName().toString());
+      } catch (final RuntimeException e) {
+        IoUtil.unmap(mappedSegment);
+        throw e;
+      }
 
       if (descriptor.maxSegmentSize() > initialMappedLength) {
         // remap with actual size
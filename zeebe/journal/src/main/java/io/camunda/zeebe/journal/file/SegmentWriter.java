@@ -49,7 +49,7 @@ final class SegmentWriter {
   private final Segment segment;
   private final JournalIndex index;
   private final long firstIndex;
-  private final long firstAsqn;
+  private long firstAsqn;
   private long lastAsqn;
   private JournalRecord lastEntry;
   private int lastEntryPosition;
@@ -112,6 +112,18 @@ final class SegmentWriter {
     return lastAsqn;
   }
 
+  /**
+   * Sets the last asqn written in the previous segments, if it was not known yet when this writer
+   * was created. Must be called before anything is written.
+   */
+  void setLastWrittenAsqn(final long lastWrittenAsqn) {
+    firstAsqn = lastWrittenAsqn + 1;
+    if (lastAsqn == ASQN_IGNORE) {
+      // none of the entries of this segment has an asqn
+      lastAsqn = lastWrittenAsqn;
+    }
+  }
+
   // Used to append records received from a leader that are at version 8.2.x or older.
   Either<SegmentFull, JournalRecord> append(final JournalRecord record) {
     final var entryIndex = record.index();
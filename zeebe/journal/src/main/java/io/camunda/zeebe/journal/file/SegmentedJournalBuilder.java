@@ -32,6 +32,8 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_SEGMENT_LOADING_THREADS =
+      Math.min(4, Runtime.getRuntime().availableProcessors());
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +45,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private int segmentLoadingThreads = DEFAULT_SEGMENT_LOADING_THREADS;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -140,6 +143,21 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how many threads are used to load the existing segments when opening the journal, which
+   * maps them and scans them for their last entry. The threads only exist while the journal is
+   * opened.
+   *
+   * @param segmentLoadingThreads the maximum number of threads loading segments concurrently
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code segmentLoadingThreads} is not positive
+   */
+  public SegmentedJournalBuilder withSegmentLoadingThreads(final int segmentLoadingThreads) {
+    checkArgument(segmentLoadingThreads > 0, "segmentLoadingThreads must be positive");
+    this.segmentLoadingThreads = segmentLoadingThreads;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -175,7 +193,8 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            segmentLoadingThreads);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
@@ -32,6 +32,7 @@ import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +56,7 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final int segmentLoadingThreads;
 
   private volatile Segment currentSegment;
 
@@ -65,7 +67,8 @@ final class SegmentsManager implements AutoCloseable {
       final String name,
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
-      final JournalMetaStore metaStore) {
+      final JournalMetaStore metaStore,
+      final int segmentLoadingThreads) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +76,7 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.segmentLoadingThreads = segmentLoadingThreads;
   }
 
   @Override
@@ -347,7 +351,9 @@ final class SegmentsManager implements AutoCloseable {
   }
 
   /**
-   * Loads all segments from disk.
+   * Loads all segments from disk. Each segment is loaded concurrently, which maps it and scans it
+   * for its last entry. The segments are then checked one after another, since each segment
+   * continues the indexes and asqns of the previous one.
    *
    * @return A collection of segments for the log.
    */
@@ -360,17 +366,17 @@ final class SegmentsManager implements AutoCloseable {
     final List<Segment> segments = new ArrayList<>();
 
     final List<File> files = getSortedLogSegments();
+    final List<CompletableFuture<Segment>> loadedSegments = loadSegments(files);
     Segment previousSegment = null;
     for (int i = 0; i < files.size(); i++) {
       final File file = files.get(i);
 
       try {
         LOG.debug("Found segment file: {}", file.getName());
-        final Segment segment =
-            segmentLoader.loadExistingSegment(
-                file.toPath(),
-                previousSegment != null ? previousSegment.lastAsqn() : INITIAL_ASQN,
-                journalIndex);
+        final Segment segment = awaitLoadedSegment(loadedSegments.get(i));
+        if (previousSegment != null) {
+          segment.setLastWrittenAsqn(previousSegment.lastAsqn());
+        }
 
         if (i > 0) {
           // throws CorruptedJournalException if there is gap
@@ -387,10 +393,19 @@ final class SegmentsManager implements AutoCloseable {
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
+        // the remaining segments will not be used, and may be deleted
+        final boolean indexedRemainingSegments = closeLoadedSegments(loadedSegments, i);
         if (handleSegmentCorruption(files, segments, i, lastFlushedIndex)) {
+          if (indexedRemainingSegments) {
+            // the index is only used to speed up seeking, and is rebuilt by the readers
+            journalIndex.clear();
+          }
           return segments;
         }
 
+        throw e;
+      } catch (final RuntimeException e) {
+        closeLoadedSegments(loadedSegments, i);
         throw e;
       }
     }
@@ -398,6 +413,63 @@ final class SegmentsManager implements AutoCloseable {
     return segments;
   }
 
+  private List<CompletableFuture<Segment>> loadSegments(final List<File> files) {
+    final int threads = Math.min(segmentLoadingThreads, files.size());
+    if (threads <= 1) {
+      return files.stream()
+          .map(file -> CompletableFuture.supplyAsync(() -> loadSegment(file), Runnable::run))
+          .toList();
+    }
+
+    final var executor =
+        Executors.newFixedThreadPool(
+            threads, Thread.ofPlatform().name(name + "-segment-loader-", 0).daemon().factory());
+    try {
+      return files.stream()
+          .map(file -> CompletableFuture.supplyAsync(() -> loadSegment(file), executor))
+          .toList();
+    } finally {
+      // already submitted tasks are still executed, after which the threads terminate
+      executor.shutdown();
+    }
+  }
+
+  private Segment loadSegment(final File file) {
+    // the last asqn of the previous segments is set once they are loaded
+    return segmentLoader.loadExistingSegment(file.toPath(), INITIAL_ASQN, journalIndex);
+  }
+
+  private Segment awaitLoadedSegment(final CompletableFuture<Segment> loadedSegment) {
+    try {
+      return loadedSegment.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * Closes the segments which will not be used after all.
+   *
+   * @return true if any of them was loaded, and may thus have added its entries to the index
+   */
+  private boolean closeLoadedSegments(
+      final List<CompletableFuture<Segment>> loadedSegments, final int fromIndex) {
+    boolean closedAny = false;
+    for (int i = fromIndex; i < loadedSegments.size(); i++) {
+      try {
+        loadedSegments.get(i).join().close();
+        closedAny = true;
+      } catch (final CompletionException e) {
+        LOG.trace("Failed to load segment which will not be used, nothing to release", e);
+      }
+    }
+    return closedAny;
+  }
+
   private void checkForIndexGaps(final Segment prevSegment, final Segment segment) {
     if (prevSegment.lastIndex() != segment.index() - 1) {
       throw new CorruptedJournalException(
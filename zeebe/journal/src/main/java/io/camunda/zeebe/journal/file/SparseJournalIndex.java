@@ -16,19 +16,38 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
 
+/**
+ * Sparse index which keeps every {@code density}-th entry in primitive, sorted arrays. Compared to
+ * navigable maps with boxed keys and values, an indexed entry costs only the 12 bytes for its index
+ * and position, plus 16 bytes if it has an asqn, and no objects are allocated per entry.
+ *
+ * <p>Entries are mostly appended in order by the writer, but readers may index older entries (e.g.
+ * of segments which were not indexed since the journal was opened), which are inserted at their
+ * sorted position. Since the asqn is increasing with the index, the asqn entries are sorted by both
+ * index and asqn, and can be binary searched by either.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final StampedLock lock = new StampedLock();
+
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
+
+  // deleteUntil keeps the asqn entry at or before the compacted index, such that asqns which are
+  // greater than it can still be looked up; it must however not be returned when looking up the
+  // last asqn entry before an index upper bound
+  private long firstAsqnIndexUpperBound = Long.MIN_VALUE;
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +57,28 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
       final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      final var stamp = lock.writeLock();
+      try {
+        putPosition(index, position);
+        if (asqn != SegmentedJournal.ASQN_IGNORE) {
+          putAsqn(index, asqn);
+        }
+      } finally {
+        lock.unlockWrite(stamp);
       }
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final var stamp = lock.readLock();
+    try {
+      final int slot = floor(indexes, size, index);
+      return slot >= 0 ? new IndexInfo(indexes[slot], positions[slot]) : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
   }
 
   @Override
@@ -60,46 +88,66 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+    final var stamp = lock.readLock();
+    try {
+      final int slot = floor(asqns, asqnSize, asqn);
+      if (slot < 0) {
+        return null;
+      }
+
+      if (asqnIndexes[slot] <= indexUpperBound) {
+        return asqnIndexes[slot];
       }
+
+      final int boundSlot = floor(asqnIndexes, asqnSize, indexUpperBound);
+      return boundSlot >= 0 && asqnIndexes[boundSlot] >= firstAsqnIndexUpperBound
+          ? asqnIndexes[boundSlot]
+          : null;
+    } finally {
+      lock.unlockRead(stamp);
     }
-    return null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final var stamp = lock.writeLock();
+    try {
+      size = floor(indexes, size, index) + 1;
+      asqnSize = floor(asqnIndexes, asqnSize, index) + 1;
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    final var stamp = lock.writeLock();
+    try {
+      final int firstRetained = ceiling(indexes, size, index);
+      removeHead(indexes, positions, size, firstRetained);
+      size -= firstRetained;
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+      final int floorAsqn = floor(asqnIndexes, asqnSize, index);
+      if (floorAsqn >= 0) {
+        removeHead(asqnIndexes, asqns, asqnSize, floorAsqn);
+        asqnSize -= floorAsqn;
+        firstAsqnIndexUpperBound = Math.max(firstAsqnIndexUpperBound, index);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    final var stamp = lock.writeLock();
+    try {
+      size = 0;
+      asqnSize = 0;
+      firstAsqnIndexUpperBound = Long.MIN_VALUE;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
@@ -111,4 +159,70 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  private void putPosition(final long index, final int position) {
+    final int slot = insertionSlot(indexes, size, index);
+    if (slot < size && indexes[slot] == index) {
+      positions[slot] = position;
+      return;
+    }
+
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, size << 1);
+      positions = Arrays.copyOf(positions, size << 1);
+    }
+
+    System.arraycopy(indexes, slot, indexes, slot + 1, size - slot);
+    System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+    indexes[slot] = index;
+    positions[slot] = position;
+    size++;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    final int slot = insertionSlot(asqnIndexes, asqnSize, index);
+    if (slot < asqnSize && asqnIndexes[slot] == index) {
+      asqns[slot] = asqn;
+      return;
+    }
+
+    if (asqnSize == asqnIndexes.length) {
+      asqnIndexes = Arrays.copyOf(asqnIndexes, asqnSize << 1);
+      asqns = Arrays.copyOf(asqns, asqnSize << 1);
+    }
+
+    System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnSize - slot);
+    System.arraycopy(asqns, slot, asqns, slot + 1, asqnSize - slot);
+    asqnIndexes[slot] = index;
+    asqns[slot] = asqn;
+    asqnSize++;
+  }
+
+  private static void removeHead(
+      final long[] keys, final int[] values, final int size, final int count) {
+    System.arraycopy(keys, count, keys, 0, size - count);
+    System.arraycopy(values, count, values, 0, size - count);
+  }
+
+  private static void removeHead(
+      final long[] keys, final long[] values, final int size, final int count) {
+    System.arraycopy(keys, count, keys, 0, size - count);
+    System.arraycopy(values, count, values, 0, size - count);
+  }
+
+  /** Returns the slot of the greatest key less than or equal to the given key, or -1 if none. */
+  private static int floor(final long[] keys, final int size, final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, size, key);
+    return slot >= 0 ? slot : -slot - 2;
+  }
+
+  /** Returns the slot of the least key greater than or equal to the given key, or size if none. */
+  private static int ceiling(final long[] keys, final int size, final long key) {
+    return insertionSlot(keys, size, key);
+  }
+
+  private static int insertionSlot(final long[] keys, final int size, final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, size, key);
+    return slot >= 0 ? slot : -slot - 1;
+  }
 }
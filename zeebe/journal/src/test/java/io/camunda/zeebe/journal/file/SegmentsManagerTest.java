@@ -126,6 +126,53 @@ class SegmentsManagerTest {
         .containsExactly(1L, 0L);
   }
 
+  @Test
+  void shouldLoadSegmentsConcurrently() {
+    // given
+    try (final var journal = openJournal()) {
+      for (int asqn = 1; asqn <= 10; asqn++) {
+        journal.append(asqn, journalFactory.entry());
+      }
+    }
+
+    // when
+    segments = journalFactory.segmentsManager(directory);
+    segments.open();
+
+    // then
+    final var loadedSegments = new ArrayList<>(segments.getTailSegments(0));
+    assertThat(loadedSegments).hasSizeGreaterThan(2);
+    for (int i = 1; i < loadedSegments.size(); i++) {
+      assertThat(loadedSegments.get(i).index())
+          .isEqualTo(loadedSegments.get(i - 1).lastIndex() + 1);
+    }
+    assertThat(segments.getLastSegment())
+        .extracting(Segment::lastIndex, Segment::lastAsqn)
+        .containsExactly(10L, 10L);
+  }
+
+  @Test
+  void shouldTakeOverLastAsqnOfPreviousSegmentsWhenLoadingConcurrently() {
+    // given
+    try (final var journal = openJournal()) {
+      for (int asqn = 1; asqn <= 3; asqn++) {
+        journal.append(asqn, journalFactory.entry());
+      }
+      for (int i = 0; i < 3; i++) {
+        journal.append(SegmentedJournal.ASQN_IGNORE, journalFactory.entry());
+      }
+    }
+
+    // when
+    segments = journalFactory.segmentsManager(directory);
+    segments.open();
+
+    // then
+    assertThat(segments.getTailSegments(0))
+        .extracting(Segment::lastAsqn)
+        .containsExactly(1L, 2L, 3L, 3L, 3L, 3L);
+  }
+
   @Test
   void shouldDetectMissingEntryAsCorruption() {
     // given
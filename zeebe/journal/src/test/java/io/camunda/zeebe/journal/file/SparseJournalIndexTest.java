@@ -265,4 +265,60 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldIndexEntriesOutOfOrder() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(20, 200), 40);
+
+    // when - a reader indexes older entries after the writer appended newer ones
+    index.index(asJournalRecord(10, 100), 20);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(15, SegmentedJournal.ASQN_IGNORE), 30);
+
+    // then
+    assertEquals(5, index.lookup(9).index());
+    assertEquals(10, index.lookup(9).position());
+    assertEquals(15, index.lookup(19).index());
+    assertEquals(30, index.lookup(19).position());
+    assertEquals(20, index.lookup(25).index());
+    assertEquals(10, index.lookupAsqn(150));
+    assertEquals(10, index.lookupAsqn(Long.MAX_VALUE, 19));
+  }
+
+  @Test
+  void shouldOverwriteReindexedEntry() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+
+    // when
+    index.index(asJournalRecord(5, 50), 12);
+
+    // then
+    assertEquals(5, index.lookup(5).index());
+    assertEquals(12, index.lookup(5).position());
+    assertNull(index.lookup(4));
+  }
+
+  @Test
+  void shouldIndexManyEntries() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+    index.deleteUntil(5_000);
+    index.deleteAfter(9_000);
+
+    // then
+    assertNull(index.lookup(4_999));
+    assertEquals(10_000, index.lookup(5_000).position());
+    assertEquals(9_000, index.lookup(10_000).index());
+    assertEquals(7_777, index.lookupAsqn(77_775));
+    assertEquals(9_000, index.lookupAsqn(Long.MAX_VALUE));
+  }
 }
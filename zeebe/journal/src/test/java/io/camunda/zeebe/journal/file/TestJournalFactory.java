@@ -110,7 +110,8 @@ final class TestJournalFactory {
         "journal",
         loader,
         metrics,
-        metaStore);
+        metaStore,
+        2);
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import java.io.IOException;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the shaded benchmarks jar. Accepts the same arguments as the JMH runner, e.g. a
+ * regular expression to select the benchmarks to run, or {@code -prof gc} to measure allocations.
+ *
+ * <p>Unlike the plain JMH runner, the results are written as JSON to {@value #DEFAULT_RESULT_FILE}
+ * unless another result file or format is given, such that they can be compared between releases.
+ */
+public final class BenchmarkRunner {
+
+  static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  private BenchmarkRunner() {}
+
+  public static void main(final String[] args) throws RunnerException, IOException {
+    final CommandLineOptions commandLineOptions;
+    try {
+      commandLineOptions = new CommandLineOptions(args);
+    } catch (final CommandLineOptionException e) {
+      System.err.println("Error parsing command line: " + e.getMessage());
+      System.exit(1);
+      return;
+    }
+
+    if (commandLineOptions.shouldHelp()) {
+      commandLineOptions.showHelp();
+      return;
+    }
+
+    final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLineOptions.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+    }
+
+    final var runner = new Runner(options.build());
+    if (commandLineOptions.shouldList()) {
+      runner.list();
+    } else {
+      runner.run();
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.microbenchmarks.db;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures point reads, writes and prefix iteration of a transactional column family, with keys
+ * shaped like the variables of a scope, i.e. a scope key followed by a per scope key. The database
+ * is filled with {@value #SCOPE_COUNT} scopes of {@value #ENTRIES_PER_SCOPE} entries each before
+ * measuring, and uses the same defaults as the broker, except for the transaction mode, which is
+ * measured with each of the {@link TransactionMode}s.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ColumnFamilyBenchmark {
+
+  private static final int SCOPE_COUNT = 10_000;
+  private static final int ENTRIES_PER_SCOPE = 10;
+  private static final String VALUE = "x".repeat(128);
+
+  @Param({"OPTIMISTIC", "SINGLE_WRITER"})
+  public TransactionMode transactionMode;
+
+  private final DbLong scopeKey = new DbLong();
+  private final DbLong entryKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(scopeKey, entryKey);
+  private final DbString value = new DbString();
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbString> columnFamily;
+  private long nextScope;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("zeebe-db-benchmark");
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration().setTransactionMode(transactionMode),
+                new ConsistencyChecksSettings(),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    transactionContext = db.createContext();
+    columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+
+    value.wrapString(VALUE);
+    for (int scope = 0; scope < SCOPE_COUNT; scope++) {
+      final long currentScope = scope;
+      transactionContext.runInTransaction(
+          () -> {
+            scopeKey.wrapLong(currentScope);
+            for (int entry = 0; entry < ENTRIES_PER_SCOPE; entry++) {
+              entryKey.wrapLong(entry);
+              columnFamily.insert(key, value);
+            }
+          });
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public DbString measureGet() {
+    scopeKey.wrapLong(nextScope());
+    entryKey.wrapLong(nextScope % ENTRIES_PER_SCOPE);
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public void measureUpsert() {
+    transactionContext.runInTransaction(
+        () -> {
+          scopeKey.wrapLong(nextScope());
+          entryKey.wrapLong(nextScope % ENTRIES_PER_SCOPE);
+          value.wrapString(VALUE);
+          columnFamily.upsert(key, value);
+        });
+  }
+
+  /**
+   * Measures a transaction shaped like the processing of a command, which reads an entry, updates a
+   * few entries of the same scope, and inserts and deletes an entry.
+   */
+  @Benchmark
+  public void measureCommandTransaction() {
+    transactionContext.runInTransaction(
+        () -> {
+          scopeKey.wrapLong(nextScope());
+          entryKey.wrapLong(0);
+          columnFamily.get(key);
+
+          value.wrapString(VALUE);
+          for (int entry = 1; entry < 4; entry++) {
+            entryKey.wrapLong(entry);
+            columnFamily.upsert(key, value);
+          }
+
+          entryKey.wrapLong(ENTRIES_PER_SCOPE);
+          columnFamily.insert(key, value);
+          columnFamily.deleteExisting(key);
+        });
+  }
+
+  @Benchmark
+  public int measurePrefixIteration() {
+    final var entries = new int[1];
+    scopeKey.wrapLong(nextScope());
+    columnFamily.whileEqualPrefix(
+        scopeKey,
+        (KeyValuePairVisitor<DbCompositeKey<DbLong, DbLong>, DbString>)
+            (k, v) -> {
+              entries[0] += v.getLength();
+              return true;
+            });
+    return entries[0];
+  }
+
+  private long nextScope() {
+    nextScope = (nextScope + 7919) % SCOPE_COUNT;
+    return nextScope;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.microbenchmarks.el;
+
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.camunda.feel.FeelEngineClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures evaluating typical FEEL expressions of processes, e.g. conditions of sequence flows or
+ * input mappings, against MessagePack encoded variables. The expressions are parsed once up front,
+ * as the engine does when deploying a process.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class FeelEvaluationBenchmark {
+
+  private static final Map<String, String> EXPRESSIONS =
+      Map.of(
+          "variable", "=customer",
+          "condition", "=total > 100 and customer = \"gold\"",
+          "arithmetic", "=sum(items) * 2",
+          "filter", "=items[item > 5]",
+          "context", "={id: customer, total: total, count: count(items)}");
+
+  @Param({"variable", "condition", "arithmetic", "filter", "context"})
+  private String expressionKind;
+
+  private final Map<String, DirectBuffer> variables = new HashMap<>();
+  private ExpressionLanguage expressionLanguage;
+  private Expression expression;
+
+  @Setup
+  public void setup() {
+    expressionLanguage = ExpressionLanguageFactory.createExpressionLanguage(new FixedClock());
+    expression = expressionLanguage.parseExpression(EXPRESSIONS.get(expressionKind));
+    if (!expression.isValid()) {
+      throw new IllegalStateException(expression.getFailureMessage());
+    }
+
+    variables.put("total", encode(writer -> writer.writeInteger(150)));
+    variables.put("customer", encode(writer -> writer.writeString(BufferUtil.wrapString("gold"))));
+    variables.put(
+        "items",
+        encode(
+            writer -> {
+              writer.writeArrayHeader(10);
+              for (int i = 0; i < 10; i++) {
+                writer.writeInteger(i);
+              }
+            }));
+  }
+
+  @Benchmark
+  public EvaluationResult measureEvaluation() {
+    return expressionLanguage.evaluateExpression(expression, variables::get);
+  }
+
+  private static DirectBuffer encode(final Consumer<MsgPackWriter> value) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    value.accept(writer);
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  private static final class FixedClock implements FeelEngineClock {
+    private final ZonedDateTime now = ZonedDateTime.now();
+
+    @Override
+    public ZonedDateTime getCurrentTime() {
+      return now;
+    }
+  }
+}
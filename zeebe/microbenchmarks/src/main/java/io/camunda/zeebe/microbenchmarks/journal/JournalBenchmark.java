@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.microbenchmarks.journal;
+
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending records to and reading records from a segmented journal. Appending does not
+ * flush, as flushing is measured by the disk rather than by the journal. To not fill the disk, the
+ * journal is compacted regularly while appending, as it would be after taking a snapshot.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JournalBenchmark {
+
+  private static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+  private static final int COMPACTION_INTERVAL = 64 * 1024;
+  private static final int READ_RECORD_COUNT = 100_000;
+
+  @Benchmark
+  public JournalRecord measureAppend(final AppendState state) {
+    final var record = state.journal.append(state.nextAsqn++, state.recordWriter);
+    if (record.index() % COMPACTION_INTERVAL == 0) {
+      state.journal.deleteUntil(record.index());
+    }
+
+    return record;
+  }
+
+  @Benchmark
+  public JournalRecord measureRead(final ReadState state) {
+    if (!state.reader.hasNext()) {
+      state.reader.seekToFirst();
+    }
+
+    return state.reader.next();
+  }
+
+  @Benchmark
+  public long measureSeek(final ReadState state) {
+    state.nextSeekIndex = (state.nextSeekIndex + 7919) % READ_RECORD_COUNT + 1;
+    return state.reader.seek(state.nextSeekIndex);
+  }
+
+  private static Journal openJournal(final Path directory) {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withName("benchmark")
+        .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+        .withMetaStore(new JournalMetaStore.InMemory())
+        .build();
+  }
+
+  @State(Scope.Thread)
+  public static class AppendState {
+    @Param({"128", "1024"})
+    private int recordSize;
+
+    private final DirectBufferWriter recordWriter = new DirectBufferWriter();
+    private Path directory;
+    private Journal journal;
+    private long nextAsqn = 1;
+
+    @Setup
+    public void setup() throws IOException {
+      directory = Files.createTempDirectory("journal-benchmark");
+      journal = openJournal(directory);
+      recordWriter.wrap(new UnsafeBuffer(new byte[recordSize]));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      journal.close();
+      FileUtil.deleteFolder(directory);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ReadState {
+    @Param({"128", "1024"})
+    private int recordSize;
+
+    private Path directory;
+    private Journal journal;
+    private JournalReader reader;
+    private long nextSeekIndex;
+
+    @Setup
+    public void setup() throws IOException {
+      directory = Files.createTempDirectory("journal-benchmark");
+      journal = openJournal(directory);
+
+      final var recordWriter =
+          new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[recordSize]));
+      for (int i = 1; i <= READ_RECORD_COUNT; i++) {
+        journal.append(i, recordWriter);
+      }
+      journal.flush();
+
+      reader = journal.openReader();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      reader.close();
+      journal.close();
+      FileUtil.deleteFolder(directory);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding a flat document of string and integer variables with the {@link
+ * MsgPackWriter} and {@link MsgPackReader}, as done e.g. when merging or collecting variables.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class MsgPackBenchmark {
+
+  @Param({"10", "100"})
+  private int variableCount;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer document = new UnsafeBuffer(0, 0);
+  private DirectBuffer[] names;
+  private DirectBuffer[] values;
+
+  @Setup
+  public void setup() {
+    names = new DirectBuffer[variableCount];
+    values = new DirectBuffer[variableCount];
+    for (int i = 0; i < variableCount; i++) {
+      names[i] = BufferUtil.wrapString("variable" + i);
+      values[i] = BufferUtil.wrapString("value of variable " + i);
+    }
+
+    document.wrap(writeBuffer, 0, writeDocument());
+  }
+
+  @Benchmark
+  public int measureWrite() {
+    return writeDocument();
+  }
+
+  @Benchmark
+  public long measureRead() {
+    reader.wrap(document, 0, document.capacity());
+
+    long checksum = 0;
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final int nameLength = reader.readStringLength();
+      reader.skipBytes(nameLength);
+      if ((i & 1) == 0) {
+        checksum += reader.readInteger();
+      } else {
+        final int valueLength = reader.readStringLength();
+        reader.skipBytes(valueLength);
+        checksum += valueLength;
+      }
+    }
+
+    return checksum;
+  }
+
+  @Benchmark
+  public int measureSkip() {
+    reader.wrap(document, 0, document.capacity());
+    reader.skipValue();
+    return reader.getOffset();
+  }
+
+  private int writeDocument() {
+    writer.wrap(writeBuffer, 0);
+    writer.writeMapHeader(variableCount);
+    for (int i = 0; i < variableCount; i++) {
+      writer.writeString(names[i]);
+      if ((i & 1) == 0) {
+        writer.writeInteger(i);
+      } else {
+        writer.writeString(values[i]);
+      }
+    }
+
+    return writer.getOffset();
+  }
+}
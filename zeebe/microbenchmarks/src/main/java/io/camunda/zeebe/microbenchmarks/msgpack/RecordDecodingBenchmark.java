@@ -0,0 +1,222 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding the wide records of the protocol, as done by the engine for every command and
+ * event it processes, either eagerly or with lazy decoding. The records are encoded with their
+ * properties in the declared order, as written by the broker, or in the reverse order, which
+ * bypasses the expected property check and looks every key up in the property index.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class RecordDecodingBenchmark {
+
+  @Param({"JOB", "PROCESS_INSTANCE", "USER_TASK"})
+  private RecordType recordType;
+
+  @Param({"false", "true"})
+  private boolean lazyDecoding;
+
+  @Param({"DECLARED", "REVERSED"})
+  private KeyOrder keyOrder;
+
+  private UnpackedObject decoded;
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private DirectBuffer encoded;
+
+  @Setup
+  public void setup() {
+    final UnpackedObject record = recordType.newRecord.get();
+    final var buffer = new ExpandableArrayBuffer();
+    record.write(buffer, 0);
+    encoded = new UnsafeBuffer(buffer, 0, record.getLength());
+    if (keyOrder == KeyOrder.REVERSED) {
+      encoded = reverseKeys(encoded);
+    }
+
+    decoded = recordType.newRecord.get();
+    decoded.setLazyDecoding(lazyDecoding);
+  }
+
+  /** Decodes the record and reads two of its properties, as most processors do. */
+  @Benchmark
+  public long measureDecodeAndReadTwoProperties() {
+    decoded.wrap(encoded, 0, encoded.capacity());
+    return recordType.readTwoProperties.applyAsLong(decoded);
+  }
+
+  /**
+   * Decodes the record and writes it again unchanged, as done for many follow-up events of a
+   * command, which copies the decoded document as it is.
+   */
+  @Benchmark
+  public int measureDecodeAndWrite() {
+    decoded.wrap(encoded, 0, encoded.capacity());
+    final int length = decoded.getLength();
+    decoded.write(writeBuffer, 0);
+    return length;
+  }
+
+  /**
+   * Decodes the record, modifies one of its properties and writes it again, which encodes all of
+   * its properties again.
+   */
+  @Benchmark
+  public int measureDecodeModifyAndWrite() {
+    decoded.wrap(encoded, 0, encoded.capacity());
+    recordType.modifyProperty.accept(decoded);
+    final int length = decoded.getLength();
+    decoded.write(writeBuffer, 0);
+    return length;
+  }
+
+  private static DirectBuffer reverseKeys(final DirectBuffer document) {
+    final var reader = new MsgPackReader();
+    reader.wrap(document, 0, document.capacity());
+    final int size = reader.readMapHeader();
+    final int[] entryOffsets = new int[size + 1];
+    for (int i = 0; i < size; i++) {
+      entryOffsets[i] = reader.getOffset();
+      reader.skipValue();
+      reader.skipValue();
+    }
+    entryOffsets[size] = reader.getOffset();
+
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeMapHeader(size);
+    for (int i = size - 1; i >= 0; i--) {
+      writer.writeRaw(document, entryOffsets[i], entryOffsets[i + 1] - entryOffsets[i]);
+    }
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  private static DirectBuffer variables() {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeMapHeader(10);
+    for (int i = 0; i < 10; i++) {
+      writer.writeString(BufferUtil.wrapString("variable" + i));
+      writer.writeInteger(i);
+    }
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  public enum KeyOrder {
+    DECLARED,
+    REVERSED
+  }
+
+  public enum RecordType {
+    JOB(
+        () ->
+            new JobRecord()
+                .setType("payment-service")
+                .setWorker("payment-worker-1")
+                .setRetries(3)
+                .setDeadline(1_700_000_000_000L)
+                .setBpmnProcessId("order-process")
+                .setProcessDefinitionVersion(4)
+                .setProcessDefinitionKey(2251799813685249L)
+                .setProcessInstanceKey(2251799813685251L)
+                .setElementId("service-task")
+                .setElementInstanceKey(2251799813685253L)
+                .setVariables(variables()),
+        record -> {
+          final var job = (JobRecord) record;
+          return job.getProcessInstanceKey() + job.getRetries();
+        },
+        record -> ((JobRecord) record).setRetries(2)),
+    PROCESS_INSTANCE(
+        () ->
+            new ProcessInstanceRecord()
+                .setBpmnProcessId("order-process")
+                .setVersion(4)
+                .setProcessDefinitionKey(2251799813685249L)
+                .setProcessInstanceKey(2251799813685251L)
+                .setElementId("service-task")
+                .setFlowScopeKey(2251799813685251L)
+                .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+                .setBpmnEventType(BpmnEventType.UNSPECIFIED),
+        record -> {
+          final var processInstance = (ProcessInstanceRecord) record;
+          return processInstance.getFlowScopeKey() + processInstance.getBpmnElementType().ordinal();
+        },
+        record -> ((ProcessInstanceRecord) record).setFlowScopeKey(2251799813685257L)),
+    USER_TASK(
+        () ->
+            new UserTaskRecord()
+                .setUserTaskKey(2251799813685255L)
+                .setAssignee("demo")
+                .setCandidateGroupsList(List.of("sales", "management"))
+                .setCandidateUsersList(List.of("alice", "bob"))
+                .setDueDate("2024-05-01T10:00:00Z")
+                .setBpmnProcessId("order-process")
+                .setProcessDefinitionVersion(4)
+                .setProcessDefinitionKey(2251799813685249L)
+                .setProcessInstanceKey(2251799813685251L)
+                .setElementId("user-task")
+                .setElementInstanceKey(2251799813685253L)
+                .setVariables(variables()),
+        record -> {
+          final var userTask = (UserTaskRecord) record;
+          return userTask.getUserTaskKey() + userTask.getElementInstanceKey();
+        },
+        record -> ((UserTaskRecord) record).setAssignee("admin"));
+
+    private final Supplier<UnpackedObject> newRecord;
+    private final ToLongFunction<UnpackedObject> readTwoProperties;
+    private final Consumer<UnpackedObject> modifyProperty;
+
+    RecordType(
+        final Supplier<UnpackedObject> newRecord,
+        final ToLongFunction<UnpackedObject> readTwoProperties,
+        final Consumer<UnpackedObject> modifyProperty) {
+      this.newRecord = newRecord;
+      this.readTwoProperties = readTwoProperties;
+      this.modifyProperty = modifyProperty;
+    }
+  }
+}
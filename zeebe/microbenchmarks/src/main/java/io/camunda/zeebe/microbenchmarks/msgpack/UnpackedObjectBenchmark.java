@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.DocumentProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding an {@link UnpackedObject} shaped like a job record, i.e. with a
+ * handful of scalar properties and a variables document, as done for every record written to or
+ * read from the log.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class UnpackedObjectBenchmark {
+
+  private static final int VARIABLE_COUNT = 20;
+
+  private final BenchmarkRecord record = new BenchmarkRecord();
+  private final BenchmarkRecord decoded = new BenchmarkRecord();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer encoded = new UnsafeBuffer(0, 0);
+
+  @Setup
+  public void setup() {
+    final var variables = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(variables, 0);
+    writer.writeMapHeader(VARIABLE_COUNT);
+    for (int i = 0; i < VARIABLE_COUNT; i++) {
+      writer.writeString(BufferUtil.wrapString("variable" + i));
+      writer.writeInteger(i);
+    }
+
+    record.key.setValue(2251799813685249L);
+    record.processInstanceKey.setValue(2251799813685251L);
+    record.elementId.setValue("service-task");
+    record.type.setValue("payment-service");
+    record.worker.setValue("payment-worker-1");
+    record.retries.setValue(3);
+    record.deadline.setValue(1_700_000_000_000L);
+    record.variables.setValue(new UnsafeBuffer(variables, 0, writer.getOffset()));
+
+    record.write(writeBuffer, 0);
+    encoded.wrap(writeBuffer, 0, record.getLength());
+  }
+
+  @Benchmark
+  public int measureEncode() {
+    final int length = record.getLength();
+    record.write(writeBuffer, 0);
+    return length;
+  }
+
+  @Benchmark
+  public long measureDecode() {
+    decoded.wrap(encoded, 0, encoded.capacity());
+    return decoded.key.getValue();
+  }
+
+  private static final class BenchmarkRecord extends UnpackedObject {
+    private final LongProperty key = new LongProperty("key", -1L);
+    private final LongProperty processInstanceKey = new LongProperty("processInstanceKey", -1L);
+    private final StringProperty elementId = new StringProperty("elementId", "");
+    private final StringProperty type = new StringProperty("type", "");
+    private final StringProperty worker = new StringProperty("worker", "");
+    private final IntegerProperty retries = new IntegerProperty("retries", -1);
+    private final LongProperty deadline = new LongProperty("deadline", -1L);
+    private final DocumentProperty variables = new DocumentProperty("variables");
+
+    private BenchmarkRecord() {
+      super(8);
+      declareProperty(key)
+          .declareProperty(processInstanceKey)
+          .declareProperty(elementId)
+          .declareProperty(type)
+          .declareProperty(worker)
+          .declareProperty(retries)
+          .declareProperty(deadline)
+          .declareProperty(variables);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.microbenchmarks.scheduler;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the platform and the virtual I/O thread groups of the actor scheduler, by running one
+ * blocking operation in each of many I/O bound actors at once, and waiting until all of them
+ * completed. The operation either sleeps, like a call to a remote store would, or writes and
+ * flushes a block of a file.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IoThreadGroupBenchmark {
+
+  private static final int ACTOR_COUNT = 64;
+  private static final int BLOCK_SIZE = 4 * 1024;
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  private ThreadGroupType threadGroup;
+
+  @Param({"2", "64"})
+  private int ioThreadCount;
+
+  @Param({"SLEEP", "FSYNC"})
+  private Operation operation;
+
+  private final List<IoActor> actors = new ArrayList<>(ACTOR_COUNT);
+  private final List<ActorFuture<Void>> results = new ArrayList<>(ACTOR_COUNT);
+  private ActorScheduler scheduler;
+  private Path directory;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("io-thread-group-benchmark");
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(ioThreadCount)
+            .setIoBoundActorThreadsVirtual(threadGroup == ThreadGroupType.VIRTUAL)
+            .build();
+    scheduler.start();
+
+    for (int i = 0; i < ACTOR_COUNT; i++) {
+      final var actor = new IoActor(directory.resolve("actor-" + i), operation);
+      scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+      actors.add(actor);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    for (final IoActor actor : actors) {
+      actor.closeAsync().join();
+    }
+    actors.clear();
+    scheduler.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  /** One operation of the benchmark is one blocking operation in each of the actors. */
+  @Benchmark
+  public int measureConcurrentBlockingOperations() {
+    results.clear();
+    for (final IoActor actor : actors) {
+      results.add(actor.runOperation());
+    }
+
+    for (final ActorFuture<Void> result : results) {
+      result.join();
+    }
+    return results.size();
+  }
+
+  public enum ThreadGroupType {
+    PLATFORM,
+    VIRTUAL
+  }
+
+  public enum Operation {
+    SLEEP,
+    FSYNC
+  }
+
+  private static final class IoActor extends Actor {
+    private final Path file;
+    private final Operation operation;
+    private final ByteBuffer block = ByteBuffer.allocateDirect(BLOCK_SIZE);
+    private FileChannel channel;
+
+    private IoActor(final Path file, final Operation operation) {
+      this.file = file;
+      this.operation = operation;
+    }
+
+    @Override
+    protected void onActorStarting() {
+      try {
+        channel =
+            FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    protected void onActorClosing() {
+      try {
+        channel.close();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private ActorFuture<Void> runOperation() {
+      return actor.call(
+          () -> {
+            switch (operation) {
+              case SLEEP -> Thread.sleep(1);
+              case FSYNC -> {
+                block.clear();
+                channel.write(block, 0);
+                channel.force(false);
+              }
+              default -> throw new IllegalStateException("Unexpected operation " + operation);
+            }
+            return null;
+          });
+    }
+  }
+}
@@ -31,12 +31,16 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public Iterator<T> iterator() {
+    // the elements can be modified through the iterator
+    markModified();
     return resolveValue().iterator();
   }
 
   @Override
   public T add() {
     try {
+      decodeEncodedValue();
+      markModified();
       return value.add();
     } catch (final Exception e) {
       throw new MsgpackPropertyException(getKey(), e);
@@ -46,6 +50,8 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   @Override
   public T add(final int index) {
     try {
+      decodeEncodedValue();
+      markModified();
       return value.add(index);
     } catch (final Exception e) {
       throw new MsgpackPropertyException(getKey(), e);
@@ -59,7 +65,14 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
     return StreamSupport.stream(spliterator(), parallel);
   }
 
+  @Override
+  public int size() {
+    decodeEncodedValue();
+    return value.size();
+  }
+
   public boolean isEmpty() {
+    decodeEncodedValue();
     return value.isEmpty();
   }
 }
@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +22,14 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  // the still encoded value of a lazily read property, which is only decoded once it is accessed
+  private final UnsafeBuffer encodedValue = new UnsafeBuffer(0, 0);
+  private MsgPackReader encodedValueReader;
+  private boolean isEncoded;
+
+  // whether the value may differ from the one which was last read
+  private boolean isModified = true;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -38,13 +47,22 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     this.defaultValue = defaultValue;
   }
 
+  /**
+   * Marks the property as set. Must be called after the value was replaced, which also discards the
+   * encoded value of a lazily read property.
+   */
   public void set() {
     isSet = true;
+    isEncoded = false;
+    isModified = true;
   }
 
   @Override
   public void reset() {
     isSet = false;
+    isEncoded = false;
+    isModified = true;
+    encodedValue.wrap(0, 0);
     value.reset();
   }
 
@@ -56,8 +74,25 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     return key;
   }
 
+  /**
+   * Returns whether the value may have changed since the property was read. This is the case if it
+   * was set or reset since, or if a mutable view of the value was handed out, and it is always the
+   * case if the property was not read at all.
+   *
+   * @return false if the value is still the one which was read, otherwise true
+   */
+  public boolean isModified() {
+    return isModified;
+  }
+
+  /** Marks the value as modified, e.g. before handing out a mutable view of it. */
+  protected void markModified() {
+    isModified = true;
+  }
+
   protected T resolveValue() {
     if (isSet) {
+      decodeEncodedValue();
       return value;
     } else if (defaultValue != null) {
       return defaultValue;
@@ -68,15 +103,59 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (isEncoded) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
   public void read(final MsgPackReader reader) {
     value.read(reader);
     set();
+    isModified = false;
+  }
+
+  /**
+   * Reads the property without decoding its value, by only remembering where the encoded value is
+   * found. The value is decoded once it is accessed, while writing the property again copies the
+   * encoded value as it is. The buffer of the reader must not change until then.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+    encodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+    isSet = true;
+    isEncoded = true;
+    isModified = false;
+  }
+
+  /** Decodes the value of a lazily read property, if it was not decoded yet. */
+  protected void decodeEncodedValue() {
+    if (!isEncoded) {
+      return;
+    }
+
+    isEncoded = false;
+    if (encodedValueReader == null) {
+      encodedValueReader = new MsgPackReader();
+    }
+
+    encodedValueReader.wrap(encodedValue, 0, encodedValue.capacity());
+    try {
+      value.read(encodedValueReader);
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(key, e);
+    }
   }
 
   public void write(final MsgPackWriter writer) {
+    if (isEncoded) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,6 +182,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    decodeEncodedValue();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -123,6 +203,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeEncodedValue();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
@@ -17,4 +17,10 @@ public final class ObjectProperty<T extends ObjectValue> extends BaseProperty<T>
   public T getValue() {
     return resolveValue();
   }
+
+  @Override
+  public boolean isModified() {
+    // the object tracks the modifications of its own properties
+    return super.isModified() || value.isModified();
+  }
 }
@@ -14,6 +14,9 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties;
@@ -22,6 +25,16 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing hash table from the hash of a property key to the index of the declared
+  // property plus one, such that zero marks an empty slot; built once all properties are declared
+  private int[] propertyIndex;
+  private boolean lazyDecoding;
+
+  // the document which the object was read from, which is written as it is, instead of encoding
+  // the properties again, as long as none of the declared properties is modified
+  private final UnsafeBuffer readDocument = new UnsafeBuffer(0, 0);
+  private boolean hasReadDocument;
+
   /**
    * Creates a new ObjectValue
    *
@@ -34,11 +47,32 @@ public class ObjectValue extends BaseValue {
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    propertyIndex = null;
     return this;
   }
 
+  /**
+   * Enables or disables lazy decoding. If enabled, reading this object only remembers where the
+   * value of each declared property is found, and decodes a value once its property is accessed.
+   * This avoids decoding properties which are never accessed, and writing the object again copies
+   * the values which were not accessed as they are.
+   *
+   * <p>Only enable it if the buffer which the object is read from doesn't change as long as the
+   * object is used. Note that a malformed property value is then only detected once the property is
+   * accessed.
+   *
+   * @param lazyDecoding true to decode the declared properties lazily, false to decode them when
+   *     the object is read
+   */
+  public void setLazyDecoding(final boolean lazyDecoding) {
+    this.lazyDecoding = lazyDecoding;
+  }
+
   @Override
   public void reset() {
+    hasReadDocument = false;
+    readDocument.wrap(0, 0);
+
     for (int i = 0; i < declaredProperties.size(); ++i) {
       final BaseProperty<? extends BaseValue> prop = declaredProperties.get(i);
       prop.reset();
@@ -86,6 +120,11 @@ public class ObjectValue extends BaseValue {
    */
   @Override
   public void write(final MsgPackWriter writer) {
+    if (!isModified()) {
+      writer.writeRaw(readDocument);
+      return;
+    }
+
     final int size = declaredProperties.size() + undeclaredProperties.size();
 
     writer.writeMapHeader(size);
@@ -95,29 +134,29 @@ public class ObjectValue extends BaseValue {
 
   @Override
   public void read(final MsgPackReader reader) {
+    hasReadDocument = false;
+    final int documentOffset = reader.getOffset();
     final int mapSize = reader.readMapHeader();
+    int expectedPropertyIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      final int declaredIndex = findDeclaredProperty(decodedKey, expectedPropertyIndex);
+      final BaseProperty<? extends BaseValue> prop;
+      if (declaredIndex >= 0) {
+        prop = declaredProperties.get(declaredIndex);
+        expectedPropertyIndex = declaredIndex + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (lazyDecoding && declaredIndex >= 0) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -131,10 +170,95 @@ public class ObjectValue extends BaseValue {
             String.format("Property '%s' has no valid value", prop.getKey()));
       }
     }
+
+    readDocument.wrap(reader.getBuffer(), documentOffset, reader.getOffset() - documentOffset);
+    hasReadDocument = true;
+  }
+
+  /**
+   * Returns whether the object may differ from the document which it was last read from, i.e. if
+   * any of its declared properties was modified or not read from the document. As long as it is not
+   * modified, the object is written by copying the document it was read from.
+   *
+   * @return false if the object is still the document which it was read from, otherwise true
+   */
+  public boolean isModified() {
+    if (!hasReadDocument) {
+      return true;
+    }
+
+    for (int i = 0; i < declaredProperties.size(); i++) {
+      if (declaredProperties.get(i).isModified()) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the index of the declared property with the given key. As objects are written with
+   * their properties in the order in which they were declared, the property which follows the
+   * previously read one is checked first, before looking the key up in the property index.
+   *
+   * @return the index of the declared property, or -1 if no property with this key is declared
+   */
+  private int findDeclaredProperty(final StringValue key, final int expectedPropertyIndex) {
+    final int declaredPropertyCount = declaredProperties.size();
+    if (expectedPropertyIndex < declaredPropertyCount
+        && declaredProperties.get(expectedPropertyIndex).getKey().equals(key)) {
+      return expectedPropertyIndex;
+    }
+
+    if (propertyIndex == null) {
+      propertyIndex = buildPropertyIndex();
+    }
+
+    final int mask = propertyIndex.length - 1;
+    int slot = hash(key) & mask;
+    while (propertyIndex[slot] != 0) {
+      final int index = propertyIndex[slot] - 1;
+      if (declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return -1;
+  }
+
+  private int[] buildPropertyIndex() {
+    // at most half of the slots are used, which keeps the probe sequences short
+    final int[] index =
+        new int[BitUtil.findNextPositivePowerOfTwo(Math.max(2, declaredProperties.size() * 2))];
+    final int mask = index.length - 1;
+
+    for (int i = 0; i < declaredProperties.size(); i++) {
+      int slot = hash(declaredProperties.get(i).getKey()) & mask;
+      while (index[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      index[slot] = i + 1;
+    }
+
+    return index;
+  }
+
+  private static int hash(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    int hash = 0;
+    for (int i = 0; i < key.getLength(); i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+    return hash ^ (hash >>> 16);
   }
 
   @Override
   public int getEncodedLength() {
+    if (!isModified()) {
+      return readDocument.capacity();
+    }
+
     final int size = declaredProperties.size() + undeclaredProperties.size();
 
     int length = MsgPackWriter.getEncodedMapHeaderLenght(size);
@@ -16,4 +16,6 @@ public interface ValueArray<T> extends Iterable<T>, RandomAccess {
   T add(final int index);
 
   Stream<T> stream();
+
+  int size();
 }
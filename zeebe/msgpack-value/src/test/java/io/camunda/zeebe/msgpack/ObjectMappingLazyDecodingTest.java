@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.test.util.BufferAssert.assertThatBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ObjectMappingLazyDecodingTest {
+
+  private static final DirectBuffer BUF1 = wrapString("foo");
+  private static final DirectBuffer BUF2 = wrapString("bar");
+
+  @Test
+  public void shouldDecodePropertiesOnAccess() {
+    // given
+    final DirectBuffer buffer = encode(newPOJO());
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(456456L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getString()).hasBytes(BUF1);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BUF2);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  public void shouldWritePropertiesWhichWereNotAccessed() {
+    // given
+    final POJO original = newPOJO();
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(encode(original));
+
+    // when
+    pojo.setLong(789L);
+    final DirectBuffer written = encode(pojo);
+
+    // then
+    final POJO decoded = new POJO();
+    decoded.wrap(written);
+    assertThat(decoded.getLong()).isEqualTo(789L);
+    assertThat(decoded.getInt()).isEqualTo(123);
+    assertThatBuffer(decoded.getString()).hasBytes(BUF1);
+    assertThat(decoded.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  public void shouldWriteSameBytesIfNoPropertyWasAccessed() {
+    // given
+    final DirectBuffer buffer = encode(newPOJO());
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(buffer);
+
+    // when
+    final DirectBuffer written = encode(pojo);
+
+    // then
+    assertThatBuffer(written).hasBytes(buffer);
+  }
+
+  @Test
+  public void shouldNotDecodePropertyWhichWasReplaced() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(encode(newPOJO()));
+
+    // when
+    pojo.setString(BUF2);
+
+    // then
+    assertThatBuffer(pojo.getString()).hasBytes(BUF2);
+  }
+
+  @Test
+  public void shouldResetPropertiesWhichWereNotAccessed() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(encode(newPOJO()));
+
+    // when
+    pojo.reset();
+    pojo.setEnum(POJOEnum.FOO);
+    pojo.setLong(1L);
+    pojo.setInt(2);
+    pojo.setString(BUF2);
+    pojo.setBinary(BUF1);
+    pojo.setPacked(encodeMsgPack(w -> w.writeNil()));
+
+    // then
+    final POJO decoded = new POJO();
+    decoded.wrap(encode(pojo));
+    assertThat(decoded.getLong()).isEqualTo(1L);
+    assertThat(decoded.nestedObject().getLong()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldFailOnAccessOfMalformedProperty() {
+    // given
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            w -> {
+              w.writeMapHeader(1);
+              w.writeString(wrapString("longProp"));
+              w.writeString(BUF1);
+            });
+    final LongProperty property = new LongProperty("longProp", -1L);
+    final UnpackedObject object = new UnpackedObject(1);
+    object.declareProperty(property);
+    object.setLazyDecoding(true);
+
+    // when
+    object.wrap(buffer);
+
+    // then
+    assertThatThrownBy(property::getValue)
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("longProp");
+  }
+
+  private static POJO newPOJO() {
+    final POJO pojo = new POJO();
+    pojo.setEnum(POJOEnum.BAR);
+    pojo.setLong(456456L);
+    pojo.setInt(123);
+    pojo.setString(BUF1);
+    pojo.setBinary(BUF2);
+    pojo.setPacked(encodeMsgPack(w -> w.writeNil()));
+    pojo.nestedObject().setLong(24L);
+    return pojo;
+  }
+
+  private static DirectBuffer encode(final POJO pojo) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(buffer, 0);
+    return buffer;
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.test.util.BufferAssert.assertThatBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ObjectMappingUnmodifiedObjectTest {
+
+  private static final DirectBuffer NESTED =
+      encodeMsgPack(
+          w -> {
+            w.writeMapHeader(1);
+            w.writeString(wrapString("foo"));
+            w.writeInteger(24L);
+          });
+
+  // the properties are not in the declared order, such that encoding them again changes the bytes
+  private static final DirectBuffer DOCUMENT =
+      encodeMsgPack(
+          w -> {
+            w.writeMapHeader(7);
+            w.writeString(wrapString("objectProp"));
+            w.writeRaw(NESTED);
+            w.writeString(wrapString("longProp"));
+            w.writeInteger(88888L);
+            w.writeString(wrapString("enumProp"));
+            w.writeString(wrapString(POJOEnum.BAR.toString()));
+            w.writeString(wrapString("intProp"));
+            w.writeInteger(123L);
+            w.writeString(wrapString("stringProp"));
+            w.writeString(wrapString("foo"));
+            w.writeString(wrapString("packedProp"));
+            w.writeRaw(NESTED);
+            w.writeString(wrapString("binaryProp"));
+            w.writeBinary(wrapString("bar"));
+          });
+
+  @Test
+  public void shouldWriteDocumentIfNotModified() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.wrap(DOCUMENT);
+
+    // when
+    pojo.getLong();
+    pojo.getString();
+    pojo.nestedObject().getLong();
+
+    // then
+    assertThat(pojo.isModified()).isFalse();
+    assertThat(pojo.getLength()).isEqualTo(DOCUMENT.capacity());
+    assertThatBuffer(encode(pojo)).hasBytes(DOCUMENT);
+  }
+
+  @Test
+  public void shouldEncodePropertiesIfPropertyIsSet() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.wrap(DOCUMENT);
+
+    // when
+    pojo.setLong(1L);
+
+    // then
+    assertThat(pojo.isModified()).isTrue();
+    final Map<String, Object> written = MsgPackUtil.asMap(encode(pojo), 0, pojo.getLength());
+    assertThat(written).containsEntry("longProp", 1L).containsEntry("intProp", 123L);
+  }
+
+  @Test
+  public void shouldEncodePropertiesIfNestedObjectIsModified() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.wrap(DOCUMENT);
+
+    // when
+    pojo.nestedObject().setLong(42L);
+
+    // then
+    assertThat(pojo.isModified()).isTrue();
+    final Map<String, Object> written = MsgPackUtil.asMap(encode(pojo), 0, pojo.getLength());
+    assertThat(written).containsEntry("objectProp", Map.of("foo", 42L));
+  }
+
+  @Test
+  public void shouldEncodePropertiesIfPropertyIsMissingInDocument() {
+    // given
+    final POJONested nested = new POJONested();
+
+    // when
+    nested.wrap(encodeMsgPack(w -> w.writeMapHeader(0)));
+
+    // then
+    assertThat(nested.isModified()).isTrue();
+    final Map<String, Object> written = MsgPackUtil.asMap(encode(nested), 0, nested.getLength());
+    assertThat(written).containsEntry("foo", -1L);
+  }
+
+  @Test
+  public void shouldEncodePropertiesIfArrayElementsAreAccessed() {
+    // given
+    final POJOArray array = new POJOArray();
+    array.simpleArray().add().setLongProp(1L);
+    final POJOArray read = new POJOArray();
+    read.wrap(encode(array));
+
+    // when
+    read.simpleArray().iterator().next().setLongProp(2L);
+
+    // then
+    assertThat(read.isModified()).isTrue();
+    final POJOArray decoded = new POJOArray();
+    decoded.wrap(encode(read));
+    assertThat(decoded.simpleArray().iterator().next().getLongProp()).isEqualTo(2L);
+  }
+
+  @Test
+  public void shouldEncodePropertiesAfterReset() {
+    // given
+    final POJONested nested = new POJONested();
+    nested.wrap(NESTED);
+
+    // when
+    nested.reset();
+
+    // then
+    assertThat(nested.isModified()).isTrue();
+    final Map<String, Object> written = MsgPackUtil.asMap(encode(nested), 0, nested.getLength());
+    assertThat(written).containsEntry("foo", -1L);
+  }
+
+  private static DirectBuffer encode(final UnpackedObject object) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[object.getLength()]);
+    object.write(buffer, 0);
+    return buffer;
+  }
+}
@@ -42,6 +42,12 @@ public class UnifiedRecordValue extends UnpackedObject implements RecordValue {
     return super.isEmpty();
   }
 
+  @Override
+  @JsonIgnore
+  public boolean isModified() {
+    return super.isModified();
+  }
+
   @Override
   public String toJson() {
     return MsgPackConverter.convertJsonSerializableObjectToJson(this);
@@ -21,7 +21,8 @@ import org.agrona.DirectBuffer;
   /* These fields are inherited from ObjectValue; there have no purpose in exported JSON records*/
   "encodedLength",
   "length",
-  "empty"
+  "empty",
+  "modified"
 })
 public final class DeploymentResource extends UnpackedObject
     implements io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource {
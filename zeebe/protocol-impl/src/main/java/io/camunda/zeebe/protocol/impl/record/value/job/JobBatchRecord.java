@@ -41,9 +41,11 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
   private final ArrayProperty<StringValue> variablesProp =
       new ArrayProperty<>("variables", StringValue::new);
   private final BooleanProperty truncatedProp = new BooleanProperty("truncated", false);
+  private final IntegerProperty processedJobCountProp =
+      new IntegerProperty("processedJobCount", -1);
 
   public JobBatchRecord() {
-    super(9);
+    super(10);
     declareProperty(typeProp)
         .declareProperty(workerProp)
         .declareProperty(timeoutProp)
@@ -52,7 +54,8 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
         .declareProperty(jobsProp)
         .declareProperty(variablesProp)
         .declareProperty(truncatedProp)
-        .declareProperty(tenantIdsProp);
+        .declareProperty(tenantIdsProp)
+        .declareProperty(processedJobCountProp);
   }
 
   public JobBatchRecord setType(final DirectBuffer buf, final int offset, final int length) {
@@ -130,6 +133,11 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
     return truncatedProp.getValue();
   }
 
+  @Override
+  public int getProcessedJobCount() {
+    return processedJobCountProp.getValue();
+  }
+
   @Override
   public List<String> getTenantIds() {
     return StreamSupport.stream(tenantIdsProp.spliterator(), false)
@@ -149,6 +157,11 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
     return this;
   }
 
+  public JobBatchRecord setProcessedJobCount(final int processedJobCount) {
+    processedJobCountProp.setValue(processedJobCount);
+    return this;
+  }
+
   public JobBatchRecord setMaxJobsToActivate(final int maxJobsToActivate) {
     maxJobsToActivateProp.setValue(maxJobsToActivate);
     return this;
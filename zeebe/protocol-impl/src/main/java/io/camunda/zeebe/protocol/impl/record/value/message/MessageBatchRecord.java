@@ -12,28 +12,36 @@ import io.camunda.zeebe.msgpack.value.LongValue;
 import io.camunda.zeebe.msgpack.value.ValueArray;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.value.MessageBatchRecordValue;
+import io.camunda.zeebe.protocol.record.value.MessageRecordValue;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class MessageBatchRecord extends UnifiedRecordValue
     implements MessageBatchRecordValue {
 
   private final ArrayProperty<LongValue> messageKeysProp =
       new ArrayProperty<>("messageKeys", LongValue::new);
+  private final ArrayProperty<MessageRecord> messagesProp =
+      new ArrayProperty<>("messages", MessageRecord::new);
 
   public MessageBatchRecord() {
-    super(1);
-    declareProperty(messageKeysProp);
+    super(2);
+    declareProperty(messageKeysProp).declareProperty(messagesProp);
   }
 
   public ValueArray<LongValue> messageKeys() {
     return messageKeysProp;
   }
 
+  public ValueArray<MessageRecord> messages() {
+    return messagesProp;
+  }
+
   @Override
   public boolean isEmpty() {
-    return messageKeysProp.isEmpty();
+    return messageKeysProp.isEmpty() && messagesProp.isEmpty();
   }
 
   public MessageBatchRecord addMessageKey(final long key) {
@@ -41,10 +49,32 @@ public final class MessageBatchRecord extends UnifiedRecordValue
     return this;
   }
 
+  public MessageBatchRecord addMessage(final MessageRecord message) {
+    messages().add().wrap(message);
+    return this;
+  }
+
   @Override
   public List<Long> getMessageKeys() {
     return StreamSupport.stream(messageKeysProp.spliterator(), false)
         .map(LongValue::getValue)
         .collect(Collectors.toList());
   }
+
+  @Override
+  public List<MessageRecordValue> getMessages() {
+    return StreamSupport.stream(messagesProp.spliterator(), false)
+        .map(
+            messageRecord -> {
+              final byte[] bytes = new byte[messageRecord.getLength()];
+              final UnsafeBuffer copyRecord = new UnsafeBuffer(bytes);
+              final MessageRecord copiedRecord = new MessageRecord();
+
+              messageRecord.write(copyRecord, 0);
+              copiedRecord.wrap(copyRecord);
+
+              return copiedRecord;
+            })
+        .collect(Collectors.toList());
+  }
 }
@@ -18,7 +18,8 @@ import org.agrona.DirectBuffer;
 @JsonIgnoreProperties({
   /* These fields are inherited from ObjectValue; there have no purpose in exported JSON records*/
   "encodedLength",
-  "empty"
+  "empty",
+  "modified"
 })
 public final class ProcessInstanceCreationStartInstruction extends ObjectValue
     implements ProcessInstanceCreationStartInstructionValue {
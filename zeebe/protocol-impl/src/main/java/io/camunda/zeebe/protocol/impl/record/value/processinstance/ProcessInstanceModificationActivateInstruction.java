@@ -25,7 +25,8 @@ import org.agrona.DirectBuffer;
 @JsonIgnoreProperties({
   /* These fields are inherited from ObjectValue; there have no purpose in exported JSON records*/
   "encodedLength",
-  "empty"
+  "empty",
+  "modified"
 })
 public final class ProcessInstanceModificationActivateInstruction extends ObjectValue
     implements ProcessInstanceModificationActivateInstructionValue {
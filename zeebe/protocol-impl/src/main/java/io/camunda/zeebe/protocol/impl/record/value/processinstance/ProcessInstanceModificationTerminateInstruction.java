@@ -15,7 +15,8 @@ import io.camunda.zeebe.protocol.record.value.ProcessInstanceModificationRecordV
 @JsonIgnoreProperties({
   /* These fields are inherited from ObjectValue; there have no purpose in exported JSON records*/
   "encodedLength",
-  "empty"
+  "empty",
+  "modified"
 })
 public final class ProcessInstanceModificationTerminateInstruction extends ObjectValue
     implements ProcessInstanceModificationTerminateInstructionValue {
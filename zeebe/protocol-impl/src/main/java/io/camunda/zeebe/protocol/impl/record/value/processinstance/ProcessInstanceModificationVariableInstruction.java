@@ -21,7 +21,8 @@ import org.agrona.DirectBuffer;
 @JsonIgnoreProperties({
   /* These fields are inherited from ObjectValue; there have no purpose in exported JSON records*/
   "encodedLength",
-  "empty"
+  "empty",
+  "modified"
 })
 public final class ProcessInstanceModificationVariableInstruction extends ObjectValue
     implements ProcessInstanceModificationVariableInstructionValue {
@@ -647,7 +647,8 @@ final class JsonSerializableToJsonTest {
             }
           ],
           "timeout": 2,
-          "tenantIds": []
+          "tenantIds": [],
+          "processedJobCount": -1
         }
         """
       },
@@ -670,7 +671,8 @@ final class JsonSerializableToJsonTest {
           "jobKeys": [],
           "jobs": [],
           "timeout": -1,
-          "tenantIds": []
+          "tenantIds": [],
+          "processedJobCount": -1
         }
         """
       },
@@ -889,13 +891,34 @@ final class JsonSerializableToJsonTest {
 
               return new MessageBatchRecord()
                   .addMessageKey(messageKeys.get(0))
-                  .addMessageKey(messageKeys.get(1));
+                  .addMessageKey(messageKeys.get(1))
+                  .addMessage(
+                      new MessageRecord()
+                          .setCorrelationKey(wrapString("test-key"))
+                          .setName(wrapString("test-message"))
+                          .setVariables(VARIABLES_MSGPACK)
+                          .setTimeToLive(12)
+                          .setMessageId(wrapString("test-id"))
+                          .setTenantId("foo"));
             },
         """
         {
           "messageKeys": [
             123,
             456
+          ],
+          "messages": [
+            {
+              "timeToLive": 12,
+              "correlationKey": "test-key",
+              "variables": {
+                "foo": "bar"
+              },
+              "messageId": "test-id",
+              "name": "test-message",
+              "deadline": -1,
+              "tenantId": "foo"
+            }
           ]
         }
         """
@@ -912,7 +935,8 @@ final class JsonSerializableToJsonTest {
             },
         """
         {
-          "messageKeys": []
+          "messageKeys": [],
+          "messages": []
         }
         """
       },
@@ -16,7 +16,11 @@
 package io.camunda.zeebe.protocol.record.intent;
 
 public enum MessageBatchIntent implements Intent {
-  EXPIRE((short) 0);
+  EXPIRE((short) 0),
+
+  PUBLISH((short) 1),
+  PUBLISHED((short) 2);
+
   private final short value;
 
   MessageBatchIntent(final short value) {
@@ -30,13 +34,17 @@ public enum MessageBatchIntent implements Intent {
 
   @Override
   public boolean isEvent() {
-    return false;
+    return this == PUBLISHED;
   }
 
   public static Intent from(final short value) {
     switch (value) {
       case 0:
         return EXPIRE;
+      case 1:
+        return PUBLISH;
+      case 2:
+        return PUBLISHED;
       default:
         return Intent.UNKNOWN;
     }
@@ -52,20 +52,44 @@ public interface JobBatchRecordValue extends RecordValue {
   int getMaxJobsToActivate();
 
   /**
+   * For {@link JobBatchIntent#COMPLETE} and {@link JobBatchIntent#FAIL} commands, these are the
+   * keys of the jobs to complete or fail. For the resulting events, these are only the keys of the
+   * jobs which were completed or failed, while the commands for all other processed jobs were
+   * rejected, see {@link #getProcessedJobCount()}.
+   *
    * @return list of the keys from the jobs assigned to this batch
    */
   List<Long> getJobKeys();
 
   /**
+   * For {@link JobBatchIntent#COMPLETE} and {@link JobBatchIntent#FAIL} commands, these hold the
+   * variables, and for failing also the retries, retry back off and error message, for the job with
+   * the key at the same index.
+   *
    * @return the jobs assigned to this batch
    */
   List<JobRecordValue> getJobs();
 
   /**
+   * For the {@link JobBatchIntent#COMPLETED} and {@link JobBatchIntent#FAILED} events, this means
+   * that not all jobs of the command could be processed, as their results did not fit in a single
+   * batch of records.
+   *
    * @return the broker has more JobRecords that couldn't fit in this batch
    */
   boolean isTruncated();
 
+  /**
+   * For the {@link JobBatchIntent#COMPLETED} and {@link JobBatchIntent#FAILED} events, this is the
+   * number of jobs of the command which were processed, i.e. completed, failed or rejected, in the
+   * order of {@link #getJobKeys()} of the command. If the event is {@link #isTruncated()
+   * truncated}, the jobs after them were not processed at all, and can be sent again. For all other
+   * job batches, it is -1.
+   *
+   * @return the number of processed jobs of the command
+   */
+  int getProcessedJobCount();
+
   /**
    * Since a job batch contains many jobs, it is possible that the jobs belong to different tenants.
    *
@@ -30,7 +30,20 @@ import org.immutables.value.Value;
 public interface MessageBatchRecordValue extends RecordValue {
 
   /**
+   * For the {@link io.camunda.zeebe.protocol.record.intent.MessageBatchIntent#PUBLISHED} event, the
+   * keys contain one entry for each processed message of the command, in the order of the messages.
+   * The key is -1 if the message was not published, as a message with the same id was published
+   * already. The messages which were not processed, as their results would exceed the maximum batch
+   * size, have no entry.
+   *
    * @return list of the keys from the messages assigned to this batch
    */
   List<Long> getMessageKeys();
+
+  /**
+   * @return the messages to publish with a {@link
+   *     io.camunda.zeebe.protocol.record.intent.MessageBatchIntent#PUBLISH} command; empty for all
+   *     other intents
+   */
+  List<MessageRecordValue> getMessages();
 }
@@ -10,7 +10,10 @@ package io.camunda.zeebe.scheduler;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.scheduler.ActorTask.ActorLifecyclePhase;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Used to submit {@link ActorTask ActorTasks} and Blocking Actions to the scheduler's internal
@@ -19,10 +22,13 @@ import java.util.concurrent.CompletableFuture;
 public final class ActorExecutor {
   private final ActorThreadGroup cpuBoundThreads;
   private final ActorThreadGroup ioBoundThreads;
+  private final boolean metricsEnabled;
+  private final Set<ActorTaskStatistics> statistics = ConcurrentHashMap.newKeySet();
 
   public ActorExecutor(final ActorSchedulerBuilder builder) {
     ioBoundThreads = builder.getIoBoundActorThreads();
     cpuBoundThreads = builder.getCpuBoundActorThreads();
+    metricsEnabled = builder.isMetricsEnabled();
   }
 
   /**
@@ -31,18 +37,40 @@ public final class ActorExecutor {
    * @param task the task to submit
    */
   public ActorFuture<Void> submitCpuBound(final ActorTask task) {
-    return submitTask(task, cpuBoundThreads);
+    return submitCpuBound(task, SchedulingHints.NO_AFFINITY);
+  }
+
+  /**
+   * Initially submit a non-blocking actor with the given affinity.
+   *
+   * @param task the task to submit
+   * @param affinity the affinity of the task, see {@link SchedulingHints#withAffinity(int)}
+   */
+  public ActorFuture<Void> submitCpuBound(final ActorTask task, final int affinity) {
+    return submitTask(task, cpuBoundThreads, affinity);
   }
 
   public ActorFuture<Void> submitIoBoundTask(final ActorTask task) {
-    return submitTask(task, ioBoundThreads);
+    return submitIoBoundTask(task, SchedulingHints.NO_AFFINITY);
   }
 
-  private ActorFuture<Void> submitTask(final ActorTask task, final ActorThreadGroup threadGroup) {
+  public ActorFuture<Void> submitIoBoundTask(final ActorTask task, final int affinity) {
+    return submitTask(task, ioBoundThreads, affinity);
+  }
+
+  private ActorFuture<Void> submitTask(
+      final ActorTask task, final ActorThreadGroup threadGroup, final int affinity) {
     if (task.getLifecyclePhase() != ActorLifecyclePhase.CLOSED) {
       throw new IllegalStateException("ActorTask was already submitted!");
     }
-    final ActorFuture<Void> startingFuture = task.onTaskScheduled(threadGroup);
+    if (metricsEnabled) {
+      final var taskStatistics = new ActorTaskStatistics(task, statistics);
+      task.setStatistics(taskStatistics);
+      taskStatistics.register();
+    } else {
+      task.setStatistics(null);
+    }
+    final ActorFuture<Void> startingFuture = task.onTaskScheduled(threadGroup, affinity);
 
     threadGroup.submit(task);
     return startingFuture;
@@ -57,6 +85,14 @@ public final class ActorExecutor {
     return CompletableFuture.allOf(ioBoundThreads.closeAsync(), cpuBoundThreads.closeAsync());
   }
 
+  /**
+   * @return the statistics of all actors which are currently scheduled, or an empty list if the
+   *     metrics are not enabled
+   */
+  public List<ActorStatistics> getActorStatistics() {
+    return statistics.stream().map(ActorTaskStatistics::snapshot).toList();
+  }
+
   public ActorThreadGroup getCpuBoundThreads() {
     return cpuBoundThreads;
   }
@@ -13,6 +13,10 @@ import io.prometheus.client.Histogram;
 
 final class ActorMetrics {
 
+  static final String LOCALITY_HOME = "home";
+  static final String LOCALITY_AWAY = "away";
+  static final String LOCALITY_NONE = "none";
+
   private static final Histogram EXECUTION_LATENCY =
       Histogram.build()
           // goes up to ~26 seconds while being more fine-grained in the <5ms range.
@@ -47,6 +51,25 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Counter STEAL_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_steal_count")
+          .help("Number of actor tasks a thread stole from the queue of another thread")
+          .labelNames("threadName")
+          .register();
+
+  private static final Counter LOCALITY_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_task_locality_count")
+          .help(
+              "Number of actor tasks a thread executed, by whether it is the home thread of the task's "
+                  + "affinity (home), another thread (away), or the task has no affinity (none)")
+          .labelNames("threadName", "locality")
+          .register();
+
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -72,6 +95,18 @@ final class ActorMetrics {
     }
   }
 
+  void countSteal(final String threadName) {
+    if (enabled) {
+      STEAL_COUNT.labels(threadName).inc();
+    }
+  }
+
+  void countExecutionLocality(final String threadName, final String locality) {
+    if (enabled) {
+      LOCALITY_COUNT.labels(threadName, locality).inc();
+    }
+  }
+
   public void observeJobSchedulingLatency(final long waitTimeNs, final String subscriptionType) {
     if (enabled) {
       SCHEDULING_LATENCY.labels(subscriptionType).observe(waitTimeNs / 1_000_000_000f);
@@ -9,6 +9,7 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -20,10 +21,12 @@ import org.agrona.concurrent.IdleStrategy;
 public final class ActorScheduler implements AutoCloseable, ActorSchedulingService {
   private final AtomicReference<SchedulerState> state = new AtomicReference<>();
   private final ActorExecutor actorTaskExecutor;
+  private final boolean partitionAffinityEnabled;
 
   public ActorScheduler(final ActorSchedulerBuilder builder) {
     state.set(SchedulerState.NEW);
     actorTaskExecutor = builder.getActorExecutor();
+    partitionAffinityEnabled = builder.isPartitionAffinityEnabled();
   }
 
   /**
@@ -48,7 +51,10 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
    *       by the actor.
    * </ul>
    *
-   * Scheduling hints can be created using the {@link SchedulingHints} class.
+   * Scheduling hints can be created using the {@link SchedulingHints} class. If the hints don't
+   * specify an affinity, and partition affinity is enabled, the actors of a partition, i.e. which
+   * have the {@link Actor#ACTOR_PROP_PARTITION_ID} in their context, have the partition id as
+   * affinity.
    *
    * @param actor the actor to submit
    * @param schedulingHints additional scheduling hint
@@ -58,11 +64,20 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     checkRunningState();
 
     final ActorTask task = actor.actor.task;
+    final int affinity = getAffinity(actor, schedulingHints);
 
-    return switch (schedulingHints) {
-      case CPU_BOUND -> actorTaskExecutor.submitCpuBound(task);
-      case IO_BOUND -> actorTaskExecutor.submitIoBoundTask(task);
-    };
+    return schedulingHints.isIoBound()
+        ? actorTaskExecutor.submitIoBoundTask(task, affinity)
+        : actorTaskExecutor.submitCpuBound(task, affinity);
+  }
+
+  private int getAffinity(final Actor actor, final SchedulingHints schedulingHints) {
+    if (schedulingHints.hasAffinity() || !partitionAffinityEnabled) {
+      return schedulingHints.getAffinity();
+    }
+
+    final String partitionId = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    return partitionId != null ? Integer.parseInt(partitionId) : SchedulingHints.NO_AFFINITY;
   }
 
   private void checkRunningState() {
@@ -97,6 +112,17 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     stop().get(10, TimeUnit.SECONDS);
   }
 
+  /**
+   * Returns the statistics of all actors which are currently scheduled, like the CPU time they used
+   * and the number of jobs they executed. They are only collected if the metrics are enabled, see
+   * {@link ActorSchedulerBuilder#setMetricsEnabled(boolean)}, otherwise the list is empty.
+   *
+   * @return a snapshot of the statistics of each actor, in no particular order
+   */
+  public List<ActorStatistics> getActorStatistics() {
+    return actorTaskExecutor.getActorStatistics();
+  }
+
   public static ActorSchedulerBuilder newActorScheduler() {
     return new ActorSchedulerBuilder();
   }
@@ -126,6 +152,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
+    private boolean ioBoundThreadsVirtual = false;
+    private boolean partitionAffinityEnabled = false;
     private ActorThreadGroup ioBoundActorGroup;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
@@ -197,6 +225,35 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isIoBoundActorThreadsVirtual() {
+      return ioBoundThreadsVirtual;
+    }
+
+    /**
+     * Runs the I/O-bound actors on virtual threads instead of platform threads, see {@link
+     * VirtualIoThreadGroup}. The I/O-bound thread count is then the number of virtual threads.
+     */
+    public ActorSchedulerBuilder setIoBoundActorThreadsVirtual(
+        final boolean ioBoundActorThreadsVirtual) {
+      ioBoundThreadsVirtual = ioBoundActorThreadsVirtual;
+      return this;
+    }
+
+    public boolean isPartitionAffinityEnabled() {
+      return partitionAffinityEnabled;
+    }
+
+    /**
+     * Uses the partition id of actors, which don't have an affinity in their {@link
+     * SchedulingHints}, as their affinity, such that all actors of a partition prefer to run on the
+     * same thread.
+     */
+    public ActorSchedulerBuilder setPartitionAffinityEnabled(
+        final boolean partitionAffinityEnabled) {
+      this.partitionAffinityEnabled = partitionAffinityEnabled;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -236,7 +293,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     private void initIoBoundActorThreadGroup() {
       if (ioBoundActorGroup == null) {
-        ioBoundActorGroup = new IoThreadGroup(this);
+        ioBoundActorGroup =
+            ioBoundThreadsVirtual ? new VirtualIoThreadGroup(this) : new IoThreadGroup(this);
       }
     }
 
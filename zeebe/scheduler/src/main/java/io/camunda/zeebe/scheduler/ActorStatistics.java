@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+/**
+ * A snapshot of the statistics of an actor, which are collected if the metrics of the {@link
+ * ActorScheduler} are enabled.
+ *
+ * @param actorName the name of the actor
+ * @param partitionId the partition of the actor, i.e. {@link Actor#ACTOR_PROP_PARTITION_ID} in its
+ *     context, or an empty string if it has none
+ * @param cpuTimeNanos the CPU time spent executing the actor's jobs; always 0 if the JVM doesn't
+ *     measure the CPU time of threads, see {@link
+ *     java.lang.management.ThreadMXBean#isThreadCpuTimeEnabled()}
+ * @param executedJobs the number of jobs which were executed
+ * @param queueLength the estimated number of jobs which were submitted but not executed yet
+ * @param schedulingDelayNanos the total time between submitting the actor to a thread and executing
+ *     it
+ * @param conditionWaitNanos the total time the actor waited while subscribed to an {@link
+ *     ActorCondition}
+ */
+public record ActorStatistics(
+    String actorName,
+    String partitionId,
+    long cpuTimeNanos,
+    long executedJobs,
+    int queueLength,
+    long schedulingDelayNanos,
+    long conditionWaitNanos) {}
@@ -49,6 +49,8 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private int affinity = SchedulingHints.NO_AFFINITY;
+  private ActorTaskStatistics statistics;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -65,7 +67,14 @@ public class ActorTask {
 
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
+    return onTaskScheduled(actorThreadGroup, SchedulingHints.NO_AFFINITY);
+  }
+
+  /** called when the task is initially scheduled with the given affinity. */
+  public ActorFuture<Void> onTaskScheduled(
+      final ActorThreadGroup actorThreadGroup, final int affinity) {
     this.actorThreadGroup = actorThreadGroup;
+    this.affinity = affinity;
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -117,9 +126,14 @@ public class ActorTask {
   public boolean execute(final ActorThread runner) {
     schedulingState.set(TaskSchedulingState.ACTIVE);
 
+    final ActorTaskStatistics statistics = this.statistics;
+    final long cpuTimeBefore = statistics != null ? statistics.onExecuting() : 0;
+    int executedJobs = 0;
+
     boolean resubmit = false;
     while (!resubmit && (currentJob != null || poll())) {
       currentJob.execute(runner);
+      executedJobs++;
 
       switch (currentJob.schedulingState) {
         case TERMINATED:
@@ -158,6 +172,10 @@ public class ActorTask {
       }
     }
 
+    if (statistics != null) {
+      statistics.onExecuted(cpuTimeBefore, executedJobs);
+    }
+
     if (currentJob == null) {
       resubmit = onAllJobsDone();
     }
@@ -241,6 +259,9 @@ public class ActorTask {
 
   private void onClosed() {
     schedulingState.set(TaskSchedulingState.NOT_SCHEDULED);
+    if (statistics != null) {
+      statistics.unregister();
+    }
 
     // we need to work on a copy - otherwise we would get a ConcurrentModificationException
     // since some subscriptions remove them self on cancel
@@ -342,6 +363,10 @@ public class ActorTask {
     // thread. That thread could modify the subscriptions array.
     final List<ActorSubscription> subscriptionsRef = new ArrayList<>(subscriptions);
 
+    if (statistics != null) {
+      statistics.onWaiting(hasCondition(subscriptionsRef));
+    }
+
     // first set state to waiting
     schedulingState.set(TaskSchedulingState.WAITING);
 
@@ -360,6 +385,15 @@ public class ActorTask {
     return false;
   }
 
+  private static boolean hasCondition(final List<ActorSubscription> subscriptions) {
+    for (int i = 0; i < subscriptions.size(); i++) {
+      if (subscriptions.get(i) instanceof ActorConditionImpl) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public boolean tryWakeup() {
     boolean didWakeup = false;
 
@@ -503,6 +537,29 @@ public class ActorTask {
     actorThreadGroup.submit(this);
   }
 
+  /**
+   * @return the affinity of the task, or {@link SchedulingHints#NO_AFFINITY}
+   */
+  public int getAffinity() {
+    return affinity;
+  }
+
+  public boolean hasAffinity() {
+    return affinity != SchedulingHints.NO_AFFINITY;
+  }
+
+  /**
+   * @return the statistics of the task, or null if they are not collected
+   */
+  ActorTaskStatistics getStatistics() {
+    return statistics;
+  }
+
+  /** Collects the statistics of the task with the given instance, or none if it is null. */
+  void setStatistics(final ActorTaskStatistics statistics) {
+    this.statistics = statistics;
+  }
+
   public void insertJob(@Async.Schedule final ActorJob job) {
     fastLaneJobs.addFirst(job);
   }
@@ -523,6 +580,9 @@ public class ActorTask {
     }
 
     discardNextJobs();
+    if (statistics != null) {
+      statistics.unregister();
+    }
     actor.onActorFailed();
   }
 
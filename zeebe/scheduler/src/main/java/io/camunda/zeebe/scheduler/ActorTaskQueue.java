@@ -42,11 +42,23 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
    * @return the actor which was stolen or null in case no actor is available
    */
   public ActorTask trySteal() {
+    return trySteal(true);
+  }
+
+  /**
+   * Attempts to steal a task from this list, like {@link #trySteal()}. If {@code
+   * includeNextAffineTask} is false, the task which the owner of the list would pop next is not
+   * stolen if it has an affinity, as the owner is the runner which it prefers to run on.
+   *
+   * @return the actor which was stolen or null in case no actor is available
+   */
+  public ActorTask trySteal(final boolean includeNextAffineTask) {
+    final ActorTaskQueueNode next = includeNextAffineTask ? null : head.next;
     ActorTaskQueueNode node = tail;
 
     while (node != null && node != empty) {
       final ActorTask task = node.task;
-      if (task.claim(node.stateCount)) {
+      if ((node != next || !task.hasAffinity()) && task.claim(node.stateCount)) {
         return task;
       }
 
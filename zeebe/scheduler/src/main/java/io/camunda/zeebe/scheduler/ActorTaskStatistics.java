@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.prometheus.client.Counter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Set;
+
+/**
+ * Collects the statistics of a single actor task, and exports them as metrics labelled with the
+ * actor's name and partition.
+ *
+ * <p>The counters are only written by the thread which currently executes the task, or which
+ * submits it to a thread group, such that they don't need to be atomic. They are volatile as they
+ * are read concurrently by {@link #snapshot()}.
+ */
+final class ActorTaskStatistics {
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  // enabling the CPU time measurement affects the whole JVM, so it's only used if already enabled
+  private static final boolean CPU_TIME_ENABLED =
+      THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+
+  private static final Counter CPU_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_cpu_time")
+          .help("CPU time spent executing the jobs of an actor task, in seconds")
+          .labelNames("actorName", "partitionId")
+          .register();
+
+  private static final Counter JOB_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_job_count")
+          .help("Number of jobs executed by an actor task")
+          .labelNames("actorName", "partitionId")
+          .register();
+
+  private static final Counter SCHEDULING_DELAY =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_scheduling_delay")
+          .help(
+              "Total time between submitting an actor task to a thread and executing it, in seconds")
+          .labelNames("actorName", "partitionId")
+          .register();
+
+  private static final Counter CONDITION_WAIT_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_condition_wait_time")
+          .help(
+              "Total time an actor task waited while subscribed to an actor condition, in seconds")
+          .labelNames("actorName", "partitionId")
+          .register();
+
+  private final ActorTask task;
+  private final Set<ActorTaskStatistics> registry;
+  private final String actorName;
+  private final String partitionId;
+
+  private final Counter.Child cpuTimeCounter;
+  private final Counter.Child jobCounter;
+  private final Counter.Child schedulingDelayCounter;
+  private final Counter.Child conditionWaitTimeCounter;
+
+  private volatile long cpuTimeNanos;
+  private volatile long executedJobs;
+  private volatile long schedulingDelayNanos;
+  private volatile long conditionWaitNanos;
+
+  private long submittedAt = -1;
+  private long waitingSince = -1;
+
+  ActorTaskStatistics(final ActorTask task, final Set<ActorTaskStatistics> registry) {
+    this.task = task;
+    this.registry = registry;
+    actorName = task.getName();
+    final String partition = task.getActor().getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    partitionId = partition != null ? partition : "";
+
+    cpuTimeCounter = CPU_TIME.labels(actorName, partitionId);
+    jobCounter = JOB_COUNT.labels(actorName, partitionId);
+    schedulingDelayCounter = SCHEDULING_DELAY.labels(actorName, partitionId);
+    conditionWaitTimeCounter = CONDITION_WAIT_TIME.labels(actorName, partitionId);
+  }
+
+  void register() {
+    registry.add(this);
+  }
+
+  void unregister() {
+    registry.remove(this);
+  }
+
+  /**
+   * Called before the task is waiting, such that the time until it is submitted again is counted as
+   * waiting for a condition, if it is subscribed to one.
+   */
+  void onWaiting(final boolean hasCondition) {
+    waitingSince = hasCondition ? System.nanoTime() : -1;
+  }
+
+  /** Called when the task is submitted to a thread group. */
+  void onSubmitted() {
+    final long now = System.nanoTime();
+    if (waitingSince != -1) {
+      final long waited = now - waitingSince;
+      conditionWaitNanos += waited;
+      conditionWaitTimeCounter.inc(waited / 1_000_000_000d);
+      waitingSince = -1;
+    }
+    submittedAt = now;
+  }
+
+  /**
+   * Called by the thread which executes the task, before it executes it.
+   *
+   * @return the current CPU time of the thread, to pass to {@link #onExecuted(long, int)}, or -1 if
+   *     it can't be measured
+   */
+  long onExecuting() {
+    if (submittedAt != -1) {
+      final long delay = System.nanoTime() - submittedAt;
+      schedulingDelayNanos += delay;
+      schedulingDelayCounter.inc(delay / 1_000_000_000d);
+      submittedAt = -1;
+    }
+
+    return currentCpuTime();
+  }
+
+  /** Called by the thread which executed the task, after it executed the given number of jobs. */
+  void onExecuted(final long cpuTimeBefore, final int jobs) {
+    final long cpuTimeAfter = currentCpuTime();
+    if (cpuTimeBefore >= 0 && cpuTimeAfter >= 0) {
+      final long cpuTime = Math.max(0, cpuTimeAfter - cpuTimeBefore);
+      cpuTimeNanos += cpuTime;
+      cpuTimeCounter.inc(cpuTime / 1_000_000_000d);
+    }
+
+    executedJobs += jobs;
+    jobCounter.inc(jobs);
+  }
+
+  ActorStatistics snapshot() {
+    return new ActorStatistics(
+        actorName,
+        partitionId,
+        cpuTimeNanos,
+        executedJobs,
+        task.estimateQueueLength(),
+        schedulingDelayNanos,
+        conditionWaitNanos);
+  }
+
+  /**
+   * @return the CPU time of the current thread, or -1 if it can't be measured, e.g. because the
+   *     measurement is disabled in the JVM or on a virtual thread
+   */
+  private static long currentCpuTime() {
+    return CPU_TIME_ENABLED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+  }
+}
@@ -40,7 +40,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       new ManyToManyConcurrentArrayQueue<>(1024 * 24);
   protected final ActorTimerQueue timerJobQueue;
   protected ActorTaskRunnerIdleStrategy idleStrategy;
-  ActorTask currentTask;
+  // volatile as other runners read it to check if this runner is busy, before stealing its tasks
+  volatile ActorTask currentTask;
   private final ActorMetrics actorMetrics;
   private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
   private final ActorClock clock;
@@ -100,24 +101,43 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       timerJobQueue.processExpiredTimers(clock);
     }
 
-    currentTask = taskScheduler.getNextTask();
+    final var task = taskScheduler.getNextTask();
+    currentTask = task;
 
-    if (currentTask != null) {
-      final var actorName = currentTask.actor.getName();
+    if (task != null) {
+      final var actorName = task.actor.getName();
+      final boolean resubmit;
       try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
-        executeCurrentTask();
+        resubmit = executeCurrentTask(task);
       }
       if (actorMetrics.isEnabled()) {
-        actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
+        actorMetrics.updateJobQueueLength(actorName, task.estimateQueueLength());
         actorMetrics.countExecution(actorName);
+        actorMetrics.countExecutionLocality(getName(), getLocality(task));
+      }
+
+      // the task is done on this runner, which must not look busy when it is resubmitted
+      currentTask = null;
+      if (resubmit) {
+        task.resubmit();
       }
     } else {
       idleStrategy.onIdle();
     }
   }
 
-  private void executeCurrentTask() {
-    final var properties = currentTask.getActor().getContext();
+  private String getLocality(final ActorTask task) {
+    if (!task.hasAffinity()) {
+      return ActorMetrics.LOCALITY_NONE;
+    }
+
+    return actorThreadGroup.getHomeRunnerId(task) == threadId
+        ? ActorMetrics.LOCALITY_HOME
+        : ActorMetrics.LOCALITY_AWAY;
+  }
+
+  private boolean executeCurrentTask(final ActorTask task) {
+    final var properties = task.getActor().getContext();
     boolean resubmit = false;
 
     for (final var property : properties.entrySet()) {
@@ -127,18 +147,16 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     idleStrategy.onTaskExecuted();
 
     try {
-      resubmit = currentTask.execute(this);
+      resubmit = task.execute(this);
     } catch (final Throwable e) {
       FATAL_ERROR_HANDLER.handleError(e);
-      LOG.error("Unexpected error occurred in task {}", currentTask, e);
+      LOG.error("Unexpected error occurred in task {}", task, e);
     } finally {
       clock.update();
       properties.keySet().forEach(MDC::remove);
     }
 
-    if (resubmit) {
-      currentTask.resubmit();
-    }
+    return resubmit;
   }
 
   public void hintWorkAvailable() {
@@ -167,10 +185,15 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * since they are kept in a map datastructure on the current thread.
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
+     * Only the runners of a virtual thread group, which can't extend the virtual thread they
+     * run on, fall back to a thread-local.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    return thread.isVirtual() ? VirtualActorThread.currentRunner() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -211,12 +234,28 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   @Override
   public synchronized void start() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
-      super.start();
+      startRunner();
     } else {
       throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
     }
   }
 
+  /**
+   * Starts the thread which runs the {@link #run()} loop of this runner, which is by default this
+   * thread itself.
+   */
+  protected void startRunner() {
+    super.start();
+  }
+
+  /**
+   * @return the thread which runs the {@link #run()} loop of this runner, and is unparked when new
+   *     work is available
+   */
+  protected Thread getRunner() {
+    return this;
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
@@ -290,7 +329,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      LockSupport.unpark(getRunner());
     }
 
     protected void onIdle() {
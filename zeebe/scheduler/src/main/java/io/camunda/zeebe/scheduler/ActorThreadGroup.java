@@ -8,6 +8,7 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorThreadFactory;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
@@ -28,6 +29,15 @@ public abstract class ActorThreadGroup {
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, builder, schedulerName, builder.getActorThreadFactory());
+  }
+
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final ActorThreadFactory threadFactory) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
@@ -39,25 +49,37 @@ public abstract class ActorThreadGroup {
     for (int t = 0; t < numOfThreads; t++) {
       final String threadName = String.format("%s-%d", groupName, t);
       final ActorThread thread =
-          builder
-              .getActorThreadFactory()
-              .newThread(
-                  threadName,
-                  t,
-                  this,
-                  tasks,
-                  builder.getActorClock(),
-                  builder.getActorTimerQueue(),
-                  builder.isMetricsEnabled(),
-                  builder.getIdleStrategySupplier().get());
+          threadFactory.newThread(
+              threadName,
+              t,
+              this,
+              tasks,
+              builder.getActorClock(),
+              builder.getActorTimerQueue(),
+              builder.isMetricsEnabled(),
+              builder.getIdleStrategySupplier().get());
 
       threads[t] = thread;
     }
   }
 
   public void submit(final ActorTask actorTask) {
+    final ActorTaskStatistics statistics = actorTask.getStatistics();
+    if (statistics != null) {
+      statistics.onSubmitted();
+    }
+
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final boolean isCalledFromGroup = current != null && current.getActorThreadGroup() == this;
+    if (actorTask.hasAffinity()) {
+      // a task with an affinity always returns to its home runner, other runners only steal it
+      // if the home runner is busy
+      final int homeRunnerId = getHomeRunnerId(actorTask);
+      tasks.submit(actorTask, homeRunnerId);
+      if (!isCalledFromGroup || current.getRunnerId() != homeRunnerId) {
+        threads[homeRunnerId].hintWorkAvailable();
+      }
+    } else if (isCalledFromGroup) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -66,6 +88,21 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  /**
+   * @return the id of the runner which the task prefers to run on, or -1 if it has no affinity
+   */
+  int getHomeRunnerId(final ActorTask actorTask) {
+    return actorTask.hasAffinity() ? actorTask.getAffinity() % numOfThreads : -1;
+  }
+
+  /**
+   * @return true if the runner is currently executing a task; as this is read from another runner,
+   *     it is only a hint
+   */
+  boolean isRunnerBusy(final int runnerId) {
+    return threads[runnerId].getCurrentTask() != null;
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -7,9 +7,32 @@
  */
 package io.camunda.zeebe.scheduler;
 
-public enum SchedulingHints {
-  CPU_BOUND,
-  IO_BOUND;
+import java.util.Objects;
+
+/**
+ * Hints to the scheduler about how to best schedule an actor, see {@link
+ * ActorScheduler#submitActor(Actor, SchedulingHints)}.
+ *
+ * <p>Next to whether an actor is CPU or I/O bound, an actor can have an affinity. The scheduler
+ * prefers to run all actors with the same affinity on the same thread of their thread group, e.g.
+ * all actors of a partition, such that they share the caches of the core they run on. Actors with
+ * an affinity are only moved to another thread if their preferred thread is busy.
+ */
+public final class SchedulingHints {
+
+  /** The affinity of actors which can run on any thread. */
+  public static final int NO_AFFINITY = -1;
+
+  public static final SchedulingHints CPU_BOUND = new SchedulingHints(false, NO_AFFINITY);
+  public static final SchedulingHints IO_BOUND = new SchedulingHints(true, NO_AFFINITY);
+
+  private final boolean ioBound;
+  private final int affinity;
+
+  private SchedulingHints(final boolean ioBound, final int affinity) {
+    this.ioBound = ioBound;
+    this.affinity = affinity;
+  }
 
   public static SchedulingHints cpuBound() {
     return SchedulingHints.CPU_BOUND;
@@ -18,4 +41,57 @@ public enum SchedulingHints {
   public static SchedulingHints ioBound() {
     return SchedulingHints.IO_BOUND;
   }
+
+  /**
+   * Returns hints for an actor which prefers to run on the same thread as all other actors with the
+   * same affinity, e.g. the id of the partition the actor belongs to.
+   *
+   * @param affinity a non-negative key, which is mapped to a thread of the actor's thread group
+   * @return the hints with the given affinity
+   */
+  public SchedulingHints withAffinity(final int affinity) {
+    if (affinity < 0) {
+      throw new IllegalArgumentException(
+          "Expected affinity to be non-negative, but was " + affinity);
+    }
+
+    return new SchedulingHints(ioBound, affinity);
+  }
+
+  public boolean isIoBound() {
+    return ioBound;
+  }
+
+  public boolean hasAffinity() {
+    return affinity != NO_AFFINITY;
+  }
+
+  /**
+   * @return the affinity of the actor, or {@link #NO_AFFINITY}
+   */
+  public int getAffinity() {
+    return affinity;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(ioBound, affinity);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final SchedulingHints that = (SchedulingHints) o;
+    return ioBound == that.ioBound && affinity == that.affinity;
+  }
+
+  @Override
+  public String toString() {
+    return "SchedulingHints{" + "ioBound=" + ioBound + ", affinity=" + affinity + '}';
+  }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * A runner whose {@link #run()} loop runs on a virtual thread, instead of on the platform thread
+ * which this instance is, and which is never started. While an actor blocks the virtual thread,
+ * e.g. on a file system operation, the platform thread which carried it is free to run the other
+ * runners of the group.
+ */
+final class VirtualActorThread extends ActorThread {
+  private static final ThreadLocal<VirtualActorThread> CURRENT = new ThreadLocal<>();
+
+  private volatile Thread runner;
+
+  VirtualActorThread(
+      final String name,
+      final int id,
+      final ActorThreadGroup threadGroup,
+      final TaskScheduler taskScheduler,
+      final ActorClock clock,
+      final ActorTimerQueue timerQueue,
+      final boolean metricsEnabled,
+      final IdleStrategy idleStrategy) {
+    super(name, id, threadGroup, taskScheduler, clock, timerQueue, metricsEnabled, idleStrategy);
+  }
+
+  /**
+   * @return the runner whose loop runs on the current virtual thread, or null if there is none
+   */
+  static VirtualActorThread currentRunner() {
+    return CURRENT.get();
+  }
+
+  @Override
+  protected void startRunner() {
+    runner = Thread.ofVirtual().name(getName()).start(this);
+  }
+
+  @Override
+  protected Thread getRunner() {
+    return runner;
+  }
+
+  @Override
+  public void run() {
+    CURRENT.set(this);
+    try {
+      super.run();
+    } finally {
+      CURRENT.remove();
+    }
+  }
+}
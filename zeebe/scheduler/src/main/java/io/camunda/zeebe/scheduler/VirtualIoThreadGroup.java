@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+
+/**
+ * Thread group for the blocking, I/O bound, tasks, which runs them on virtual threads.
+ *
+ * <p>Actors are scheduled, stolen and measured in the same way as in the {@link IoThreadGroup}, but
+ * each runner of the group runs on its own virtual thread. An actor which blocks on I/O then only
+ * blocks its runner, and not the platform thread carrying it, such that many more runners than
+ * platform threads can be used, and a single slow operation doesn't starve the other I/O bound
+ * actors.
+ *
+ * <p>Note that a virtual thread which blocks while holding a monitor, or inside a native call, is
+ * pinned to its carrier, and blocks it like a platform thread would.
+ */
+public final class VirtualIoThreadGroup extends ActorThreadGroup {
+
+  public VirtualIoThreadGroup(final ActorSchedulerBuilder builder) {
+    super(
+        "zb-fs-workers",
+        builder.getIoBoundActorThreadCount(),
+        builder,
+        builder.getSchedulerName(),
+        VirtualActorThread::new);
+  }
+}
@@ -58,6 +58,9 @@ public final class WorkStealingGroup implements TaskScheduler {
    *
    * <p>Work stealing is a mechanism for <em>load balancing</em>: it relies upon the assumption that
    * there is more work to do than there is resources (threads) to run it.
+   *
+   * <p>Tasks with an affinity are queued at their home runner. To keep them there, the task which
+   * the victim would run next is only stolen if it has no affinity, or if the victim is busy.
    */
   private ActorTask trySteal(final ActorThread currentThread) {
     /*
@@ -76,14 +79,17 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
     final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final ActorThreadGroup threadGroup = currentThread.getActorThreadGroup();
 
     for (int i = offset; i < offset + numOfThreads; i++) {
       final int runnerId = i % numOfThreads;
 
       if (runnerId != currentThread.getRunnerId()) {
-        final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+        final ActorTask stolenActor =
+            taskQueues[runnerId].trySteal(threadGroup.isRunnerBusy(runnerId));
 
         if (stolenActor != null) {
+          currentThread.getActorMetrics().countSteal(currentThread.getName());
           return stolenActor;
         }
       }
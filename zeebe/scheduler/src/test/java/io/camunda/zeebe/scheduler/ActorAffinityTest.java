@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorAffinityTest {
+
+  private static final int THREAD_COUNT = 4;
+
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldStartActorOnHomeRunnerOfAffinity() {
+    // given
+    startScheduler(false);
+
+    for (int affinity = 0; affinity < 2 * THREAD_COUNT; affinity++) {
+      final var actor = new RunnerRecordingActor();
+
+      // when
+      scheduler.submitActor(actor, SchedulingHints.cpuBound().withAffinity(affinity)).join();
+
+      // then
+      assertThat(actor.startedOnRunner.get()).isEqualTo(affinity % THREAD_COUNT);
+    }
+  }
+
+  @Test
+  void shouldDerivePartitionAffinityFromContext() {
+    // given
+    startScheduler(true);
+    final var actor = new RunnerRecordingActor(6);
+
+    // when
+    scheduler.submitActor(actor).join();
+
+    // then
+    assertThat(actor.actor.task.getAffinity()).isEqualTo(6);
+    assertThat(actor.startedOnRunner.get()).isEqualTo(6 % THREAD_COUNT);
+  }
+
+  @Test
+  void shouldNotDerivePartitionAffinityIfDisabled() {
+    // given
+    startScheduler(false);
+    final var actor = new RunnerRecordingActor(6);
+
+    // when
+    scheduler.submitActor(actor).join();
+
+    // then
+    assertThat(actor.actor.task.hasAffinity()).isFalse();
+  }
+
+  @Test
+  void shouldPreferExplicitAffinityOverPartition() {
+    // given
+    startScheduler(true);
+    final var actor = new RunnerRecordingActor(6);
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.cpuBound().withAffinity(1)).join();
+
+    // then
+    assertThat(actor.actor.task.getAffinity()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldStealAffineActorIfHomeRunnerIsBusy() throws InterruptedException {
+    // given
+    startScheduler(false);
+    final var blocked = new CountDownLatch(1);
+    final var unblock = new CountDownLatch(1);
+    final var blockingActor = new RunnerRecordingActor();
+    scheduler.submitActor(blockingActor, SchedulingHints.cpuBound().withAffinity(0)).join();
+    blockingActor.run(
+        () -> {
+          blocked.countDown();
+          awaitUninterruptibly(unblock);
+        });
+    assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    final var actor = new RunnerRecordingActor();
+    final var started = scheduler.submitActor(actor, SchedulingHints.cpuBound().withAffinity(0));
+
+    // then
+    try {
+      assertThat(started).succeedsWithin(Duration.ofSeconds(10));
+      assertThat(actor.startedOnRunner.get()).isNotEqualTo(0);
+    } finally {
+      unblock.countDown();
+    }
+  }
+
+  private void startScheduler(final boolean partitionAffinityEnabled) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(THREAD_COUNT)
+            .setIoBoundActorThreadCount(1)
+            .setPartitionAffinityEnabled(partitionAffinityEnabled)
+            .build();
+    scheduler.start();
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class RunnerRecordingActor extends Actor {
+
+    private final AtomicInteger startedOnRunner = new AtomicInteger(-1);
+    private final Integer partitionId;
+
+    private RunnerRecordingActor() {
+      this(null);
+    }
+
+    private RunnerRecordingActor(final Integer partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = new HashMap<>(super.createContext());
+      if (partitionId != null) {
+        context.put(ACTOR_PROP_PARTITION_ID, String.valueOf(partitionId));
+      }
+      return context;
+    }
+
+    @Override
+    protected void onActorStarting() {
+      startedOnRunner.set(ActorThread.current().getRunnerId());
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorStatisticsTest {
+
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldNotCollectStatisticsIfMetricsAreDisabled() {
+    // given
+    startScheduler(false);
+    final var actor = new TestActor("disabled");
+
+    // when
+    scheduler.submitActor(actor).join();
+
+    // then
+    assertThat(scheduler.getActorStatistics()).isEmpty();
+  }
+
+  @Test
+  void shouldCountExecutedJobsAndCpuTime() {
+    // given
+    startScheduler(true);
+    final var actor = new TestActor("jobs");
+    scheduler.submitActor(actor).join();
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      actor.call(ActorStatisticsTest::spin).join();
+    }
+
+    // then
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(findStatistics("jobs"))
+                    .hasValueSatisfying(
+                        statistics -> {
+                          assertThat(statistics.partitionId()).isEqualTo("3");
+                          assertThat(statistics.executedJobs()).isGreaterThanOrEqualTo(10);
+                          assertThat(statistics.cpuTimeNanos()).isPositive();
+                          assertThat(statistics.schedulingDelayNanos()).isPositive();
+                        }));
+  }
+
+  @Test
+  void shouldCountTimeWaitingForCondition() throws InterruptedException {
+    // given
+    startScheduler(true);
+    final var conditionRan = new CountDownLatch(1);
+    final var actor = new TestActor("condition");
+    scheduler.submitActor(actor).join();
+    final long start = System.nanoTime();
+    final ActorCondition condition =
+        actor.call(() -> actor.onCondition("condition", conditionRan::countDown)).join();
+
+    // when - the actor only starts waiting shortly after the call completed, so it waits a bit
+    // less than the sleep
+    Thread.sleep(100);
+    condition.signal();
+
+    // then
+    assertThat(conditionRan.await(10, TimeUnit.SECONDS)).isTrue();
+    final long elapsed = System.nanoTime() - start;
+    assertThat(findStatistics("condition"))
+        .hasValueSatisfying(
+            statistics ->
+                assertThat(statistics.conditionWaitNanos())
+                    .isBetween(TimeUnit.MILLISECONDS.toNanos(50), elapsed));
+  }
+
+  @Test
+  void shouldRemoveStatisticsOfClosedActor() {
+    // given
+    startScheduler(true);
+    final var actor = new TestActor("closed");
+    scheduler.submitActor(actor).join();
+    assertThat(findStatistics("closed")).isPresent();
+
+    // when
+    actor.closeAsync().join();
+
+    // then
+    assertThat(findStatistics("closed")).isEmpty();
+  }
+
+  private void startScheduler(final boolean metricsEnabled) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .setMetricsEnabled(metricsEnabled)
+            .build();
+    scheduler.start();
+  }
+
+  private Optional<ActorStatistics> findStatistics(final String actorName) {
+    return scheduler.getActorStatistics().stream()
+        .filter(statistics -> statistics.actorName().equals(actorName))
+        .findFirst();
+  }
+
+  private static long spin() {
+    final long end = System.nanoTime() + Duration.ofMillis(1).toNanos();
+    long iterations = 0;
+    while (System.nanoTime() < end) {
+      iterations++;
+    }
+    return iterations;
+  }
+
+  private static final class TestActor extends Actor {
+
+    private final String name;
+
+    private TestActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = new HashMap<>(super.createContext());
+      context.put(ACTOR_PROP_PARTITION_ID, "3");
+      return context;
+    }
+
+    private ActorCondition onCondition(final String name, final Runnable action) {
+      return actor.onCondition(name, action);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class ActorTaskQueueTest {
+
+  private final ActorTaskQueue queue = new ActorTaskQueue();
+
+  @Test
+  void shouldStealFromTail() {
+    // given
+    final var first = newTask(SchedulingHints.NO_AFFINITY);
+    final var second = newTask(SchedulingHints.NO_AFFINITY);
+    queue.append(first);
+    queue.append(second);
+
+    // when
+    final var stolen = queue.trySteal();
+
+    // then
+    assertThat(stolen).isSameAs(second);
+  }
+
+  @Test
+  void shouldNotStealNextAffineTask() {
+    // given
+    final var task = newTask(1);
+    queue.append(task);
+
+    // when
+    final var stolen = queue.trySteal(false);
+
+    // then
+    assertThat(stolen).isNull();
+    assertThat(queue.pop()).isSameAs(task);
+  }
+
+  @Test
+  void shouldStealNextAffineTaskIfIncluded() {
+    // given
+    final var task = newTask(1);
+    queue.append(task);
+
+    // when
+    final var stolen = queue.trySteal(true);
+
+    // then
+    assertThat(stolen).isSameAs(task);
+    assertThat(queue.pop()).isNull();
+  }
+
+  @Test
+  void shouldStealAffineTaskBehindNextTask() {
+    // given
+    final var first = newTask(1);
+    final var second = newTask(1);
+    queue.append(first);
+    queue.append(second);
+
+    // when
+    final var stolen = queue.trySteal(false);
+
+    // then
+    assertThat(stolen).isSameAs(second);
+    assertThat(queue.trySteal(false)).isNull();
+  }
+
+  @Test
+  void shouldStealNextTaskWithoutAffinity() {
+    // given
+    final var task = newTask(SchedulingHints.NO_AFFINITY);
+    queue.append(task);
+
+    // when
+    final var stolen = queue.trySteal(false);
+
+    // then
+    assertThat(stolen).isSameAs(task);
+  }
+
+  private static ActorTask newTask(final int affinity) {
+    final var task = new ActorTask(new Actor() {});
+    task.onTaskScheduled(null, affinity);
+    return task;
+  }
+}
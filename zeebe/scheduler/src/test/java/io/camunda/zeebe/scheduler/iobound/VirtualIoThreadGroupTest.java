@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.ActorThreadGroup;
+import io.camunda.zeebe.scheduler.CpuThreadGroup;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.VirtualIoThreadGroup;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class VirtualIoThreadGroupTest {
+
+  private static final int IO_THREAD_COUNT = 32;
+
+  private ActorScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(IO_THREAD_COUNT)
+            .setIoBoundActorThreadsVirtual(true)
+            .build();
+    scheduler.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  public void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final AtomicReference<ActorThreadGroup> threadGroupRef = new AtomicReference<>();
+    final AtomicBoolean isVirtual = new AtomicBoolean();
+    final Actor actor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            threadGroupRef.set(ActorThread.current().getActorThreadGroup());
+            isVirtual.set(Thread.currentThread().isVirtual());
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(threadGroupRef.get()).isInstanceOf(VirtualIoThreadGroup.class);
+    assertThat(isVirtual).isTrue();
+  }
+
+  @Test
+  public void shouldRunOtherActorsWhileActorsAreBlocked() throws InterruptedException {
+    // given
+    final int blockedActorCount = IO_THREAD_COUNT - 1;
+    final CountDownLatch blocked = new CountDownLatch(blockedActorCount);
+    final CountDownLatch unblock = new CountDownLatch(1);
+    for (int i = 0; i < blockedActorCount; i++) {
+      scheduler.submitActor(
+          new Actor() {
+            @Override
+            protected void onActorStarted() {
+              blocked.countDown();
+              awaitUninterruptibly(unblock);
+            }
+          },
+          SchedulingHints.ioBound());
+    }
+
+    try {
+      assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+      // when
+      final ActorFuture<Void> started =
+          scheduler.submitActor(new Actor() {}, SchedulingHints.ioBound());
+
+      // then
+      assertThat(started).succeedsWithin(Duration.ofSeconds(10));
+    } finally {
+      unblock.countDown();
+    }
+  }
+
+  @Test
+  public void shouldStayOnVirtualThreadGroupWhenInteractingWithCpuBound()
+      throws InterruptedException {
+    // given
+    final AtomicBoolean isOnWrongThreadGroup = new AtomicBoolean();
+    final CountDownLatch completed = new CountDownLatch(1_000);
+    final Actor cpuBoundActor = new Actor() {};
+    final Actor ioBoundActor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            for (int i = 0; i < 1_000; i++) {
+              actor.runOnCompletion(
+                  cpuBoundActor.call(
+                      () -> {
+                        if (!(ActorThread.current().getActorThreadGroup()
+                            instanceof CpuThreadGroup)) {
+                          isOnWrongThreadGroup.set(true);
+                        }
+                        return null;
+                      }),
+                  (result, error) -> {
+                    if (!(ActorThread.current().getActorThreadGroup()
+                            instanceof VirtualIoThreadGroup)
+                        || !Thread.currentThread().isVirtual()) {
+                      isOnWrongThreadGroup.set(true);
+                    }
+                    completed.countDown();
+                  });
+            }
+          }
+        };
+
+    // when
+    scheduler.submitActor(cpuBoundActor).join();
+    scheduler.submitActor(ioBoundActor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(isOnWrongThreadGroup).isFalse();
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Map;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +31,14 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Returns the files which this snapshot can reuse instead of receiving them again, e.g. the
+   * immutable files of the latest snapshot of the store, by file name and checksum. Chunks which
+   * {@link SnapshotChunk#isFileReference() refer} to one of these files can then be applied without
+   * content.
+   *
+   * @return the checksums of the reusable files by file name, which may be empty
+   */
+  ActorFuture<Map<String, Long>> getReusableFiles();
 }
@@ -35,6 +35,25 @@ public interface SnapshotChunk {
    */
   byte[] getContent();
 
+  /**
+   * @return the position of the content within the file of the chunk, which is 0 if the chunk
+   *     contains the whole file
+   */
+  long getFileBlockPosition();
+
+  /**
+   * @return the size of the whole file of the chunk, which may be larger than the content if the
+   *     file was split into multiple chunks
+   */
+  long getTotalFileSize();
+
+  /**
+   * @return true if the chunk has no content, but only refers to a file which the receiver already
+   *     has, with the name and the {@link #getChecksum() checksum} of the chunk and the size {@link
+   *     #getTotalFileSize()}
+   */
+  boolean isFileReference();
+
   /**
    * @return the checksum of the entire snapshot
    */
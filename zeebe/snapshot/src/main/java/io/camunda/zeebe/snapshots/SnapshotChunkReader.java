@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -34,4 +35,22 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Sets the maximum size of the content of a chunk. Files which are larger are split into multiple
+   * chunks, each containing a range of the file. By default, each chunk contains a whole file.
+   *
+   * @param maximumChunkSize the maximum size of the content of a chunk in bytes
+   */
+  void setMaximumChunkSize(int maximumChunkSize);
+
+  /**
+   * Sets the files which the receiver of the chunks already has, by file name and checksum. Instead
+   * of the content of such a file, a single chunk is read which only {@link
+   * SnapshotChunk#isFileReference() refers} to it, if the file of this snapshot has the same name
+   * and checksum. By default, no files are reused.
+   *
+   * @param reusableFiles the checksums of the files which the receiver can reuse, by file name
+   */
+  void setReusableFiles(Map<String, Long> reusableFiles);
 }
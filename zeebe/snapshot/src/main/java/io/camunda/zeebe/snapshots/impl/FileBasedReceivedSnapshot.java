@@ -22,14 +22,29 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A snapshot which is received chunk by chunk. A chunk contains either a whole file, which is
+ * written at once, or a range of a file, which is written directly at its position in the file. The
+ * ranges of a file may be received in any order, and a file is only considered to be received, and
+ * added to the checksums, once all of its ranges were written.
+ *
+ * <p>The SST files of the latest snapshot of the store can be reused, since they are immutable and
+ * consecutive snapshots usually share most of them. A chunk which refers to such a file is applied
+ * by hard linking the file of the latest snapshot, after verifying that its checksum matches.
+ */
 public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedReceivedSnapshot.class);
   private static final int BLOCK_SIZE = 512 * 1024;
+  private static final String REUSABLE_FILE_EXTENSION = ".sst";
 
   private final Path directory;
   private final ActorControl actor;
@@ -40,6 +55,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
   private SfvChecksumImpl checksumCollection;
+  private final Map<String, PartialFile> partialFiles = new HashMap<>();
+  private FileBasedSnapshot reusableFilesSnapshot;
+  private FileBasedSnapshotReservation reusableFilesReservation;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -68,8 +86,48 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public ActorFuture<Map<String, Long>> getReusableFiles() {
+    return actor.call(this::collectReusableFiles);
+  }
+
+  private Map<String, Long> collectReusableFiles() throws IOException {
+    releaseReusableFiles();
+
+    final var latestSnapshot = snapshotStore.getLatestFileBasedSnapshot();
+    final var reservation = latestSnapshot.flatMap(FileBasedSnapshot::reserveInternal);
+    if (reservation.isEmpty()) {
+      return Map.of();
+    }
+
+    // chunks which refer to these files are linked from the snapshot they were collected from, so
+    // it is reserved until this snapshot is persisted or aborted, even if a newer snapshot is
+    // persisted in the meantime
+    reusableFilesSnapshot = latestSnapshot.get();
+    reusableFilesReservation = reservation.get();
+
+    final var reusableFiles = new HashMap<String, Long>();
+    SnapshotChecksum.read(reusableFilesSnapshot.getChecksumPath())
+        .getChecksums()
+        .forEach(
+            (fileName, checksum) -> {
+              if (fileName.endsWith(REUSABLE_FILE_EXTENSION)) {
+                reusableFiles.put(fileName, checksum);
+              }
+            });
+    return reusableFiles;
+  }
+
+  private void releaseReusableFiles() {
+    if (reusableFilesSnapshot != null) {
+      reusableFilesSnapshot.removeReservationInternal(reusableFilesReservation);
+      reusableFilesSnapshot = null;
+      reusableFilesReservation = null;
+    }
+  }
+
   private boolean containsChunk(final String chunkId) {
-    return Files.exists(directory.resolve(chunkId));
+    return Files.exists(directory.resolve(chunkId)) && !partialFiles.containsKey(chunkId);
   }
 
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
@@ -96,7 +154,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    if (!snapshotChunk.isFileReference()) {
+      checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    }
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -107,32 +167,125 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+
+    if (snapshotChunk.isFileReference()) {
+      LOGGER.trace("Reuse snapshot file {} for snapshot {}", chunkName, snapshotId);
+      applyFileReference(snapshotChunk, snapshotFile);
+    } else if (isWholeFile(snapshotChunk)) {
+      if (Files.exists(snapshotFile)) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
+      }
+
+      LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+      writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+      checksumCollection.updateFromBytes(chunkName, snapshotChunk.getContent());
+
+      if (chunkName.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+        collectMetadata(snapshotChunk.getContent());
+      }
+    } else {
+      LOGGER.trace(
+          "Consume snapshot snapshotChunk {} at position {} of snapshot {}",
+          chunkName,
+          snapshotChunk.getFileBlockPosition(),
+          snapshotId);
+      applyFileRange(snapshotChunk, snapshotFile);
+    }
+  }
+
+  private static boolean isWholeFile(final SnapshotChunk snapshotChunk) {
+    return snapshotChunk.getFileBlockPosition() == 0
+        && snapshotChunk.getContent().length == snapshotChunk.getTotalFileSize();
+  }
+
+  private void applyFileReference(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final String chunkName = snapshotChunk.getChunkName();
+    if (reusableFilesSnapshot == null) {
       throw new SnapshotWriteException(
           String.format(
-              "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
+              "Expected to reuse snapshot file %s, but no reusable files were offered", chunkName));
     }
 
-    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    final var reusableFile = reusableFilesSnapshot.getPath().resolve(chunkName);
+    try {
+      // ranges of the file may have been received before the receiver's files were known
+      if (partialFiles.remove(chunkName) != null) {
+        Files.deleteIfExists(snapshotFile);
+      }
 
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
+      Files.createLink(snapshotFile, reusableFile);
+      checksumCollection.updateFromFile(snapshotFile);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to reuse snapshot file %s", reusableFile), e);
+    }
+
+    final long actualChecksum = checksumCollection.getChecksums().get(chunkName);
+    if (actualChecksum != snapshotChunk.getChecksum()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse snapshot file %s with checksum %d, but calculated %d",
+              reusableFile, snapshotChunk.getChecksum(), actualChecksum));
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+  }
 
-    if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+  private void applyFileRange(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final String chunkName = snapshotChunk.getChunkName();
+    final long position = snapshotChunk.getFileBlockPosition();
+    final long totalFileSize = snapshotChunk.getTotalFileSize();
+    final byte[] content = snapshotChunk.getContent();
+    if (position < 0 || position + content.length > totalFileSize) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected snapshot chunk %s to be within the file of size %d, but its range is [%d, %d)",
+              chunkName, totalFileSize, position, position + content.length));
+    }
+
+    final var partialFile =
+        partialFiles.computeIfAbsent(chunkName, name -> new PartialFile(totalFileSize));
+    if (partialFile.totalFileSize != totalFileSize) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected snapshot chunk %s to be part of a file of size %d, but got size %d",
+              chunkName, partialFile.totalFileSize, totalFileSize));
+    }
+
+    if (!partialFile.receivedPositions.add(position)) {
+      // the range was already written, e.g. the request was retried after a timeout
+      return;
+    }
+
+    partialFile.receivedBytes += content.length;
+    final boolean isComplete = partialFile.receivedBytes >= totalFileSize;
+    writeReceivedSnapshotChunkRange(snapshotChunk, snapshotFile, isComplete);
+
+    if (isComplete) {
+      partialFiles.remove(chunkName);
       try {
-        collectMetadata(snapshotChunk.getContent());
+        checksumCollection.updateFromFile(snapshotFile);
+        if (chunkName.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+          collectMetadata(Files.readAllBytes(snapshotFile));
+        }
       } catch (final IOException e) {
-        throw new SnapshotWriteException("Cannot decode snapshot metadata");
+        throw new SnapshotWriteException(
+            String.format("Failed to read received snapshot file %s", snapshotFile), e);
       }
     }
   }
 
-  private void collectMetadata(final byte[] content) throws IOException {
-    metadata = FileBasedSnapshotMetadata.decode(content);
+  private void collectMetadata(final byte[] content) throws SnapshotWriteException {
+    try {
+      metadata = FileBasedSnapshotMetadata.decode(content);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException("Cannot decode snapshot metadata");
+    }
   }
 
   private void checkChunkChecksumIsValid(
@@ -213,6 +366,34 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     LOGGER.trace("Wrote replicated snapshot chunk to file {}", snapshotFile);
   }
 
+  private void writeReceivedSnapshotChunkRange(
+      final SnapshotChunk snapshotChunk, final Path snapshotFile, final boolean isComplete)
+      throws SnapshotWriteException {
+    try (final var channel =
+        FileChannel.open(snapshotFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+      final long position = snapshotChunk.getFileBlockPosition();
+
+      while (buffer.hasRemaining()) {
+        channel.write(buffer, position + buffer.position());
+      }
+
+      // the ranges are only flushed once the whole file was written, as they may arrive in any
+      // order and flushing each of them would be a sync per chunk
+      if (isComplete) {
+        channel.force(true);
+      }
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to write snapshot chunk %s", snapshotChunk), e);
+    }
+
+    LOGGER.trace(
+        "Wrote replicated snapshot chunk at position {} to file {}",
+        snapshotChunk.getFileBlockPosition(),
+        snapshotFile);
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     final CompletableActorFuture<Void> abortFuture = new CompletableActorFuture<>();
@@ -248,6 +429,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     } catch (final IOException e) {
       LOGGER.warn("Failed to delete pending snapshot {}", this, e);
     } finally {
+      releaseReusableFiles();
       snapshotStore.removePendingSnapshot(this);
     }
   }
@@ -267,6 +449,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    if (!partialFiles.isEmpty()) {
+      future.completeExceptionally(
+          new IllegalStateException(
+              String.format(
+                  "Expected all chunks of the snapshot files to be received, but files %s are incomplete.",
+                  partialFiles.keySet())));
+      return;
+    }
+
     if (files.length != expectedTotalCount) {
       future.completeExceptionally(
           new IllegalStateException(
@@ -293,6 +484,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
                 snapshotId.getExportedPosition(),
                 Long.MAX_VALUE);
       }
+      // all reused files are linked already, and the snapshot they were reused from may be deleted
+      // once this one is persisted
+      releaseReusableFiles();
       final PersistedSnapshot value =
           snapshotStore.persistNewSnapshot(snapshotId, checksumCollection, metadata);
       future.complete(value);
@@ -314,4 +508,14 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         + snapshotId
         + '}';
   }
+
+  private static final class PartialFile {
+    private final long totalFileSize;
+    private final Set<Long> receivedPositions = new HashSet<>();
+    private long receivedBytes;
+
+    private PartialFile(final long totalFileSize) {
+      this.totalFileSize = totalFileSize;
+    }
+  }
 }
@@ -21,6 +21,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -86,7 +87,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory, checksum);
+      return new FileBasedSnapshotChunkReader(directory, checksumFile, checksum);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -128,10 +129,9 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
         new CompletableActorFuture<>();
     actor.run(
         () -> {
-          if (!deleted) {
-            final FileBasedSnapshotReservation reservation = new FileBasedSnapshotReservation(this);
-            reservations.add(reservation);
-            snapshotLocked.complete(reservation);
+          final var reservation = reserveInternal();
+          if (reservation.isPresent()) {
+            snapshotLocked.complete(reservation.get());
           } else {
             snapshotLocked.completeExceptionally(
                 new SnapshotNotFoundException(
@@ -215,8 +215,27 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   ActorFuture<Void> removeReservation(final FileBasedSnapshotReservation reservation) {
     return actor.call(
         () -> {
-          reservations.remove(reservation);
+          removeReservationInternal(reservation);
           return null;
         });
   }
+
+  /**
+   * Reserves the snapshot, unless it was deleted already. Must only be called from within the actor
+   * of the store, e.g. by a snapshot which is received by it.
+   */
+  Optional<FileBasedSnapshotReservation> reserveInternal() {
+    if (deleted) {
+      return Optional.empty();
+    }
+
+    final var reservation = new FileBasedSnapshotReservation(this);
+    reservations.add(reservation);
+    return Optional.of(reservation);
+  }
+
+  /** Removes the reservation. Must only be called from within the actor of the store. */
+  void removeReservationInternal(final FileBasedSnapshotReservation reservation) {
+    reservations.remove(reservation);
+  }
 }
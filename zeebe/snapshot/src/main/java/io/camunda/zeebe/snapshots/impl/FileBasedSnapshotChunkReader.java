@@ -17,6 +17,8 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.TreeSet;
@@ -25,14 +27,27 @@ import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
- * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
- * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
- * the directory once this is created.
+ * Implements a chunk reader where each chunk is a single file in a root directory, or a range of it
+ * if the file is larger than the maximum chunk size. Chunks are then ordered lexicographically by
+ * file name and by position within the file, and the files are assumed to be immutable, i.e. no
+ * more are added to the directory once this is created.
+ *
+ * <p>The ID of a chunk is the name of its file, followed by {@link #ID_POSITION_SEPARATOR} and the
+ * position of the range within the file, unless the chunk starts at the beginning of the file. This
+ * keeps the IDs of whole file chunks as they were, and allows to resume sending a large file from
+ * the range which was not acknowledged, instead of from its beginning.
+ *
+ * <p>Files which the receiver already has, i.e. which are part of its {@link #setReusableFiles(Map)
+ * reusable files} with the same checksum, are not read at all. For each of them a single chunk
+ * without content is created instead, which only refers to the file by its name and checksum.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
+  // file names can never contain the separator, so it can't be mistaken for a part of it
+  static final char ID_POSITION_SEPARATOR = '/';
 
   private final Path directory;
+  private final Path checksumFile;
   private final NavigableSet<CharSequence> chunks;
   private final CharSequenceView chunkIdView;
 
@@ -40,9 +55,14 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
+  private long fileBlockPosition;
+  private int maximumChunkSize = Integer.MAX_VALUE;
+  private Map<String, Long> referencedFiles = Map.of();
 
-  FileBasedSnapshotChunkReader(final Path directory, final long checksum) throws IOException {
+  FileBasedSnapshotChunkReader(final Path directory, final Path checksumFile, final long checksum)
+      throws IOException {
     this.directory = directory;
+    this.checksumFile = checksumFile;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -64,6 +84,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public void reset() {
     chunksView = new TreeSet<>(chunks);
+    fileBlockPosition = 0;
   }
 
   @Override
@@ -74,6 +95,10 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
     final var path = decodeChunkId(id);
     chunksView = new TreeSet<>(chunks.tailSet(path, true));
+    fileBlockPosition =
+        !chunksView.isEmpty() && CharSequence.compare(chunksView.first(), path) == 0
+            ? chunkIdView.position()
+            : 0;
   }
 
   @Override
@@ -82,7 +107,40 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return encodeChunkId(chunksView.first(), fileBlockPosition);
+  }
+
+  @Override
+  public void setMaximumChunkSize(final int maximumChunkSize) {
+    if (maximumChunkSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the maximum chunk size to be positive, but was " + maximumChunkSize);
+    }
+    this.maximumChunkSize = maximumChunkSize;
+  }
+
+  @Override
+  public void setReusableFiles(final Map<String, Long> reusableFiles) {
+    if (reusableFiles.isEmpty()) {
+      referencedFiles = Map.of();
+      return;
+    }
+
+    final Map<String, Long> fileChecksums;
+    try {
+      fileChecksums = SnapshotChecksum.read(checksumFile).getChecksums();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    final var files = new HashMap<String, Long>();
+    fileChecksums.forEach(
+        (fileName, checksum) -> {
+          if (checksum.equals(reusableFiles.get(fileName)) && chunks.contains(fileName)) {
+            files.put(fileName, checksum);
+          }
+        });
+    referencedFiles = files;
   }
 
   @Override
@@ -98,23 +156,50 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
-    if (chunkName == null) {
+    if (chunksView.isEmpty()) {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(chunkName.toString());
-
+    final var fileName = chunksView.first().toString();
+    final var path = directory.resolve(fileName);
+    final var referencedFileChecksum = referencedFiles.get(fileName);
+    final SnapshotChunk chunk;
     try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path, snapshotID, totalCount, snapshotChecksum);
+      if (referencedFileChecksum != null && fileBlockPosition == 0) {
+        chunk =
+            SnapshotChunkUtil.createFileReferenceChunk(
+                path, snapshotID, totalCount, snapshotChecksum, referencedFileChecksum);
+      } else {
+        chunk =
+            SnapshotChunkUtil.createSnapshotChunkFromFileRange(
+                path,
+                snapshotID,
+                totalCount,
+                snapshotChecksum,
+                fileBlockPosition,
+                maximumChunkSize);
+      }
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
+
+    final long nextFileBlockPosition = fileBlockPosition + chunk.getContent().length;
+    if (!chunk.isFileReference() && nextFileBlockPosition < chunk.getTotalFileSize()) {
+      fileBlockPosition = nextFileBlockPosition;
+    } else {
+      chunksView.pollFirst();
+      fileBlockPosition = 0;
+    }
+
+    return chunk;
   }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  private ByteBuffer encodeChunkId(final CharSequence path, final long fileBlockPosition) {
+    final String id =
+        fileBlockPosition == 0
+            ? path.toString()
+            : path.toString() + ID_POSITION_SEPARATOR + fileBlockPosition;
+    return ByteBuffer.wrap(id.getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
   }
 
   private CharSequence decodeChunkId(final ByteBuffer id) {
@@ -124,10 +209,27 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private static final class CharSequenceView {
     private final DirectBuffer wrapper = new UnsafeBuffer();
     private final AsciiSequenceView view = new AsciiSequenceView();
+    private long position;
 
+    /** Wraps the file name of the given chunk ID, and remembers the position within the file. */
     private CharSequence wrap(final ByteBuffer buffer) {
       wrapper.wrap(buffer);
-      return view.wrap(wrapper, 0, wrapper.capacity());
+
+      int nameLength = wrapper.capacity();
+      position = 0;
+      for (int i = wrapper.capacity() - 1; i >= 0; i--) {
+        if (wrapper.getByte(i) == ID_POSITION_SEPARATOR) {
+          nameLength = i;
+          position = wrapper.parseLongAscii(i + 1, wrapper.capacity() - i - 1);
+          break;
+        }
+      }
+
+      return view.wrap(wrapper, 0, nameLength);
+    }
+
+    private long position() {
+      return position;
     }
   }
 }
@@ -266,6 +266,10 @@ public final class FileBasedSnapshotStore extends Actor
     return Optional.ofNullable(currentPersistedSnapshotRef.get());
   }
 
+  Optional<FileBasedSnapshot> getLatestFileBasedSnapshot() {
+    return Optional.ofNullable(currentPersistedSnapshotRef.get());
+  }
+
   @Override
   public ActorFuture<Set<PersistedSnapshot>> getAvailableSnapshots() {
     // return a new set so that caller cannot modify availableSnapshot
@@ -8,9 +8,13 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 
@@ -28,21 +32,69 @@ final class SnapshotChunkUtil {
     return new CRC32C();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFile(
+  /**
+   * Creates a chunk with the range of the given file which starts at the given position, and is at
+   * most {@code maximumChunkSize} bytes long. The range is read with a positional read of the file
+   * channel, such that only the range itself is ever loaded into the heap.
+   */
+  static SnapshotChunk createSnapshotChunkFromFileRange(
       final Path chunkFile,
       final String snapshotId,
       final int totalCount,
-      final long snapshotChecksum)
+      final long snapshotChecksum,
+      final long fileBlockPosition,
+      final int maximumChunkSize)
+      throws IOException {
+    try (final var channel = FileChannel.open(chunkFile, StandardOpenOption.READ)) {
+      final long totalFileSize = channel.size();
+      final int length =
+          (int) Math.min(maximumChunkSize, Math.max(0, totalFileSize - fileBlockPosition));
+      final byte[] content = new byte[length];
+      final ByteBuffer buffer = ByteBuffer.wrap(content);
+
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, fileBlockPosition + buffer.position()) < 0) {
+          throw new EOFException(
+              String.format(
+                  "Expected to read %d bytes of snapshot file %s at position %d, but reached the end of the file",
+                  length, chunkFile, fileBlockPosition));
+        }
+      }
+
+      return new SnapshotChunkImpl(
+          snapshotId,
+          totalCount,
+          chunkFile.getFileName().toString(),
+          createChecksum(content),
+          content,
+          snapshotChecksum,
+          fileBlockPosition,
+          totalFileSize,
+          false);
+    }
+  }
+
+  /**
+   * Creates a chunk without content, which refers to the given file by its name and its whole file
+   * checksum, such that a receiver which already has the file doesn't need its content.
+   */
+  static SnapshotChunk createFileReferenceChunk(
+      final Path chunkFile,
+      final String snapshotId,
+      final int totalCount,
+      final long snapshotChecksum,
+      final long fileChecksum)
       throws IOException {
-    final byte[] content = Files.readAllBytes(chunkFile);
-    final long checksum = createChecksum(content);
     return new SnapshotChunkImpl(
         snapshotId,
         totalCount,
         chunkFile.getFileName().toString(),
-        checksum,
-        content,
-        snapshotChecksum);
+        fileChecksum,
+        new byte[0],
+        snapshotChecksum,
+        0,
+        Files.size(chunkFile),
+        true);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -52,6 +104,9 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
+    private final boolean isFileReference;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -59,13 +114,19 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final long fileBlockPosition,
+        final long totalFileSize,
+        final boolean isFileReference) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
+      this.isFileReference = isFileReference;
     }
 
     @Override
@@ -97,5 +158,20 @@ final class SnapshotChunkUtil {
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
+
+    @Override
+    public boolean isFileReference() {
+      return isFileReference;
+    }
   }
 }
@@ -104,4 +104,19 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
     }
     return snapshotChecksum;
   }
+
+  @Override
+  public long getFileBlockPosition() {
+    return wrappedChunk.getFileBlockPosition();
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return wrappedChunk.getTotalFileSize();
+  }
+
+  @Override
+  public boolean isFileReference() {
+    return wrappedChunk.isFileReference();
+  }
 }
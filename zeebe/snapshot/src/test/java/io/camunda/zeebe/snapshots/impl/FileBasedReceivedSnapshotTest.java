@@ -11,6 +11,7 @@ import static java.nio.file.StandardOpenOption.CREATE_NEW;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
@@ -26,7 +27,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -340,6 +343,207 @@ public class FileBasedReceivedSnapshotTest {
                 name.getFileName().toString().equals(FileBasedSnapshotStore.METADATA_FILE_NAME));
   }
 
+  @Test
+  public void shouldPersistSnapshotReceivedInRanges() {
+    // given
+    final var snapshotToSend = (FileBasedSnapshot) takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getMetadata()).isEqualTo(snapshotToSend.getMetadata());
+    SNAPSHOT_FILE_CONTENTS.forEach(
+        (fileName, content) ->
+            assertThat(persistedSnapshot.getPath().resolve(fileName)).hasContent(content));
+  }
+
+  @Test
+  public void shouldIgnoreRangeWhichWasAlreadyReceived() {
+    // given
+    final var snapshotToSend = (FileBasedSnapshot) takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        receivedSnapshot.apply(chunk).join();
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+  }
+
+  @Test
+  public void shouldNotPersistSnapshotWithMissingRange() {
+    // given
+    final var snapshotToSend = (FileBasedSnapshot) takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        if (chunk.getChunkName().equals("file1") && chunk.getFileBlockPosition() == 4) {
+          continue;
+        }
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var didPersist = receivedSnapshot.persist();
+
+    // then
+    assertThat(didPersist)
+        .failsWithin(Duration.ofSeconds(5))
+        .withThrowableOfType(ExecutionException.class)
+        .withMessageContaining("file1");
+  }
+
+  @Test
+  public void shouldOfferSstFilesOfLatestSnapshotAsReusable() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L, Map.of("000001.sst", "sst", "CURRENT", "current")))
+        .persist()
+        .join();
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(takePersistedSnapshot(2L).getId()).join();
+
+    // when
+    final var reusableFiles = receivedSnapshot.getReusableFiles().join();
+
+    // then
+    assertThat(reusableFiles)
+        .containsExactly(
+            Map.entry(
+                "000001.sst",
+                SnapshotChunkUtil.createChecksum("sst".getBytes(StandardCharsets.UTF_8))));
+  }
+
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() {
+    // given
+    receiveSnapshot(
+            takePersistedSnapshot(
+                1L, Map.of("000001.sst", "sst1", "000002.sst", "sst2", "CURRENT", "current1")))
+        .persist()
+        .join();
+    final var snapshotToSend =
+        takePersistedSnapshot(
+            2L, Map.of("000002.sst", "sst2", "000003.sst", "sst3", "CURRENT", "current2"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    final var fileReferences = new ArrayList<String>();
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(receivedSnapshot.getReusableFiles().join());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        if (chunk.isFileReference()) {
+          fileReferences.add(chunk.getChunkName());
+        }
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(fileReferences).containsExactly("000002.sst");
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getPath().resolve("000002.sst")).hasContent("sst2");
+    assertThat(persistedSnapshot.getPath().resolve("000003.sst")).hasContent("sst3");
+  }
+
+  @Test
+  public void shouldNotReuseFileWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L, Map.of("000001.sst", "sst1"))).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L, Map.of("000001.sst", "sst2"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+    receivedSnapshot.getReusableFiles().join();
+
+    // when
+    final ActorFuture<Void> didApply;
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      // pretend that the receiver has the file of the sender, even though its content differs
+      snapshotChunkReader.setReusableFiles(
+          Map.of(
+              "000001.sst",
+              SnapshotChunkUtil.createChecksum("sst2".getBytes(StandardCharsets.UTF_8))));
+      didApply = receivedSnapshot.apply(snapshotChunkReader.next());
+    }
+
+    // then
+    assertThat(didApply)
+        .failsWithin(Duration.ofSeconds(5))
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(SnapshotWriteException.class)
+        .withMessageContaining("000001.sst");
+  }
+
+  @Test
+  public void shouldKeepSnapshotOfReusableFilesUntilPersisted() {
+    // given
+    final var snapshotWithReusableFiles =
+        receiveSnapshot(takePersistedSnapshot(1L, Map.of("000001.sst", "sst1"))).persist().join();
+    final var newerSnapshot = receiveSnapshot(takePersistedSnapshot(2L));
+    final var snapshotToSend = takePersistedSnapshot(3L, Map.of("000001.sst", "sst1"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+    final var reusableFiles = receivedSnapshot.getReusableFiles().join();
+
+    // when
+    newerSnapshot.persist().join();
+
+    // then
+    assertThat(snapshotWithReusableFiles.getPath()).exists();
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(reusableFiles);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+    assertThat(persistedSnapshot.getPath().resolve("000001.sst")).hasContent("sst1");
+    assertThat(snapshotWithReusableFiles.getPath()).doesNotExist();
+  }
+
+  @Test
+  public void shouldReleaseSnapshotOfReusableFilesOnAbort() {
+    // given
+    final var snapshotWithReusableFiles =
+        receiveSnapshot(takePersistedSnapshot(1L, Map.of("000001.sst", "sst1"))).persist().join();
+    final var newerSnapshot = receiveSnapshot(takePersistedSnapshot(2L));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(takePersistedSnapshot(3L).getId()).join();
+    receivedSnapshot.getReusableFiles().join();
+
+    // when
+    receivedSnapshot.abort().join();
+    newerSnapshot.persist().join();
+
+    // then
+    assertThat(snapshotWithReusableFiles.getPath()).doesNotExist();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -354,16 +558,21 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
     final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
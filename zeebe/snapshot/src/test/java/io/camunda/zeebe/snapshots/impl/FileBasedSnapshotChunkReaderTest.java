@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -133,6 +134,126 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file2", "file3");
   }
 
+  @Test
+  public void shouldSplitFilesLargerThanMaximumChunkSize() throws IOException {
+    // given
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    final var snapshotChunkIds = new ArrayList<ByteBuffer>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.setMaximumChunkSize(3);
+
+      // when
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.nextId());
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds)
+        .containsExactly(
+            asByteBuffer("file1"),
+            asByteBuffer("file1/3"),
+            asByteBuffer("file2"),
+            asByteBuffer("file3"),
+            asByteBuffer("file3/3"),
+            asByteBuffer("file3/6"));
+    assertThat(snapshotChunks)
+        .extracting(
+            SnapshotChunk::getChunkName,
+            chunk -> new String(chunk.getContent()),
+            SnapshotChunk::getFileBlockPosition,
+            SnapshotChunk::getTotalFileSize)
+        .containsExactly(
+            tuple("file1", "thi", 0L, 4L),
+            tuple("file1", "s", 3L, 4L),
+            tuple("file2", "is", 0L, 2L),
+            tuple("file3", "con", 0L, 7L),
+            tuple("file3", "ten", 3L, 7L),
+            tuple("file3", "t", 6L, 7L));
+    assertThat(snapshotChunks)
+        .allSatisfy(
+            chunk ->
+                assertThat(chunk.getChecksum())
+                    .isEqualTo(SnapshotChunkUtil.createChecksum(chunk.getContent())));
+  }
+
+  @Test
+  public void shouldSeekToChunkWithinFile() throws IOException {
+    // when
+    final var snapshotChunks = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.setMaximumChunkSize(3);
+      snapshotChunkReader.seek(asByteBuffer("file3/3"));
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(new String(snapshotChunkReader.next().getContent()));
+      }
+    }
+
+    // then
+    assertThat(snapshotChunks).containsExactly("ten", "t");
+  }
+
+  @Test
+  public void shouldReferToReusableFilesWithSameChecksum() throws IOException {
+    // given
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.setReusableFiles(
+          Map.of(
+              "file1",
+              SnapshotChunkUtil.createChecksum("this".getBytes(StandardCharsets.UTF_8)),
+              "file3",
+              SnapshotChunkUtil.createChecksum("other".getBytes(StandardCharsets.UTF_8))));
+
+      // when
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(
+            SnapshotChunk::getChunkName,
+            chunk -> new String(chunk.getContent()),
+            SnapshotChunk::getTotalFileSize,
+            SnapshotChunk::isFileReference)
+        .containsExactly(
+            tuple("file1", "", 4L, true),
+            tuple("file2", "is", 2L, false),
+            tuple("file3", "content", 7L, false));
+    assertThat(snapshotChunks.get(0).getChecksum())
+        .isEqualTo(SnapshotChunkUtil.createChecksum("this".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  public void shouldReferToReusableFileInsteadOfSplittingIt() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<ByteBuffer>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.setMaximumChunkSize(3);
+      snapshotChunkReader.setReusableFiles(
+          Map.of(
+              "file3",
+              SnapshotChunkUtil.createChecksum("content".getBytes(StandardCharsets.UTF_8))));
+
+      // when
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.nextId());
+        snapshotChunkReader.next();
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds)
+        .containsExactly(
+            asByteBuffer("file1"),
+            asByteBuffer("file1/3"),
+            asByteBuffer("file2"),
+            asByteBuffer("file3"));
+  }
+
   @Test
   public void shouldResetToInitialChunk() throws IOException {
     // given
@@ -172,7 +293,7 @@ public final class FileBasedSnapshotChunkReaderTest {
   }
 
   private FileBasedSnapshotChunkReader newReader() throws IOException {
-    snapshotDirectory = temporaryFolder.getRoot().toPath();
+    snapshotDirectory = temporaryFolder.newFolder("snapshot").toPath();
 
     for (final var chunk : SNAPSHOT_CHUNK.keySet()) {
       final var path = snapshotDirectory.resolve(chunk);
@@ -180,6 +301,9 @@ public final class FileBasedSnapshotChunkReaderTest {
       Files.writeString(path, SNAPSHOT_CHUNK.get(chunk));
     }
 
-    return new FileBasedSnapshotChunkReader(snapshotDirectory, SNAPSHOT_CHECKSUM);
+    final var checksumFile = temporaryFolder.getRoot().toPath().resolve("snapshot.checksum");
+    SnapshotChecksum.persist(checksumFile, SnapshotChecksum.calculate(snapshotDirectory));
+
+    return new FileBasedSnapshotChunkReader(snapshotDirectory, checksumFile, SNAPSHOT_CHECKSUM);
   }
 }
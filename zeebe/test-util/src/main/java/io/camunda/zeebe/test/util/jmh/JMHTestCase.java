@@ -7,8 +7,13 @@
  */
 package io.camunda.zeebe.test.util.jmh;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.function.Consumer;
+import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
@@ -35,6 +40,13 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
  * }</pre>
  */
 public final class JMHTestCase {
+
+  /**
+   * System property pointing to a directory where the results of each benchmark are written as
+   * JSON, such that they can be compared between releases. If not set, no results are written.
+   */
+  public static final String RESULT_DIRECTORY_PROPERTY = "zeebe.jmh.resultDirectory";
+
   private final ChainedOptionsBuilder builder;
 
   private JMHTestCase(final ChainedOptionsBuilder builder) {
@@ -67,6 +79,19 @@ public final class JMHTestCase {
     }
 
     final var builder = new OptionsBuilder().include(testMatcher.toString());
+    final var resultDirectory = System.getProperty(RESULT_DIRECTORY_PROPERTY);
+    if (resultDirectory != null && !resultDirectory.isBlank()) {
+      final var resultName = testMethod == null || testMethod.isBlank() ? "" : "." + testMethod;
+      final var resultFile = Path.of(resultDirectory, testClass.getName() + resultName + ".json");
+      try {
+        Files.createDirectories(resultFile.getParent());
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      builder.resultFormat(ResultFormatType.JSON).result(resultFile.toString());
+    }
+
     if (modifier != null) {
       modifier.accept(builder);
     }
@@ -16,7 +16,8 @@ public record FeatureFlags(
     boolean enableMessageTTLCheckerAsync,
     boolean enableTimerDueDateCheckerAsync,
     boolean enableStraightThroughProcessingLoopDetector,
-    boolean enableDynamicClusterTopology
+    boolean enableDynamicClusterTopology,
+    boolean enableTimerDueDateWheel
     /*, boolean foo*/ ) {
 
   /* To add a new feature toggle, please follow these steps:
@@ -54,6 +55,7 @@ public record FeatureFlags(
   private static final boolean ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR = true;
 
   private static final boolean ENABLE_DYNAMIC_CLUSTER_TOPOLOGY = true;
+  private static final boolean ENABLE_TIMER_DUE_DATE_WHEEL = false;
 
   public static FeatureFlags createDefault() {
     return new FeatureFlags(
@@ -62,7 +64,8 @@ public record FeatureFlags(
         ENABLE_MSG_TTL_CHECKER_ASYNC,
         ENABLE_DUE_DATE_CHECKER_ASYNC,
         ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR,
-        ENABLE_DYNAMIC_CLUSTER_TOPOLOGY
+        ENABLE_DYNAMIC_CLUSTER_TOPOLOGY,
+        ENABLE_TIMER_DUE_DATE_WHEEL
         /*, FOO_DEFAULT*/ );
   }
 
@@ -78,7 +81,8 @@ public record FeatureFlags(
         true, /* ENABLE_MSG_TTL_CHECKER_ASYNC */
         true, /* ENABLE_DUE_DATE_CHECKER_ASYNC */
         true, /* ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR */
-        true /* ENABLE_DYNAMIC_CLUSTER_TOPOLOGY */
+        true, /* ENABLE_DYNAMIC_CLUSTER_TOPOLOGY */
+        true /* ENABLE_TIMER_DUE_DATE_WHEEL */
         /*, FOO_DEFAULT*/ );
   }
 
@@ -10,6 +10,7 @@ package io.camunda.zeebe.db;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The zeebe database, to store key value pairs in different column families. The column families
@@ -53,6 +54,23 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
 
   Optional<String> getProperty(String propertyName);
 
+  /**
+   * @return the names of the physical column families in which the column families are stored, i.e.
+   *     the default one which most column families share, and one for each column family which is
+   *     configured to be stored on its own
+   */
+  Set<String> getPhysicalColumnFamilyNames();
+
+  /**
+   * Same as {@link #getProperty(String)}, but returns the property of the given physical column
+   * family.
+   *
+   * @param physicalColumnFamilyName one of the {@link #getPhysicalColumnFamilyNames()}
+   * @param propertyName the name of the property
+   * @return the value of the property, or empty if there is no such property or column family
+   */
+  Optional<String> getProperty(String physicalColumnFamilyName, String propertyName);
+
   TransactionContext createContext();
 
   /**
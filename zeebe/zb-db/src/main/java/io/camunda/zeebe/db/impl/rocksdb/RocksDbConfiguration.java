@@ -7,6 +7,10 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -20,7 +24,8 @@ public final class RocksDbConfiguration {
   /**
    * WARN: It is safe to disable wal as long as there is only one column family. With more than one
    * column family, consistency across multiple column family is ensured by WAL while taking a
-   * checkpoint.
+   * checkpoint, or by flushing all column families atomically, which is why atomic flushes are
+   * enabled when {@link #getDedicatedColumnFamilies() dedicated column families} are configured.
    *
    * <p>http://rocksdb.org/blog/2015/11/10/use-checkpoints-for-efficient-snapshots.html >>> The
    * Checkpoint feature enables RocksDB to create a consistent snapshot of a given RocksDB database
@@ -43,6 +48,11 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  public static final MemoryAllocationStrategy DEFAULT_MEMORY_ALLOCATION_STRATEGY =
+      MemoryAllocationStrategy.PARTITION;
+
+  public static final TransactionMode DEFAULT_TRANSACTION_MODE = TransactionMode.OPTIMISTIC;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -72,6 +82,28 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * Defines whether the memory limit applies to each partition, or to all partitions of a broker
+   * which then share a single block cache and memtable budget.
+   */
+  private MemoryAllocationStrategy memoryAllocationStrategy = DEFAULT_MEMORY_ALLOCATION_STRATEGY;
+
+  /** Defines how the transactions of the database are implemented. */
+  private TransactionMode transactionMode = DEFAULT_TRANSACTION_MODE;
+
+  /**
+   * The names of the column families which are stored in their own RocksDB column family, instead
+   * of sharing the default one with all others. Each of them has its own memtables, SST files and
+   * options, and can be tuned separately via {@link #dedicatedColumnFamilyOptions}.
+   */
+  private List<String> dedicatedColumnFamilies = new ArrayList<>();
+
+  /**
+   * The user provided options of the dedicated column families, by column family name. Just as
+   * {@link #columnFamilyOptions}, these replace the default options of the column family.
+   */
+  private Map<String, Properties> dedicatedColumnFamilyOptions = new HashMap<>();
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +187,69 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public MemoryAllocationStrategy getMemoryAllocationStrategy() {
+    return memoryAllocationStrategy;
+  }
+
+  public RocksDbConfiguration setMemoryAllocationStrategy(
+      final MemoryAllocationStrategy memoryAllocationStrategy) {
+    this.memoryAllocationStrategy = memoryAllocationStrategy;
+    return this;
+  }
+
+  public TransactionMode getTransactionMode() {
+    return transactionMode;
+  }
+
+  public RocksDbConfiguration setTransactionMode(final TransactionMode transactionMode) {
+    this.transactionMode = transactionMode;
+    return this;
+  }
+
+  public List<String> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setDedicatedColumnFamilies(
+      final List<String> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+    return this;
+  }
+
+  public Map<String, Properties> getDedicatedColumnFamilyOptions() {
+    return dedicatedColumnFamilyOptions;
+  }
+
+  public RocksDbConfiguration setDedicatedColumnFamilyOptions(
+      final Map<String, Properties> dedicatedColumnFamilyOptions) {
+    this.dedicatedColumnFamilyOptions = dedicatedColumnFamilyOptions;
+    return this;
+  }
+
+  public enum MemoryAllocationStrategy {
+    /** Each partition gets its own block cache and memtables, sized by the memory limit. */
+    PARTITION,
+    /**
+     * All partitions of a broker share one block cache and memtable budget, sized by the memory
+     * limit, such that busy partitions can use the memory idle partitions do not need.
+     */
+    BROKER
+  }
+
+  public enum TransactionMode {
+    /**
+     * Each transaction is an optimistic RocksDB transaction, which tracks the keys it writes, and
+     * fails to commit if another transaction wrote any of them in the meantime.
+     */
+    OPTIMISTIC,
+    /**
+     * Each transaction collects its writes in an indexed write batch, which is written atomically
+     * on commit, without tracking the keys or validating them. The transaction still reads its own
+     * writes. This is only safe if each key is written by a single transaction at a time, e.g. the
+     * stream processor and the exporters of a partition each have their own transaction context,
+     * but write to different column families.
+     */
+    SINGLE_WRITER
+  }
 }
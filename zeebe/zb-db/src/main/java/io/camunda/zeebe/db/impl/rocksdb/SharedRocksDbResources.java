@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import org.agrona.CloseHelper;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.RocksDB;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * Memory pools which are shared by all databases of a broker, instead of statically splitting the
+ * memory budget between the partitions. This allows busy partitions to use the memory which idle
+ * partitions do not need.
+ *
+ * <p>The memory used by the memtables is charged against the block cache through the {@link
+ * WriteBufferManager}, such that the block cache capacity is an upper bound for both. The write
+ * buffer manager flushes the biggest memtable of any database once the memtables of all databases
+ * together use more than their share of the budget.
+ *
+ * <p>The resources must only be closed after all databases using them have been closed.
+ */
+public final class SharedRocksDbResources implements AutoCloseable {
+
+  static {
+    RocksDB.loadLibrary();
+  }
+
+  private final long memoryLimit;
+  private final int partitionCount;
+  private final LRUCache blockCache;
+  private final WriteBufferManager writeBufferManager;
+
+  private SharedRocksDbResources(
+      final long memoryLimit,
+      final int partitionCount,
+      final LRUCache blockCache,
+      final WriteBufferManager writeBufferManager) {
+    this.memoryLimit = memoryLimit;
+    this.partitionCount = partitionCount;
+    this.blockCache = blockCache;
+    this.writeBufferManager = writeBufferManager;
+  }
+
+  /**
+   * Allocates the shared pools for the given memory budget. Same as for a single database, up to
+   * two thirds of the budget can be used by the memtables, and the rest (or whatever the memtables
+   * do not use) by the block cache.
+   *
+   * @param memoryLimit the memory budget of all databases together, in bytes
+   * @param partitionCount the number of partitions whose databases share the budget
+   * @return the shared resources
+   */
+  public static SharedRocksDbResources allocate(final long memoryLimit, final int partitionCount) {
+    if (memoryLimit <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the shared RocksDB memory limit to be greater than 0, but was " + memoryLimit);
+    }
+    if (partitionCount <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the shared RocksDB memory to be shared by at least one partition, but was "
+              + partitionCount);
+    }
+
+    // same as for a single database: you can use the perf context to check if we're often blocked
+    // on the block cache mutex, in which case we want to increase the number of shards
+    final var blockCache = new LRUCache(memoryLimit, 8, false, 0.15);
+    final var writeBufferManager =
+        new WriteBufferManager(memoryLimit - (memoryLimit / 3), blockCache);
+    return new SharedRocksDbResources(memoryLimit, partitionCount, blockCache, writeBufferManager);
+  }
+
+  public long getMemoryLimit() {
+    return memoryLimit;
+  }
+
+  /**
+   * @return the share of the memory limit of a single partition, which sizes its memtables such
+   *     that all partitions can fill theirs at the same time
+   */
+  public long getMemoryLimitPerPartition() {
+    return memoryLimit / partitionCount;
+  }
+
+  public Cache getBlockCache() {
+    return blockCache;
+  }
+
+  public WriteBufferManager getWriteBufferManager() {
+    return writeBufferManager;
+  }
+
+  @Override
+  public void close() {
+    // the write buffer manager holds a reference to the cache, so it has to be closed first
+    CloseHelper.closeAll(writeBufferManager, blockCache);
+  }
+}
@@ -13,13 +13,19 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -62,6 +68,17 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
     throw unsupported("getProperty");
   }
 
+  @Override
+  public Set<String> getPhysicalColumnFamilyNames() {
+    throw unsupported("getPhysicalColumnFamilyNames");
+  }
+
+  @Override
+  public Optional<String> getProperty(
+      final String physicalColumnFamilyName, final String propertyName) {
+    throw unsupported("getProperty");
+  }
+
   @Override
   public TransactionContext createContext() {
     throw unsupported("createContext");
@@ -83,10 +100,30 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
 
   static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
       ZeebeDb<ColumnFamilyType> openDb(
-          final Options options, final String path, final List<AutoCloseable> managedResources)
+          final RocksDbOptions options,
+          final String path,
+          final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    // the snapshot must contain all column families, including the dedicated ones, so all of them
+    // must be opened
+    final List<byte[]> columnFamilyNames;
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      columnFamilyNames = RocksDB.listColumnFamilies(listOptions, path);
+    }
+
+    final var cfDescriptors = new ArrayList<ColumnFamilyDescriptor>();
+    for (final var name : columnFamilyNames) {
+      final var cfOptions =
+          options
+              .dedicatedCfOptions()
+              .getOrDefault(new String(name, StandardCharsets.UTF_8), options.cfOptions());
+      cfDescriptors.add(new ColumnFamilyDescriptor(name, cfOptions));
+    }
+
+    final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+    final RocksDB db = RocksDB.openReadOnly(options.dbOptions(), path, cfDescriptors, cfHandles);
     managedResources.add(db);
+    managedResources.addAll(cfHandles);
 
     return new SnapshotOnlyDb<>(db, managedResources);
   }
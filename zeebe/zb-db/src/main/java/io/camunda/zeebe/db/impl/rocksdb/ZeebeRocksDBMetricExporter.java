@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.prometheus.client.Gauge;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +24,8 @@ public final class ZeebeRocksDBMetricExporter<
       LoggerFactory.getLogger(ZeebeRocksDBMetricExporter.class.getName());
 
   private static final String PARTITION = "partition";
+  private static final String COLUMN_FAMILY = "columnFamily";
+  private static final String DEFAULT_COLUMN_FAMILY = "default";
   private static final String ZEEBE_NAMESPACE = "zeebe";
 
   private static final String MEMORY_METRICS_HELP =
@@ -34,9 +37,11 @@ public final class ZeebeRocksDBMetricExporter<
     new RocksDBMetric(
         "rocksdb.cur-size-active-mem-table", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
     new RocksDBMetric("rocksdb.size-all-mem-tables", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
-    new RocksDBMetric("rocksdb.block-cache-usage", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
-    new RocksDBMetric("rocksdb.block-cache-capacity", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
-    new RocksDBMetric(
+    RocksDBMetric.databaseWide(
+        "rocksdb.block-cache-usage", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
+    RocksDBMetric.databaseWide(
+        "rocksdb.block-cache-capacity", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
+    RocksDBMetric.databaseWide(
         "rocksdb.block-cache-pinned-usage", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
     new RocksDBMetric(
         "rocksdb.estimate-table-readers-mem", MEMORY_METRICS_PREFIX, MEMORY_METRICS_HELP),
@@ -64,12 +69,15 @@ public final class ZeebeRocksDBMetricExporter<
   private static final String WRITE_METRICS_PREFIX = "rocksdb_writes";
 
   private static final RocksDBMetric[] WRITE_METRICS = {
-    new RocksDBMetric("rocksdb.is-write-stopped", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
-    new RocksDBMetric(
+    RocksDBMetric.databaseWide(
+        "rocksdb.is-write-stopped", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
+    RocksDBMetric.databaseWide(
         "rocksdb.actual-delayed-write-rate", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
     new RocksDBMetric("rocksdb.mem-table-flush-pending", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
-    new RocksDBMetric("rocksdb.num-running-flushes", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
-    new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
+    RocksDBMetric.databaseWide(
+        "rocksdb.num-running-flushes", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
+    RocksDBMetric.databaseWide(
+        "rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
   };
 
   private final String partition;
@@ -98,13 +106,21 @@ public final class ZeebeRocksDBMetricExporter<
       return;
     }
     for (final RocksDBMetric metric : metrics) {
-      try {
-        database
-            .getProperty(metric.getPropertyName())
-            .map(Double::parseDouble)
-            .ifPresent(value -> metric.exportValue(partition, value));
-      } catch (final Exception exception) {
-        LOG.debug("Error occurred on exporting metric {}", metric.getPropertyName(), exception);
+      // the default and each dedicated column family have their own memtables and SST files, but
+      // share e.g. the block cache, which must then only be exported once
+      final var columnFamilies =
+          metric.isDatabaseWide()
+              ? Set.of(DEFAULT_COLUMN_FAMILY)
+              : database.getPhysicalColumnFamilyNames();
+      for (final String columnFamily : columnFamilies) {
+        try {
+          database
+              .getProperty(columnFamily, metric.getPropertyName())
+              .map(Double::parseDouble)
+              .ifPresent(value -> metric.exportValue(partition, columnFamily, value));
+        } catch (final Exception exception) {
+          LOG.debug("Error occurred on exporting metric {}", metric.getPropertyName(), exception);
+        }
       }
     }
   }
@@ -112,32 +128,53 @@ public final class ZeebeRocksDBMetricExporter<
   private static final class RocksDBMetric {
 
     private final String propertyName;
+    private final boolean databaseWide;
     private final Gauge gauge;
 
     private RocksDBMetric(final String propertyName, final String namePrefix, final String help) {
+      this(propertyName, namePrefix, help, false);
+    }
+
+    private RocksDBMetric(
+        final String propertyName,
+        final String namePrefix,
+        final String help,
+        final boolean databaseWide) {
       this.propertyName = Objects.requireNonNull(propertyName);
+      this.databaseWide = databaseWide;
 
       gauge =
           Gauge.build()
               .namespace(ZEEBE_NAMESPACE)
               .name(namePrefix + gaugeSuffix())
               .help(help)
-              .labelNames(PARTITION)
+              .labelNames(PARTITION, COLUMN_FAMILY)
               .register();
     }
 
+    /** Creates a metric of a property which is the same for all column families. */
+    private static RocksDBMetric databaseWide(
+        final String propertyName, final String namePrefix, final String help) {
+      return new RocksDBMetric(propertyName, namePrefix, help, true);
+    }
+
     private String gaugeSuffix() {
       final String suffix =
           "_" + propertyName.substring(propertyName.indexOf(".") + 1); // cut off "rocksdb." prefix
       return suffix.replaceAll("-", "_");
     }
 
-    public void exportValue(final String partitionID, final Double value) {
-      gauge.labels(partitionID).set(value);
+    public void exportValue(
+        final String partitionID, final String columnFamily, final Double value) {
+      gauge.labels(partitionID, columnFamily).set(value);
     }
 
     public String getPropertyName() {
       return propertyName;
     }
+
+    public boolean isDatabaseWide() {
+      return databaseWide;
+    }
   }
 }
@@ -18,12 +18,15 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
@@ -32,19 +35,22 @@ import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
-import org.rocksdb.TableFormatConfig;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  // this is a current guess and candidate for further tuning
+  // values can be between 0 and 0.25 (anything higher gets clamped to 0.25), we randomly picked
+  // 0.15
+  private static final double MEMTABLE_FILTER_MEMORY = 0.15;
+
   static {
     RocksDB.loadLibrary();
   }
@@ -52,14 +58,29 @@ public final class ZeebeRocksDbFactory<
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration metrics;
+  private final SharedRocksDbResources sharedResources;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration metricsConfiguration) {
+    this(rocksDbConfiguration, consistencyChecksSettings, metricsConfiguration, null);
+  }
+
+  /**
+   * @param sharedResources the block cache and write buffer manager to share with the databases of
+   *     other partitions; if null, each database allocates its own, based on the configured memory
+   *     limit
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration metricsConfiguration,
+      final SharedRocksDbResources sharedResources) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
     metrics = metricsConfiguration;
+    this.sharedResources = sharedResources;
   }
 
   @Override
@@ -83,17 +104,15 @@ public final class ZeebeRocksDbFactory<
   public ZeebeDb<ColumnFamilyType> openSnapshotOnlyDb(final File pathName) {
     final List<AutoCloseable> managedResources = Collections.synchronizedList(new ArrayList<>());
     final var options = prepareOptions(managedResources);
-    final var snapshotOnlyOptions =
-        new Options(options.dbOptions(), options.cfOptions())
-            // only open existing databases
-            .setCreateIfMissing(false)
-            // this can slow down open significantly if there are many SST files
-            .setSkipCheckingSstFileSizesOnDbOpen(true);
-    managedResources.add(snapshotOnlyOptions);
+    options
+        .dbOptions()
+        // only open existing databases
+        .setCreateIfMissing(false)
+        // this can slow down open significantly if there are many SST files
+        .setSkipCheckingSstFileSizesOnDbOpen(true);
 
     try {
-      return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+      return SnapshotOnlyDb.openDb(options, pathName.getAbsolutePath(), managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -102,12 +121,18 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
+    // the default and the dedicated column families share the block cache, if they need one
+    final var blockCache =
+        needsBlockCache() ? getOrCreateBlockCache(managedResources, getBlockCacheMemory()) : null;
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    final var columnFamilyOptions = createColumnFamilyOptions(managedResources, blockCache);
     managedResources.add(columnFamilyOptions);
+    final var dedicatedColumnFamilyOptions =
+        createDedicatedColumnFamilyOptions(managedResources, blockCache);
+    managedResources.addAll(dedicatedColumnFamilyOptions.values());
     final var dbOptions = createDefaultDbOptions(managedResources);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, dedicatedColumnFamilyOptions);
   }
 
   private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
@@ -119,7 +144,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // the dedicated CFs are created on demand
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -139,6 +164,17 @@ public final class ZeebeRocksDbFactory<
       dbOptions.setRateLimiter(rateLimiter);
     }
 
+    // without the WAL, the column families of a checkpoint are only consistent with each other if
+    // they are flushed together
+    if (!rocksDbConfiguration.getDedicatedColumnFamilies().isEmpty()) {
+      dbOptions.setAtomicFlush(true);
+    }
+
+    // memtables of all partitions draw from the same budget, and are flushed once it is exhausted
+    if (sharedResources != null) {
+      dbOptions.setWriteBufferManager(sharedResources.getWriteBufferManager());
+    }
+
     if (rocksDbConfiguration.isStatisticsEnabled()) {
       final var statistics = new Statistics();
       closeables.add(statistics);
@@ -155,9 +191,15 @@ public final class ZeebeRocksDbFactory<
   }
 
   /**
-   * @return Options which are used on all column families
+   * @return Options which are used on the default column family, i.e. all column families which are
+   *     not dedicated
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(closeables, null);
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final Cache blockCache) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
@@ -165,7 +207,39 @@ public final class ZeebeRocksDbFactory<
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(
+        closeables,
+        blockCache != null ? blockCache : getOrCreateBlockCache(closeables, getBlockCacheMemory()));
+  }
+
+  /**
+   * @return Options of each dedicated column family, by the name of the column family
+   */
+  Map<String, ColumnFamilyOptions> createDedicatedColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final Cache blockCache) {
+    final var dedicatedColumnFamilyOptions = new LinkedHashMap<String, ColumnFamilyOptions>();
+    for (final var columnFamily : rocksDbConfiguration.getDedicatedColumnFamilies()) {
+      final var userProvidedOptions =
+          rocksDbConfiguration.getDedicatedColumnFamilyOptions().get(columnFamily);
+      if (userProvidedOptions != null && !userProvidedOptions.isEmpty()) {
+        dedicatedColumnFamilyOptions.put(columnFamily, createFromUserOptions(userProvidedOptions));
+      } else {
+        dedicatedColumnFamilyOptions.put(
+            columnFamily, createDefaultDedicatedColumnFamilyOptions(closeables, blockCache));
+      }
+    }
+    return dedicatedColumnFamilyOptions;
+  }
+
+  private boolean needsBlockCache() {
+    if (rocksDbConfiguration.getColumnFamilyOptions().isEmpty()) {
+      return true;
+    }
+
+    final var dedicatedColumnFamilyOptions = rocksDbConfiguration.getDedicatedColumnFamilyOptions();
+    return rocksDbConfiguration.getDedicatedColumnFamilies().stream()
+        .map(dedicatedColumnFamilyOptions::get)
+        .anyMatch(options -> options == null || options.isEmpty());
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -185,41 +259,58 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables, final Cache blockCache) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
+    final var tableConfig = createTableFormatConfig(closeables, blockCache);
 
-    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    if (rocksDbConfiguration.isSstPartitioningEnabled()) {
+      columnFamilyOptions.setSstPartitionerFactory(
+          new SstPartitionerFixedPrefixFactory(Long.BYTES));
+    }
+
+    return configureMemtablesAndCompaction(columnFamilyOptions)
+        // to extract our column family type (used as prefix) and seek faster
+        .useFixedLengthPrefixExtractor(Long.BYTES)
+        // prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
+        // create a filter for each memtable, allowing us to skip the prefixes if possible
+        .setMemtablePrefixBloomSizeRatio(MEMTABLE_FILTER_MEMORY)
+        .setTableFormatConfig(tableConfig);
+  }
+
+  /**
+   * All keys of a dedicated column family start with the same column family prefix, so unlike the
+   * default column family, it uses no prefix extractor, nor prefix based SST partitioning and hash
+   * indexes. Instead, the memtables and SST files only filter by whole keys.
+   */
+  private ColumnFamilyOptions createDefaultDedicatedColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final Cache blockCache) {
+    final var tableConfig =
+        createTableFormatConfig(closeables, blockCache).setIndexType(IndexType.kBinarySearch);
+
+    return configureMemtablesAndCompaction(new ColumnFamilyOptions())
+        .setMemtableWholeKeyFiltering(true)
+        .setMemtablePrefixBloomSizeRatio(MEMTABLE_FILTER_MEMORY)
+        .setTableFormatConfig(tableConfig);
+  }
+
+  private ColumnFamilyOptions configureMemtablesAndCompaction(
+      final ColumnFamilyOptions columnFamilyOptions) {
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
     // memtable which takes a bit of memory which must be accounted for from the memtable's memory
     final var maxConcurrentMemtableCount = rocksDbConfiguration.getMaxWriteBufferNumber();
-    // this is a current guess and candidate for further tuning
-    // values can be between 0 and 0.25 (anything higher gets clamped to 0.25), we randomly picked
-    // 0.15
-    // prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
-    // create
-    // a filter for each memtable, allowing us to skip the prefixes if possible
-    final var memtablePrefixFilterMemory = 0.15;
+    // each column family has its own memtables, so the dedicated column families split the memtable
+    // budget with the default one
+    final var columnFamilyCount = 1 + rocksDbConfiguration.getDedicatedColumnFamilies().size();
     final var memtableMemory =
         Math.round(
-            ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
-                * (1 - memtablePrefixFilterMemory));
-
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
-
-    if (rocksDbConfiguration.isSstPartitioningEnabled()) {
-      columnFamilyOptions.setSstPartitionerFactory(
-          new SstPartitionerFixedPrefixFactory(Long.BYTES));
-    }
+            ((getTotalMemoryBudget() - getBlockCacheMemory())
+                    / (double) maxConcurrentMemtableCount
+                    / columnFamilyCount)
+                * (1 - MEMTABLE_FILTER_MEMORY));
 
     return columnFamilyOptions
-        // to extract our column family type (used as prefix) and seek faster
-        .useFixedLengthPrefixExtractor(Long.BYTES)
-        .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
         // memtables
         // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
         // files
@@ -260,18 +351,40 @@ public final class ZeebeRocksDbFactory<
         // individual file sizes
         // https://github.com/facebook/rocksdb/blob/fd0d35d390e212b617e90d7567102d3e5fd1c706/include/rocksdb/advanced_options.h#L417-L429
         .setTargetFileSizeBase(8 * 1024 * 1024L)
-        .setTargetFileSizeMultiplier(2)
-        // misc
-        .setTableFormatConfig(tableConfig);
+        .setTargetFileSizeMultiplier(2);
+  }
+
+  private long getTotalMemoryBudget() {
+    // when sharing memory, the limit applies to all partitions together, so the memtables of each
+    // partition are sized by its share of it; the write buffer manager still lets busy partitions
+    // use what idle ones don't, as it only flushes once the memtables of all of them exceed it
+    return sharedResources != null
+        ? sharedResources.getMemoryLimitPerPartition()
+        : rocksDbConfiguration.getMemoryLimit();
   }
 
-  private TableFormatConfig createTableFormatConfig(
+  private long getBlockCacheMemory() {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return getTotalMemoryBudget() / 3;
+  }
+
+  private Cache getOrCreateBlockCache(
       final List<AutoCloseable> closeables, final long blockCacheMemory) {
+    if (sharedResources != null) {
+      // shared resources are owned by the broker, and must not be closed with the database
+      return sharedResources.getBlockCache();
+    }
+
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
     final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
 
+  private BlockBasedTableConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables, final Cache cache) {
     final var filter = new BloomFilter(10, false);
     closeables.add(filter);
 
@@ -26,6 +26,7 @@ import org.rocksdb.RocksObject;
 import org.rocksdb.Status;
 import org.rocksdb.Status.Code;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatchWithIndex;
 
 public final class RocksDbInternal {
 
@@ -38,6 +39,10 @@ public final class RocksDbInternal {
   static MethodHandle getWithHandle;
   static MethodHandle removeWithHandle;
 
+  static MethodHandle batchPutWithHandle;
+  static MethodHandle batchGetWithHandle;
+  static MethodHandle batchRemoveWithHandle;
+
   static {
     RocksDB.loadLibrary();
 
@@ -54,6 +59,10 @@ public final class RocksDbInternal {
     putWithHandle();
     getWithHandle();
     removeWithHandle();
+
+    batchPutWithHandle();
+    batchGetWithHandle();
+    batchRemoveWithHandle();
   }
 
   private static void nativeHandles() throws NoSuchFieldException {
@@ -116,6 +125,56 @@ public final class RocksDbInternal {
     }
   }
 
+  /*
+   final native void put(final long handle, final byte[] key, final int keyLen,
+       final byte[] value, final int valueLen, final long cfHandle);
+  */
+  private static void batchPutWithHandle() throws NoSuchMethodException {
+    final var method =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "put", Long.TYPE, byte[].class, Integer.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    method.setAccessible(true);
+    try {
+      batchPutWithHandle = MethodHandles.lookup().unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /*
+   private native byte[] getFromBatchAndDB(final long handle, final long rdbHandle,
+       final long readOptHandle, final byte[] key, final int keyLen, final long cfHandle);
+  */
+  private static void batchGetWithHandle() throws NoSuchMethodException {
+    final var method =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "getFromBatchAndDB",
+            Long.TYPE,
+            Long.TYPE,
+            Long.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            Long.TYPE);
+    method.setAccessible(true);
+    try {
+      batchGetWithHandle = MethodHandles.lookup().unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void batchRemoveWithHandle() throws NoSuchMethodException {
+    final var method =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "delete", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    method.setAccessible(true);
+    try {
+      batchRemoveWithHandle = MethodHandles.lookup().unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   static boolean isRocksDbExceptionRecoverable(final RocksDBException rdbex) {
     final Status status = rdbex.getStatus();
     return RECOVERABLE_ERROR_CODES.contains(status.getCode());
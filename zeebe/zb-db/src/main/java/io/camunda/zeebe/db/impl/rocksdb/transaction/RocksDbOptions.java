@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import java.util.Map;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 
@@ -15,11 +16,16 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>Zeebe stores all of its column families in the default RocksDB column family, except for the
+ * ones which are configured to be dedicated, which are each stored in their own RocksDB column
+ * family, with their own options.
  *
  * @param dbOptions The database options used to open the RocksDB database
- * @param cfOptions The column family options used to open the RocksDB database
+ * @param cfOptions The column family options of the default RocksDB column family
+ * @param dedicatedCfOptions The column family options of the dedicated column families, by the name
+ *     of the column family
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions,
+    ColumnFamilyOptions cfOptions,
+    Map<String, ColumnFamilyOptions> dedicatedCfOptions) {}
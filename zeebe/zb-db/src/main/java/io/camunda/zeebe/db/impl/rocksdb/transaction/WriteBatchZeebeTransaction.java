@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A transaction which collects its writes in a {@link WriteBatchWithIndex}, and writes them
+ * atomically to the database on commit. Reads and iterators see the uncommitted writes of the
+ * transaction on top of the database, as the batch is indexed.
+ *
+ * <p>Unlike an optimistic transaction, it doesn't track the keys it writes, and can't detect
+ * conflicts with other transactions, which saves the bookkeeping and the validation on commit. It
+ * must only be used if each key is written by a single transaction at a time.
+ */
+final class WriteBatchZeebeTransaction extends ZeebeTransaction {
+
+  private final RocksDB db;
+  private final long dbHandle;
+  private final WriteOptions writeOptions;
+  // keys are overwritten in the index, which is required to iterate over the batch and the database
+  private final WriteBatchWithIndex batch = new WriteBatchWithIndex(true);
+  private final long batchHandle;
+
+  WriteBatchZeebeTransaction(final RocksDB db, final WriteOptions writeOptions) {
+    this.db = db;
+    this.writeOptions = writeOptions;
+    dbHandle = ZeebeTransactionDb.getNativeHandle(db);
+    batchHandle = ZeebeTransactionDb.getNativeHandle(batch);
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    try {
+      RocksDbInternal.batchPutWithHandle.invokeExact(
+          batch, batchHandle, key, keyLength, value, valueLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    try {
+      return (byte[])
+          RocksDbInternal.batchGetWithHandle.invokeExact(
+              batch, batchHandle, dbHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    try {
+      RocksDbInternal.batchRemoveWithHandle.invokeExact(
+          batch, batchHandle, key, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the base iterator is owned by, and closed with, the returned iterator
+    return batch.newIteratorWithBase(handle, db.newIterator(handle, options), options);
+  }
+
+  @Override
+  void begin() {
+    batch.clear();
+  }
+
+  @Override
+  void commitWrites() throws RocksDBException {
+    if (batch.count() > 0) {
+      db.write(writeOptions, batch);
+    }
+    batch.clear();
+  }
+
+  @Override
+  void discardWrites() {
+    batch.clear();
+  }
+
+  @Override
+  public void close() {
+    batch.close();
+  }
+}
@@ -12,97 +12,54 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
-import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
-import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
-
-  private final long nativeHandle;
-  private final TransactionRenovator transactionRenovator;
+/**
+ * A transaction of a {@link DefaultTransactionContext}, which is reused for all transactions of the
+ * context. The keys and values are always read from offset 0 of the given arrays, and the column
+ * families are identified by the native handles of their {@link ColumnFamilyHandle}.
+ */
+public abstract class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private boolean inCurrentTransaction;
-  private Transaction transaction;
-
-  public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
-    this.transactionRenovator = transactionRenovator;
-    this.transaction = transaction;
-    try {
-      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
-    }
-  }
 
-  public void put(
+  public abstract void put(
       final long columnFamilyHandle,
       final byte[] key,
       final int keyLength,
       final byte[] value,
       final int valueLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      final int valueOffset = 0;
-      RocksDbInternal.putWithHandle.invokeExact(
-          transaction,
-          nativeHandle,
-          key,
-          keyOffset,
-          keyLength,
-          value,
-          valueOffset,
-          valueLength,
-          columnFamilyHandle,
-          false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+      throws Exception;
 
-  public byte[] get(
+  public abstract byte[] get(
       final long columnFamilyHandle,
       final long readOptionsHandle,
       final byte[] key,
       final int keyLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      return (byte[])
-          RocksDbInternal.getWithHandle.invokeExact(
-              transaction,
-              nativeHandle,
-              readOptionsHandle,
-              key,
-              keyOffset,
-              keyLength,
-              columnFamilyHandle);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-      return null; // unreachable
-    }
-  }
+      throws Exception;
 
-  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
-      throws Exception {
-    try {
-      RocksDbInternal.removeWithHandle.invokeExact(
-          transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+  public abstract void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception;
 
-  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
-    return transaction.getIterator(options, handle);
-  }
+  /**
+   * @return an iterator over the column family, which includes the uncommitted writes of this
+   *     transaction
+   */
+  public abstract RocksIterator newIterator(
+      final ReadOptions options, final ColumnFamilyHandle handle);
+
+  /** Begins a new transaction, discarding everything which was not committed before. */
+  abstract void begin();
+
+  abstract void commitWrites() throws RocksDBException;
+
+  abstract void discardWrites() throws RocksDBException;
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    begin();
     inCurrentTransaction = true;
   }
 
@@ -151,16 +108,14 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    commitWrites();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    discardWrites();
   }
 
   @Override
-  public void close() {
-    transaction.close();
-  }
+  public abstract void close();
 }
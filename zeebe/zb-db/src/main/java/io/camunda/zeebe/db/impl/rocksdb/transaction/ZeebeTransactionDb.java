@@ -18,24 +18,36 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -43,28 +55,38 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     implements ZeebeDb<ColumnFamilyNames>, TransactionRenovator {
 
   private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final String DEFAULT_PHYSICAL_COLUMN_FAMILY =
+      new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8);
+  private static final long MOVE_BATCH_SIZE = 4 * 1024 * 1024L;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
-  private final OptimisticTransactionDB optimisticTransactionDB;
+  private final RocksDB db;
+  private final TransactionMode transactionMode;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  private final Map<String, ColumnFamilyOptions> dedicatedColumnFamilyOptions;
+  private final Map<String, DedicatedColumnFamily> dedicatedColumnFamilies =
+      new ConcurrentHashMap<>();
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
-      final OptimisticTransactionDB optimisticTransactionDB,
+      final RocksDB db,
+      final Map<String, ColumnFamilyOptions> dedicatedColumnFamilyOptions,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
-    this.optimisticTransactionDB = optimisticTransactionDB;
+    this.db = db;
+    this.dedicatedColumnFamilyOptions = dedicatedColumnFamilyOptions;
+    transactionMode = rocksDbConfiguration.getTransactionMode();
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
@@ -93,30 +115,68 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    // the dedicated column families of a snapshot may differ from the configured ones, e.g. after
+    // changing the configuration, so all existing column families are opened, and the entries of
+    // the ones which are no longer dedicated are moved back to the default column family
+    final var existingColumnFamilies = listDedicatedColumnFamilies(options, path);
+    final var cfDescriptors = new ArrayList<ColumnFamilyDescriptor>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    for (final var columnFamily : existingColumnFamilies) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              columnFamily.getBytes(StandardCharsets.UTF_8),
+              options.dedicatedCfOptions().getOrDefault(columnFamily, options.cfOptions())));
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
-    final OptimisticTransactionDB optimisticTransactionDB =
-        OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
-    closables.add(optimisticTransactionDB);
+    final RocksDB db =
+        switch (rocksDbConfiguration.getTransactionMode()) {
+          case OPTIMISTIC ->
+              OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
+          case SINGLE_WRITER -> RocksDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
+        };
+    closables.add(db);
+    closables.addAll(cfHandles);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    final var transactionDb =
+        new ZeebeTransactionDb<ColumnFamilyNames>(
+            defaultColumnFamilyHandle,
+            db,
+            options.dedicatedCfOptions(),
+            closables,
+            rocksDbConfiguration,
+            consistencyChecksSettings,
+            metrics);
 
-    return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
-        optimisticTransactionDB,
-        closables,
-        rocksDbConfiguration,
-        consistencyChecksSettings,
-        metrics);
+    for (int i = 1; i < cfHandles.size(); i++) {
+      transactionDb.openExistingColumnFamily(existingColumnFamilies.get(i - 1), cfHandles.get(i));
+    }
+
+    return transactionDb;
+  }
+
+  private static List<String> listDedicatedColumnFamilies(
+      final RocksDbOptions options, final String path) {
+    final List<byte[]> columnFamilies;
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      columnFamilies = RocksDB.listColumnFamilies(listOptions, path);
+    } catch (final RocksDBException e) {
+      // the database does not exist yet
+      return List.of();
+    }
+
+    return columnFamilies.stream()
+        .filter(name -> !Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY))
+        .map(name -> new String(name, StandardCharsets.UTF_8))
+        .toList();
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -128,20 +188,31 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     }
   }
 
-  protected ReadOptions getPrefixReadOptions() {
-    return prefixReadOptions;
+  /**
+   * @return the handle of the RocksDB column family in which the given column family is stored
+   */
+  ColumnFamilyHandle getColumnFamilyHandle(final Enum<?> columnFamily) {
+    final var dedicatedColumnFamily = getDedicatedColumnFamily(columnFamily);
+    return dedicatedColumnFamily != null ? dedicatedColumnFamily.handle() : defaultHandle;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
+  /**
+   * @return the native handle of the RocksDB column family in which the given column family is
+   *     stored
+   */
+  long getColumnFamilyNativeHandle(final Enum<?> columnFamily) {
+    final var dedicatedColumnFamily = getDedicatedColumnFamily(columnFamily);
+    return dedicatedColumnFamily != null
+        ? dedicatedColumnFamily.nativeHandle()
+        : defaultNativeHandle;
   }
 
-  protected long getReadOptionsNativeHandle() {
-    return getNativeHandle(defaultReadOptions);
+  protected ReadOptions getPrefixReadOptions() {
+    return prefixReadOptions;
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  protected long getReadOptionsNativeHandle() {
+    return getNativeHandle(defaultReadOptions);
   }
 
   @Override
@@ -170,7 +241,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public void createSnapshot(final File snapshotDir) {
-    try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
+    try (final Checkpoint checkpoint = Checkpoint.create(db)) {
       try {
         checkpoint.createCheckpoint(snapshotDir.getAbsolutePath());
       } catch (final RocksDBException rocksException) {
@@ -182,9 +253,33 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public Optional<String> getProperty(final String propertyName) {
+    return getProperty(defaultHandle, propertyName);
+  }
+
+  @Override
+  public Set<String> getPhysicalColumnFamilyNames() {
+    final var names = new TreeSet<>(dedicatedColumnFamilies.keySet());
+    names.add(DEFAULT_PHYSICAL_COLUMN_FAMILY);
+    return names;
+  }
+
+  @Override
+  public Optional<String> getProperty(
+      final String physicalColumnFamilyName, final String propertyName) {
+    if (DEFAULT_PHYSICAL_COLUMN_FAMILY.equals(physicalColumnFamilyName)) {
+      return getProperty(defaultHandle, propertyName);
+    }
+
+    final var dedicatedColumnFamily = dedicatedColumnFamilies.get(physicalColumnFamilyName);
+    return dedicatedColumnFamily != null
+        ? getProperty(dedicatedColumnFamily.handle(), propertyName)
+        : Optional.empty();
+  }
+
+  private Optional<String> getProperty(final ColumnFamilyHandle handle, final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      propertyValue = db.getProperty(handle, propertyName);
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
@@ -193,8 +288,13 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public TransactionContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction =
+        switch (transactionMode) {
+          case OPTIMISTIC ->
+              new OptimisticZeebeTransaction(
+                  optimisticTransactionDb().beginTransaction(defaultWriteOptions), this);
+          case SINGLE_WRITER -> new WriteBatchZeebeTransaction(db, defaultWriteOptions);
+        };
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -208,7 +308,112 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public Transaction renewTransaction(final Transaction oldTransaction) {
-    return optimisticTransactionDB.beginTransaction(defaultWriteOptions, oldTransaction);
+    return optimisticTransactionDb().beginTransaction(defaultWriteOptions, oldTransaction);
+  }
+
+  private OptimisticTransactionDB optimisticTransactionDb() {
+    return (OptimisticTransactionDB) db;
+  }
+
+  private DedicatedColumnFamily getDedicatedColumnFamily(final Enum<?> columnFamily) {
+    final var name = columnFamily.name();
+    if (!dedicatedColumnFamilyOptions.containsKey(name)) {
+      return null;
+    }
+
+    return dedicatedColumnFamilies.computeIfAbsent(
+        name, ignored -> createDedicatedColumnFamily(columnFamily));
+  }
+
+  /**
+   * Creates the RocksDB column family of a dedicated column family on first use, and moves the
+   * entries of the column family from the default column family into it, e.g. the ones of a
+   * snapshot which was taken before the column family was dedicated.
+   */
+  private DedicatedColumnFamily createDedicatedColumnFamily(final Enum<?> columnFamily) {
+    final var name = columnFamily.name();
+    try {
+      final var handle =
+          db.createColumnFamily(
+              new ColumnFamilyDescriptor(
+                  name.getBytes(StandardCharsets.UTF_8), dedicatedColumnFamilyOptions.get(name)));
+      closables.add(handle);
+
+      final var prefix =
+          ByteBuffer.allocate(Long.BYTES)
+              .order(ZeebeDbConstants.ZB_DB_BYTE_ORDER)
+              .putLong(((EnumValue) columnFamily).getValue())
+              .array();
+      final var movedEntries = moveEntries(defaultHandle, handle, prefix);
+      LOG.debug(
+          "Created dedicated column family {}, and moved {} entries into it", name, movedEntries);
+
+      return new DedicatedColumnFamily(handle, getNativeHandle(handle));
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to create the dedicated column family %s".formatted(name), e);
+    }
+  }
+
+  private void openExistingColumnFamily(final String name, final ColumnFamilyHandle handle)
+      throws RocksDBException {
+    if (dedicatedColumnFamilyOptions.containsKey(name)) {
+      dedicatedColumnFamilies.put(name, new DedicatedColumnFamily(handle, getNativeHandle(handle)));
+      return;
+    }
+
+    final var movedEntries = moveEntries(handle, defaultHandle, null);
+    db.dropColumnFamily(handle);
+    LOG.debug(
+        "Dropped column family {} which is no longer dedicated, and moved {} entries out of it",
+        name,
+        movedEntries);
+  }
+
+  /**
+   * Moves all entries with the given prefix, or all entries if it is null, from one RocksDB column
+   * family to another. The entries are moved in batches, each of which atomically removes the
+   * entries it adds, such that no entry is ever lost or visible in both column families.
+   *
+   * @return the number of moved entries
+   */
+  private long moveEntries(
+      final ColumnFamilyHandle source, final ColumnFamilyHandle target, final byte[] prefix)
+      throws RocksDBException {
+    long movedEntries = 0;
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions();
+        final var batch = new WriteBatch();
+        final var iterator = db.newIterator(source, readOptions)) {
+      if (prefix == null) {
+        iterator.seekToFirst();
+      } else {
+        iterator.seek(prefix);
+      }
+
+      for (; iterator.isValid(); iterator.next()) {
+        final byte[] key = iterator.key();
+        if (prefix != null
+            && !BufferUtil.startsWith(prefix, 0, prefix.length, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(target, key, iterator.value());
+        batch.delete(source, key);
+        movedEntries++;
+
+        if (batch.getDataSize() >= MOVE_BATCH_SIZE) {
+          db.write(writeOptions, batch);
+          batch.clear();
+        }
+      }
+      iterator.status();
+
+      if (batch.count() > 0) {
+        db.write(writeOptions, batch);
+      }
+    }
+    return movedEntries;
   }
 
   @Override
@@ -231,4 +436,6 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           }
         });
   }
+
+  private record DedicatedColumnFamily(ColumnFamilyHandle handle, long nativeHandle) {}
 }
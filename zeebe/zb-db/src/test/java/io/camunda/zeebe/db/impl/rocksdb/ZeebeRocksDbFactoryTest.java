@@ -110,6 +110,76 @@ final class ZeebeRocksDbFactoryTest {
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize, 7);
   }
 
+  @Test
+  void shouldShareBlockCacheBetweenDbs(
+      final @TempDir File firstPath, final @TempDir File secondPath) throws Exception {
+    // given
+    final var memoryLimit = ByteValue.ofMegabytes(64);
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+
+    try (final var sharedResources = SharedRocksDbResources.allocate(memoryLimit, 2)) {
+      final var factory =
+          new ZeebeRocksDbFactory<DefaultColumnFamily>(
+              new RocksDbConfiguration(),
+              new ConsistencyChecksSettings(),
+              new AccessMetricsConfiguration(Kind.NONE, 1),
+              sharedResources);
+
+      // when
+      try (final var firstDb = factory.createDb(firstPath);
+          final var secondDb = factory.createDb(secondPath)) {
+        final var column =
+            firstDb.createColumnFamily(
+                DefaultColumnFamily.DEFAULT,
+                firstDb.createContext(),
+                new DbString(),
+                new DbString());
+        column.insert(key, value);
+
+        // then
+        assertThat(firstDb.getProperty("rocksdb.block-cache-capacity"))
+            .hasValue(String.valueOf(memoryLimit));
+        assertThat(secondDb.getProperty("rocksdb.block-cache-capacity"))
+            .hasValue(String.valueOf(memoryLimit));
+        assertThat(column.get(key)).hasToString("bar");
+        assertThat(firstDb.getProperty("rocksdb.block-cache-usage"))
+            .hasValueSatisfying(usage -> assertThat(Long.parseLong(usage)).isPositive());
+      }
+    }
+  }
+
+  @Test
+  void shouldSizeMemtablesBySharedMemoryPerPartition() {
+    // given
+    final var memoryLimit = ByteValue.ofMegabytes(512);
+    final var factoryWithPartitionMemory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setMemoryLimit(memoryLimit / 4),
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+
+    try (final var sharedResources = SharedRocksDbResources.allocate(memoryLimit, 4)) {
+      final var factoryWithSharedMemory =
+          new ZeebeRocksDbFactory<DefaultColumnFamily>(
+              new RocksDbConfiguration(),
+              new ConsistencyChecksSettings(),
+              new AccessMetricsConfiguration(Kind.NONE, 1),
+              sharedResources);
+
+      // when
+      final var partitionOptions =
+          factoryWithPartitionMemory.createColumnFamilyOptions(new ArrayList<>());
+      final var sharedOptions =
+          factoryWithSharedMemory.createColumnFamilyOptions(new ArrayList<>());
+
+      // then
+      assertThat(sharedOptions.writeBufferSize()).isEqualTo(partitionOptions.writeBufferSize());
+    }
+  }
+
   @Test
   void shouldFailIfPropertiesDoesNotExist(final @TempDir File pathName) {
     // given
@@ -216,7 +286,9 @@ final class ZeebeRocksDbFactoryTest {
                     new DbByte())),
         Named.of(
             "isEmpty", db -> db.isEmpty(DefaultColumnFamily.DEFAULT, new NoOpTransactionContext())),
-        Named.of("getProperty", db -> db.getProperty("foo")));
+        Named.of("getProperty", db -> db.getProperty("foo")),
+        Named.of("getPhysicalColumnFamilyNames", ZeebeDb::getPhysicalColumnFamilyNames),
+        Named.of("getPropertyOfColumnFamily", db -> db.getProperty("default", "foo")));
   }
 
   private static final class NoOpTransactionContext implements TransactionContext {
@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class DedicatedColumnFamilyTest {
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @Test
+  void shouldStoreDedicatedColumnFamilyOnItsOwn(final @TempDir File path) throws Exception {
+    // given
+    final var factory = createFactory(List.of(TestColumnFamilies.HOT.name()));
+
+    try (final var db = factory.createDb(path)) {
+      // when
+      final var context = db.createContext();
+      final var hot = db.createColumnFamily(TestColumnFamilies.HOT, context, key, value);
+      final var cold = db.createColumnFamily(TestColumnFamilies.COLD, context, key, value);
+      context.runInTransaction(
+          () -> {
+            insert(hot, 1, 10);
+            insert(hot, 2, 20);
+            insert(cold, 1, 30);
+          });
+
+      // then
+      assertThat(db.getPhysicalColumnFamilyNames()).containsExactly("HOT", "default");
+      assertThat(db.getProperty("HOT", "rocksdb.estimate-num-keys")).contains("2");
+      assertThat(db.getProperty("default", "rocksdb.estimate-num-keys")).contains("1");
+      assertThat(db.getProperty("COLD", "rocksdb.estimate-num-keys")).isEmpty();
+      assertThat(values(hot)).containsExactly(10L, 20L);
+      assertThat(values(cold)).containsExactly(30L);
+    }
+  }
+
+  @Test
+  void shouldMoveEntriesIntoNewlyDedicatedColumnFamily(
+      final @TempDir File path, final @TempDir File snapshotDir) throws Exception {
+    // given
+    final var snapshot = new File(snapshotDir, "snapshot");
+    try (final var db = createFactory(List.of()).createDb(path)) {
+      writeEntries(db);
+      db.createSnapshot(snapshot);
+    }
+
+    // when
+    try (final var db = createFactory(List.of(TestColumnFamilies.HOT.name())).createDb(snapshot)) {
+      final var context = db.createContext();
+      final var hot = db.createColumnFamily(TestColumnFamilies.HOT, context, key, value);
+      final var cold = db.createColumnFamily(TestColumnFamilies.COLD, context, key, value);
+
+      // then
+      assertThat(values(hot)).containsExactly(10L, 20L);
+      assertThat(values(cold)).containsExactly(30L);
+      assertThat(db.getProperty("HOT", "rocksdb.estimate-num-keys")).contains("2");
+    }
+  }
+
+  @Test
+  void shouldMoveEntriesBackIfNoLongerDedicated(
+      final @TempDir File path, final @TempDir File snapshotDir) throws Exception {
+    // given
+    final var snapshot = new File(snapshotDir, "snapshot");
+    try (final var db = createFactory(List.of(TestColumnFamilies.HOT.name())).createDb(path)) {
+      writeEntries(db);
+      db.createSnapshot(snapshot);
+    }
+
+    // when
+    try (final var db = createFactory(List.of()).createDb(snapshot)) {
+      final var context = db.createContext();
+      final var hot = db.createColumnFamily(TestColumnFamilies.HOT, context, key, value);
+      final var cold = db.createColumnFamily(TestColumnFamilies.COLD, context, key, value);
+
+      // then
+      assertThat(db.getPhysicalColumnFamilyNames()).containsExactly("default");
+      assertThat(values(hot)).containsExactly(10L, 20L);
+      assertThat(values(cold)).containsExactly(30L);
+    }
+  }
+
+  @Test
+  void shouldIncludeDedicatedColumnFamiliesInSnapshotOfSnapshotOnlyDb(
+      final @TempDir File path, final @TempDir File snapshotDir) throws Exception {
+    // given
+    final var factory = createFactory(List.of(TestColumnFamilies.HOT.name()));
+    try (final var db = factory.createDb(path)) {
+      writeEntries(db);
+    }
+
+    // when
+    final var snapshot = new File(snapshotDir, "snapshot");
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshot);
+    }
+
+    // then
+    try (final var db = factory.createDb(snapshot)) {
+      final var context = db.createContext();
+      final var hot = db.createColumnFamily(TestColumnFamilies.HOT, context, key, value);
+      assertThat(values(hot)).containsExactly(10L, 20L);
+    }
+  }
+
+  @Test
+  void shouldCheckForeignKeysInDedicatedColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    final var factory = createFactory(List.of(TestColumnFamilies.HOT.name()));
+    final var foreignKey = new DbForeignKey<>(new DbLong(), TestColumnFamilies.HOT);
+    final var compositeKey = new DbCompositeKey<>(foreignKey, key);
+
+    try (final var db = factory.createDb(path)) {
+      writeEntries(db);
+      final var context = db.createContext();
+      final var cold = db.createColumnFamily(TestColumnFamilies.COLD, context, compositeKey, value);
+
+      // when
+      foreignKey.inner().wrapLong(1);
+      key.wrapLong(5);
+      value.wrapLong(50);
+      cold.insert(compositeKey, value);
+
+      // then
+      foreignKey.inner().wrapLong(3);
+      assertThatThrownBy(() -> cold.insert(compositeKey, value))
+          .isInstanceOf(ZeebeDbInconsistentException.class)
+          .hasMessageContaining("Foreign key");
+    }
+  }
+
+  private ZeebeDbFactory<TestColumnFamilies> createFactory(
+      final List<String> dedicatedColumnFamilies) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setDedicatedColumnFamilies(dedicatedColumnFamilies),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  private void writeEntries(final ZeebeDb<TestColumnFamilies> db) {
+    final var context = db.createContext();
+    final var hot = db.createColumnFamily(TestColumnFamilies.HOT, context, key, value);
+    final var cold = db.createColumnFamily(TestColumnFamilies.COLD, context, key, value);
+    context.runInTransaction(
+        () -> {
+          insert(hot, 1, 10);
+          insert(hot, 2, 20);
+          insert(cold, 1, 30);
+        });
+  }
+
+  private void insert(
+      final ColumnFamily<DbLong, DbLong> columnFamily, final long newKey, final long newValue) {
+    key.wrapLong(newKey);
+    value.wrapLong(newValue);
+    columnFamily.insert(key, value);
+  }
+
+  private List<Long> values(final ColumnFamily<DbLong, DbLong> columnFamily) {
+    final List<Long> values = new ArrayList<>();
+    columnFamily.forEach(v -> values.add(v.getValue()));
+    return values;
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    HOT,
+    COLD;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class SingleWriterTransactionTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+      new ZeebeRocksDbFactory<>(
+          new RocksDbConfiguration().setTransactionMode(TransactionMode.SINGLE_WRITER),
+          new ConsistencyChecksSettings(true, true),
+          new AccessMetricsConfiguration(Kind.NONE, 1));
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private DbLong firstKey;
+  private DbLong secondKey;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private DbLong value;
+
+  @Before
+  public void setup() throws Exception {
+    zeebeDb = dbFactory.createDb(temporaryFolder.newFolder());
+    transactionContext = zeebeDb.createContext();
+
+    firstKey = new DbLong();
+    secondKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, value);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldReadOwnWritesBeforeCommit() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(() -> upsert(1, 1, 10));
+
+    // then
+    wrapKey(1, 1);
+    assertThat(columnFamily.get(compositeKey)).isNotNull();
+    assertThat(columnFamily.get(compositeKey).getValue()).isEqualTo(10);
+    transaction.rollback();
+  }
+
+  @Test
+  public void shouldIterateOverUncommittedWrites() throws Exception {
+    // given
+    transactionContext.runInTransaction(
+        () -> {
+          upsert(1, 1, 10);
+          upsert(1, 2, 20);
+          upsert(2, 1, 30);
+        });
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          upsert(1, 3, 40);
+          wrapKey(1, 1);
+          columnFamily.deleteExisting(compositeKey);
+        });
+
+    // then
+    final List<Long> values = new ArrayList<>();
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          values.add(value.getValue());
+        });
+    assertThat(values).containsExactly(20L, 40L);
+    transaction.rollback();
+  }
+
+  @Test
+  public void shouldNotPersistRolledBackWrites() throws Exception {
+    // given
+    transactionContext.runInTransaction(() -> upsert(1, 1, 10));
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          upsert(1, 2, 20);
+          wrapKey(1, 1);
+          columnFamily.deleteExisting(compositeKey);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    wrapKey(1, 1);
+    assertThat(columnFamily.exists(compositeKey)).isTrue();
+    wrapKey(1, 2);
+    assertThat(columnFamily.exists(compositeKey)).isFalse();
+  }
+
+  @Test
+  public void shouldSeeCommittedWritesFromOtherContext() {
+    // given
+    transactionContext.runInTransaction(() -> upsert(1, 1, 10));
+
+    // when
+    final TransactionContext otherContext = zeebeDb.createContext();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, otherContext, compositeKey, value);
+
+    // then
+    wrapKey(1, 1);
+    assertThat(otherColumnFamily.get(compositeKey).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldNotSeeUncommittedWritesFromOtherContext() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> upsert(1, 1, 10));
+
+    // when
+    final TransactionContext otherContext = zeebeDb.createContext();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, otherContext, compositeKey, value);
+
+    // then
+    wrapKey(1, 1);
+    assertThat(otherColumnFamily.exists(compositeKey)).isFalse();
+    transaction.rollback();
+  }
+
+  private void upsert(final long first, final long second, final long newValue) {
+    wrapKey(first, second);
+    value.wrapLong(newValue);
+    columnFamily.upsert(compositeKey, value);
+  }
+
+  private void wrapKey(final long first, final long second) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+  }
+}